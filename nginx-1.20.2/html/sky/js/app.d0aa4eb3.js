@@ -1,2 +1,2 @@
-(function(e){function t(t){for(var a,r,s=t[0],c=t[1],u=t[2],l=0,d=[];l<s.length;l++)r=s[l],Object.prototype.hasOwnProperty.call(o,r)&&o[r]&&d.push(o[r][0]),o[r]=0;for(a in c)Object.prototype.hasOwnProperty.call(c,a)&&(e[a]=c[a]);f&&f(t);while(d.length)d.shift()();return i.push.apply(i,u||[]),n()}function n(){for(var e,t=0;t<i.length;t++){for(var n=i[t],a=!0,r=1;r<n.length;r++){var s=n[r];0!==o[s]&&(a=!1)}a&&(i.splice(t--,1),e=c(c.s=n[0]))}return e}var a={},r={app:0},o={app:0},i=[];function s(e){return c.p+"js/"+({404:"404",dashboard:"dashboard",login:"login",shopTable:"shopTable"}[e]||e)+"."+{404:"c61770cf",dashboard:"630a609e",login:"90288d75",shopTable:"fe534d8f"}[e]+".js"}function c(t){if(a[t])return a[t].exports;var n=a[t]={i:t,l:!1,exports:{}};return e[t].call(n.exports,n,n.exports,c),n.l=!0,n.exports}c.e=function(e){var t=[],n={404:1,dashboard:1,login:1,shopTable:1};r[e]?t.push(r[e]):0!==r[e]&&n[e]&&t.push(r[e]=new Promise((function(t,n){for(var a="css/"+({404:"404",dashboard:"dashboard",login:"login",shopTable:"shopTable"}[e]||e)+"."+{404:"6a750851",dashboard:"8da8967e",login:"f8377ced",shopTable:"5fd29e98"}[e]+".css",o=c.p+a,i=document.getElementsByTagName("link"),s=0;s<i.length;s++){var u=i[s],l=u.getAttribute("data-href")||u.getAttribute("href");if("stylesheet"===u.rel&&(l===a||l===o))return t()}var d=document.getElementsByTagName("style");for(s=0;s<d.length;s++){u=d[s],l=u.getAttribute("data-href");if(l===a||l===o)return t()}var f=document.createElement("link");f.rel="stylesheet",f.type="text/css",f.onload=t,f.onerror=function(t){var a=t&&t.target&&t.target.src||o,i=new Error("Loading CSS chunk "+e+" failed.\n("+a+")");i.code="CSS_CHUNK_LOAD_FAILED",i.request=a,delete r[e],f.parentNode.removeChild(f),n(i)},f.href=o;var b=document.getElementsByTagName("head")[0];b.appendChild(f)})).then((function(){r[e]=0})));var a=o[e];if(0!==a)if(a)t.push(a[2]);else{var i=new Promise((function(t,n){a=o[e]=[t,n]}));t.push(a[2]=i);var u,l=document.createElement("script");l.charset="utf-8",l.timeout=120,c.nc&&l.setAttribute("nonce",c.nc),l.src=s(e);var d=new Error;u=function(t){l.onerror=l.onload=null,clearTimeout(f);var n=o[e];if(0!==n){if(n){var a=t&&("load"===t.type?"missing":t.type),r=t&&t.target&&t.target.src;d.message="Loading chunk "+e+" failed.\n("+a+": "+r+")",d.name="ChunkLoadError",d.type=a,d.request=r,n[1](d)}o[e]=void 0}};var f=setTimeout((function(){u({type:"timeout",target:l})}),12e4);l.onerror=l.onload=u,document.head.appendChild(l)}return Promise.all(t)},c.m=e,c.c=a,c.d=function(e,t,n){c.o(e,t)||Object.defineProperty(e,t,{enumerable:!0,get:n})},c.r=function(e){"undefined"!==typeof Symbol&&Symbol.toStringTag&&Object.defineProperty(e,Symbol.toStringTag,{value:"Module"}),Object.defineProperty(e,"__esModule",{value:!0})},c.t=function(e,t){if(1&t&&(e=c(e)),8&t)return e;if(4&t&&"object"===typeof e&&e&&e.__esModule)return e;var n=Object.create(null);if(c.r(n),Object.defineProperty(n,"default",{enumerable:!0,value:e}),2&t&&"string"!=typeof e)for(var a in e)c.d(n,a,function(t){return e[t]}.bind(null,a));return n},c.n=function(e){var t=e&&e.__esModule?function(){return e["default"]}:function(){return e};return c.d(t,"a",t),t},c.o=function(e,t){return Object.prototype.hasOwnProperty.call(e,t)},c.p="",c.oe=function(e){throw console.error(e),e};var u=window["webpackJsonp"]=window["webpackJsonp"]||[],l=u.push.bind(u);u.push=t,u=u.slice();for(var d=0;d<u.length;d++)t(u[d]);var f=l;i.push([0,"chunk-vendors"]),n()})({0:function(e,t,n){e.exports=n("cd49")},"020a":function(e,t,n){},"0613":function(e,t,n){"use strict";var a=n("2b0e"),r=n("2f62");a["default"].use(r["a"]),t["a"]=new r["a"].Store({})},"075b":function(e,t,n){},"0d5a":function(e,t,n){e.exports={menuBg:"#343744",menuText:"#bfcbd9",menuActiveText:"#ffc200"}},"0ea8":function(e,t,n){},"1d28":function(e,t,n){e.exports={menuBg:"#343744",menuText:"#bfcbd9",menuActiveText:"#ffc200"}},"24ab":function(e,t,n){e.exports={menuBg:"#343744",menuText:"#bfcbd9",menuActiveText:"#ffc200"}},"393a":function(e,t,n){"use strict";var a=n("0d5a"),r=n.n(a);r.a},4595:function(e,t,n){},4652:function(e,t,n){"use strict";var a=n("020a"),r=n.n(a);r.a},4678:function(e,t,n){var a={"./af":"2bfb","./af.js":"2bfb","./ar":"8e73","./ar-dz":"a356","./ar-dz.js":"a356","./ar-kw":"423e","./ar-kw.js":"423e","./ar-ly":"1cfd","./ar-ly.js":"1cfd","./ar-ma":"0a84","./ar-ma.js":"0a84","./ar-sa":"8230","./ar-sa.js":"8230","./ar-tn":"6d83","./ar-tn.js":"6d83","./ar.js":"8e73","./az":"485c","./az.js":"485c","./be":"1fc1","./be.js":"1fc1","./bg":"84aa","./bg.js":"84aa","./bm":"a7fa","./bm.js":"a7fa","./bn":"9043","./bn.js":"9043","./bo":"d26a","./bo.js":"d26a","./br":"6887","./br.js":"6887","./bs":"2554","./bs.js":"2554","./ca":"d716","./ca.js":"d716","./cs":"3c0d","./cs.js":"3c0d","./cv":"03ec","./cv.js":"03ec","./cy":"9797","./cy.js":"9797","./da":"0f14","./da.js":"0f14","./de":"b469","./de-at":"b3eb","./de-at.js":"b3eb","./de-ch":"bb71","./de-ch.js":"bb71","./de.js":"b469","./dv":"598a","./dv.js":"598a","./el":"8d47","./el.js":"8d47","./en-SG":"cdab","./en-SG.js":"cdab","./en-au":"0e6b","./en-au.js":"0e6b","./en-ca":"3886","./en-ca.js":"3886","./en-gb":"39a6","./en-gb.js":"39a6","./en-ie":"e1d3","./en-ie.js":"e1d3","./en-il":"7333","./en-il.js":"7333","./en-nz":"6f50","./en-nz.js":"6f50","./eo":"65db","./eo.js":"65db","./es":"898b","./es-do":"0a3c","./es-do.js":"0a3c","./es-us":"55c9","./es-us.js":"55c9","./es.js":"898b","./et":"ec18","./et.js":"ec18","./eu":"0ff2","./eu.js":"0ff2","./fa":"8df4","./fa.js":"8df4","./fi":"81e9","./fi.js":"81e9","./fo":"0721","./fo.js":"0721","./fr":"9f26","./fr-ca":"d9f8","./fr-ca.js":"d9f8","./fr-ch":"0e49","./fr-ch.js":"0e49","./fr.js":"9f26","./fy":"7118","./fy.js":"7118","./ga":"5120","./ga.js":"5120","./gd":"f6b4","./gd.js":"f6b4","./gl":"8840","./gl.js":"8840","./gom-latn":"0caa","./gom-latn.js":"0caa","./gu":"e0c5","./gu.js":"e0c5","./he":"c7aa","./he.js":"c7aa","./hi":"dc4d","./hi.js":"dc4d","./hr":"4ba9","./hr.js":"4ba9","./hu":"5b14","./hu.js":"5b14","./hy-am":"d6b6","./hy-am.js":"d6b6","./id":"5038","./id.js":"5038","./is":"0558","./is.js":"0558","./it":"6e98","./it-ch":"6f12","./it-ch.js":"6f12","./it.js":"6e98","./ja":"079e","./ja.js":"079e","./jv":"b540","./jv.js":"b540","./ka":"201b","./ka.js":"201b","./kk":"6d79","./kk.js":"6d79","./km":"e81d","./km.js":"e81d","./kn":"3e92","./kn.js":"3e92","./ko":"22f8","./ko.js":"22f8","./ku":"2421","./ku.js":"2421","./ky":"9609","./ky.js":"9609","./lb":"440c","./lb.js":"440c","./lo":"b29d","./lo.js":"b29d","./lt":"26f9","./lt.js":"26f9","./lv":"b97c","./lv.js":"b97c","./me":"293c","./me.js":"293c","./mi":"688b","./mi.js":"688b","./mk":"6909","./mk.js":"6909","./ml":"02fb","./ml.js":"02fb","./mn":"958b","./mn.js":"958b","./mr":"39bd","./mr.js":"39bd","./ms":"ebe4","./ms-my":"6403","./ms-my.js":"6403","./ms.js":"ebe4","./mt":"1b45","./mt.js":"1b45","./my":"8689","./my.js":"8689","./nb":"6ce3","./nb.js":"6ce3","./ne":"3a39","./ne.js":"3a39","./nl":"facd","./nl-be":"db29","./nl-be.js":"db29","./nl.js":"facd","./nn":"b84c","./nn.js":"b84c","./pa-in":"f3ff","./pa-in.js":"f3ff","./pl":"8d57","./pl.js":"8d57","./pt":"f260","./pt-br":"d2d4","./pt-br.js":"d2d4","./pt.js":"f260","./ro":"972c","./ro.js":"972c","./ru":"957c","./ru.js":"957c","./sd":"6784","./sd.js":"6784","./se":"ffff","./se.js":"ffff","./si":"eda5","./si.js":"eda5","./sk":"7be6","./sk.js":"7be6","./sl":"8155","./sl.js":"8155","./sq":"c8f3","./sq.js":"c8f3","./sr":"cf1e","./sr-cyrl":"13e9","./sr-cyrl.js":"13e9","./sr.js":"cf1e","./ss":"52bd","./ss.js":"52bd","./sv":"5fbd","./sv.js":"5fbd","./sw":"74dc","./sw.js":"74dc","./ta":"3de5","./ta.js":"3de5","./te":"5cbb","./te.js":"5cbb","./tet":"576c","./tet.js":"576c","./tg":"3b1b","./tg.js":"3b1b","./th":"10e8","./th.js":"10e8","./tl-ph":"0f38","./tl-ph.js":"0f38","./tlh":"cf75","./tlh.js":"cf75","./tr":"0e81","./tr.js":"0e81","./tzl":"cf51","./tzl.js":"cf51","./tzm":"c109","./tzm-latn":"b53d","./tzm-latn.js":"b53d","./tzm.js":"c109","./ug-cn":"6117","./ug-cn.js":"6117","./uk":"ada2","./uk.js":"ada2","./ur":"5294","./ur.js":"5294","./uz":"2e8c","./uz-latn":"010e","./uz-latn.js":"010e","./uz.js":"2e8c","./vi":"2921","./vi.js":"2921","./x-pseudo":"fd7e","./x-pseudo.js":"fd7e","./yo":"7f33","./yo.js":"7f33","./zh-cn":"5c3a","./zh-cn.js":"5c3a","./zh-hk":"49ab","./zh-hk.js":"49ab","./zh-tw":"90ea","./zh-tw.js":"90ea"};function r(e){var t=o(e);return n(t)}function o(e){if(!n.o(a,e)){var t=new Error("Cannot find module '"+e+"'");throw t.code="MODULE_NOT_FOUND",t}return a[e]}r.keys=function(){return Object.keys(a)},r.resolve=o,e.exports=r,r.id="4678"},"516f":function(e,t,n){"use strict";var a=n("8220"),r=n.n(a);r.a},5581:function(e,t,n){"use strict";n.d(t,"f",(function(){return i})),n.d(t,"a",(function(){return c})),n.d(t,"g",(function(){return u})),n.d(t,"b",(function(){return d})),n.d(t,"h",(function(){return f})),n.d(t,"d",(function(){return b})),n.d(t,"c",(function(){return p})),n.d(t,"e",(function(){return m}));var a=n("a78e"),r=n.n(a),o="sidebar_status",i=function(e){return r.a.set(o,e)},s="storeId",c=function(){return r.a.get(s)},u=function(e){return r.a.set(s,e)},l="token",d=function(){return r.a.get(l)},f=function(e){return r.a.set(l,e)},b=function(){return r.a.remove(l)},h="userInfo",p=function(){return r.a.get(h)},m=function(){return r.a.remove(h)}},"5f86":function(e,t,n){"use strict";var a,r=n("2b0e"),o=n("8c4f"),i=function(){var e=this,t=e.$createElement,n=e._self._c||t;return n("div",{staticClass:"app-wrapper",class:e.classObj},[e.classObj.mobile&&e.sidebar.opened?n("div",{staticClass:"drawer-bg",on:{click:e.handleClickOutside}}):e._e(),n("sidebar",{staticClass:"sidebar-container"}),n("div",{staticClass:"main-container"},[n("navbar"),n("app-main")],1)],1)},s=[],c=n("d225"),u=n("b0b4"),l=n("308d"),d=n("6bb5"),f=n("4e2b"),b=n("9ab4"),h=n("60a3"),p=n("2fe1"),m=n("6fc5"),A=n("5581"),g=n("0613");(function(e){e[e["Mobile"]=0]="Mobile",e[e["Desktop"]=1]="Desktop"})(a||(a={}));var v=function(e){function t(){var e;return Object(c["a"])(this,t),e=Object(l["a"])(this,Object(d["a"])(t).apply(this,arguments)),e.sidebar={opened:!0,withoutAnimation:!1},e.device=a.Desktop,e.statusNumber=0,e}return Object(f["a"])(t,e),Object(u["a"])(t,[{key:"TOGGLE_SIDEBAR",value:function(e){this.sidebar.opened=!this.sidebar.opened,this.sidebar.withoutAnimation=e,this.sidebar.opened?Object(A["f"])("opened"):Object(A["f"])("closed")}},{key:"CLOSE_SIDEBAR",value:function(e){this.sidebar.opened=!1,this.sidebar.withoutAnimation=e,Object(A["f"])("closed")}},{key:"STATUS_NUMBER",value:function(e){this.statusNumber=e}},{key:"TOGGLE_DEVICE",value:function(e){this.device=e}},{key:"ToggleSideBar",value:function(e){this.TOGGLE_SIDEBAR(e)}},{key:"CloseSideBar",value:function(e){this.CLOSE_SIDEBAR(e)}},{key:"ToggleDevice",value:function(e){this.TOGGLE_DEVICE(e)}},{key:"StatusNumber",value:function(e){this.STATUS_NUMBER(e)}}]),t}(m["d"]);Object(b["a"])([m["c"]],v.prototype,"TOGGLE_SIDEBAR",null),Object(b["a"])([m["c"]],v.prototype,"CLOSE_SIDEBAR",null),Object(b["a"])([m["c"]],v.prototype,"STATUS_NUMBER",null),Object(b["a"])([m["c"]],v.prototype,"TOGGLE_DEVICE",null),Object(b["a"])([m["a"]],v.prototype,"ToggleSideBar",null),Object(b["a"])([m["a"]],v.prototype,"CloseSideBar",null),Object(b["a"])([m["a"]],v.prototype,"ToggleDevice",null),Object(b["a"])([m["a"]],v.prototype,"StatusNumber",null),v=Object(b["a"])([Object(m["b"])({dynamic:!0,store:g["a"],name:"app"})],v);var j=Object(m["e"])(v),O=function(){var e=this,t=e.$createElement,n=e._self._c||t;return n("section",{staticClass:"app-main"},[n("transition",{attrs:{name:"fade-transform",mode:"out-in"}},[n("router-view")],1)],1)},k=[],y=function(e){function t(){return Object(c["a"])(this,t),Object(l["a"])(this,Object(d["a"])(t).apply(this,arguments))}return Object(f["a"])(t,e),t}(h["c"]);y=Object(b["a"])([Object(h["a"])({name:"AppMain"})],y);var w=y,T=w,E=(n("4652"),n("2877")),S=Object(E["a"])(T,O,k,!1,null,"27af5466",null),C=S.exports,D=function(){var e=this,t=e.$createElement,a=e._self._c||t;return a("div",{staticClass:"navbar"},[a("div",{staticClass:"statusBox"},[a("hamburger",{staticClass:"hamburger-container",attrs:{id:"hamburger-container","is-active":e.sidebar.opened},on:{toggleClick:e.toggleSideBar}}),1===e.status?a("span",{staticClass:"businessBtn"},[e._v("营业中")]):a("span",{staticClass:"businessBtn closing"},[e._v("打烊中")])],1),a("div",{key:e.restKey,staticClass:"right-menu"},[a("div",{staticClass:"rightStatus"},[a("audio",{ref:"audioVo",attrs:{hidden:""}},[a("source",{attrs:{src:n("c281"),type:"audio/mp3"}})]),a("audio",{ref:"audioVo2",attrs:{hidden:""}},[a("source",{attrs:{src:n("e584"),type:"audio/mp3"}})]),a("span",{staticClass:"navicon operatingState",on:{click:e.handleStatus}},[a("i"),e._v("营业状态设置")])]),a("div",{staticClass:"avatar-wrapper"},[a("div",{class:e.shopShow?"userInfo":"",on:{mouseenter:e.toggleShow,mouseleave:e.mouseLeaves}},[a("el-button",{class:e.shopShow?"active":"",attrs:{type:"primary"}},[e._v("\n          "+e._s(e.name)),a("i",{staticClass:"el-icon-arrow-down"})]),e.shopShow?a("div",{staticClass:"userList"},[a("p",{staticClass:"amendPwdIcon",on:{click:e.handlePwd}},[e._v("\n            修改密码"),a("i")]),a("p",{staticClass:"outLogin",on:{click:e.logout}},[e._v("\n            退出登录"),a("i")])]):e._e()],1)])]),a("el-dialog",{attrs:{title:"营业状态设置",visible:e.dialogVisible,width:"25%","show-close":!1},on:{"update:visible":function(t){e.dialogVisible=t}}},[a("el-radio-group",{model:{value:e.setStatus,callback:function(t){e.setStatus=t},expression:"setStatus"}},[a("el-radio",{attrs:{label:1}},[e._v("\n        营业中\n        "),a("span",[e._v("当前餐厅处于营业状态，自动接收任何订单，可点击打烊进入店铺打烊状态。")])]),a("el-radio",{attrs:{label:0}},[e._v("\n        打烊中\n        "),a("span",[e._v("当前餐厅处于打烊状态，仅接受营业时间内的预定订单，可点击营业中手动恢复营业状态。")])])],1),a("span",{staticClass:"dialog-footer",attrs:{slot:"footer"},slot:"footer"},[a("el-button",{on:{click:function(t){e.dialogVisible=!1}}},[e._v("取 消")]),a("el-button",{attrs:{type:"primary"},on:{click:e.handleSave}},[e._v("确 定")])],1)],1),a("Password",{attrs:{"dialog-form-visible":e.dialogFormVisible},on:{handleclose:e.handlePwdClose}})],1)},R=[],x=(n("7f7f"),n("a481"),n("96cf"),n("3b8d")),M=(n("6b54"),n("9dba")),P=function(){var e=this,t=e.$createElement,n=e._self._c||t;return n("el-breadcrumb",{staticClass:"app-breadcrumb",attrs:{separator:"/"}},[n("transition-group",{attrs:{name:"breadcrumb"}},e._l(e.breadcrumbs,(function(t,a){return n("el-breadcrumb-item",{key:t.path},["noredirect"===t.redirect||a===e.breadcrumbs.length-1?n("span",{staticClass:"no-redirect"},[e._v(e._s(t.meta.title))]):n("a",{on:{click:function(n){return n.preventDefault(),e.handleLink(t)}}},[e._v(e._s(t.meta.title))])])})),1)],1)},B=[],U=(n("f559"),n("bd11")),I=n.n(U),L=function(e){function t(){var e;return Object(c["a"])(this,t),e=Object(l["a"])(this,Object(d["a"])(t).apply(this,arguments)),e.breadcrumbs=[],e}return Object(f["a"])(t,e),Object(u["a"])(t,[{key:"onRouteChange",value:function(e){e.path.startsWith("/redirect/")||this.getBreadcrumb()}},{key:"created",value:function(){this.getBreadcrumb()}},{key:"getBreadcrumb",value:function(){var e=this.$route.matched.filter((function(e){return e.meta&&e.meta.title}));e[0];this.breadcrumbs=e.filter((function(e){return e.meta&&e.meta.title&&!1!==e.meta.breadcrumb}))}},{key:"isDashboard",value:function(e){var t=e&&e.meta&&e.meta.title;return"集团管理"===t}},{key:"pathCompile",value:function(e){var t=this.$route.params,n=I.a.compile(e);return n(t)}},{key:"handleLink",value:function(e){var t=e.redirect,n=e.path;t?this.$router.push(t):this.$router.push(this.pathCompile(n))}}]),t}(h["c"]);Object(b["a"])([Object(h["d"])("$route")],L.prototype,"onRouteChange",null),L=Object(b["a"])([Object(h["a"])({name:"Breadcrumb"})],L);var V=L,N=V,F=(n("e54f"),Object(E["a"])(N,P,B,!1,null,"0196d90e",null)),G=F.exports,z=function(){var e=this,t=e.$createElement,n=e._self._c||t;return n("div",{class:[{"is-active":e.isActive}],on:{click:e.toggleClick}},[n("svg-icon",{attrs:{name:"hamburger",width:"20",height:"20"}})],1)},_=[],Q=function(e){function t(){return Object(c["a"])(this,t),Object(l["a"])(this,Object(d["a"])(t).apply(this,arguments))}return Object(f["a"])(t,e),Object(u["a"])(t,[{key:"toggleClick",value:function(){this.$emit("toggleClick")}}]),t}(h["c"]);Object(b["a"])([Object(h["b"])({default:!1})],Q.prototype,"isActive",void 0),Q=Object(b["a"])([Object(h["a"])({name:"Hamburger"})],Q);var J=Q,Z=J,H=(n("516f"),Object(E["a"])(Z,z,_,!1,null,"5e6b9da1",null)),X=H.exports,K=n("b32d"),W=function(e){return Object(K["a"])({url:"/employee/editPassword",method:"put",data:e})},q=function(){return Object(K["a"])({url:"/shop/status",method:"get"})},Y=function(e){return Object(K["a"])({url:"/shop/"+e,method:"put",data:e})},$=n("a78e"),ee=n.n($),te=function(){return Object(K["a"])({url:"/messages/countUnread",method:"get"})},ne=function(){var e=this,t=e.$createElement,n=e._self._c||t;return n("el-dialog",{staticClass:"pwdCon",attrs:{title:"修改密码",visible:e.dialogFormVisible,width:"568px"},on:{"update:visible":function(t){e.dialogFormVisible=t},close:function(t){return e.handlePwdClose()}}},[n("el-form",{ref:"form",attrs:{model:e.form,"label-width":"85px",rules:e.rules}},[n("el-form-item",{attrs:{label:"原始密码：",prop:"oldPassword"}},[n("el-input",{attrs:{type:"password",placeholder:"请输入"},model:{value:e.form.oldPassword,callback:function(t){e.$set(e.form,"oldPassword",t)},expression:"form.oldPassword"}})],1),n("el-form-item",{attrs:{label:"新密码：",prop:"newPassword"}},[n("el-input",{attrs:{type:"password",placeholder:"6 - 20位密码，数字或字母，区分大小写"},model:{value:e.form.newPassword,callback:function(t){e.$set(e.form,"newPassword",t)},expression:"form.newPassword"}})],1),n("el-form-item",{attrs:{label:"确认密码：",prop:"affirmPassword"}},[n("el-input",{attrs:{type:"password",placeholder:"请输入"},model:{value:e.form.affirmPassword,callback:function(t){e.$set(e.form,"affirmPassword",t)},expression:"form.affirmPassword"}})],1)],1),n("div",{staticClass:"dialog-footer",attrs:{slot:"footer"},slot:"footer"},[n("el-button",{on:{click:function(t){return e.handlePwdClose()}}},[e._v("取 消")]),n("el-button",{attrs:{type:"primary"},on:{click:function(t){return e.handleSave()}}},[e._v("保 存")])],1)],1)},ae=[],re=function(e){function t(){var e;return Object(c["a"])(this,t),e=Object(l["a"])(this,Object(d["a"])(t).apply(this,arguments)),e.validatePwd=function(e,t,n){var a=/^[0-9A-Za-z]{6,20}$/;t?a.test(t)?n():n(new Error("6 - 20位密码，数字或字母，区分大小写")):n(new Error("请输入"))},e.validatePass2=function(t,n,a){n?n!==e.form.newPassword?a(new Error("密码不一致，请重新输入密码")):a():a(new Error("请再次输入密码"))},e.rules={oldPassword:[{validator:e.validatePwd,trigger:"blur"}],newPassword:[{validator:e.validatePwd,trigger:"blur"}],affirmPassword:[{validator:e.validatePass2,trigger:"blur"}]},e.form={},e.affirmPassword="",e}return Object(f["a"])(t,e),Object(u["a"])(t,[{key:"handleSave",value:function(){var e=this;this.$refs.form.validate(function(){var t=Object(x["a"])(regeneratorRuntime.mark((function t(n){var a;return regeneratorRuntime.wrap((function(t){while(1)switch(t.prev=t.next){case 0:if(!n){t.next=7;break}a={oldPassword:e.form.oldPassword,newPassword:e.form.newPassword},W(a).then((function(t){1===t.data.code?e.$message.success("密码修改成功"):e.$message.error(t.data.msg)})).catch((function(t){e.$message.error("请求出错了："+t.message)})),e.$emit("handleclose"),e.$refs.form.resetFields(),t.next=8;break;case 7:return t.abrupt("return",!1);case 8:case"end":return t.stop()}}),t)})));return function(e){return t.apply(this,arguments)}}())}},{key:"handlePwdClose",value:function(){this.$refs.form.resetFields(),this.$emit("handleclose")}}]),t}(h["c"]);Object(b["a"])([Object(h["b"])()],re.prototype,"dialogFormVisible",void 0),re=Object(b["a"])([Object(h["a"])({name:"Password"})],re);var oe=re,ie=oe,se=(n("393a"),Object(E["a"])(ie,ne,ae,!1,null,null,null)),ce=se.exports,ue=function(e){function t(){var e;return Object(c["a"])(this,t),e=Object(l["a"])(this,Object(d["a"])(t).apply(this,arguments)),e.storeId=e.getStoreId,e.restKey=0,e.websocket=null,e.newOrder="",e.message="",e.audioIsPlaying=!1,e.audioPaused=!1,e.statusValue=!0,e.shopShow=!1,e.dialogVisible=!1,e.status=1,e.setStatus=1,e.dialogFormVisible=!1,e.ountUnread=0,e}return Object(f["a"])(t,e),Object(u["a"])(t,[{key:"getuserInfo",value:function(){return M["a"].userInfo}},{key:"mounted",value:function(){document.addEventListener("click",this.handleClose),this.getStatus()}},{key:"created",value:function(){this.webSocket()}},{key:"onload",value:function(){}},{key:"destroyed",value:function(){this.websocket.close()}},{key:"webSocket",value:function(){var e=this,t=Math.random().toString(36).substr(2),n="ws://localhost/ws/"+t;console.log(n,"socketUrl"),"undefined"==typeof WebSocket?e.$notify({title:"提示",message:"当前浏览器无法接收实时报警信息，请使用谷歌浏览器！",type:"warning",duration:0}):(this.websocket=new WebSocket(n),this.websocket.onopen=function(){console.log("浏览器WebSocket已打开")},this.websocket.onmessage=function(t){e.$refs.audioVo.currentTime=0,e.$refs.audioVo2.currentTime=0,console.log(t,JSON.parse(t.data),"msg");var n=JSON.parse(t.data);1===n.type?e.$refs.audioVo.play():2===n.type&&e.$refs.audioVo2.play(),e.$notify({title:1===n.type?"待接单":"催单",duration:0,dangerouslyUseHTMLString:!0,onClick:function(){e.$router.push("/order?orderId=".concat(n.orderId)).catch((function(e){console.log(e)})),setTimeout((function(){location.reload()}),100)},message:"".concat(1===n.type?"<span>您有1个<span style=color:#419EFF>订单待处理</span>,".concat(n.content,",请及时接单</span>"):"".concat(n.content,"<span style='color:#419EFF;cursor: pointer'>去处理</span>"))})},this.websocket.onerror=function(){e.$notify({title:"错误",message:"服务器错误，无法接收实时报警信息",type:"error",duration:0})},this.websocket.onclose=function(){console.log("WebSocket已关闭")})}},{key:"toggleSideBar",value:function(){j.ToggleSideBar(!1)}},{key:"logout",value:function(){var e=Object(x["a"])(regeneratorRuntime.mark((function e(){var t=this;return regeneratorRuntime.wrap((function(e){while(1)switch(e.prev=e.next){case 0:this.$store.dispatch("LogOut").then((function(){t.$router.replace({path:"/login"})}));case 1:case"end":return e.stop()}}),e,this)})));function t(){return e.apply(this,arguments)}return t}()},{key:"getCountUnread",value:function(){var e=Object(x["a"])(regeneratorRuntime.mark((function e(){var t,n;return regeneratorRuntime.wrap((function(e){while(1)switch(e.prev=e.next){case 0:return e.next=2,te();case 2:t=e.sent,n=t.data,1===n.code?j.StatusNumber(n.data):this.$message.error(n.msg);case 5:case"end":return e.stop()}}),e,this)})));function t(){return e.apply(this,arguments)}return t}()},{key:"getStatus",value:function(){var e=Object(x["a"])(regeneratorRuntime.mark((function e(){var t,n;return regeneratorRuntime.wrap((function(e){while(1)switch(e.prev=e.next){case 0:return e.next=2,q();case 2:t=e.sent,n=t.data,this.status=n.data,this.setStatus=this.status;case 6:case"end":return e.stop()}}),e,this)})));function t(){return e.apply(this,arguments)}return t}()},{key:"toggleShow",value:function(){this.shopShow=!0}},{key:"mouseLeaves",value:function(){this.shopShow=!1}},{key:"handleClose",value:function(){}},{key:"handleStatus",value:function(){this.dialogVisible=!0}},{key:"handleSave",value:function(){var e=Object(x["a"])(regeneratorRuntime.mark((function e(){var t,n;return regeneratorRuntime.wrap((function(e){while(1)switch(e.prev=e.next){case 0:return e.next=2,Y(this.setStatus);case 2:t=e.sent,n=t.data,1===n.code&&(this.dialogVisible=!1,this.getStatus());case 5:case"end":return e.stop()}}),e,this)})));function t(){return e.apply(this,arguments)}return t}()},{key:"handlePwd",value:function(){this.dialogFormVisible=!0}},{key:"handlePwdClose",value:function(){this.dialogFormVisible=!1}},{key:"sidebar",get:function(){return j.sidebar}},{key:"device",get:function(){return j.device.toString()}},{key:"name",get:function(){return M["a"].userInfo.name?M["a"].userInfo.name:JSON.parse(ee.a.get("user_info")).name}},{key:"getStoreId",get:function(){var e="";return M["a"].storeId?e=M["a"].storeId:null!=M["a"].userInfo.stores&&(e=M["a"].userInfo.stores[0].storeId),e}}]),t}(h["c"]);ue=Object(b["a"])([Object(h["a"])({name:"Navbar",components:{Breadcrumb:G,Hamburger:X,Password:ce}})],ue);var le=ue,de=le,fe=(n("870b"),n("757c"),Object(E["a"])(de,D,R,!1,null,"ac5af8a4",null)),be=fe.exports,he=function(){var e=this,t=e.$createElement,a=e._self._c||t;return a("div",[a("div",{staticClass:"logo"},[e.isCollapse?a("div",{staticClass:"sidebar-logo-mini"},[a("img",{attrs:{src:n("d9d2")}})]):a("div",{staticClass:"sidebar-logo"},[a("img",{staticStyle:{width:"120px",height:"31px"},attrs:{src:n("ceca")}})])]),a("el-scrollbar",{attrs:{"wrap-class":"scrollbar-wrapper"}},[a("el-menu",{attrs:{"default-openeds":e.defOpen,"default-active":e.defAct,collapse:e.isCollapse,"background-color":e.variables.menuBg,"text-color":e.variables.menuText,"active-text-color":e.variables.menuActiveText,"unique-opened":!1,"collapse-transition":!1,mode:"vertical"}},e._l(e.routes,(function(t){return a("sidebar-item",{key:t.path,attrs:{item:t,"base-path":t.path,"is-collapse":e.isCollapse}})})),1)],1)],1)},pe=[],me=(n("7514"),n("75fc")),Ae=(n("ac6a"),function(){var e=this,t=e.$createElement,n=e._self._c||t;return n("div",[e.item.meta&&e.item.meta.hidden?e._e():n("div",{class:["menu-wrapper","full-mode",{"first-level":e.isFirstLevel}]},[e.theOnlyOneChild&&!e.theOnlyOneChild.children?[e.theOnlyOneChild.meta?n("sidebar-item-link",{attrs:{to:e.resolvePath(e.theOnlyOneChild.path)}},[n("el-menu-item",{class:{"submenu-title-noDropdown":e.isFirstLevel},attrs:{index:e.resolvePath(e.theOnlyOneChild.path)}},[e.theOnlyOneChild.meta.icon?n("i",{staticClass:"iconfont",class:e.theOnlyOneChild.meta.icon}):e._e(),e.theOnlyOneChild.meta.title?n("span",{attrs:{slot:"title"},slot:"title"},[e._v(e._s(e.theOnlyOneChild.meta.title))]):e._e()])],1):e._e()]:n("el-submenu",{attrs:{index:e.resolvePath(e.item.path),"popper-append-to-body":""}},[n("template",{slot:"title"},[e.item.meta&&e.item.meta.icon?n("i",{staticClass:"iconfont",class:e.item.meta.icon}):e._e(),e.item.meta&&e.item.meta.title?n("span",{attrs:{slot:"title"},slot:"title"},[e._v(e._s(e.item.meta.title))]):e._e()]),e.item.children?e._l(e.item.children,(function(t){return n("sidebar-item",{key:t.path,staticClass:"nest-menu",attrs:{item:t,"is-collapse":e.isCollapse,"is-first-level":!1,"base-path":e.resolvePath(t.path)}})})):e._e()],2)],2)])}),ge=[],ve=(n("8e6e"),n("456d"),n("bd86")),je=(n("ac4d"),n("8a81"),n("df7c")),Oe=n.n(je),ke=function(e){return/^(https?:|mailto:|tel:)/.test(e)},ye=function(){var e=this,t=e.$createElement,n=e._self._c||t;return e.isExternal(e.to)?n("a",{attrs:{href:e.to,target:"_blank",rel:"noopener"}},[e._t("default")],2):n("router-link",{attrs:{to:e.to}},[e._t("default")],2)},we=[],Te=function(e){function t(){var e;return Object(c["a"])(this,t),e=Object(l["a"])(this,Object(d["a"])(t).apply(this,arguments)),e.isExternal=ke,e}return Object(f["a"])(t,e),t}(h["c"]);Object(b["a"])([Object(h["b"])({required:!0})],Te.prototype,"to",void 0),Te=Object(b["a"])([Object(h["a"])({name:"SidebarItemLink"})],Te);var Ee=Te,Se=Ee,Ce=Object(E["a"])(Se,ye,we,!1,null,null,null),De=Ce.exports;function Re(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var a=Object.getOwnPropertySymbols(e);t&&(a=a.filter((function(t){return Object.getOwnPropertyDescriptor(e,t).enumerable}))),n.push.apply(n,a)}return n}function xe(e){for(var t=1;t<arguments.length;t++){var n=null!=arguments[t]?arguments[t]:{};t%2?Re(Object(n),!0).forEach((function(t){Object(ve["a"])(e,t,n[t])})):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):Re(Object(n)).forEach((function(t){Object.defineProperty(e,t,Object.getOwnPropertyDescriptor(n,t))}))}return e}var Me=function(e){function t(){return Object(c["a"])(this,t),Object(l["a"])(this,Object(d["a"])(t).apply(this,arguments))}return Object(f["a"])(t,e),Object(u["a"])(t,[{key:"resolvePath",value:function(e){return ke(e)?e:ke(this.basePath)?this.basePath:Oe.a.resolve(this.basePath,e)}},{key:"showingChildNumber",get:function(){if(this.item.children){var e=this.item.children.filter((function(e){return!e.meta||!e.meta.hidden}));return e.length}return 0}},{key:"roles",get:function(){return M["a"].roles}},{key:"theOnlyOneChild",get:function(){if(this.showingChildNumber>0)return null;if(this.item.children){var e=!0,t=!1,n=void 0;try{for(var a,r=this.item.children[Symbol.iterator]();!(e=(a=r.next()).done);e=!0){var o=a.value;if(!o.meta||!o.meta.hidden)return o}}catch(i){t=!0,n=i}finally{try{e||null==r.return||r.return()}finally{if(t)throw n}}}return xe({},this.item,{path:""})}}]),t}(h["c"]);Object(b["a"])([Object(h["b"])({required:!0})],Me.prototype,"item",void 0),Object(b["a"])([Object(h["b"])({default:!1})],Me.prototype,"isCollapse",void 0),Object(b["a"])([Object(h["b"])({default:!0})],Me.prototype,"isFirstLevel",void 0),Object(b["a"])([Object(h["b"])({default:""})],Me.prototype,"basePath",void 0),Me=Object(b["a"])([Object(h["a"])({name:"SidebarItem",components:{SidebarItemLink:De}})],Me);var Pe=Me,Be=Pe,Ue=Object(E["a"])(Be,Ae,ge,!1,null,null,null),Ie=Ue.exports,Le=n("a1de"),Ve=n.n(Le),Ne=function(e){function t(){var e;return Object(c["a"])(this,t),e=Object(l["a"])(this,Object(d["a"])(t).apply(this,arguments)),e.restKey=0,e}return Object(f["a"])(t,e),Object(u["a"])(t,[{key:"logout",value:function(){var e=Object(x["a"])(regeneratorRuntime.mark((function e(){var t=this;return regeneratorRuntime.wrap((function(e){while(1)switch(e.prev=e.next){case 0:this.$store.dispatch("LogOut").then((function(){t.$router.replace({path:"/login"})}));case 1:case"end":return e.stop()}}),e,this)})));function t(){return e.apply(this,arguments)}return t}()},{key:"name",get:function(){return M["a"].userInfo.name?M["a"].userInfo.name:JSON.parse(ee.a.get("user_info")).name}},{key:"defOpen",get:function(){var e=this,t=["/"];return this.routes.forEach((function(n,a){n.meta.roles&&n.meta.roles[0]===e.roles[0]&&t.splice(0,1,n.path)})),t}},{key:"defAct",get:function(){var e=this.$route.path;return e}},{key:"sidebar",get:function(){return j.sidebar}},{key:"roles",get:function(){return M["a"].roles}},{key:"routes",get:function(){var e=JSON.parse(JSON.stringify(Object(me["a"])(this.$router.options.routes)));console.log("-=-=routes=-=-=",e),console.log("-=-=routes=-=-=",this.roles[0]);var t=[],n=e.find((function(e){return"/"===e.path}));return n&&(t=n.children),console.log("-=-=routes=-wwww=-=",e),t}},{key:"variables",get:function(){return Ve.a}},{key:"isCollapse",get:function(){return!this.sidebar.opened}}]),t}(h["c"]);Ne=Object(b["a"])([Object(h["a"])({name:"SideBar",components:{SidebarItem:Ie}})],Ne);var Fe=Ne,Ge=Fe,ze=(n("75f6"),Object(E["a"])(Ge,he,pe,!1,null,"6cd7d5aa",null)),_e=ze.exports,Qe=992,Je=function(e){function t(){return Object(c["a"])(this,t),Object(l["a"])(this,Object(d["a"])(t).apply(this,arguments))}return Object(f["a"])(t,e),Object(u["a"])(t,[{key:"onRouteChange",value:function(){this.device===a.Mobile&&this.sidebar.opened&&j.CloseSideBar(!1)}},{key:"beforeMount",value:function(){window.addEventListener("resize",this.resizeHandler)}},{key:"mounted",value:function(){var e=this.isMobile();e&&(j.ToggleDevice(a.Mobile),j.CloseSideBar(!0))}},{key:"beforeDestroy",value:function(){window.removeEventListener("resize",this.resizeHandler)}},{key:"isMobile",value:function(){var e=document.body.getBoundingClientRect();return e.width-1<Qe}},{key:"resizeHandler",value:function(){if(!document.hidden){var e=this.isMobile();j.ToggleDevice(e?a.Mobile:a.Desktop),e&&j.CloseSideBar(!0)}}},{key:"device",get:function(){return j.device}},{key:"sidebar",get:function(){return j.sidebar}}]),t}(h["c"]);Object(b["a"])([Object(h["d"])("$route")],Je.prototype,"onRouteChange",null),Je=Object(b["a"])([Object(h["a"])({name:"ResizeMixin"})],Je);var Ze=Je,He=function(e){function t(){return Object(c["a"])(this,t),Object(l["a"])(this,Object(d["a"])(t).apply(this,arguments))}return Object(f["a"])(t,e),Object(u["a"])(t,[{key:"handleClickOutside",value:function(){j.CloseSideBar(!1)}},{key:"classObj",get:function(){return{hideSidebar:!this.sidebar.opened,openSidebar:this.sidebar.opened,withoutAnimation:this.sidebar.withoutAnimation,mobile:this.device===a.Mobile}}}]),t}(Object(p["c"])(Ze));He=Object(b["a"])([Object(h["a"])({name:"Layout",components:{AppMain:C,Navbar:be,Sidebar:_e}})],He);var Xe=He,Ke=Xe,We=(n("8aeb"),Object(E["a"])(Ke,i,s,!1,null,"3f00f1c9",null)),qe=We.exports;r["default"].use(o["a"]);var Ye=new o["a"]({scrollBehavior:function(e,t,n){return n||{x:0,y:0}},base:"",routes:[{path:"/login",component:function(){return n.e("login").then(n.bind(null,"9ed6"))},meta:{title:"苍穹外卖",hidden:!0,notNeedAuth:!0}},{path:"/404",component:function(){return n.e("404").then(n.bind(null,"8cdb"))},meta:{title:"苍穹外卖",hidden:!0,notNeedAuth:!0}},{path:"/",component:qe,redirect:"/dashboard",children:[{path:"dashboard",component:function(){return n.e("dashboard").then(n.bind(null,"9406"))},name:"Dashboard",meta:{title:"工作台",icon:"dashboard",affix:!0}},{path:"/dish/add",component:function(){return n.e("shopTable").then(n.bind(null,"de1a"))},meta:{title:"添加菜品",hidden:!0}},{path:"/statistics",component:function(){return n.e("shopTable").then(n.bind(null,"ac67"))},meta:{title:"数据统计",icon:"icon-statistics"}},{path:"order",component:function(){return n.e("shopTable").then(n.bind(null,"84a9"))},meta:{title:"订单管理",icon:"icon-order"}},{path:"setmeal",component:function(){return n.e("shopTable").then(n.bind(null,"47cd"))},meta:{title:"套餐管理",icon:"icon-combo"}},{path:"dish",component:function(){return n.e("shopTable").then(n.bind(null,"ad4a"))},meta:{title:"菜品管理",icon:"icon-dish"}},{path:"category",component:function(){return n.e("shopTable").then(n.bind(null,"a192"))},meta:{title:"分类管理",icon:"icon-category"}},{path:"employee",component:function(){return n.e("shopTable").then(n.bind(null,"5303"))},meta:{title:"员工管理",icon:"icon-employee"}},{path:"/employee/add",component:function(){return n.e("dashboard").then(n.bind(null,"070f"))},meta:{title:"添加员工",hidden:!0}},{path:"/setmeal/add",component:function(){return n.e("shopTable").then(n.bind(null,"6182"))},meta:{title:"添加套餐",hidden:!0}}]},{path:"*",redirect:"/404",meta:{hidden:!0}}]});t["a"]=Ye},"63f6":function(e,t,n){"use strict";n.d(t,"e",(function(){return s})),n.d(t,"g",(function(){return c})),n.d(t,"d",(function(){return u})),n.d(t,"c",(function(){return l})),n.d(t,"a",(function(){return d})),n.d(t,"b",(function(){return f})),n.d(t,"f",(function(){return b}));n("8e6e"),n("ac6a"),n("456d");var a=n("bd86"),r=n("b32d");function o(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var a=Object.getOwnPropertySymbols(e);t&&(a=a.filter((function(t){return Object.getOwnPropertyDescriptor(e,t).enumerable}))),n.push.apply(n,a)}return n}function i(e){for(var t=1;t<arguments.length;t++){var n=null!=arguments[t]?arguments[t]:{};t%2?o(Object(n),!0).forEach((function(t){Object(a["a"])(e,t,n[t])})):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):o(Object(n)).forEach((function(t){Object.defineProperty(e,t,Object.getOwnPropertyDescriptor(n,t))}))}return e}var s=function(e){return Object(r["a"])({url:"/employee/login",method:"post",data:e})},c=function(e){return Object(r["a"])({url:"/employee/logout",method:"post",params:e})},u=function(e){return Object(r["a"])({url:"/employee/page",method:"get",params:e})},l=function(e){return Object(r["a"])({url:"/employee/status/".concat(e.status),method:"post",params:{id:e.id}})},d=function(e){return Object(r["a"])({url:"/employee",method:"post",data:i({},e)})},f=function(e){return Object(r["a"])({url:"/employee",method:"put",data:i({},e)})},b=function(e){return Object(r["a"])({url:"/employee/".concat(e),method:"get"})}},"6b81":function(e,t,n){},"6c47":function(e,t,n){},"757c":function(e,t,n){"use strict";var a=n("951f"),r=n.n(a);r.a},"75f6":function(e,t,n){"use strict";var a=n("075b"),r=n.n(a);r.a},8220:function(e,t,n){},"870b":function(e,t,n){"use strict";var a=n("4595"),r=n.n(a);r.a},"885f":function(e,t,n){e.exports={menuBg:"#343744",menuText:"#bfcbd9",menuActiveText:"#ffc200"}},"8aeb":function(e,t,n){"use strict";var a=n("0ea8"),r=n.n(a);r.a},"951f":function(e,t,n){e.exports={menuBg:"#343744",menuText:"#bfcbd9",menuActiveText:"#ffc200"}},"9dba":function(e,t,n){"use strict";n.d(t,"a",(function(){return O}));n("8e6e"),n("ac6a"),n("456d"),n("7f7f"),n("96cf");var a=n("3b8d"),r=n("bd86"),o=n("d225"),i=n("b0b4"),s=n("308d"),c=n("6bb5"),u=n("4e2b"),l=n("9ab4"),d=n("6fc5"),f=n("63f6"),b=n("5581"),h=n("0613"),p=n("a78e"),m=n.n(p),A=n("5c96");function g(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var a=Object.getOwnPropertySymbols(e);t&&(a=a.filter((function(t){return Object.getOwnPropertyDescriptor(e,t).enumerable}))),n.push.apply(n,a)}return n}function v(e){for(var t=1;t<arguments.length;t++){var n=null!=arguments[t]?arguments[t]:{};t%2?g(Object(n),!0).forEach((function(t){Object(r["a"])(e,t,n[t])})):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):g(Object(n)).forEach((function(t){Object.defineProperty(e,t,Object.getOwnPropertyDescriptor(n,t))}))}return e}var j=function(e){function t(){var e;return Object(o["a"])(this,t),e=Object(s["a"])(this,Object(c["a"])(t).apply(this,arguments)),e.token=Object(b["b"])()||"",e.name="",e.avatar="",e.storeId=Object(b["a"])()||"",e.introduction="",e.userInfo={},e.roles=[],e.username=m.a.get("username")||"",e}return Object(u["a"])(t,e),Object(i["a"])(t,[{key:"SET_TOKEN",value:function(e){this.token=e}},{key:"SET_NAME",value:function(e){this.name=e}},{key:"SET_USERINFO",value:function(e){this.userInfo=v({},e)}},{key:"SET_AVATAR",value:function(e){this.avatar=e}},{key:"SET_INTRODUCTION",value:function(e){this.introduction=e}},{key:"SET_ROLES",value:function(e){this.roles=e}},{key:"SET_STOREID",value:function(e){this.storeId=e}},{key:"SET_USERNAME",value:function(e){this.username=e}},{key:"Login",value:function(){var e=Object(a["a"])(regeneratorRuntime.mark((function e(t){var n,a,r,o;return regeneratorRuntime.wrap((function(e){while(1)switch(e.prev=e.next){case 0:return n=t.username,a=t.password,n=n.trim(),this.SET_USERNAME(n),m.a.set("username",n),e.next=6,Object(f["e"])({username:n,password:a});case 6:if(r=e.sent,o=r.data,"1"!==String(o.code)){e.next=16;break}return this.SET_TOKEN(o.data.token),Object(b["h"])(o.data.token),this.SET_USERINFO(o.data),m.a.set("user_info",o.data),e.abrupt("return",o);case 16:return e.abrupt("return",A["Message"].error(o.msg));case 17:case"end":return e.stop()}}),e,this)})));function t(t){return e.apply(this,arguments)}return t}()},{key:"ResetToken",value:function(){Object(b["d"])(),this.SET_TOKEN(""),this.SET_ROLES([])}},{key:"changeStore",value:function(){var e=Object(a["a"])(regeneratorRuntime.mark((function e(t){return regeneratorRuntime.wrap((function(e){while(1)switch(e.prev=e.next){case 0:this.SET_STOREID=t.data,this.SET_TOKEN(t.authorization),Object(b["g"])(t.data),Object(b["h"])(t.authorization);case 4:case"end":return e.stop()}}),e,this)})));function t(t){return e.apply(this,arguments)}return t}()},{key:"GetUserInfo",value:function(){var e=Object(a["a"])(regeneratorRuntime.mark((function e(){var t,n,a,r,o,i,s,c;return regeneratorRuntime.wrap((function(e){while(1)switch(e.prev=e.next){case 0:if(""!==this.token){e.next=2;break}throw Error("GetUserInfo: token is undefined!");case 2:if(t=JSON.parse(Object(b["c"])()),t){e.next=5;break}throw Error("Verification failed, please Login again.");case 5:if(n=t.roles,a=t.name,r=t.avatar,o=t.introduction,i=t.applicant,s=t.storeManagerName,c=t.storeId,void 0===c?"":c,n&&!(n.length<=0)){e.next=8;break}throw Error("GetUserInfo: roles must be a non-null array!");case 8:this.SET_ROLES(n),this.SET_USERINFO(t),this.SET_NAME(a||i||s),this.SET_AVATAR(r),this.SET_INTRODUCTION(o);case 13:case"end":return e.stop()}}),e,this)})));function t(){return e.apply(this,arguments)}return t}()},{key:"LogOut",value:function(){var e=Object(a["a"])(regeneratorRuntime.mark((function e(){var t;return regeneratorRuntime.wrap((function(e){while(1)switch(e.prev=e.next){case 0:return e.next=2,Object(f["g"])({});case 2:t=e.sent,t.data,Object(b["d"])(),this.SET_TOKEN(""),this.SET_ROLES([]),m.a.remove("username"),m.a.remove("user_info"),Object(b["e"])();case 10:case"end":return e.stop()}}),e,this)})));function t(){return e.apply(this,arguments)}return t}()}]),t}(d["d"]);Object(l["a"])([d["c"]],j.prototype,"SET_TOKEN",null),Object(l["a"])([d["c"]],j.prototype,"SET_NAME",null),Object(l["a"])([d["c"]],j.prototype,"SET_USERINFO",null),Object(l["a"])([d["c"]],j.prototype,"SET_AVATAR",null),Object(l["a"])([d["c"]],j.prototype,"SET_INTRODUCTION",null),Object(l["a"])([d["c"]],j.prototype,"SET_ROLES",null),Object(l["a"])([d["c"]],j.prototype,"SET_STOREID",null),Object(l["a"])([d["c"]],j.prototype,"SET_USERNAME",null),Object(l["a"])([d["a"]],j.prototype,"Login",null),Object(l["a"])([d["a"]],j.prototype,"ResetToken",null),Object(l["a"])([d["a"]],j.prototype,"changeStore",null),Object(l["a"])([d["a"]],j.prototype,"GetUserInfo",null),Object(l["a"])([d["a"]],j.prototype,"LogOut",null),j=Object(l["a"])([Object(d["b"])({dynamic:!0,store:h["a"],name:"user"})],j);var O=Object(d["e"])(j)},a1de:function(e,t,n){e.exports={menuBg:"#343744",menuText:"#bfcbd9",menuActiveText:"#ffc200"}},b20f:function(e,t,n){e.exports={menuBg:"#343744",menuText:"#bfcbd9",menuActiveText:"#ffc200"}},b32d:function(e,t,n){"use strict";n("a481");var a=n("7618"),r=(n("ac6a"),n("456d"),n("bc3a")),o=n.n(r),i=n("9dba"),s=n("6821f"),c=n.n(s),u=function(e){if(!e)return c()(+new Date);var t="string"===typeof e.data?e.data:JSON.stringify(e.data);return c()(e.url+"&"+e.method+"&"+t)},l={},d=function(e){return!!l[e]},f=function(e){delete l[e]},b=n("5f86"),h=o.a.CancelToken,p=o.a.create({baseURL:"/api",timeout:6e5});p.interceptors.request.use((function(e){if(i["a"].token)e.headers["token"]=i["a"].token;else if(i["a"].token&&"/login"!=e.url)return window.location.href="/login",!1;if("get"===e.method&&e.params){for(var t=e.url+"?",n=0,r=Object.keys(e.params);n<r.length;n++){var o=r[n],s=e.params[o],c=encodeURIComponent(o)+"=";if(null!==s&&"undefined"!==typeof s)if("object"===Object(a["a"])(s))for(var f=0,b=Object.keys(s);f<b.length;f++){var p=b[f],m=o+"["+p+"]",A=encodeURIComponent(m)+"=";t+=A+encodeURIComponent(s[p])+"&"}else t+=c+encodeURIComponent(s)+"&"}t=t.slice(0,-1),e.params={},e.url=t}var g=u(e);if(d(g)){var v=h.source();e.cancelToken=v.token,v.cancel("重复请求")}else l[g]=!0;return e}),(function(e){Promise.reject(e)})),p.interceptors.response.use((function(e){401===e.data.status&&b["a"].push("/login"),e.config.url=e.config.url.replace("/api","");var t=u(e.config);return f(t),e.data.code,e}),(function(e){if(e&&e.response)switch(e.response.status){case 401:b["a"].push("/login");break;case 405:e.message="请求错误"}e.config.url=e.config.url.replace("/api","");var t=u(e.config);return f(t),Promise.reject(e)}));t["a"]=p},c281:function(e,t,n){e.exports=n.p+"media/preview.3f1fe127.mp3"},cd49:function(e,t,n){"use strict";n.r(t);n("cadf"),n("551c"),n("f751"),n("097d");var a=n("2b0e"),r=n("8c4f"),o=(n("f5df"),n("5c96")),i=n.n(o),s=n("038a"),c=n.n(s),u=n("e196"),l=n.n(u),d=n("c1df"),f=n.n(d),b=(n("24ab"),n("b20f"),n("1d28"),n("18df"),n("313e")),h=(n("885f"),n("6b81"),function(){var e=this,t=e.$createElement,n=e._self._c||t;return n("div",{attrs:{id:"app"}},[n("router-view")],1)}),p=[],m=n("d225"),A=n("308d"),g=n("6bb5"),v=n("4e2b"),j=n("9ab4"),O=n("60a3"),k=function(e){function t(){return Object(m["a"])(this,t),Object(A["a"])(this,Object(g["a"])(t).apply(this,arguments))}return Object(v["a"])(t,e),t}(O["c"]);k=Object(j["a"])([Object(O["a"])({name:"App"})],k);var y=k,w=y,T=n("2877"),E=Object(T["a"])(w,h,p,!1,null,null,null),S=E.exports,C=n("0613"),D=n("5f86");c.a.register({main:{width:128,height:128,viewBox:"0 0 128 128",data:'<image width="128" height="128" href="data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAAD4AAAA+CAMAAABEH1h2AAAABGdBTUEAALGPC/xhBQAAACBjSFJN AAB6JgAAgIQAAPoAAACA6AAAdTAAAOpgAAA6mAAAF3CculE8AAABI1BMVEX///////////////// //////////////////////////////////////////////////////////////////////////// //////////////////////////////////////////////////////////////////////////// ////////////////////qlX/kD//kT7/kT7/mUD/kD//kT7/kD3/kT7/kj3/kkn/lEL/kT3/kT3/ kT7/k0D/kT7/kD7/kT3/kkH/kkD/kkD///////////////////////////////////////////// ////////////////////////////////////////////////////////////////kD2Migq/AAAA X3RSTlMACYHH7fDvz5MUEtfpKqPLAQX4/VwQQvIoLdKoVzXKoF/Uu7WI1X/bTURKs76a8Qlqf3QU irRsgHUVH6e8sDScxpYvRDgugJ7zxPbohYI5AuvnDiZ1epW4ubrTzIp3MCXIt8QAAAABYktHRACI BR1IAAAAB3RJTUUH4wwMEhQVj/PVlQAAAQhJREFUSMft0VdTwkAUhuFYsAACGoOAgkhsWECpVrAD sStg9+P//wrirIYSMuwcLhyGfW82szPPbPasJIlEop4aGh4ZtTU3Nj4xya3tDphzTvFyFzrl9vDp 6RnIs3alJe8c4OPjfiBg2pwHFvh4EAiZNheBcA9cP30pElGXgzS+8jtAeZXE14wXWCdyNRrd2AS2 iHxbXxQgxsfjO7usRLLBJf3v+Xiq9lf6H3g8k2Xt7VN4x9ENCD84PGId5yg8bzzcCYVnDH5KuvvZ OevC03+TF7y/+OVVASiW2tOA659V5ze3d5b6/gHd0xRL/sjBi0+Wxz+XK9WXV1Nv7x/sQ/2sfH1L IpGIWh3fwLcChnMOBwAAACV0RVh0ZGF0ZTpjcmVhdGUAMjAxOS0xMi0xMlQxMDoyMDoyMSswODow MCFCsgkAAAAldEVYdGRhdGU6bW9kaWZ5ADIwMTktMTItMTJUMTA6MjA6MjErMDg6MDBQHwq1AAAA AElFTkSuQmCC"/>'}}),c.a.register({employee:{width:62,height:62,viewBox:"0 0 62 62",data:'<image width="62" height="62" href="data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAAD4AAAA+CAMAAABEH1h2AAAABGdBTUEAALGPC/xhBQAAACBjSFJN AAB6JgAAgIQAAPoAAACA6AAAdTAAAOpgAAA6mAAAF3CculE8AAABtlBMVEX///////////////// //////////////////////////////////////////////////////////////////////////// //////////////////////////////////////////////////////////////////////////// qlX/nU7/////////kT//kT3/kT3/kT7/////////////////kT3/kT//////////////kD3/kD3/ kD7/l0L/////////////////////////////////////////////mUD/kj7/kT7/kj7/lkP///// ////kT7/kT7/////////kD3/kD7/////////////////n0D/kT7/kT7/kT7/lT7///////////// //////////////////////////////////////////////////////////////////////////// ////mWb///////////////////////////////////////////////////////////////////// ////////////////////////////////kD2FJm6wAAAAkHRSTlMAAzNnhHlIEinK8yX1ggHG8ph7 hs/7MvQnsoxZpj/Aco0m2R+f4Q9b4z4GDesWZvrlJc47TaPDbRk4BVPyyxtHHDwK+hAL92mT1hR3 hHwiyVau0+LFqs8Uw6UGEG97dB3E5si8y+78EaQH8IOvSt8edqHNS26ZWAXTxy/YwVeoQb4k9i23 io8uIu9eK19wQA0O+RL+AAAAAWJLR0QAiAUdSAAAAAd0SU1FB+MMDBIfE4VkqWsAAAG2SURBVEjH 7ZVXV8JAEEZRsCsiiL0gdgV7xS723gv23ntX7L1//GOXGHnwkOzGc9SX3Ifs2ZlcQmZ2swqFjIzM f+HhqVSJ4eXtI2L7+oGGv1LQDgik2oQgAVsdDGhCtGLoQgF9mMDDgfAIWnEigSj3qWgghlrcWCDO fSYeMFD1BMD423piUnK40ZDyQz1Vw7UoLZ3PZGQS1Kx6mJ5vscnMzbOyHYScXEadNDcv36cgDSjk 5kUOjmI2ndzhX0LGUiDQ4gyU5ZQTKirZ9Kqv1pqAaumlq+HvqLUCddL1+gagkWyBJqCZS7S0tnG0 dzCVLogU3diZTK5d3LzbwdPDpNf28o3r+0z0f+kDLPrgkGtvD9ucgZHRMY7xCQbdNkm8qemZ2Tky JkkunRcwr3M+dWGR+AUS9aVlYIWPrAKzCmnLZg1Yt/ARM+n8hrRFuwlsuULbwI60LaMCdl2hPWCf DAfsGzbi8MjsCh2f2L8t27/4WP1EPwXOqPo5cOE+cwlcXVNsyw1w6z6ltpPPy5boCXvXDFjvBX76 QcNyRGoF/9rlEFV+fBJ5NfXzi+gJ+/r2Ti2ujIzMr/EBzrEWqTvd2VEAAAAldEVYdGRhdGU6Y3Jl YXRlADIwMTktMTItMTJUMTA6MzE6MTkrMDg6MDCybk9zAAAAJXRFWHRkYXRlOm1vZGlmeQAyMDE5 LTEyLTEyVDEwOjMxOjE5KzA4OjAwwzP3zwAAAABJRU5ErkJggg=="/>'}}),c.a.register({pay:{width:62,height:62,viewBox:"0 0 62 62",data:'<image width="62" height="62" href="data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAAD4AAAA+CAMAAABEH1h2AAAABGdBTUEAALGPC/xhBQAAACBjSFJN AAB6JgAAgIQAAPoAAACA6AAAdTAAAOpgAAA6mAAAF3CculE8AAAClFBMVEX///////////////// //////////////////////////////////////////////////////////////////////////// //////////////////////////////////////////////////////////////////////////// ////////////////////////////////////////////////////////////////kj7/kD7/kT7/ kT3/kD7/lUD/////////////////kT3/kD3/lT7/kj7/////////////lkH/kT3/kD7/mWb/kT7/ kD7/kD7/qlX/////////////////kD//kT7/////////lUD/kD7/kT//n0D/////////////kD3/ kD7/////////lEP/k0D/kj7/kj7/kD7/kUD/qlX/////////////k0D/kD7/kT3/kT3/kT7/kD7/ qlX/////////////kz7/kT3/kD3/kT7/kT3/lEL/////////////////////////kT7///////// ////////kj7/kEP/////////////////////kkL/kT3/kD7///////////////////////////// //////////////////////////////////////////////////////////////////////////// //////////////////////////////////////////////////////////////////////////// //////////////////////////////////////////////////////////////////////////// ////////////////////////kD1q+D6tAAAA2nRSTlMAARUvKA4idcT68a1eDxye/e92CF/2/urQ 194ujLVbECNy1vNPhNE8A2Q/WKsKJtnsIRGxAhnktosNW9tWjdYkNPxB96P2KWeZvc0n9c0FJfTP BhoSqHiKycJdGMGCEHmN8Gz7WaYTUFKTY0gDvvsEKI+Su52DCUyz5lfZ6d7QH2adZ3Pbf1+iqsFA XhcG6THUwCPctmHioLzOz7/hLGyTHz5Rmj2c3VYgm0u7km/nhjvax45V8jnLd+Oyih415ZVaagtp 7UJISgywY/n4j+jGHZ+5YId7uDMlpRl8JFcAAAABYktHRACIBR1IAAAAB3RJTUUH4wwMEh8Llggx PQAAAq9JREFUSMftlflDjEEcxmelUpRSSgopJZSU0OFoW8euK5Qzt5Cjjdw3hVbus4OcRcodyZ37 vnI/88+Ymdduxdqd7Uf2+eF9v8/M+5nrnfkOIXbZ9Y9J1cyhuWMTWSfnFi5gcm3Zys1m2L21B0zy bONlG+3dlmM+vu38XEUD7f1tmXMARzp07MRNYOcgZoK7yOMh7PvQriYb1s0TcOkuS/dgdHhEw5Ke kUCvKDk6mvXVO6ZxWZ++QD85PBaIjGPv+IT+3A4YOIg9E9VAkgztpgHEOg2mQ4YSMozSeO60gE5y 5sNFMGIkHTU6eQwdO467FDXUqRL4eGCCErGOJ04SQ+CaDEyRwP0AByVKm0qZpk1X3AxgpgQ+C1D2 +GyqaE6ysOnAXOu0F6BRonnzMxZQujBj0WJhk4BM67hKD58sES1Zmr2M0uXZK1YKuwpYLTH4NYC7 CNauS1hP6YaEjZuE3QxssYA55uQKbQW2Gcu2U5pmjPMAZwu4of58Y0e+UraT0l2/qnfvAfZawPeh ofaLA3bg4CFj9WHgiMoyXhBQCBSFF4skdbTRCXU8BuQSy3gJOQ6cIOSkVjSQecpYF3e6iKWsaEmc NXBGNKAr5aakTCMmdPacLE5I+XnRQGFpRWX9ihgiZHFCosr0Jq74wsWCS+x9WQK/cvVa1XW+dfJv CFZtqGYm5SYLayRwZbS3bmeqRZK/c5dX37vP4gdZEnitpn62kQ8fidp0VqZ/LLd0qRUhumDGelRW KDtFxVP3k6fSP44ld/9nz43J6cVLRgcFEhvwBioP5XeOlav2r3ipL6NjY0jT8FevgTfexJrM42Fv Wdfvqq3S5vHE94wu+mCd5nhN7UegrtaoT5/rfP64LS3g5qT/opKhSaFZ+us3KZiQ79ofvymvKsdJ ErbLrv9CPwGXRuBRFPjm8wAAACV0RVh0ZGF0ZTpjcmVhdGUAMjAxOS0xMi0xMlQxMDozMToxMSsw ODowMIGBARQAAAAldEVYdGRhdGU6bW9kaWZ5ADIwMTktMTItMTJUMTA6MzE6MTErMDg6MDDw3Lmo AAAAAElFTkSuQmCC"/>'}}),c.a.register({shop:{width:62,height:62,viewBox:"0 0 62 62",data:'<image width="62" height="62" href="data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAAD4AAAA+CAMAAABEH1h2AAAABGdBTUEAALGPC/xhBQAAACBjSFJN AAB6JgAAgIQAAPoAAACA6AAAdTAAAOpgAAA6mAAAF3CculE8AAABxVBMVEX///////////////// //////////////////////////////////////////////////////////////////////////// ////////////////////kz7/kj3/kD3/mWb/////////////////kj7/kD7///////////////// ////kj7/kD7/////////////////////mU3/kD3/kD//kD7/kET///////////////////////// //////////////////////////////////////////////////////////////////////////// //////////////////////////////////////////////////////////////////////////// //////////////////////////////////////////////////////////////////////////// //////////////////////////////////////////////////////////////////////////// ////////////////////////////////////////////////////kD2OYNXcAAAAlXRSTlMAN6LQ 2tWmPW39eTT8PLjKJjnCvzYe+rSjqTMoQmBTBS4hsademLmTMP4qd7FE9RKtqgqBn5Eez3wMLVrZ PtgHFUwFjVVOkg7c52X2GAnwhQP0CFwd46QClPIj7QGQ818xqA0LnjLrD+K30sGdsu8XJ1istfhA +asb1mErBks4QSAWY0Z/JYI1GfuuBMzTad6J4M2RgCz81YMAAAABYktHRACIBR1IAAAAB3RJTUUH 4wwMEh40OXUtQQAAAdlJREFUSMftlmdPFEEAhkdB8bhDEGmKBRtyh4JgQcAKIk1RynHgURRQ0FMs SNNDBCsiosLj73W2kKDszlziF0P2+TJv5p0nmZ3sbFYID49NwJatSckb2LY9JTF7hw9nUhOx/QHc SEtA3wnpaRkb2JUJu/V2FgQynIrsHPBr9VzIc27yYI/O3gu+fDnu27+eAwflVIHc1yGNfhiOyOHo rz85ZnSFcFxtF0EwJMfiv/QTRnkSSkqV+ikoM8by02fWc/ac2VbAeZVdmUOwyr2uhgsq/SJcUtSX 5Rt1RdFfhUI71tReW5utu15vpwYIKXQ/NNqxieYbVrrZwi0r3W6FbIXe1gLtZuoIQ2fEjF3Qfcfa BkR7VA/fC339csXdsHFF7g0IMThkpMb7six6AF0qWwyPyLUNDx/ZV6w1M9ZtJV/s8ZMgjD5V6uJZ 2Dajz1+s3dOx/pd2ah4XGoZ7o3LdxOSU6Kk2NzH9KiJe55qfkFhIZ0vi/pk3A1bsGJ99a6W5mfmm ROR/5N1719P58PGTzv68wBe3roLRRY0uPxdf3Tp5pqWevjn1Klhy6/qgUqPHJwjURZyaxW+wLHSU oeC7Vp/74W7/bNPqon5l2vH3YiFpNa63PTw8/l9+A77W/3TjVVVtAAAAJXRFWHRkYXRlOmNyZWF0 ZQAyMDE5LTEyLTEyVDEwOjMwOjUyKzA4OjAw2+F+TQAAACV0RVh0ZGF0ZTptb2RpZnkAMjAxOS0x Mi0xMlQxMDozMDo1MiswODowMKq8xvEAAAAASUVORK5CYII="/>'}}),c.a.register({vip:{width:62,height:62,viewBox:"0 0 62 62",data:'<image width="62" height="62" href="data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAAD4AAAA+CAMAAABEH1h2AAAABGdBTUEAALGPC/xhBQAAACBjSFJN AAB6JgAAgIQAAPoAAACA6AAAdTAAAOpgAAA6mAAAF3CculE8AAAB1FBMVEX///////////////// //////////////////////////////////////////////////////////////////////////// //////////////////////////////////////////////////////////////////////////// //////////////////////////////////////////////////////////////////////////// //////////////////////////////////////////////////////////////////////////// //////////////////////////////////////////////////////////////////////////// //////////////////////////////////////////////////////////////////////////// //////////////////////////////////////////////////////////////////////////// ////////////////kEP/kT//kT7/kj//v0D/kT7/kj//kT7/kT//mU3/kj7/kT7/kz7/////kD3j blauAAAAmnRSTlMAQ10Yn+8rJKcB5v5CN2zJ5wpg93kNg2MQAk9iF4rjA9mGD15XB7XtIyX5WVb0 E+DMNpC0w86Tc1Q72ilJ/TEgxljFqAXYmsKgNKoMCI0sFTz8vtat8W+2x9LzgmuxBDD6oi3ETG2v L3qOHfWjdnA6fOFlq3VE0ECW+2HU5HEaacBQ3DOF+FXdyB+SpiIXgpBuBKxpoF0KYm9Or+9urQAA AAFiS0dEAIgFHUgAAAAHdElNRQfjDAwSHg7/efTzAAAB9klEQVRIx+2UZ1cTQRSGRyURXRGCoqJI MBpEVMReQkARUREUC/YCKmDvvYCIvffy+GeZybLmeA53hrN+4OjJ+2Uz7zvPzN3Zm1Eqp5z+L40b P+Ev6DyIREPTE9HKC41HDZ4fGp80GbwpofECT+8+NfTmhab4olhIvBim6fKnh6NLimDGTP3pZo0S KJ09pyw7mgvlsXgFzMt6ifkLkuK7VsLCqmC0qBoWK7UElv5es2YZ1Er8cnNSK4LRSlhl1lwNawJv rZmxTsDXm3BDyh/UQbp++Ed1g+9VbTQzNgl4vNGk6c2my5u2QLNvb4Vt5rm9JZ1Zf4f08q1tJsdr 2WnKjOzy3XbYnVJ1ezIZexPy0Sc8f463rwP2B+4BOHgo4x+GI7ZPp0s+emx4m+OBeSJTNJ1dJ0/B aRveBd2qvkcX0dGbdc+Yjc+eU/HzUGbDu+GCfkQvXvpj2uUrxab1euGqjVYFUCGn1+C6FU924slH 2ww3rLiqhZtieAtu2/E7lj9o7C7pEjt+D3qkTDf1fTttbscHUvbQfe2W6sbqE7J86Hfg6hEMCNFj GHTh+o55MnJSA0+bXPgz3Z/PR1Q5vHDR6iUWvXLi6rVMR1JuXPW9kZQcBT22evvuvaQPH934p1+y PrvxLxb8qxv/9v2HpJ9jfbA55fSvawjYwxb1SCPMxAAAACV0RVh0ZGF0ZTpjcmVhdGUAMjAxOS0x Mi0xMlQxMDozMDoxNCswODowMDx7RY0AAAAldEVYdGRhdGU6bW9kaWZ5ADIwMTktMTItMTJUMTA6 MzA6MTQrMDg6MDBNJv0xAAAAAElFTkSuQmCC"/>'}}),c.a.register({hamburger:{width:64,height:64,viewBox:"0 0 1024 1024",data:'<path pid="0" d="M408 442h480a8 8 0 008-8v-56a8 8 0 00-8-8H408a8 8 0 00-8 8v56a8 8 0 008 8zm-8 204a8 8 0 008 8h480a8 8 0 008-8v-56a8 8 0 00-8-8H408a8 8 0 00-8 8v56zm504-486H120a8 8 0 00-8 8v56a8 8 0 008 8h784a8 8 0 008-8v-56a8 8 0 00-8-8zm0 632H120a8 8 0 00-8 8v56a8 8 0 008 8h784a8 8 0 008-8v-56a8 8 0 00-8-8zM142.4 642.1L298.7 519a8.8 8.8 0 000-13.9L142.4 381.9a8.9 8.9 0 00-14.4 6.9v246.3a8.9 8.9 0 0014.4 7z"/>'}}),c.a.register({dashboard:{width:32,height:32,viewBox:"0 0 1024 1024",data:'<path pid="4758" d="M888 462.4L544 142.4c-19.2-17.6-48-17.6-65.6 0l-344 320c-9.6 9.6-16 22.4-16 35.2v355.2c0 27.2 22.4 49.6 49.6 49.6h240V657.6c0-56 46.4-102.4 102.4-102.4 56 0 102.4 46.4 102.4 102.4v246.4h240c27.2 0 49.6-22.4 49.6-49.6V497.6c1.6-12.8-4.8-25.6-14.4-35.2z"/>'}}),c.a.register({dashboard:{width:32,height:32,viewBox:"0 0 1024 1024",data:'<path pid="1899" d="M192 736 192 416C192 261.184 301.952 132.064 448 102.4L448 64C448 28.64 476.64 0 512 0 547.36 0 576 28.64 576 64L576 102.4C722.048 132.064 832 261.184 832 416L832 736 864.096 736C899.392 736 928 764.416 928 800 928 835.36 899.36 864 864.096 864L159.904 864C124.608 864 96 835.584 96 800 96 764.64 124.64 736 159.904 736L192 736ZM608 928C608 981.024 565.024 1024 512 1024 458.976 1024 416 981.024 416 928L608 928Z"/>'}});n("96cf");var R=n("3b8d"),x=n("323e"),M=n.n(x),P=(n("a5d8"),n("a78e")),B=n.n(P);M.a.configure({showSpinner:!1}),D["a"].beforeEach(function(){var e=Object(R["a"])(regeneratorRuntime.mark((function e(t,n,a){return regeneratorRuntime.wrap((function(e){while(1)switch(e.prev=e.next){case 0:M.a.start(),B.a.get("token")?a():t.meta.notNeedAuth?a():a("/login");case 2:case"end":return e.stop()}}),e)})));return function(t,n,a){return e.apply(this,arguments)}}()),D["a"].afterEach((function(e){M.a.done(),document.title=e.meta.title}));var U=function(){return!1};a["default"].use(i.a),a["default"].use(l.a),a["default"].use(c.a,{tagName:"svg-icon",defaultWidth:"1em",defaultHeight:"1em"}),a["default"].config.productionTip=!1,a["default"].prototype.moment=f.a,a["default"].prototype.$checkProcessEnv=U;var I=r["a"].prototype.push;r["a"].prototype.push=function(e){return I.call(this,e).catch((function(e){return e}))},a["default"].prototype.$echarts=b,new a["default"]({router:D["a"],store:C["a"],render:function(e){return e(S)}}).$mount("#app")},ceca:function(e,t,n){e.exports=n.p+"img/logo.38b01728.png"},d9d2:function(e,t,n){e.exports=n.p+"img/mini-logo.bf141cfc.png"},e54f:function(e,t,n){"use strict";var a=n("6c47"),r=n.n(a);r.a},e584:function(e,t,n){e.exports=n.p+"media/reminder.0a3849af.mp3"}});
+(function(e){function t(t){for(var a,r,s=t[0],c=t[1],u=t[2],l=0,d=[];l<s.length;l++)r=s[l],Object.prototype.hasOwnProperty.call(o,r)&&o[r]&&d.push(o[r][0]),o[r]=0;for(a in c)Object.prototype.hasOwnProperty.call(c,a)&&(e[a]=c[a]);f&&f(t);while(d.length)d.shift()();return i.push.apply(i,u||[]),n()}function n(){for(var e,t=0;t<i.length;t++){for(var n=i[t],a=!0,r=1;r<n.length;r++){var s=n[r];0!==o[s]&&(a=!1)}a&&(i.splice(t--,1),e=c(c.s=n[0]))}return e}var a={},r={app:0},o={app:0},i=[];function s(e){return c.p+"js/"+({404:"404",dashboard:"dashboard",login:"login",shopTable:"shopTable"}[e]||e)+"."+{404:"c61770cf",dashboard:"630a609e",login:"90288d75",shopTable:"fe534d8f"}[e]+".js"}function c(t){if(a[t])return a[t].exports;var n=a[t]={i:t,l:!1,exports:{}};return e[t].call(n.exports,n,n.exports,c),n.l=!0,n.exports}c.e=function(e){var t=[],n={404:1,dashboard:1,login:1,shopTable:1};r[e]?t.push(r[e]):0!==r[e]&&n[e]&&t.push(r[e]=new Promise((function(t,n){for(var a="css/"+({404:"404",dashboard:"dashboard",login:"login",shopTable:"shopTable"}[e]||e)+"."+{404:"6a750851",dashboard:"8da8967e",login:"f8377ced",shopTable:"5fd29e98"}[e]+".css",o=c.p+a,i=document.getElementsByTagName("link"),s=0;s<i.length;s++){var u=i[s],l=u.getAttribute("data-href")||u.getAttribute("href");if("stylesheet"===u.rel&&(l===a||l===o))return t()}var d=document.getElementsByTagName("style");for(s=0;s<d.length;s++){u=d[s],l=u.getAttribute("data-href");if(l===a||l===o)return t()}var f=document.createElement("link");f.rel="stylesheet",f.type="text/css",f.onload=t,f.onerror=function(t){var a=t&&t.target&&t.target.src||o,i=new Error("Loading CSS chunk "+e+" failed.\n("+a+")");i.code="CSS_CHUNK_LOAD_FAILED",i.request=a,delete r[e],f.parentNode.removeChild(f),n(i)},f.href=o;var b=document.getElementsByTagName("head")[0];b.appendChild(f)})).then((function(){r[e]=0})));var a=o[e];if(0!==a)if(a)t.push(a[2]);else{var i=new Promise((function(t,n){a=o[e]=[t,n]}));t.push(a[2]=i);var u,l=document.createElement("script");l.charset="utf-8",l.timeout=120,c.nc&&l.setAttribute("nonce",c.nc),l.src=s(e);var d=new Error;u=function(t){l.onerror=l.onload=null,clearTimeout(f);var n=o[e];if(0!==n){if(n){var a=t&&("load"===t.type?"missing":t.type),r=t&&t.target&&t.target.src;d.message="Loading chunk "+e+" failed.\n("+a+": "+r+")",d.name="ChunkLoadError",d.type=a,d.request=r,n[1](d)}o[e]=void 0}};var f=setTimeout((function(){u({type:"timeout",target:l})}),12e4);l.onerror=l.onload=u,document.head.appendChild(l)}return Promise.all(t)},c.m=e,c.c=a,c.d=function(e,t,n){c.o(e,t)||Object.defineProperty(e,t,{enumerable:!0,get:n})},c.r=function(e){"undefined"!==typeof Symbol&&Symbol.toStringTag&&Object.defineProperty(e,Symbol.toStringTag,{value:"Module"}),Object.defineProperty(e,"__esModule",{value:!0})},c.t=function(e,t){if(1&t&&(e=c(e)),8&t)return e;if(4&t&&"object"===typeof e&&e&&e.__esModule)return e;var n=Object.create(null);if(c.r(n),Object.defineProperty(n,"default",{enumerable:!0,value:e}),2&t&&"string"!=typeof e)for(var a in e)c.d(n,a,function(t){return e[t]}.bind(null,a));return n},c.n=function(e){var t=e&&e.__esModule?function(){return e["default"]}:function(){return e};return c.d(t,"a",t),t},c.o=function(e,t){return Object.prototype.hasOwnProperty.call(e,t)},c.p="",c.oe=function(e){throw console.error(e),e};var u=window["webpackJsonp"]=window["webpackJsonp"]||[],l=u.push.bind(u);u.push=t,u=u.slice();for(var d=0;d<u.length;d++)t(u[d]);var f=l;i.push([0,"chunk-vendors"]),n()})({0:function(e,t,n){e.exports=n("cd49")},"020a":function(e,t,n){},"0613":function(e,t,n){"use strict";var a=n("2b0e"),r=n("2f62");a["default"].use(r["a"]),t["a"]=new r["a"].Store({})},"075b":function(e,t,n){},"0d5a":function(e,t,n){e.exports={menuBg:"#343744",menuText:"#bfcbd9",menuActiveText:"#ffc200"}},"0ea8":function(e,t,n){},"1d28":function(e,t,n){e.exports={menuBg:"#343744",menuText:"#bfcbd9",menuActiveText:"#ffc200"}},"24ab":function(e,t,n){e.exports={menuBg:"#343744",menuText:"#bfcbd9",menuActiveText:"#ffc200"}},"393a":function(e,t,n){"use strict";var a=n("0d5a"),r=n.n(a);r.a},4595:function(e,t,n){},4652:function(e,t,n){"use strict";var a=n("020a"),r=n.n(a);r.a},4678:function(e,t,n){var a={"./af":"2bfb","./af.js":"2bfb","./ar":"8e73","./ar-dz":"a356","./ar-dz.js":"a356","./ar-kw":"423e","./ar-kw.js":"423e","./ar-ly":"1cfd","./ar-ly.js":"1cfd","./ar-ma":"0a84","./ar-ma.js":"0a84","./ar-sa":"8230","./ar-sa.js":"8230","./ar-tn":"6d83","./ar-tn.js":"6d83","./ar.js":"8e73","./az":"485c","./az.js":"485c","./be":"1fc1","./be.js":"1fc1","./bg":"84aa","./bg.js":"84aa","./bm":"a7fa","./bm.js":"a7fa","./bn":"9043","./bn.js":"9043","./bo":"d26a","./bo.js":"d26a","./br":"6887","./br.js":"6887","./bs":"2554","./bs.js":"2554","./ca":"d716","./ca.js":"d716","./cs":"3c0d","./cs.js":"3c0d","./cv":"03ec","./cv.js":"03ec","./cy":"9797","./cy.js":"9797","./da":"0f14","./da.js":"0f14","./de":"b469","./de-at":"b3eb","./de-at.js":"b3eb","./de-ch":"bb71","./de-ch.js":"bb71","./de.js":"b469","./dv":"598a","./dv.js":"598a","./el":"8d47","./el.js":"8d47","./en-SG":"cdab","./en-SG.js":"cdab","./en-au":"0e6b","./en-au.js":"0e6b","./en-ca":"3886","./en-ca.js":"3886","./en-gb":"39a6","./en-gb.js":"39a6","./en-ie":"e1d3","./en-ie.js":"e1d3","./en-il":"7333","./en-il.js":"7333","./en-nz":"6f50","./en-nz.js":"6f50","./eo":"65db","./eo.js":"65db","./es":"898b","./es-do":"0a3c","./es-do.js":"0a3c","./es-us":"55c9","./es-us.js":"55c9","./es.js":"898b","./et":"ec18","./et.js":"ec18","./eu":"0ff2","./eu.js":"0ff2","./fa":"8df4","./fa.js":"8df4","./fi":"81e9","./fi.js":"81e9","./fo":"0721","./fo.js":"0721","./fr":"9f26","./fr-ca":"d9f8","./fr-ca.js":"d9f8","./fr-ch":"0e49","./fr-ch.js":"0e49","./fr.js":"9f26","./fy":"7118","./fy.js":"7118","./ga":"5120","./ga.js":"5120","./gd":"f6b4","./gd.js":"f6b4","./gl":"8840","./gl.js":"8840","./gom-latn":"0caa","./gom-latn.js":"0caa","./gu":"e0c5","./gu.js":"e0c5","./he":"c7aa","./he.js":"c7aa","./hi":"dc4d","./hi.js":"dc4d","./hr":"4ba9","./hr.js":"4ba9","./hu":"5b14","./hu.js":"5b14","./hy-am":"d6b6","./hy-am.js":"d6b6","./id":"5038","./id.js":"5038","./is":"0558","./is.js":"0558","./it":"6e98","./it-ch":"6f12","./it-ch.js":"6f12","./it.js":"6e98","./ja":"079e","./ja.js":"079e","./jv":"b540","./jv.js":"b540","./ka":"201b","./ka.js":"201b","./kk":"6d79","./kk.js":"6d79","./km":"e81d","./km.js":"e81d","./kn":"3e92","./kn.js":"3e92","./ko":"22f8","./ko.js":"22f8","./ku":"2421","./ku.js":"2421","./ky":"9609","./ky.js":"9609","./lb":"440c","./lb.js":"440c","./lo":"b29d","./lo.js":"b29d","./lt":"26f9","./lt.js":"26f9","./lv":"b97c","./lv.js":"b97c","./me":"293c","./me.js":"293c","./mi":"688b","./mi.js":"688b","./mk":"6909","./mk.js":"6909","./ml":"02fb","./ml.js":"02fb","./mn":"958b","./mn.js":"958b","./mr":"39bd","./mr.js":"39bd","./ms":"ebe4","./ms-my":"6403","./ms-my.js":"6403","./ms.js":"ebe4","./mt":"1b45","./mt.js":"1b45","./my":"8689","./my.js":"8689","./nb":"6ce3","./nb.js":"6ce3","./ne":"3a39","./ne.js":"3a39","./nl":"facd","./nl-be":"db29","./nl-be.js":"db29","./nl.js":"facd","./nn":"b84c","./nn.js":"b84c","./pa-in":"f3ff","./pa-in.js":"f3ff","./pl":"8d57","./pl.js":"8d57","./pt":"f260","./pt-br":"d2d4","./pt-br.js":"d2d4","./pt.js":"f260","./ro":"972c","./ro.js":"972c","./ru":"957c","./ru.js":"957c","./sd":"6784","./sd.js":"6784","./se":"ffff","./se.js":"ffff","./si":"eda5","./si.js":"eda5","./sk":"7be6","./sk.js":"7be6","./sl":"8155","./sl.js":"8155","./sq":"c8f3","./sq.js":"c8f3","./sr":"cf1e","./sr-cyrl":"13e9","./sr-cyrl.js":"13e9","./sr.js":"cf1e","./ss":"52bd","./ss.js":"52bd","./sv":"5fbd","./sv.js":"5fbd","./sw":"74dc","./sw.js":"74dc","./ta":"3de5","./ta.js":"3de5","./te":"5cbb","./te.js":"5cbb","./tet":"576c","./tet.js":"576c","./tg":"3b1b","./tg.js":"3b1b","./th":"10e8","./th.js":"10e8","./tl-ph":"0f38","./tl-ph.js":"0f38","./tlh":"cf75","./tlh.js":"cf75","./tr":"0e81","./tr.js":"0e81","./tzl":"cf51","./tzl.js":"cf51","./tzm":"c109","./tzm-latn":"b53d","./tzm-latn.js":"b53d","./tzm.js":"c109","./ug-cn":"6117","./ug-cn.js":"6117","./uk":"ada2","./uk.js":"ada2","./ur":"5294","./ur.js":"5294","./uz":"2e8c","./uz-latn":"010e","./uz-latn.js":"010e","./uz.js":"2e8c","./vi":"2921","./vi.js":"2921","./x-pseudo":"fd7e","./x-pseudo.js":"fd7e","./yo":"7f33","./yo.js":"7f33","./zh-cn":"5c3a","./zh-cn.js":"5c3a","./zh-hk":"49ab","./zh-hk.js":"49ab","./zh-tw":"90ea","./zh-tw.js":"90ea"};function r(e){var t=o(e);return n(t)}function o(e){if(!n.o(a,e)){var t=new Error("Cannot find module '"+e+"'");throw t.code="MODULE_NOT_FOUND",t}return a[e]}r.keys=function(){return Object.keys(a)},r.resolve=o,e.exports=r,r.id="4678"},"516f":function(e,t,n){"use strict";var a=n("8220"),r=n.n(a);r.a},5581:function(e,t,n){"use strict";n.d(t,"f",(function(){return i})),n.d(t,"a",(function(){return c})),n.d(t,"g",(function(){return u})),n.d(t,"b",(function(){return d})),n.d(t,"h",(function(){return f})),n.d(t,"d",(function(){return b})),n.d(t,"c",(function(){return p})),n.d(t,"e",(function(){return m}));var a=n("a78e"),r=n.n(a),o="sidebar_status",i=function(e){return r.a.set(o,e)},s="storeId",c=function(){return r.a.get(s)},u=function(e){return r.a.set(s,e)},l="token",d=function(){return r.a.get(l)},f=function(e){return r.a.set(l,e)},b=function(){return r.a.remove(l)},h="userInfo",p=function(){return r.a.get(h)},m=function(){return r.a.remove(h)}},"5f86":function(e,t,n){"use strict";var a,r=n("2b0e"),o=n("8c4f"),i=function(){var e=this,t=e.$createElement,n=e._self._c||t;return n("div",{staticClass:"app-wrapper",class:e.classObj},[e.classObj.mobile&&e.sidebar.opened?n("div",{staticClass:"drawer-bg",on:{click:e.handleClickOutside}}):e._e(),n("sidebar",{staticClass:"sidebar-container"}),n("div",{staticClass:"main-container"},[n("navbar"),n("app-main")],1)],1)},s=[],c=n("d225"),u=n("b0b4"),l=n("308d"),d=n("6bb5"),f=n("4e2b"),b=n("9ab4"),h=n("60a3"),p=n("2fe1"),m=n("6fc5"),A=n("5581"),g=n("0613");(function(e){e[e["Mobile"]=0]="Mobile",e[e["Desktop"]=1]="Desktop"})(a||(a={}));var v=function(e){function t(){var e;return Object(c["a"])(this,t),e=Object(l["a"])(this,Object(d["a"])(t).apply(this,arguments)),e.sidebar={opened:!0,withoutAnimation:!1},e.device=a.Desktop,e.statusNumber=0,e}return Object(f["a"])(t,e),Object(u["a"])(t,[{key:"TOGGLE_SIDEBAR",value:function(e){this.sidebar.opened=!this.sidebar.opened,this.sidebar.withoutAnimation=e,this.sidebar.opened?Object(A["f"])("opened"):Object(A["f"])("closed")}},{key:"CLOSE_SIDEBAR",value:function(e){this.sidebar.opened=!1,this.sidebar.withoutAnimation=e,Object(A["f"])("closed")}},{key:"STATUS_NUMBER",value:function(e){this.statusNumber=e}},{key:"TOGGLE_DEVICE",value:function(e){this.device=e}},{key:"ToggleSideBar",value:function(e){this.TOGGLE_SIDEBAR(e)}},{key:"CloseSideBar",value:function(e){this.CLOSE_SIDEBAR(e)}},{key:"ToggleDevice",value:function(e){this.TOGGLE_DEVICE(e)}},{key:"StatusNumber",value:function(e){this.STATUS_NUMBER(e)}}]),t}(m["d"]);Object(b["a"])([m["c"]],v.prototype,"TOGGLE_SIDEBAR",null),Object(b["a"])([m["c"]],v.prototype,"CLOSE_SIDEBAR",null),Object(b["a"])([m["c"]],v.prototype,"STATUS_NUMBER",null),Object(b["a"])([m["c"]],v.prototype,"TOGGLE_DEVICE",null),Object(b["a"])([m["a"]],v.prototype,"ToggleSideBar",null),Object(b["a"])([m["a"]],v.prototype,"CloseSideBar",null),Object(b["a"])([m["a"]],v.prototype,"ToggleDevice",null),Object(b["a"])([m["a"]],v.prototype,"StatusNumber",null),v=Object(b["a"])([Object(m["b"])({dynamic:!0,store:g["a"],name:"app"})],v);var j=Object(m["e"])(v),O=function(){var e=this,t=e.$createElement,n=e._self._c||t;return n("section",{staticClass:"app-main"},[n("transition",{attrs:{name:"fade-transform",mode:"out-in"}},[n("router-view")],1)],1)},k=[],y=function(e){function t(){return Object(c["a"])(this,t),Object(l["a"])(this,Object(d["a"])(t).apply(this,arguments))}return Object(f["a"])(t,e),t}(h["c"]);y=Object(b["a"])([Object(h["a"])({name:"AppMain"})],y);var w=y,T=w,E=(n("4652"),n("2877")),S=Object(E["a"])(T,O,k,!1,null,"27af5466",null),C=S.exports,D=function(){var e=this,t=e.$createElement,a=e._self._c||t;return a("div",{staticClass:"navbar"},[a("div",{staticClass:"statusBox"},[a("hamburger",{staticClass:"hamburger-container",attrs:{id:"hamburger-container","is-active":e.sidebar.opened},on:{toggleClick:e.toggleSideBar}}),1===e.status?a("span",{staticClass:"businessBtn"},[e._v("营业中")]):a("span",{staticClass:"businessBtn closing"},[e._v("打烊中")])],1),a("div",{key:e.restKey,staticClass:"right-menu"},[a("div",{staticClass:"rightStatus"},[a("audio",{ref:"audioVo",attrs:{hidden:""}},[a("source",{attrs:{src:n("c281"),type:"audio/mp3"}})]),a("audio",{ref:"audioVo2",attrs:{hidden:""}},[a("source",{attrs:{src:n("e584"),type:"audio/mp3"}})]),a("span",{staticClass:"navicon operatingState",on:{click:e.handleStatus}},[a("i"),e._v("营业状态设置")])]),a("div",{staticClass:"avatar-wrapper"},[a("div",{class:e.shopShow?"userInfo":"",on:{mouseenter:e.toggleShow,mouseleave:e.mouseLeaves}},[a("el-button",{class:e.shopShow?"active":"",attrs:{type:"primary"}},[e._v("\n          "+e._s(e.name)),a("i",{staticClass:"el-icon-arrow-down"})]),e.shopShow?a("div",{staticClass:"userList"},[a("p",{staticClass:"amendPwdIcon",on:{click:e.handlePwd}},[e._v("\n            修改密码"),a("i")]),a("p",{staticClass:"outLogin",on:{click:e.logout}},[e._v("\n            退出登录"),a("i")])]):e._e()],1)])]),a("el-dialog",{attrs:{title:"营业状态设置",visible:e.dialogVisible,width:"25%","show-close":!1},on:{"update:visible":function(t){e.dialogVisible=t}}},[a("el-radio-group",{model:{value:e.setStatus,callback:function(t){e.setStatus=t},expression:"setStatus"}},[a("el-radio",{attrs:{label:1}},[e._v("\n        营业中\n        "),a("span",[e._v("当前餐厅处于营业状态，自动接收任何订单，可点击打烊进入店铺打烊状态。")])]),a("el-radio",{attrs:{label:0}},[e._v("\n        打烊中\n        "),a("span",[e._v("当前餐厅处于打烊状态，仅接受营业时间内的预定订单，可点击营业中手动恢复营业状态。")])])],1),a("span",{staticClass:"dialog-footer",attrs:{slot:"footer"},slot:"footer"},[a("el-button",{on:{click:function(t){e.dialogVisible=!1}}},[e._v("取 消")]),a("el-button",{attrs:{type:"primary"},on:{click:e.handleSave}},[e._v("确 定")])],1)],1),a("Password",{attrs:{"dialog-form-visible":e.dialogFormVisible},on:{handleclose:e.handlePwdClose}})],1)},R=[],x=(n("7f7f"),n("a481"),n("96cf"),n("3b8d")),M=(n("6b54"),n("9dba")),P=function(){var e=this,t=e.$createElement,n=e._self._c||t;return n("el-breadcrumb",{staticClass:"app-breadcrumb",attrs:{separator:"/"}},[n("transition-group",{attrs:{name:"breadcrumb"}},e._l(e.breadcrumbs,(function(t,a){return n("el-breadcrumb-item",{key:t.path},["noredirect"===t.redirect||a===e.breadcrumbs.length-1?n("span",{staticClass:"no-redirect"},[e._v(e._s(t.meta.title))]):n("a",{on:{click:function(n){return n.preventDefault(),e.handleLink(t)}}},[e._v(e._s(t.meta.title))])])})),1)],1)},B=[],U=(n("f559"),n("bd11")),I=n.n(U),L=function(e){function t(){var e;return Object(c["a"])(this,t),e=Object(l["a"])(this,Object(d["a"])(t).apply(this,arguments)),e.breadcrumbs=[],e}return Object(f["a"])(t,e),Object(u["a"])(t,[{key:"onRouteChange",value:function(e){e.path.startsWith("/redirect/")||this.getBreadcrumb()}},{key:"created",value:function(){this.getBreadcrumb()}},{key:"getBreadcrumb",value:function(){var e=this.$route.matched.filter((function(e){return e.meta&&e.meta.title}));e[0];this.breadcrumbs=e.filter((function(e){return e.meta&&e.meta.title&&!1!==e.meta.breadcrumb}))}},{key:"isDashboard",value:function(e){var t=e&&e.meta&&e.meta.title;return"集团管理"===t}},{key:"pathCompile",value:function(e){var t=this.$route.params,n=I.a.compile(e);return n(t)}},{key:"handleLink",value:function(e){var t=e.redirect,n=e.path;t?this.$router.push(t):this.$router.push(this.pathCompile(n))}}]),t}(h["c"]);Object(b["a"])([Object(h["d"])("$route")],L.prototype,"onRouteChange",null),L=Object(b["a"])([Object(h["a"])({name:"Breadcrumb"})],L);var V=L,N=V,F=(n("e54f"),Object(E["a"])(N,P,B,!1,null,"0196d90e",null)),G=F.exports,z=function(){var e=this,t=e.$createElement,n=e._self._c||t;return n("div",{class:[{"is-active":e.isActive}],on:{click:e.toggleClick}},[n("svg-icon",{attrs:{name:"hamburger",width:"20",height:"20"}})],1)},_=[],Q=function(e){function t(){return Object(c["a"])(this,t),Object(l["a"])(this,Object(d["a"])(t).apply(this,arguments))}return Object(f["a"])(t,e),Object(u["a"])(t,[{key:"toggleClick",value:function(){this.$emit("toggleClick")}}]),t}(h["c"]);Object(b["a"])([Object(h["b"])({default:!1})],Q.prototype,"isActive",void 0),Q=Object(b["a"])([Object(h["a"])({name:"Hamburger"})],Q);var J=Q,Z=J,H=(n("516f"),Object(E["a"])(Z,z,_,!1,null,"5e6b9da1",null)),X=H.exports,K=n("b32d"),W=function(e){return Object(K["a"])({url:"/employee/editPassword",method:"put",data:e})},q=function(){return Object(K["a"])({url:"/shop/status",method:"get"})},Y=function(e){return Object(K["a"])({url:"/shop/"+e,method:"put",data:e})},$=n("a78e"),ee=n.n($),te=function(){return Object(K["a"])({url:"/messages/countUnread",method:"get"})},ne=function(){var e=this,t=e.$createElement,n=e._self._c||t;return n("el-dialog",{staticClass:"pwdCon",attrs:{title:"修改密码",visible:e.dialogFormVisible,width:"568px"},on:{"update:visible":function(t){e.dialogFormVisible=t},close:function(t){return e.handlePwdClose()}}},[n("el-form",{ref:"form",attrs:{model:e.form,"label-width":"85px",rules:e.rules}},[n("el-form-item",{attrs:{label:"原始密码：",prop:"oldPassword"}},[n("el-input",{attrs:{type:"password",placeholder:"请输入"},model:{value:e.form.oldPassword,callback:function(t){e.$set(e.form,"oldPassword",t)},expression:"form.oldPassword"}})],1),n("el-form-item",{attrs:{label:"新密码：",prop:"newPassword"}},[n("el-input",{attrs:{type:"password",placeholder:"6 - 20位密码，数字或字母，区分大小写"},model:{value:e.form.newPassword,callback:function(t){e.$set(e.form,"newPassword",t)},expression:"form.newPassword"}})],1),n("el-form-item",{attrs:{label:"确认密码：",prop:"affirmPassword"}},[n("el-input",{attrs:{type:"password",placeholder:"请输入"},model:{value:e.form.affirmPassword,callback:function(t){e.$set(e.form,"affirmPassword",t)},expression:"form.affirmPassword"}})],1)],1),n("div",{staticClass:"dialog-footer",attrs:{slot:"footer"},slot:"footer"},[n("el-button",{on:{click:function(t){return e.handlePwdClose()}}},[e._v("取 消")]),n("el-button",{attrs:{type:"primary"},on:{click:function(t){return e.handleSave()}}},[e._v("保 存")])],1)],1)},ae=[],re=function(e){function t(){var e;return Object(c["a"])(this,t),e=Object(l["a"])(this,Object(d["a"])(t).apply(this,arguments)),e.validatePwd=function(e,t,n){var a=/^[0-9A-Za-z]{6,20}$/;t?a.test(t)?n():n(new Error("6 - 20位密码，数字或字母，区分大小写")):n(new Error("请输入"))},e.validatePass2=function(t,n,a){n?n!==e.form.newPassword?a(new Error("密码不一致，请重新输入密码")):a():a(new Error("请再次输入密码"))},e.rules={oldPassword:[{validator:e.validatePwd,trigger:"blur"}],newPassword:[{validator:e.validatePwd,trigger:"blur"}],affirmPassword:[{validator:e.validatePass2,trigger:"blur"}]},e.form={},e.affirmPassword="",e}return Object(f["a"])(t,e),Object(u["a"])(t,[{key:"handleSave",value:function(){var e=this;this.$refs.form.validate(function(){var t=Object(x["a"])(regeneratorRuntime.mark((function t(n){var a;return regeneratorRuntime.wrap((function(t){while(1)switch(t.prev=t.next){case 0:if(!n){t.next=7;break}a={oldPassword:e.form.oldPassword,newPassword:e.form.newPassword},W(a).then((function(t){1===t.data.code?e.$message.success("密码修改成功"):e.$message.error(t.data.msg)})).catch((function(t){e.$message.error("请求出错了："+t.message)})),e.$emit("handleclose"),e.$refs.form.resetFields(),t.next=8;break;case 7:return t.abrupt("return",!1);case 8:case"end":return t.stop()}}),t)})));return function(e){return t.apply(this,arguments)}}())}},{key:"handlePwdClose",value:function(){this.$refs.form.resetFields(),this.$emit("handleclose")}}]),t}(h["c"]);Object(b["a"])([Object(h["b"])()],re.prototype,"dialogFormVisible",void 0),re=Object(b["a"])([Object(h["a"])({name:"Password"})],re);var oe=re,ie=oe,se=(n("393a"),Object(E["a"])(ie,ne,ae,!1,null,null,null)),ce=se.exports,ue=function(e){function t(){var e;return Object(c["a"])(this,t),e=Object(l["a"])(this,Object(d["a"])(t).apply(this,arguments)),e.storeId=e.getStoreId,e.restKey=0,e.websocket=null,e.newOrder="",e.message="",e.audioIsPlaying=!1,e.audioPaused=!1,e.statusValue=!0,e.shopShow=!1,e.dialogVisible=!1,e.status=1,e.setStatus=1,e.dialogFormVisible=!1,e.ountUnread=0,e}return Object(f["a"])(t,e),Object(u["a"])(t,[{key:"getuserInfo",value:function(){return M["a"].userInfo}},{key:"mounted",value:function(){document.addEventListener("click",this.handleClose),this.getStatus()}},{key:"created",value:function(){this.webSocket()}},{key:"onload",value:function(){}},{key:"destroyed",value:function(){this.websocket.close()}},{key:"webSocket",value:function(){var e=this,t=Math.random().toString(36).substr(2),n="ws://localhost/ws/"+t+"?token="+((document.cookie.match(/(?:^|; )token=([^;]*)/)||[])[1]||"");console.log(n,"socketUrl"),"undefined"==typeof WebSocket?e.$notify({title:"提示",message:"当前浏览器无法接收实时报警信息，请使用谷歌浏览器！",type:"warning",duration:0}):(this.websocket=new WebSocket(n),this.websocket.onopen=function(){console.log("浏览器WebSocket已打开")},this.websocket.onmessage=function(t){e.$refs.audioVo.currentTime=0,e.$refs.audioVo2.currentTime=0,console.log(t,JSON.parse(t.data),"msg");var n=JSON.parse(t.data);1===n.type?e.$refs.audioVo.play():2===n.type&&e.$refs.audioVo2.play(),e.$notify({title:1===n.type?"待接单":"催单",duration:0,dangerouslyUseHTMLString:!0,onClick:function(){e.$router.push("/order?orderId=".concat(n.orderId)).catch((function(e){console.log(e)})),setTimeout((function(){location.reload()}),100)},message:"".concat(1===n.type?"<span>您有1个<span style=color:#419EFF>订单待处理</span>,".concat(n.content,",请及时接单</span>"):"".concat(n.content,"<span style='color:#419EFF;cursor: pointer'>去处理</span>"))})},this.websocket.onerror=function(){e.$notify({title:"错误",message:"服务器错误，无法接收实时报警信息",type:"error",duration:0})},this.websocket.onclose=function(){console.log("WebSocket已关闭")})}},{key:"toggleSideBar",value:function(){j.ToggleSideBar(!1)}},{key:"logout",value:function(){var e=Object(x["a"])(regeneratorRuntime.mark((function e(){var t=this;return regeneratorRuntime.wrap((function(e){while(1)switch(e.prev=e.next){case 0:this.$store.dispatch("LogOut").then((function(){t.$router.replace({path:"/login"})}));case 1:case"end":return e.stop()}}),e,this)})));function t(){return e.apply(this,arguments)}return t}()},{key:"getCountUnread",value:function(){var e=Object(x["a"])(regeneratorRuntime.mark((function e(){var t,n;return regeneratorRuntime.wrap((function(e){while(1)switch(e.prev=e.next){case 0:return e.next=2,te();case 2:t=e.sent,n=t.data,1===n.code?j.StatusNumber(n.data):this.$message.error(n.msg);case 5:case"end":return e.stop()}}),e,this)})));function t(){return e.apply(this,arguments)}return t}()},{key:"getStatus",value:function(){var e=Object(x["a"])(regeneratorRuntime.mark((function e(){var t,n;return regeneratorRuntime.wrap((function(e){while(1)switch(e.prev=e.next){case 0:return e.next=2,q();case 2:t=e.sent,n=t.data,this.status=n.data,this.setStatus=this.status;case 6:case"end":return e.stop()}}),e,this)})));function t(){return e.apply(this,arguments)}return t}()},{key:"toggleShow",value:function(){this.shopShow=!0}},{key:"mouseLeaves",value:function(){this.shopShow=!1}},{key:"handleClose",value:function(){}},{key:"handleStatus",value:function(){this.dialogVisible=!0}},{key:"handleSave",value:function(){var e=Object(x["a"])(regeneratorRuntime.mark((function e(){var t,n;return regeneratorRuntime.wrap((function(e){while(1)switch(e.prev=e.next){case 0:return e.next=2,Y(this.setStatus);case 2:t=e.sent,n=t.data,1===n.code&&(this.dialogVisible=!1,this.getStatus());case 5:case"end":return e.stop()}}),e,this)})));function t(){return e.apply(this,arguments)}return t}()},{key:"handlePwd",value:function(){this.dialogFormVisible=!0}},{key:"handlePwdClose",value:function(){this.dialogFormVisible=!1}},{key:"sidebar",get:function(){return j.sidebar}},{key:"device",get:function(){return j.device.toString()}},{key:"name",get:function(){return M["a"].userInfo.name?M["a"].userInfo.name:JSON.parse(ee.a.get("user_info")).name}},{key:"getStoreId",get:function(){var e="";return M["a"].storeId?e=M["a"].storeId:null!=M["a"].userInfo.stores&&(e=M["a"].userInfo.stores[0].storeId),e}}]),t}(h["c"]);ue=Object(b["a"])([Object(h["a"])({name:"Navbar",components:{Breadcrumb:G,Hamburger:X,Password:ce}})],ue);var le=ue,de=le,fe=(n("870b"),n("757c"),Object(E["a"])(de,D,R,!1,null,"ac5af8a4",null)),be=fe.exports,he=function(){var e=this,t=e.$createElement,a=e._self._c||t;return a("div",[a("div",{staticClass:"logo"},[e.isCollapse?a("div",{staticClass:"sidebar-logo-mini"},[a("img",{attrs:{src:n("d9d2")}})]):a("div",{staticClass:"sidebar-logo"},[a("img",{staticStyle:{width:"120px",height:"31px"},attrs:{src:n("ceca")}})])]),a("el-scrollbar",{attrs:{"wrap-class":"scrollbar-wrapper"}},[a("el-menu",{attrs:{"default-openeds":e.defOpen,"default-active":e.defAct,collapse:e.isCollapse,"background-color":e.variables.menuBg,"text-color":e.variables.menuText,"active-text-color":e.variables.menuActiveText,"unique-opened":!1,"collapse-transition":!1,mode:"vertical"}},e._l(e.routes,(function(t){return a("sidebar-item",{key:t.path,attrs:{item:t,"base-path":t.path,"is-collapse":e.isCollapse}})})),1)],1)],1)},pe=[],me=(n("7514"),n("75fc")),Ae=(n("ac6a"),function(){var e=this,t=e.$createElement,n=e._self._c||t;return n("div",[e.item.meta&&e.item.meta.hidden?e._e():n("div",{class:["menu-wrapper","full-mode",{"first-level":e.isFirstLevel}]},[e.theOnlyOneChild&&!e.theOnlyOneChild.children?[e.theOnlyOneChild.meta?n("sidebar-item-link",{attrs:{to:e.resolvePath(e.theOnlyOneChild.path)}},[n("el-menu-item",{class:{"submenu-title-noDropdown":e.isFirstLevel},attrs:{index:e.resolvePath(e.theOnlyOneChild.path)}},[e.theOnlyOneChild.meta.icon?n("i",{staticClass:"iconfont",class:e.theOnlyOneChild.meta.icon}):e._e(),e.theOnlyOneChild.meta.title?n("span",{attrs:{slot:"title"},slot:"title"},[e._v(e._s(e.theOnlyOneChild.meta.title))]):e._e()])],1):e._e()]:n("el-submenu",{attrs:{index:e.resolvePath(e.item.path),"popper-append-to-body":""}},[n("template",{slot:"title"},[e.item.meta&&e.item.meta.icon?n("i",{staticClass:"iconfont",class:e.item.meta.icon}):e._e(),e.item.meta&&e.item.meta.title?n("span",{attrs:{slot:"title"},slot:"title"},[e._v(e._s(e.item.meta.title))]):e._e()]),e.item.children?e._l(e.item.children,(function(t){return n("sidebar-item",{key:t.path,staticClass:"nest-menu",attrs:{item:t,"is-collapse":e.isCollapse,"is-first-level":!1,"base-path":e.resolvePath(t.path)}})})):e._e()],2)],2)])}),ge=[],ve=(n("8e6e"),n("456d"),n("bd86")),je=(n("ac4d"),n("8a81"),n("df7c")),Oe=n.n(je),ke=function(e){return/^(https?:|mailto:|tel:)/.test(e)},ye=function(){var e=this,t=e.$createElement,n=e._self._c||t;return e.isExternal(e.to)?n("a",{attrs:{href:e.to,target:"_blank",rel:"noopener"}},[e._t("default")],2):n("router-link",{attrs:{to:e.to}},[e._t("default")],2)},we=[],Te=function(e){function t(){var e;return Object(c["a"])(this,t),e=Object(l["a"])(this,Object(d["a"])(t).apply(this,arguments)),e.isExternal=ke,e}return Object(f["a"])(t,e),t}(h["c"]);Object(b["a"])([Object(h["b"])({required:!0})],Te.prototype,"to",void 0),Te=Object(b["a"])([Object(h["a"])({name:"SidebarItemLink"})],Te);var Ee=Te,Se=Ee,Ce=Object(E["a"])(Se,ye,we,!1,null,null,null),De=Ce.exports;function Re(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var a=Object.getOwnPropertySymbols(e);t&&(a=a.filter((function(t){return Object.getOwnPropertyDescriptor(e,t).enumerable}))),n.push.apply(n,a)}return n}function xe(e){for(var t=1;t<arguments.length;t++){var n=null!=arguments[t]?arguments[t]:{};t%2?Re(Object(n),!0).forEach((function(t){Object(ve["a"])(e,t,n[t])})):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):Re(Object(n)).forEach((function(t){Object.defineProperty(e,t,Object.getOwnPropertyDescriptor(n,t))}))}return e}var Me=function(e){function t(){return Object(c["a"])(this,t),Object(l["a"])(this,Object(d["a"])(t).apply(this,arguments))}return Object(f["a"])(t,e),Object(u["a"])(t,[{key:"resolvePath",value:function(e){return ke(e)?e:ke(this.basePath)?this.basePath:Oe.a.resolve(this.basePath,e)}},{key:"showingChildNumber",get:function(){if(this.item.children){var e=this.item.children.filter((function(e){return!e.meta||!e.meta.hidden}));return e.length}return 0}},{key:"roles",get:function(){return M["a"].roles}},{key:"theOnlyOneChild",get:function(){if(this.showingChildNumber>0)return null;if(this.item.children){var e=!0,t=!1,n=void 0;try{for(var a,r=this.item.children[Symbol.iterator]();!(e=(a=r.next()).done);e=!0){var o=a.value;if(!o.meta||!o.meta.hidden)return o}}catch(i){t=!0,n=i}finally{try{e||null==r.return||r.return()}finally{if(t)throw n}}}return xe({},this.item,{path:""})}}]),t}(h["c"]);Object(b["a"])([Object(h["b"])({required:!0})],Me.prototype,"item",void 0),Object(b["a"])([Object(h["b"])({default:!1})],Me.prototype,"isCollapse",void 0),Object(b["a"])([Object(h["b"])({default:!0})],Me.prototype,"isFirstLevel",void 0),Object(b["a"])([Object(h["b"])({default:""})],Me.prototype,"basePath",void 0),Me=Object(b["a"])([Object(h["a"])({name:"SidebarItem",components:{SidebarItemLink:De}})],Me);var Pe=Me,Be=Pe,Ue=Object(E["a"])(Be,Ae,ge,!1,null,null,null),Ie=Ue.exports,Le=n("a1de"),Ve=n.n(Le),Ne=function(e){function t(){var e;return Object(c["a"])(this,t),e=Object(l["a"])(this,Object(d["a"])(t).apply(this,arguments)),e.restKey=0,e}return Object(f["a"])(t,e),Object(u["a"])(t,[{key:"logout",value:function(){var e=Object(x["a"])(regeneratorRuntime.mark((function e(){var t=this;return regeneratorRuntime.wrap((function(e){while(1)switch(e.prev=e.next){case 0:this.$store.dispatch("LogOut").then((function(){t.$router.replace({path:"/login"})}));case 1:case"end":return e.stop()}}),e,this)})));function t(){return e.apply(this,arguments)}return t}()},{key:"name",get:function(){return M["a"].userInfo.name?M["a"].userInfo.name:JSON.parse(ee.a.get("user_info")).name}},{key:"defOpen",get:function(){var e=this,t=["/"];return this.routes.forEach((function(n,a){n.meta.roles&&n.meta.roles[0]===e.roles[0]&&t.splice(0,1,n.path)})),t}},{key:"defAct",get:function(){var e=this.$route.path;return e}},{key:"sidebar",get:function(){return j.sidebar}},{key:"roles",get:function(){return M["a"].roles}},{key:"routes",get:function(){var e=JSON.parse(JSON.stringify(Object(me["a"])(this.$router.options.routes)));console.log("-=-=routes=-=-=",e),console.log("-=-=routes=-=-=",this.roles[0]);var t=[],n=e.find((function(e){return"/"===e.path}));return n&&(t=n.children),console.log("-=-=routes=-wwww=-=",e),t}},{key:"variables",get:function(){return Ve.a}},{key:"isCollapse",get:function(){return!this.sidebar.opened}}]),t}(h["c"]);Ne=Object(b["a"])([Object(h["a"])({name:"SideBar",components:{SidebarItem:Ie}})],Ne);var Fe=Ne,Ge=Fe,ze=(n("75f6"),Object(E["a"])(Ge,he,pe,!1,null,"6cd7d5aa",null)),_e=ze.exports,Qe=992,Je=function(e){function t(){return Object(c["a"])(this,t),Object(l["a"])(this,Object(d["a"])(t).apply(this,arguments))}return Object(f["a"])(t,e),Object(u["a"])(t,[{key:"onRouteChange",value:function(){this.device===a.Mobile&&this.sidebar.opened&&j.CloseSideBar(!1)}},{key:"beforeMount",value:function(){window.addEventListener("resize",this.resizeHandler)}},{key:"mounted",value:function(){var e=this.isMobile();e&&(j.ToggleDevice(a.Mobile),j.CloseSideBar(!0))}},{key:"beforeDestroy",value:function(){window.removeEventListener("resize",this.resizeHandler)}},{key:"isMobile",value:function(){var e=document.body.getBoundingClientRect();return e.width-1<Qe}},{key:"resizeHandler",value:function(){if(!document.hidden){var e=this.isMobile();j.ToggleDevice(e?a.Mobile:a.Desktop),e&&j.CloseSideBar(!0)}}},{key:"device",get:function(){return j.device}},{key:"sidebar",get:function(){return j.sidebar}}]),t}(h["c"]);Object(b["a"])([Object(h["d"])("$route")],Je.prototype,"onRouteChange",null),Je=Object(b["a"])([Object(h["a"])({name:"ResizeMixin"})],Je);var Ze=Je,He=function(e){function t(){return Object(c["a"])(this,t),Object(l["a"])(this,Object(d["a"])(t).apply(this,arguments))}return Object(f["a"])(t,e),Object(u["a"])(t,[{key:"handleClickOutside",value:function(){j.CloseSideBar(!1)}},{key:"classObj",get:function(){return{hideSidebar:!this.sidebar.opened,openSidebar:this.sidebar.opened,withoutAnimation:this.sidebar.withoutAnimation,mobile:this.device===a.Mobile}}}]),t}(Object(p["c"])(Ze));He=Object(b["a"])([Object(h["a"])({name:"Layout",components:{AppMain:C,Navbar:be,Sidebar:_e}})],He);var Xe=He,Ke=Xe,We=(n("8aeb"),Object(E["a"])(Ke,i,s,!1,null,"3f00f1c9",null)),qe=We.exports;r["default"].use(o["a"]);var Ye=new o["a"]({scrollBehavior:function(e,t,n){return n||{x:0,y:0}},base:"",routes:[{path:"/login",component:function(){return n.e("login").then(n.bind(null,"9ed6"))},meta:{title:"苍穹外卖",hidden:!0,notNeedAuth:!0}},{path:"/404",component:function(){return n.e("404").then(n.bind(null,"8cdb"))},meta:{title:"苍穹外卖",hidden:!0,notNeedAuth:!0}},{path:"/",component:qe,redirect:"/dashboard",children:[{path:"dashboard",component:function(){return n.e("dashboard").then(n.bind(null,"9406"))},name:"Dashboard",meta:{title:"工作台",icon:"dashboard",affix:!0}},{path:"/dish/add",component:function(){return n.e("shopTable").then(n.bind(null,"de1a"))},meta:{title:"添加菜品",hidden:!0}},{path:"/statistics",component:function(){return n.e("shopTable").then(n.bind(null,"ac67"))},meta:{title:"数据统计",icon:"icon-statistics"}},{path:"order",component:function(){return n.e("shopTable").then(n.bind(null,"84a9"))},meta:{title:"订单管理",icon:"icon-order"}},{path:"setmeal",component:function(){return n.e("shopTable").then(n.bind(null,"47cd"))},meta:{title:"套餐管理",icon:"icon-combo"}},{path:"dish",component:function(){return n.e("shopTable").then(n.bind(null,"ad4a"))},meta:{title:"菜品管理",icon:"icon-dish"}},{path:"category",component:function(){return n.e("shopTable").then(n.bind(null,"a192"))},meta:{title:"分类管理",icon:"icon-category"}},{path:"employee",component:function(){return n.e("shopTable").then(n.bind(null,"5303"))},meta:{title:"员工管理",icon:"icon-employee"}},{path:"/employee/add",component:function(){return n.e("dashboard").then(n.bind(null,"070f"))},meta:{title:"添加员工",hidden:!0}},{path:"/setmeal/add",component:function(){return n.e("shopTable").then(n.bind(null,"6182"))},meta:{title:"添加套餐",hidden:!0}}]},{path:"*",redirect:"/404",meta:{hidden:!0}}]});t["a"]=Ye},"63f6":function(e,t,n){"use strict";n.d(t,"e",(function(){return s})),n.d(t,"g",(function(){return c})),n.d(t,"d",(function(){return u})),n.d(t,"c",(function(){return l})),n.d(t,"a",(function(){return d})),n.d(t,"b",(function(){return f})),n.d(t,"f",(function(){return b}));n("8e6e"),n("ac6a"),n("456d");var a=n("bd86"),r=n("b32d");function o(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var a=Object.getOwnPropertySymbols(e);t&&(a=a.filter((function(t){return Object.getOwnPropertyDescriptor(e,t).enumerable}))),n.push.apply(n,a)}return n}function i(e){for(var t=1;t<arguments.length;t++){var n=null!=arguments[t]?arguments[t]:{};t%2?o(Object(n),!0).forEach((function(t){Object(a["a"])(e,t,n[t])})):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):o(Object(n)).forEach((function(t){Object.defineProperty(e,t,Object.getOwnPropertyDescriptor(n,t))}))}return e}var s=function(e){return Object(r["a"])({url:"/employee/login",method:"post",data:e})},c=function(e){return Object(r["a"])({url:"/employee/logout",method:"post",params:e})},u=function(e){return Object(r["a"])({url:"/employee/page",method:"get",params:e})},l=function(e){return Object(r["a"])({url:"/employee/status/".concat(e.status),method:"post",params:{id:e.id}})},d=function(e){return Object(r["a"])({url:"/employee",method:"post",data:i({},e)})},f=function(e){return Object(r["a"])({url:"/employee",method:"put",data:i({},e)})},b=function(e){return Object(r["a"])({url:"/employee/".concat(e),method:"get"})}},"6b81":function(e,t,n){},"6c47":function(e,t,n){},"757c":function(e,t,n){"use strict";var a=n("951f"),r=n.n(a);r.a},"75f6":function(e,t,n){"use strict";var a=n("075b"),r=n.n(a);r.a},8220:function(e,t,n){},"870b":function(e,t,n){"use strict";var a=n("4595"),r=n.n(a);r.a},"885f":function(e,t,n){e.exports={menuBg:"#343744",menuText:"#bfcbd9",menuActiveText:"#ffc200"}},"8aeb":function(e,t,n){"use strict";var a=n("0ea8"),r=n.n(a);r.a},"951f":function(e,t,n){e.exports={menuBg:"#343744",menuText:"#bfcbd9",menuActiveText:"#ffc200"}},"9dba":function(e,t,n){"use strict";n.d(t,"a",(function(){return O}));n("8e6e"),n("ac6a"),n("456d"),n("7f7f"),n("96cf");var a=n("3b8d"),r=n("bd86"),o=n("d225"),i=n("b0b4"),s=n("308d"),c=n("6bb5"),u=n("4e2b"),l=n("9ab4"),d=n("6fc5"),f=n("63f6"),b=n("5581"),h=n("0613"),p=n("a78e"),m=n.n(p),A=n("5c96");function g(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var a=Object.getOwnPropertySymbols(e);t&&(a=a.filter((function(t){return Object.getOwnPropertyDescriptor(e,t).enumerable}))),n.push.apply(n,a)}return n}function v(e){for(var t=1;t<arguments.length;t++){var n=null!=arguments[t]?arguments[t]:{};t%2?g(Object(n),!0).forEach((function(t){Object(r["a"])(e,t,n[t])})):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):g(Object(n)).forEach((function(t){Object.defineProperty(e,t,Object.getOwnPropertyDescriptor(n,t))}))}return e}var j=function(e){function t(){var e;return Object(o["a"])(this,t),e=Object(s["a"])(this,Object(c["a"])(t).apply(this,arguments)),e.token=Object(b["b"])()||"",e.name="",e.avatar="",e.storeId=Object(b["a"])()||"",e.introduction="",e.userInfo={},e.roles=[],e.username=m.a.get("username")||"",e}return Object(u["a"])(t,e),Object(i["a"])(t,[{key:"SET_TOKEN",value:function(e){this.token=e}},{key:"SET_NAME",value:function(e){this.name=e}},{key:"SET_USERINFO",value:function(e){this.userInfo=v({},e)}},{key:"SET_AVATAR",value:function(e){this.avatar=e}},{key:"SET_INTRODUCTION",value:function(e){this.introduction=e}},{key:"SET_ROLES",value:function(e){this.roles=e}},{key:"SET_STOREID",value:function(e){this.storeId=e}},{key:"SET_USERNAME",value:function(e){this.username=e}},{key:"Login",value:function(){var e=Object(a["a"])(regeneratorRuntime.mark((function e(t){var n,a,r,o;return regeneratorRuntime.wrap((function(e){while(1)switch(e.prev=e.next){case 0:return n=t.username,a=t.password,n=n.trim(),this.SET_USERNAME(n),m.a.set("username",n),e.next=6,Object(f["e"])({username:n,password:a});case 6:if(r=e.sent,o=r.data,"1"!==String(o.code)){e.next=16;break}return this.SET_TOKEN(o.data.token),Object(b["h"])(o.data.token),this.SET_USERINFO(o.data),m.a.set("user_info",o.data),e.abrupt("return",o);case 16:return e.abrupt("return",A["Message"].error(o.msg));case 17:case"end":return e.stop()}}),e,this)})));function t(t){return e.apply(this,arguments)}return t}()},{key:"ResetToken",value:function(){Object(b["d"])(),this.SET_TOKEN(""),this.SET_ROLES([])}},{key:"changeStore",value:function(){var e=Object(a["a"])(regeneratorRuntime.mark((function e(t){return regeneratorRuntime.wrap((function(e){while(1)switch(e.prev=e.next){case 0:this.SET_STOREID=t.data,this.SET_TOKEN(t.authorization),Object(b["g"])(t.data),Object(b["h"])(t.authorization);case 4:case"end":return e.stop()}}),e,this)})));function t(t){return e.apply(this,arguments)}return t}()},{key:"GetUserInfo",value:function(){var e=Object(a["a"])(regeneratorRuntime.mark((function e(){var t,n,a,r,o,i,s,c;return regeneratorRuntime.wrap((function(e){while(1)switch(e.prev=e.next){case 0:if(""!==this.token){e.next=2;break}throw Error("GetUserInfo: token is undefined!");case 2:if(t=JSON.parse(Object(b["c"])()),t){e.next=5;break}throw Error("Verification failed, please Login again.");case 5:if(n=t.roles,a=t.name,r=t.avatar,o=t.introduction,i=t.applicant,s=t.storeManagerName,c=t.storeId,void 0===c?"":c,n&&!(n.length<=0)){e.next=8;break}throw Error("GetUserInfo: roles must be a non-null array!");case 8:this.SET_ROLES(n),this.SET_USERINFO(t),this.SET_NAME(a||i||s),this.SET_AVATAR(r),this.SET_INTRODUCTION(o);case 13:case"end":return e.stop()}}),e,this)})));function t(){return e.apply(this,arguments)}return t}()},{key:"LogOut",value:function(){var e=Object(a["a"])(regeneratorRuntime.mark((function e(){var t;return regeneratorRuntime.wrap((function(e){while(1)switch(e.prev=e.next){case 0:return e.next=2,Object(f["g"])({});case 2:t=e.sent,t.data,Object(b["d"])(),this.SET_TOKEN(""),this.SET_ROLES([]),m.a.remove("username"),m.a.remove("user_info"),Object(b["e"])();case 10:case"end":return e.stop()}}),e,this)})));function t(){return e.apply(this,arguments)}return t}()}]),t}(d["d"]);Object(l["a"])([d["c"]],j.prototype,"SET_TOKEN",null),Object(l["a"])([d["c"]],j.prototype,"SET_NAME",null),Object(l["a"])([d["c"]],j.prototype,"SET_USERINFO",null),Object(l["a"])([d["c"]],j.prototype,"SET_AVATAR",null),Object(l["a"])([d["c"]],j.prototype,"SET_INTRODUCTION",null),Object(l["a"])([d["c"]],j.prototype,"SET_ROLES",null),Object(l["a"])([d["c"]],j.prototype,"SET_STOREID",null),Object(l["a"])([d["c"]],j.prototype,"SET_USERNAME",null),Object(l["a"])([d["a"]],j.prototype,"Login",null),Object(l["a"])([d["a"]],j.prototype,"ResetToken",null),Object(l["a"])([d["a"]],j.prototype,"changeStore",null),Object(l["a"])([d["a"]],j.prototype,"GetUserInfo",null),Object(l["a"])([d["a"]],j.prototype,"LogOut",null),j=Object(l["a"])([Object(d["b"])({dynamic:!0,store:h["a"],name:"user"})],j);var O=Object(d["e"])(j)},a1de:function(e,t,n){e.exports={menuBg:"#343744",menuText:"#bfcbd9",menuActiveText:"#ffc200"}},b20f:function(e,t,n){e.exports={menuBg:"#343744",menuText:"#bfcbd9",menuActiveText:"#ffc200"}},b32d:function(e,t,n){"use strict";n("a481");var a=n("7618"),r=(n("ac6a"),n("456d"),n("bc3a")),o=n.n(r),i=n("9dba"),s=n("6821f"),c=n.n(s),u=function(e){if(!e)return c()(+new Date);var t="string"===typeof e.data?e.data:JSON.stringify(e.data);return c()(e.url+"&"+e.method+"&"+t)},l={},d=function(e){return!!l[e]},f=function(e){delete l[e]},b=n("5f86"),h=o.a.CancelToken,p=o.a.create({baseURL:"/api",timeout:6e5});p.interceptors.request.use((function(e){if(i["a"].token)e.headers["token"]=i["a"].token;else if(i["a"].token&&"/login"!=e.url)return window.location.href="/login",!1;if("get"===e.method&&e.params){for(var t=e.url+"?",n=0,r=Object.keys(e.params);n<r.length;n++){var o=r[n],s=e.params[o],c=encodeURIComponent(o)+"=";if(null!==s&&"undefined"!==typeof s)if("object"===Object(a["a"])(s))for(var f=0,b=Object.keys(s);f<b.length;f++){var p=b[f],m=o+"["+p+"]",A=encodeURIComponent(m)+"=";t+=A+encodeURIComponent(s[p])+"&"}else t+=c+encodeURIComponent(s)+"&"}t=t.slice(0,-1),e.params={},e.url=t}var g=u(e);if(d(g)){var v=h.source();e.cancelToken=v.token,v.cancel("重复请求")}else l[g]=!0;return e}),(function(e){Promise.reject(e)})),p.interceptors.response.use((function(e){401===e.data.status&&b["a"].push("/login"),e.config.url=e.config.url.replace("/api","");var t=u(e.config);return f(t),e.data.code,e}),(function(e){if(e&&e.response)switch(e.response.status){case 401:b["a"].push("/login");break;case 405:e.message="请求错误"}e.config.url=e.config.url.replace("/api","");var t=u(e.config);return f(t),Promise.reject(e)}));t["a"]=p},c281:function(e,t,n){e.exports=n.p+"media/preview.3f1fe127.mp3"},cd49:function(e,t,n){"use strict";n.r(t);n("cadf"),n("551c"),n("f751"),n("097d");var a=n("2b0e"),r=n("8c4f"),o=(n("f5df"),n("5c96")),i=n.n(o),s=n("038a"),c=n.n(s),u=n("e196"),l=n.n(u),d=n("c1df"),f=n.n(d),b=(n("24ab"),n("b20f"),n("1d28"),n("18df"),n("313e")),h=(n("885f"),n("6b81"),function(){var e=this,t=e.$createElement,n=e._self._c||t;return n("div",{attrs:{id:"app"}},[n("router-view")],1)}),p=[],m=n("d225"),A=n("308d"),g=n("6bb5"),v=n("4e2b"),j=n("9ab4"),O=n("60a3"),k=function(e){function t(){return Object(m["a"])(this,t),Object(A["a"])(this,Object(g["a"])(t).apply(this,arguments))}return Object(v["a"])(t,e),t}(O["c"]);k=Object(j["a"])([Object(O["a"])({name:"App"})],k);var y=k,w=y,T=n("2877"),E=Object(T["a"])(w,h,p,!1,null,null,null),S=E.exports,C=n("0613"),D=n("5f86");c.a.register({main:{width:128,height:128,viewBox:"0 0 128 128",data:'<image width="128" height="128" href="data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAAD4AAAA+CAMAAABEH1h2AAAABGdBTUEAALGPC/xhBQAAACBjSFJN AAB6JgAAgIQAAPoAAACA6AAAdTAAAOpgAAA6mAAAF3CculE8AAABI1BMVEX///////////////// //////////////////////////////////////////////////////////////////////////// //////////////////////////////////////////////////////////////////////////// ////////////////////qlX/kD//kT7/kT7/mUD/kD//kT7/kD3/kT7/kj3/kkn/lEL/kT3/kT3/ kT7/k0D/kT7/kD7/kT3/kkH/kkD/kkD///////////////////////////////////////////// ////////////////////////////////////////////////////////////////kD2Migq/AAAA X3RSTlMACYHH7fDvz5MUEtfpKqPLAQX4/VwQQvIoLdKoVzXKoF/Uu7WI1X/bTURKs76a8Qlqf3QU irRsgHUVH6e8sDScxpYvRDgugJ7zxPbohYI5AuvnDiZ1epW4ubrTzIp3MCXIt8QAAAABYktHRACI BR1IAAAAB3RJTUUH4wwMEhQVj/PVlQAAAQhJREFUSMft0VdTwkAUhuFYsAACGoOAgkhsWECpVrAD sStg9+P//wrirIYSMuwcLhyGfW82szPPbPasJIlEop4aGh4ZtTU3Nj4xya3tDphzTvFyFzrl9vDp 6RnIs3alJe8c4OPjfiBg2pwHFvh4EAiZNheBcA9cP30pElGXgzS+8jtAeZXE14wXWCdyNRrd2AS2 iHxbXxQgxsfjO7usRLLBJf3v+Xiq9lf6H3g8k2Xt7VN4x9ENCD84PGId5yg8bzzcCYVnDH5KuvvZ OevC03+TF7y/+OVVASiW2tOA659V5ze3d5b6/gHd0xRL/sjBi0+Wxz+XK9WXV1Nv7x/sQ/2sfH1L IpGIWh3fwLcChnMOBwAAACV0RVh0ZGF0ZTpjcmVhdGUAMjAxOS0xMi0xMlQxMDoyMDoyMSswODow MCFCsgkAAAAldEVYdGRhdGU6bW9kaWZ5ADIwMTktMTItMTJUMTA6MjA6MjErMDg6MDBQHwq1AAAA AElFTkSuQmCC"/>'}}),c.a.register({employee:{width:62,height:62,viewBox:"0 0 62 62",data:'<image width="62" height="62" href="data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAAD4AAAA+CAMAAABEH1h2AAAABGdBTUEAALGPC/xhBQAAACBjSFJN AAB6JgAAgIQAAPoAAACA6AAAdTAAAOpgAAA6mAAAF3CculE8AAABtlBMVEX///////////////// //////////////////////////////////////////////////////////////////////////// //////////////////////////////////////////////////////////////////////////// qlX/nU7/////////kT//kT3/kT3/kT7/////////////////kT3/kT//////////////kD3/kD3/ kD7/l0L/////////////////////////////////////////////mUD/kj7/kT7/kj7/lkP///// ////kT7/kT7/////////kD3/kD7/////////////////n0D/kT7/kT7/kT7/lT7///////////// //////////////////////////////////////////////////////////////////////////// ////mWb///////////////////////////////////////////////////////////////////// ////////////////////////////////kD2FJm6wAAAAkHRSTlMAAzNnhHlIEinK8yX1ggHG8ph7 hs/7MvQnsoxZpj/Aco0m2R+f4Q9b4z4GDesWZvrlJc47TaPDbRk4BVPyyxtHHDwK+hAL92mT1hR3 hHwiyVau0+LFqs8Uw6UGEG97dB3E5si8y+78EaQH8IOvSt8edqHNS26ZWAXTxy/YwVeoQb4k9i23 io8uIu9eK19wQA0O+RL+AAAAAWJLR0QAiAUdSAAAAAd0SU1FB+MMDBIfE4VkqWsAAAG2SURBVEjH 7ZVXV8JAEEZRsCsiiL0gdgV7xS723gv23ntX7L1//GOXGHnwkOzGc9SX3Ifs2ZlcQmZ2swqFjIzM f+HhqVSJ4eXtI2L7+oGGv1LQDgik2oQgAVsdDGhCtGLoQgF9mMDDgfAIWnEigSj3qWgghlrcWCDO fSYeMFD1BMD423piUnK40ZDyQz1Vw7UoLZ3PZGQS1Kx6mJ5vscnMzbOyHYScXEadNDcv36cgDSjk 5kUOjmI2ndzhX0LGUiDQ4gyU5ZQTKirZ9Kqv1pqAaumlq+HvqLUCddL1+gagkWyBJqCZS7S0tnG0 dzCVLogU3diZTK5d3LzbwdPDpNf28o3r+0z0f+kDLPrgkGtvD9ucgZHRMY7xCQbdNkm8qemZ2Tky JkkunRcwr3M+dWGR+AUS9aVlYIWPrAKzCmnLZg1Yt/ARM+n8hrRFuwlsuULbwI60LaMCdl2hPWCf DAfsGzbi8MjsCh2f2L8t27/4WP1EPwXOqPo5cOE+cwlcXVNsyw1w6z6ltpPPy5boCXvXDFjvBX76 QcNyRGoF/9rlEFV+fBJ5NfXzi+gJ+/r2Ti2ujIzMr/EBzrEWqTvd2VEAAAAldEVYdGRhdGU6Y3Jl YXRlADIwMTktMTItMTJUMTA6MzE6MTkrMDg6MDCybk9zAAAAJXRFWHRkYXRlOm1vZGlmeQAyMDE5 LTEyLTEyVDEwOjMxOjE5KzA4OjAwwzP3zwAAAABJRU5ErkJggg=="/>'}}),c.a.register({pay:{width:62,height:62,viewBox:"0 0 62 62",data:'<image width="62" height="62" href="data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAAD4AAAA+CAMAAABEH1h2AAAABGdBTUEAALGPC/xhBQAAACBjSFJN AAB6JgAAgIQAAPoAAACA6AAAdTAAAOpgAAA6mAAAF3CculE8AAAClFBMVEX///////////////// //////////////////////////////////////////////////////////////////////////// //////////////////////////////////////////////////////////////////////////// ////////////////////////////////////////////////////////////////kj7/kD7/kT7/ kT3/kD7/lUD/////////////////kT3/kD3/lT7/kj7/////////////lkH/kT3/kD7/mWb/kT7/ kD7/kD7/qlX/////////////////kD//kT7/////////lUD/kD7/kT//n0D/////////////kD3/ kD7/////////lEP/k0D/kj7/kj7/kD7/kUD/qlX/////////////k0D/kD7/kT3/kT3/kT7/kD7/ qlX/////////////kz7/kT3/kD3/kT7/kT3/lEL/////////////////////////kT7///////// ////////kj7/kEP/////////////////////kkL/kT3/kD7///////////////////////////// //////////////////////////////////////////////////////////////////////////// //////////////////////////////////////////////////////////////////////////// //////////////////////////////////////////////////////////////////////////// ////////////////////////kD1q+D6tAAAA2nRSTlMAARUvKA4idcT68a1eDxye/e92CF/2/urQ 194ujLVbECNy1vNPhNE8A2Q/WKsKJtnsIRGxAhnktosNW9tWjdYkNPxB96P2KWeZvc0n9c0FJfTP BhoSqHiKycJdGMGCEHmN8Gz7WaYTUFKTY0gDvvsEKI+Su52DCUyz5lfZ6d7QH2adZ3Pbf1+iqsFA XhcG6THUwCPctmHioLzOz7/hLGyTHz5Rmj2c3VYgm0u7km/nhjvax45V8jnLd+Oyih415ZVaagtp 7UJISgywY/n4j+jGHZ+5YId7uDMlpRl8JFcAAAABYktHRACIBR1IAAAAB3RJTUUH4wwMEh8Llggx PQAAAq9JREFUSMftlflDjEEcxmelUpRSSgopJZSU0OFoW8euK5Qzt5Cjjdw3hVbus4OcRcodyZ37 vnI/88+Ymdduxdqd7Uf2+eF9v8/M+5nrnfkOIXbZ9Y9J1cyhuWMTWSfnFi5gcm3Zys1m2L21B0zy bONlG+3dlmM+vu38XEUD7f1tmXMARzp07MRNYOcgZoK7yOMh7PvQriYb1s0TcOkuS/dgdHhEw5Ke kUCvKDk6mvXVO6ZxWZ++QD85PBaIjGPv+IT+3A4YOIg9E9VAkgztpgHEOg2mQ4YSMozSeO60gE5y 5sNFMGIkHTU6eQwdO467FDXUqRL4eGCCErGOJ04SQ+CaDEyRwP0AByVKm0qZpk1X3AxgpgQ+C1D2 +GyqaE6ysOnAXOu0F6BRonnzMxZQujBj0WJhk4BM67hKD58sES1Zmr2M0uXZK1YKuwpYLTH4NYC7 CNauS1hP6YaEjZuE3QxssYA55uQKbQW2Gcu2U5pmjPMAZwu4of58Y0e+UraT0l2/qnfvAfZawPeh ofaLA3bg4CFj9WHgiMoyXhBQCBSFF4skdbTRCXU8BuQSy3gJOQ6cIOSkVjSQecpYF3e6iKWsaEmc NXBGNKAr5aakTCMmdPacLE5I+XnRQGFpRWX9ihgiZHFCosr0Jq74wsWCS+x9WQK/cvVa1XW+dfJv CFZtqGYm5SYLayRwZbS3bmeqRZK/c5dX37vP4gdZEnitpn62kQ8fidp0VqZ/LLd0qRUhumDGelRW KDtFxVP3k6fSP44ld/9nz43J6cVLRgcFEhvwBioP5XeOlav2r3ipL6NjY0jT8FevgTfexJrM42Fv Wdfvqq3S5vHE94wu+mCd5nhN7UegrtaoT5/rfP64LS3g5qT/opKhSaFZ+us3KZiQ79ofvymvKsdJ ErbLrv9CPwGXRuBRFPjm8wAAACV0RVh0ZGF0ZTpjcmVhdGUAMjAxOS0xMi0xMlQxMDozMToxMSsw ODowMIGBARQAAAAldEVYdGRhdGU6bW9kaWZ5ADIwMTktMTItMTJUMTA6MzE6MTErMDg6MDDw3Lmo AAAAAElFTkSuQmCC"/>'}}),c.a.register({shop:{width:62,height:62,viewBox:"0 0 62 62",data:'<image width="62" height="62" href="data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAAD4AAAA+CAMAAABEH1h2AAAABGdBTUEAALGPC/xhBQAAACBjSFJN AAB6JgAAgIQAAPoAAACA6AAAdTAAAOpgAAA6mAAAF3CculE8AAABxVBMVEX///////////////// //////////////////////////////////////////////////////////////////////////// ////////////////////kz7/kj3/kD3/mWb/////////////////kj7/kD7///////////////// ////kj7/kD7/////////////////////mU3/kD3/kD//kD7/kET///////////////////////// //////////////////////////////////////////////////////////////////////////// //////////////////////////////////////////////////////////////////////////// //////////////////////////////////////////////////////////////////////////// //////////////////////////////////////////////////////////////////////////// ////////////////////////////////////////////////////kD2OYNXcAAAAlXRSTlMAN6LQ 2tWmPW39eTT8PLjKJjnCvzYe+rSjqTMoQmBTBS4hsademLmTMP4qd7FE9RKtqgqBn5Eez3wMLVrZ PtgHFUwFjVVOkg7c52X2GAnwhQP0CFwd46QClPIj7QGQ818xqA0LnjLrD+K30sGdsu8XJ1istfhA +asb1mErBks4QSAWY0Z/JYI1GfuuBMzTad6J4M2RgCz81YMAAAABYktHRACIBR1IAAAAB3RJTUUH 4wwMEh40OXUtQQAAAdlJREFUSMftlmdPFEEAhkdB8bhDEGmKBRtyh4JgQcAKIk1RynHgURRQ0FMs SNNDBCsiosLj73W2kKDszlziF0P2+TJv5p0nmZ3sbFYID49NwJatSckb2LY9JTF7hw9nUhOx/QHc SEtA3wnpaRkb2JUJu/V2FgQynIrsHPBr9VzIc27yYI/O3gu+fDnu27+eAwflVIHc1yGNfhiOyOHo rz85ZnSFcFxtF0EwJMfiv/QTRnkSSkqV+ikoM8by02fWc/ac2VbAeZVdmUOwyr2uhgsq/SJcUtSX 5Rt1RdFfhUI71tReW5utu15vpwYIKXQ/NNqxieYbVrrZwi0r3W6FbIXe1gLtZuoIQ2fEjF3Qfcfa BkR7VA/fC339csXdsHFF7g0IMThkpMb7six6AF0qWwyPyLUNDx/ZV6w1M9ZtJV/s8ZMgjD5V6uJZ 2Dajz1+s3dOx/pd2ah4XGoZ7o3LdxOSU6Kk2NzH9KiJe55qfkFhIZ0vi/pk3A1bsGJ99a6W5mfmm ROR/5N1719P58PGTzv68wBe3roLRRY0uPxdf3Tp5pqWevjn1Klhy6/qgUqPHJwjURZyaxW+wLHSU oeC7Vp/74W7/bNPqon5l2vH3YiFpNa63PTw8/l9+A77W/3TjVVVtAAAAJXRFWHRkYXRlOmNyZWF0 ZQAyMDE5LTEyLTEyVDEwOjMwOjUyKzA4OjAw2+F+TQAAACV0RVh0ZGF0ZTptb2RpZnkAMjAxOS0x Mi0xMlQxMDozMDo1MiswODowMKq8xvEAAAAASUVORK5CYII="/>'}}),c.a.register({vip:{width:62,height:62,viewBox:"0 0 62 62",data:'<image width="62" height="62" href="data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAAD4AAAA+CAMAAABEH1h2AAAABGdBTUEAALGPC/xhBQAAACBjSFJN AAB6JgAAgIQAAPoAAACA6AAAdTAAAOpgAAA6mAAAF3CculE8AAAB1FBMVEX///////////////// //////////////////////////////////////////////////////////////////////////// //////////////////////////////////////////////////////////////////////////// //////////////////////////////////////////////////////////////////////////// //////////////////////////////////////////////////////////////////////////// //////////////////////////////////////////////////////////////////////////// //////////////////////////////////////////////////////////////////////////// //////////////////////////////////////////////////////////////////////////// ////////////////kEP/kT//kT7/kj//v0D/kT7/kj//kT7/kT//mU3/kj7/kT7/kz7/////kD3j blauAAAAmnRSTlMAQ10Yn+8rJKcB5v5CN2zJ5wpg93kNg2MQAk9iF4rjA9mGD15XB7XtIyX5WVb0 E+DMNpC0w86Tc1Q72ilJ/TEgxljFqAXYmsKgNKoMCI0sFTz8vtat8W+2x9LzgmuxBDD6oi3ETG2v L3qOHfWjdnA6fOFlq3VE0ECW+2HU5HEaacBQ3DOF+FXdyB+SpiIXgpBuBKxpoF0KYm9Or+9urQAA AAFiS0dEAIgFHUgAAAAHdElNRQfjDAwSHg7/efTzAAAB9klEQVRIx+2UZ1cTQRSGRyURXRGCoqJI MBpEVMReQkARUREUC/YCKmDvvYCIvffy+GeZybLmeA53hrN+4OjJ+2Uz7zvPzN3Zm1Eqp5z+L40b P+Ev6DyIREPTE9HKC41HDZ4fGp80GbwpofECT+8+NfTmhab4olhIvBim6fKnh6NLimDGTP3pZo0S KJ09pyw7mgvlsXgFzMt6ifkLkuK7VsLCqmC0qBoWK7UElv5es2YZ1Er8cnNSK4LRSlhl1lwNawJv rZmxTsDXm3BDyh/UQbp++Ed1g+9VbTQzNgl4vNGk6c2my5u2QLNvb4Vt5rm9JZ1Zf4f08q1tJsdr 2WnKjOzy3XbYnVJ1ezIZexPy0Sc8f463rwP2B+4BOHgo4x+GI7ZPp0s+emx4m+OBeSJTNJ1dJ0/B aRveBd2qvkcX0dGbdc+Yjc+eU/HzUGbDu+GCfkQvXvpj2uUrxab1euGqjVYFUCGn1+C6FU924slH 2ww3rLiqhZtieAtu2/E7lj9o7C7pEjt+D3qkTDf1fTttbscHUvbQfe2W6sbqE7J86Hfg6hEMCNFj GHTh+o55MnJSA0+bXPgz3Z/PR1Q5vHDR6iUWvXLi6rVMR1JuXPW9kZQcBT22evvuvaQPH934p1+y PrvxLxb8qxv/9v2HpJ9jfbA55fSvawjYwxb1SCPMxAAAACV0RVh0ZGF0ZTpjcmVhdGUAMjAxOS0x Mi0xMlQxMDozMDoxNCswODowMDx7RY0AAAAldEVYdGRhdGU6bW9kaWZ5ADIwMTktMTItMTJUMTA6 MzA6MTQrMDg6MDBNJv0xAAAAAElFTkSuQmCC"/>'}}),c.a.register({hamburger:{width:64,height:64,viewBox:"0 0 1024 1024",data:'<path pid="0" d="M408 442h480a8 8 0 008-8v-56a8 8 0 00-8-8H408a8 8 0 00-8 8v56a8 8 0 008 8zm-8 204a8 8 0 008 8h480a8 8 0 008-8v-56a8 8 0 00-8-8H408a8 8 0 00-8 8v56zm504-486H120a8 8 0 00-8 8v56a8 8 0 008 8h784a8 8 0 008-8v-56a8 8 0 00-8-8zm0 632H120a8 8 0 00-8 8v56a8 8 0 008 8h784a8 8 0 008-8v-56a8 8 0 00-8-8zM142.4 642.1L298.7 519a8.8 8.8 0 000-13.9L142.4 381.9a8.9 8.9 0 00-14.4 6.9v246.3a8.9 8.9 0 0014.4 7z"/>'}}),c.a.register({dashboard:{width:32,height:32,viewBox:"0 0 1024 1024",data:'<path pid="4758" d="M888 462.4L544 142.4c-19.2-17.6-48-17.6-65.6 0l-344 320c-9.6 9.6-16 22.4-16 35.2v355.2c0 27.2 22.4 49.6 49.6 49.6h240V657.6c0-56 46.4-102.4 102.4-102.4 56 0 102.4 46.4 102.4 102.4v246.4h240c27.2 0 49.6-22.4 49.6-49.6V497.6c1.6-12.8-4.8-25.6-14.4-35.2z"/>'}}),c.a.register({dashboard:{width:32,height:32,viewBox:"0 0 1024 1024",data:'<path pid="1899" d="M192 736 192 416C192 261.184 301.952 132.064 448 102.4L448 64C448 28.64 476.64 0 512 0 547.36 0 576 28.64 576 64L576 102.4C722.048 132.064 832 261.184 832 416L832 736 864.096 736C899.392 736 928 764.416 928 800 928 835.36 899.36 864 864.096 864L159.904 864C124.608 864 96 835.584 96 800 96 764.64 124.64 736 159.904 736L192 736ZM608 928C608 981.024 565.024 1024 512 1024 458.976 1024 416 981.024 416 928L608 928Z"/>'}});n("96cf");var R=n("3b8d"),x=n("323e"),M=n.n(x),P=(n("a5d8"),n("a78e")),B=n.n(P);M.a.configure({showSpinner:!1}),D["a"].beforeEach(function(){var e=Object(R["a"])(regeneratorRuntime.mark((function e(t,n,a){return regeneratorRuntime.wrap((function(e){while(1)switch(e.prev=e.next){case 0:M.a.start(),B.a.get("token")?a():t.meta.notNeedAuth?a():a("/login");case 2:case"end":return e.stop()}}),e)})));return function(t,n,a){return e.apply(this,arguments)}}()),D["a"].afterEach((function(e){M.a.done(),document.title=e.meta.title}));var U=function(){return!1};a["default"].use(i.a),a["default"].use(l.a),a["default"].use(c.a,{tagName:"svg-icon",defaultWidth:"1em",defaultHeight:"1em"}),a["default"].config.productionTip=!1,a["default"].prototype.moment=f.a,a["default"].prototype.$checkProcessEnv=U;var I=r["a"].prototype.push;r["a"].prototype.push=function(e){return I.call(this,e).catch((function(e){return e}))},a["default"].prototype.$echarts=b,new a["default"]({router:D["a"],store:C["a"],render:function(e){return e(S)}}).$mount("#app")},ceca:function(e,t,n){e.exports=n.p+"img/logo.38b01728.png"},d9d2:function(e,t,n){e.exports=n.p+"img/mini-logo.bf141cfc.png"},e54f:function(e,t,n){"use strict";var a=n("6c47"),r=n.n(a);r.a},e584:function(e,t,n){e.exports=n.p+"media/reminder.0a3849af.mp3"}});
 //# sourceMappingURL=app.d0aa4eb3.js.map
\ No newline at end of file
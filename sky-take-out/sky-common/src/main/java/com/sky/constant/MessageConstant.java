@@ -24,5 +24,12 @@ public class MessageConstant {
     public static final String DISH_BE_RELATED_BY_SETMEAL = "当前菜品关联了套餐,不能删除";
     public static final String ORDER_STATUS_ERROR = "订单状态错误";
     public static final String ORDER_NOT_FOUND = "订单不存在";
+    public static final String ORDER_PAYMENT_TIMEOUT = "订单超时，自动取消";
+    public static final String PAGE_CURSOR_INVALID = "分页游标无效";
+    public static final String ORDER_SUBMITTING = "订单正在提交，请勿重复下单";
+    public static final String REPORT_DATE_INVALID = "统计日期范围无效";
+    public static final String REPORT_REBUILD_CLOSED_DAYS_ONLY = "只能重新汇总今天之前的报表数据";
+    public static final String DISH_NOT_FOUND = "菜品不存在";
+    public static final String DISH_IMPORT_INVALID = "菜品导入数据无效";
 
 }
@@ -1,8 +1,17 @@
 package com.sky.context;
 
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * 当前请求的用户id或员工id
+ * 由拦截器在请求开始时设置、请求结束时清理，平台线程和虚拟线程都适用
+ * 在其他线程中执行的任务(线程池、CompletableFuture)需要通过wrap系列方法传递当前id
+ */
 public class BaseContext {
 
-    public static ThreadLocal<Long> threadLocal = new ThreadLocal<>();
+    private static final ThreadLocal<Long> threadLocal = new ThreadLocal<>();
 
     public static void setCurrentId(Long id) {
         threadLocal.set(id);
@@ -16,4 +25,76 @@ public class BaseContext {
         threadLocal.remove();
     }
 
+    /**
+     * 包装任务，执行时使用提交任务时的id，执行结束后恢复执行线程原来的id
+     * @param task
+     * @return
+     */
+    public static Runnable wrap(Runnable task) {
+        Long id = getCurrentId();
+        return () -> {
+            Long previous = getCurrentId();
+            setOrRemove(id);
+            try {
+                task.run();
+            } finally {
+                setOrRemove(previous);
+            }
+        };
+    }
+
+    /**
+     * 包装有返回值的任务，用于CompletableFuture.supplyAsync等
+     * @param supplier
+     * @return
+     */
+    public static <T> Supplier<T> wrapSupplier(Supplier<T> supplier) {
+        Long id = getCurrentId();
+        return () -> {
+            Long previous = getCurrentId();
+            setOrRemove(id);
+            try {
+                return supplier.get();
+            } finally {
+                setOrRemove(previous);
+            }
+        };
+    }
+
+    /**
+     * 包装有返回值的任务，用于ExecutorService.submit等
+     * @param callable
+     * @return
+     */
+    public static <T> Callable<T> wrapCallable(Callable<T> callable) {
+        Long id = getCurrentId();
+        return () -> {
+            Long previous = getCurrentId();
+            setOrRemove(id);
+            try {
+                return callable.call();
+            } finally {
+                setOrRemove(previous);
+            }
+        };
+    }
+
+    /**
+     * 包装线程池，提交的每个任务都会传递提交时的id
+     * 可以作为CompletableFuture异步方法的executor参数，使后续的异步回调也能获取到id
+     * @param executor
+     * @return
+     */
+    public static Executor wrapExecutor(Executor executor) {
+        return task -> executor.execute(wrap(task));
+    }
+
+    private static void setOrRemove(Long id) {
+        if (id == null) {
+            threadLocal.remove();
+        } else {
+            threadLocal.set(id);
+        }
+    }
+
 }
@@ -0,0 +1,34 @@
+package com.sky.enumeration;
+
+/**
+ * 菜单数据类型，每种类型单独维护版本号
+ */
+public enum CatalogType {
+
+    /**
+     * 分类
+     */
+    CATEGORY("c"),
+
+    /**
+     * 菜品和口味
+     */
+    DISH("d"),
+
+    /**
+     * 套餐和套餐中的菜品
+     */
+    SETMEAL("s");
+
+    //版本号在redis hash中的字段名，同时用于构造ETag
+    private final String field;
+
+    CatalogType(String field) {
+        this.field = field;
+    }
+
+    public String getField() {
+        return field;
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.sky.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "sky.catalog")
+@Data
+public class CatalogProperties {
+
+    /**
+     * 定时从redis读取菜单版本号的间隔(毫秒)
+     */
+    private long versionRefreshMillis = 5000;
+
+    /**
+     * 菜单查询接口响应允许被客户端和nginx缓存的时间(秒)，为0时每次都需要校验ETag
+     */
+    private int maxAgeSeconds = 10;
+
+}
@@ -0,0 +1,27 @@
+package com.sky.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "sky.dish-cache")
+@Data
+public class DishCacheProperties {
+
+    /**
+     * 本地缓存最多保存的分类数量
+     */
+    private long localMaximumSize = 1000;
+
+    /**
+     * 本地缓存写入后的过期时间(秒)
+     */
+    private long localExpireSeconds = 300;
+
+    /**
+     * redis缓存的过期时间(秒)，失效后旧版本的缓存依靠过期时间清理
+     */
+    private long redisExpireSeconds = 86400;
+
+}
@@ -0,0 +1,52 @@
+package com.sky.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "sky.http-client")
+@Data
+public class HttpClientProperties {
+
+    /**
+     * 连接池最大连接数
+     */
+    private int maxTotal = 200;
+
+    /**
+     * 每个目标主机的最大连接数
+     */
+    private int maxPerRoute = 50;
+
+    /**
+     * 建立连接的超时时间(毫秒)
+     */
+    private int connectTimeoutMillis = 5000;
+
+    /**
+     * 从连接池获取连接的超时时间(毫秒)
+     */
+    private int connectionRequestTimeoutMillis = 5000;
+
+    /**
+     * 读取响应的超时时间(毫秒)
+     */
+    private int socketTimeoutMillis = 5000;
+
+    /**
+     * 服务端未指定keep-alive时空闲连接的保持时间(毫秒)
+     */
+    private long keepAliveMillis = 30000;
+
+    /**
+     * 执行异步请求的线程数
+     */
+    private int asyncThreads = 16;
+
+    /**
+     * 异步请求队列容量，队列满时拒绝新的异步请求
+     */
+    private int asyncQueueCapacity = 1000;
+
+}
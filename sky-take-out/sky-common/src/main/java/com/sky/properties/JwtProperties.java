@@ -23,4 +23,9 @@ public class JwtProperties {
     private long userTtl;
     private String userTokenName;
 
+    /**
+     * 已校验令牌缓存的最大数量，管理端和用户端各自缓存
+     */
+    private long verifiedCacheSize = 10000;
+
 }
@@ -0,0 +1,22 @@
+package com.sky.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "sky.order-number")
+@Data
+public class OrderNumberProperties {
+
+    /**
+     * 当前节点的workerId(0-1023)，多节点部署时每个节点必须不同
+     */
+    private long workerId = 0;
+
+    /**
+     * 下单幂等令牌的有效时间(秒)
+     */
+    private long idempotencyExpireSeconds = 86400;
+
+}
@@ -0,0 +1,17 @@
+package com.sky.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "sky.order-statistics")
+@Data
+public class OrderStatisticsProperties {
+
+    /**
+     * 订单状态计数器与数据库对账的间隔(毫秒)，对账租约为间隔的一半
+     */
+    private long reconcileIntervalMillis = 60000;
+
+}
@@ -0,0 +1,42 @@
+package com.sky.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "sky.order-sweep")
+@Data
+public class OrderSweepProperties {
+
+    /**
+     * 下单后超过多少分钟未支付自动取消
+     */
+    private int paymentTimeoutMinutes = 15;
+
+    /**
+     * 扫描超时未支付订单的间隔(毫秒)，超时订单由定时任务到期取消，扫描只用于补偿
+     */
+    private long paymentSweepIntervalMillis = 600000;
+
+    /**
+     * 自动完成派送中订单的时间，默认每天凌晨1点
+     */
+    private String deliveryCron = "0 0 1 * * ?";
+
+    /**
+     * 下单后超过多少分钟仍在派送中的订单可以自动完成
+     */
+    private int deliveryTimeoutMinutes = 60;
+
+    /**
+     * 每批处理的订单数，每批一个事务
+     */
+    private int batchSize = 500;
+
+    /**
+     * 多节点部署时扫描任务的租约时间(毫秒)，持有租约的节点才执行扫描，超过租约时间后停止处理下一批
+     */
+    private long leaseMillis = 60000;
+
+}
@@ -0,0 +1,48 @@
+package com.sky.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "sky.order-timeout")
+@Data
+public class OrderTimeoutProperties {
+
+    /**
+     * 时间轮每格的时间(毫秒)，订单最多在到期后这么久被取消
+     */
+    private long tickMillis = 100;
+
+    /**
+     * 时间轮每层的格子数
+     */
+    private int wheelSize = 512;
+
+    /**
+     * 提前从redis加载多长时间内到期的定时任务到本地时间轮(毫秒)
+     */
+    private long preloadMillis = 60000;
+
+    /**
+     * 从redis加载定时任务的间隔(毫秒)，需要小于preloadMillis
+     * 到期超过这个时间仍未处理的任务(例如所在节点宕机)由任意节点补偿处理
+     */
+    private long refillIntervalMillis = 10000;
+
+    /**
+     * 每次从redis读取的定时任务数
+     */
+    private int batchSize = 1000;
+
+    /**
+     * 取消到期订单的线程数，取消订单不占用推进时间轮的线程
+     */
+    private int workerThreads = 4;
+
+    /**
+     * 领取到期订单的租约时间(毫秒)，领取后这么久仍未完成取消(例如所在节点宕机)时由任意节点重新处理
+     */
+    private long claimLeaseMillis = 60000;
+
+}
@@ -0,0 +1,22 @@
+package com.sky.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "sky.shopping-cart")
+@Data
+public class ShoppingCartProperties {
+
+    /**
+     * 购物车的存储方式：mysql 或 redis
+     */
+    private String storage = "mysql";
+
+    /**
+     * redis购物车的过期时间(天)，每次加购时重新计时
+     */
+    private long redisExpireDays = 7;
+
+}
@@ -0,0 +1,27 @@
+package com.sky.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "sky.websocket")
+@Data
+public class WebSocketProperties {
+
+    /**
+     * 推送消息的线程数
+     */
+    private int pushThreads = 2;
+
+    /**
+     * 待推送消息队列的容量，队列满时丢弃新消息
+     */
+    private int pushQueueCapacity = 1000;
+
+    /**
+     * 单个客户端发送消息的超时时间(毫秒)，避免网络慢的客户端长时间占用推送线程
+     */
+    private long sendTimeoutMillis = 5000;
+
+}
@@ -0,0 +1,58 @@
+package com.sky.result;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 封装游标分页查询结果
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPageResult implements Serializable {
+
+    public static final int DEFAULT_PAGE_SIZE = 10;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private List records; //当前页数据集合
+
+    private String nextCursor; //下一页的游标，没有下一页时为null
+
+    private boolean hasMore; //是否还有下一页
+
+    private Long total; //总记录数，只有请求时才统计
+
+    /**
+     * 校正每页记录数
+     * @param pageSize
+     * @return
+     */
+    public static int normalizePageSize(int pageSize) {
+        if (pageSize <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(pageSize, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * 根据多查询一条的结果集构造分页结果
+     * @param rows     查询结果，最多pageSize + 1条
+     * @param pageSize 每页记录数
+     * @param cursorOf 根据记录生成游标
+     * @param total    总记录数，可以为null
+     * @return
+     */
+    public static <T> CursorPageResult of(List<T> rows, int pageSize, Function<T, PageCursor> cursorOf, Long total) {
+        boolean hasMore = rows.size() > pageSize;
+        List<T> records = hasMore ? new ArrayList<>(rows.subList(0, pageSize)) : rows;
+        String nextCursor = hasMore ? cursorOf.apply(records.get(records.size() - 1)).encode() : null;
+        return new CursorPageResult(records, nextCursor, hasMore, total);
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.sky.result;
+
+import com.sky.constant.MessageConstant;
+import com.sky.exception.BaseException;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 游标分页的游标，由排序时间和主键id组成，对外以不透明的字符串传递
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PageCursor implements Serializable {
+
+    private static final String SEPARATOR = "_";
+
+    private LocalDateTime time; //上一页最后一条记录的排序时间
+
+    private Long id; //上一页最后一条记录的主键
+
+    /**
+     * 编码为字符串
+     * @return
+     */
+    public String encode() {
+        String raw = time + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 从字符串解析游标，为空时表示查询第一页
+     * @param cursor
+     * @return
+     */
+    public static PageCursor decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(SEPARATOR);
+            return new PageCursor(LocalDateTime.parse(raw.substring(0, index)), Long.valueOf(raw.substring(index + 1)));
+        } catch (RuntimeException e) {
+            throw new BaseException(MessageConstant.PAGE_CURSOR_INVALID);
+        }
+    }
+
+}
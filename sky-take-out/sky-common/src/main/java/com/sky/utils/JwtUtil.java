@@ -5,8 +5,10 @@ import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import java.nio.charset.StandardCharsets;
+import java.security.Key;
 import java.util.Date;
 import java.util.Map;
+import javax.crypto.spec.SecretKeySpec;
 
 public class JwtUtil {
     /**
@@ -46,13 +48,34 @@ public class JwtUtil {
      * @return
      */
     public static Claims parseJWT(String secretKey, String token) {
+        return parseJWT(signingKey(secretKey), token);
+    }
+
+    /**
+     * Token解密，使用预先构造的秘钥，避免每次解析都重新构造
+     *
+     * @param signingKey 通过signingKey方法构造的秘钥
+     * @param token      加密后的token
+     * @return
+     */
+    public static Claims parseJWT(Key signingKey, String token) {
         // 得到DefaultJwtParser
         Claims claims = Jwts.parser()
                 // 设置签名的秘钥
-                .setSigningKey(secretKey.getBytes(StandardCharsets.UTF_8))
+                .setSigningKey(signingKey)
                 // 设置需要解析的jwt
                 .parseClaimsJws(token).getBody();
         return claims;
     }
 
+    /**
+     * 根据jwt秘钥构造Hs256签名秘钥
+     *
+     * @param secretKey jwt秘钥
+     * @return
+     */
+    public static Key signingKey(String secretKey) {
+        return new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8), SignatureAlgorithm.HS256.getJcaName());
+    }
+
 }
@@ -0,0 +1,84 @@
+package com.sky.utils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+import lombok.Getter;
+
+/**
+ * 比较数据库中已有的子表数据和提交的数据，计算需要新增、修改和删除的行
+ * 两边的行通过业务键对应，例如口味名称、套餐中的菜品id
+ *
+ * @param <T> 行类型
+ */
+@Getter
+public class RowDiff<T> {
+
+    //需要新增的行
+    private final List<T> inserts = new ArrayList<>();
+    //需要修改的行，已经设置为对应的已有行的id
+    private final List<T> updates = new ArrayList<>();
+    //需要删除的已有行
+    private final List<T> deletes = new ArrayList<>();
+
+    /**
+     * 计算差异
+     * @param stored 数据库中已有的行
+     * @param submitted 提交的行
+     * @param key 业务键
+     * @param same 业务键相同的两行内容是否一致，一致时不需要修改
+     * @param getId
+     * @param setId 将已有行的id设置到提交的行上，新增的行设置为null
+     * @return
+     */
+    public static <T, K> RowDiff<T> of(List<T> stored, List<T> submitted, Function<T, K> key,
+                                       BiPredicate<T, T> same, Function<T, Long> getId, BiConsumer<T, Long> setId) {
+        RowDiff<T> diff = new RowDiff<>();
+
+        Map<K, T> storedMap = new LinkedHashMap<>();
+        for (T row : stored) {
+            //已有数据中业务键重复的行直接删除
+            if (storedMap.putIfAbsent(key.apply(row), row) != null) {
+                diff.deletes.add(row);
+            }
+        }
+
+        if (submitted != null) {
+            for (T row : submitted) {
+                T old = storedMap.remove(key.apply(row));
+                if (old == null) {
+                    setId.accept(row, null);
+                    diff.inserts.add(row);
+                } else {
+                    setId.accept(row, getId.apply(old));
+                    if (!same.test(old, row)) {
+                        diff.updates.add(row);
+                    }
+                }
+            }
+        }
+
+        //提交的数据中不存在的行需要删除
+        diff.deletes.addAll(storedMap.values());
+        return diff;
+    }
+
+    /**
+     * 合并另一个差异，用于批量处理多个父记录
+     * @param other
+     */
+    public void addAll(RowDiff<T> other) {
+        inserts.addAll(other.inserts);
+        updates.addAll(other.updates);
+        deletes.addAll(other.deletes);
+    }
+
+    public boolean isEmpty() {
+        return inserts.isEmpty() && updates.isEmpty() && deletes.isEmpty();
+    }
+}
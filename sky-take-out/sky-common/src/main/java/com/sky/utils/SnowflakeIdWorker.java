@@ -0,0 +1,81 @@
+package com.sky.utils;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 雪花算法id生成器，生成的id在单个节点内单调递增，不同节点通过workerId区分
+ * id结构：41位毫秒时间戳(相对EPOCH) + 10位workerId + 12位毫秒内序列号
+ * 每个节点每毫秒最多生成4096个id，不需要访问数据库
+ */
+@Slf4j
+public class SnowflakeIdWorker {
+
+    //起始时间 2023-01-01 00:00:00 UTC
+    public static final long EPOCH = 1672531200000L;
+
+    private static final long WORKER_ID_BITS = 10L;
+    private static final long SEQUENCE_BITS = 12L;
+
+    public static final long MAX_WORKER_ID = ~(-1L << WORKER_ID_BITS);
+    private static final long SEQUENCE_MASK = ~(-1L << SEQUENCE_BITS);
+
+    private static final long WORKER_ID_SHIFT = SEQUENCE_BITS;
+    private static final long TIMESTAMP_SHIFT = SEQUENCE_BITS + WORKER_ID_BITS;
+
+    private final long workerId;
+
+    private long lastTimestamp = -1L;
+    private long sequence = 0L;
+
+    public SnowflakeIdWorker(long workerId) {
+        if (workerId < 0 || workerId > MAX_WORKER_ID) {
+            throw new IllegalArgumentException("workerId必须在0到" + MAX_WORKER_ID + "之间：" + workerId);
+        }
+        this.workerId = workerId;
+    }
+
+    /**
+     * 生成下一个id
+     * @return
+     */
+    public synchronized long nextId() {
+        long timestamp = currentTimeMillis();
+
+        if (timestamp < lastTimestamp) {
+            //时钟回拨时沿用上一次的时间戳继续分配序列号，保证id不重复且单调递增
+            log.warn("系统时钟回拨{}毫秒", lastTimestamp - timestamp);
+            timestamp = lastTimestamp;
+        }
+
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                //当前毫秒的序列号用完，等待下一毫秒
+                timestamp = waitNextMillis(lastTimestamp);
+            }
+        } else {
+            sequence = 0L;
+        }
+
+        lastTimestamp = timestamp;
+        return ((timestamp - EPOCH) << TIMESTAMP_SHIFT)
+                | (workerId << WORKER_ID_SHIFT)
+                | sequence;
+    }
+
+    private long waitNextMillis(long lastTimestamp) {
+        long timestamp = currentTimeMillis();
+        while (timestamp <= lastTimestamp) {
+            timestamp = currentTimeMillis();
+        }
+        return timestamp;
+    }
+
+    /**
+     * 当前时间，测试中覆盖以模拟时钟回拨
+     * @return
+     */
+    protected long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+}
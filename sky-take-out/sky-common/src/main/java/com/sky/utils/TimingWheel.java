@@ -0,0 +1,130 @@
+package com.sky.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 分层时间轮
+ * 每一层有wheelSize个格子，每格tickMillis毫秒，超出本层范围的定时任务放入上一层，上一层每格的时间是本层一圈的时间
+ * 上层格子到期时把其中的任务重新放入下层，添加和到期都是O(1)，不需要对全部任务排序
+ * 非线程安全，由调用方加锁
+ *
+ * @param <T> 定时任务类型
+ */
+public class TimingWheel<T> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    //本层一圈的时间
+    private final long interval;
+    private final List<Entry<T>>[] buckets;
+    //本层当前时间，是tickMillis的整数倍
+    private long currentTime;
+    //上一层时间轮，需要时创建
+    private TimingWheel<T> overflowWheel;
+    //全部层中的任务数，只在最下层维护
+    private int size;
+
+    /**
+     * @param tickMillis 每格的时间(毫秒)
+     * @param wheelSize 每层的格子数
+     * @param startMillis 开始时间
+     */
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.interval = tickMillis * wheelSize;
+        this.buckets = new List[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new ArrayList<>();
+        }
+        this.currentTime = startMillis - startMillis % tickMillis;
+    }
+
+    /**
+     * 添加定时任务
+     * @param item
+     * @param deadline 到期时间(毫秒)
+     * @return 已经到期时不添加，返回false
+     */
+    public boolean add(T item, long deadline) {
+        //到期时间向上取整到格子边界，任务不会提前到期，最多延迟一格
+        if (add(new Entry<>(item, deadline + tickMillis - 1))) {
+            size++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 时间推进到now，依次取出到期的任务
+     * @param now
+     * @param expired 处理到期的任务
+     */
+    public void advance(long now, Consumer<T> expired) {
+        List<Entry<T>> flushed = new ArrayList<>();
+        advance(now, flushed);
+        //取出的任务重新放入，未到期的放入下层的格子
+        for (Entry<T> entry : flushed) {
+            if (!add(entry)) {
+                size--;
+                expired.accept(entry.item);
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private boolean add(Entry<T> entry) {
+        if (entry.deadline < currentTime + tickMillis) {
+            return false;
+        }
+        if (entry.deadline < currentTime + interval) {
+            buckets[index(entry.deadline)].add(entry);
+            return true;
+        }
+        if (overflowWheel == null) {
+            overflowWheel = new TimingWheel<>(interval, wheelSize, currentTime);
+        }
+        return overflowWheel.add(entry);
+    }
+
+    private void advance(long now, List<Entry<T>> flushed) {
+        //空闲时长时间未推进也只需要转一圈
+        long steps = Math.min((now - currentTime) / tickMillis, wheelSize);
+        if (steps <= 0) {
+            return;
+        }
+        for (long i = 0; i < steps; i++) {
+            currentTime += tickMillis;
+            List<Entry<T>> bucket = buckets[index(currentTime)];
+            if (!bucket.isEmpty()) {
+                flushed.addAll(bucket);
+                bucket.clear();
+            }
+        }
+        currentTime = now - now % tickMillis;
+        if (overflowWheel != null) {
+            overflowWheel.advance(currentTime, flushed);
+        }
+    }
+
+    private int index(long time) {
+        return (int) ((time / tickMillis) % wheelSize);
+    }
+
+    private static class Entry<T> {
+
+        private final T item;
+        private final long deadline;
+
+        Entry(T item, long deadline) {
+            this.item = item;
+            this.deadline = deadline;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.alibaba.fastjson.JSONObject;
 import com.sky.properties.WeChatProperties;
 import com.wechat.pay.contrib.apache.httpclient.WechatPayHttpClientBuilder;
 import com.wechat.pay.contrib.apache.httpclient.util.PemUtil;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang.RandomStringUtils;
 import org.apache.http.HttpHeaders;
 import org.apache.http.client.methods.CloseableHttpResponse;
@@ -14,6 +15,8 @@ import org.apache.http.entity.ContentType;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.util.EntityUtils;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -33,7 +36,8 @@ import java.util.List;
  * 微信支付工具类
  */
 @Component
-public class WeChatPayUtil {
+@Slf4j
+public class WeChatPayUtil implements InitializingBean, DisposableBean {
 
     //微信支付下单接口地址
     public static final String JSAPI = "https://api.mch.weixin.qq.com/v3/pay/transactions/jsapi";
@@ -44,31 +48,58 @@ public class WeChatPayUtil {
     @Autowired
     private WeChatProperties weChatProperties;
 
+    private volatile CloseableHttpClient httpClient;
+    private volatile PrivateKey merchantPrivateKey;
+
+    /**
+     * 启动时加载商户私钥和平台证书，创建可复用的客户端
+     * 证书文件不存在时只记录警告，第一次调用微信接口时再尝试创建
+     */
+    public void afterPropertiesSet() {
+        try {
+            getClient();
+        } catch (FileNotFoundException e) {
+            log.warn("微信支付证书加载失败，将在第一次调用时重试：{}", e.getMessage());
+        }
+    }
+
+    /**
+     * 关闭客户端，释放连接池
+     */
+    public void destroy() throws Exception {
+        if (httpClient != null) {
+            httpClient.close();
+        }
+    }
+
     /**
-     * 获取调用微信接口的客户端工具对象
+     * 获取调用微信接口的客户端工具对象，客户端自带连接池，只创建一次
      *
      * @return
      */
-    private CloseableHttpClient getClient() {
-        PrivateKey merchantPrivateKey = null;
-        try {
-            //merchantPrivateKey商户API私钥，如何加载商户API私钥请看常见问题
-            merchantPrivateKey = PemUtil.loadPrivateKey(new FileInputStream(new File(weChatProperties.getPrivateKeyFilePath())));
-            //加载平台证书文件
-            X509Certificate x509Certificate = PemUtil.loadCertificate(new FileInputStream(new File(weChatProperties.getWeChatPayCertFilePath())));
-            //wechatPayCertificates微信支付平台证书列表。你也可以使用后面章节提到的“定时更新平台证书功能”，而不需要关心平台证书的来龙去脉
-            List<X509Certificate> wechatPayCertificates = Arrays.asList(x509Certificate);
-
-            WechatPayHttpClientBuilder builder = WechatPayHttpClientBuilder.create()
-                    .withMerchant(weChatProperties.getMchid(), weChatProperties.getMchSerialNo(), merchantPrivateKey)
-                    .withWechatPay(wechatPayCertificates);
-
-            // 通过WechatPayHttpClientBuilder构造的HttpClient，会自动的处理签名和验签
-            CloseableHttpClient httpClient = builder.build();
+    private CloseableHttpClient getClient() throws FileNotFoundException {
+        CloseableHttpClient client = httpClient;
+        if (client != null) {
+            return client;
+        }
+        synchronized (this) {
+            if (httpClient == null) {
+                //merchantPrivateKey商户API私钥，如何加载商户API私钥请看常见问题
+                PrivateKey privateKey = PemUtil.loadPrivateKey(new FileInputStream(new File(weChatProperties.getPrivateKeyFilePath())));
+                //加载平台证书文件
+                X509Certificate x509Certificate = PemUtil.loadCertificate(new FileInputStream(new File(weChatProperties.getWeChatPayCertFilePath())));
+                //wechatPayCertificates微信支付平台证书列表。你也可以使用后面章节提到的“定时更新平台证书功能”，而不需要关心平台证书的来龙去脉
+                List<X509Certificate> wechatPayCertificates = Arrays.asList(x509Certificate);
+
+                WechatPayHttpClientBuilder builder = WechatPayHttpClientBuilder.create()
+                        .withMerchant(weChatProperties.getMchid(), weChatProperties.getMchSerialNo(), privateKey)
+                        .withWechatPay(wechatPayCertificates);
+
+                // 通过WechatPayHttpClientBuilder构造的HttpClient，会自动的处理签名和验签
+                merchantPrivateKey = privateKey;
+                httpClient = builder.build();
+            }
             return httpClient;
-        } catch (FileNotFoundException e) {
-            e.printStackTrace();
-            return null;
         }
     }
 
@@ -80,7 +111,7 @@ public class WeChatPayUtil {
      * @return
      */
     private String post(String url, String body) throws Exception {
-        CloseableHttpClient httpClient = getClient();
+        CloseableHttpClient client = getClient();
 
         HttpPost httpPost = new HttpPost(url);
         httpPost.addHeader(HttpHeaders.ACCEPT, ContentType.APPLICATION_JSON.toString());
@@ -88,12 +119,12 @@ public class WeChatPayUtil {
         httpPost.addHeader("Wechatpay-Serial", weChatProperties.getMchSerialNo());
         httpPost.setEntity(new StringEntity(body, "UTF-8"));
 
-        CloseableHttpResponse response = httpClient.execute(httpPost);
+        CloseableHttpResponse response = client.execute(httpPost);
         try {
             String bodyAsString = EntityUtils.toString(response.getEntity());
             return bodyAsString;
         } finally {
-            httpClient.close();
+            //只关闭响应，连接归还连接池
             response.close();
         }
     }
@@ -105,19 +136,19 @@ public class WeChatPayUtil {
      * @return
      */
     private String get(String url) throws Exception {
-        CloseableHttpClient httpClient = getClient();
+        CloseableHttpClient client = getClient();
 
         HttpGet httpGet = new HttpGet(url);
         httpGet.addHeader(HttpHeaders.ACCEPT, ContentType.APPLICATION_JSON.toString());
         httpGet.addHeader(HttpHeaders.CONTENT_TYPE, ContentType.APPLICATION_JSON.toString());
         httpGet.addHeader("Wechatpay-Serial", weChatProperties.getMchSerialNo());
 
-        CloseableHttpResponse response = httpClient.execute(httpGet);
+        CloseableHttpResponse response = client.execute(httpGet);
         try {
             String bodyAsString = EntityUtils.toString(response.getEntity());
             return bodyAsString;
         } finally {
-            httpClient.close();
+            //只关闭响应，连接归还连接池
             response.close();
         }
     }
@@ -168,7 +199,7 @@ public class WeChatPayUtil {
         String bodyAsString = jsapi(orderNum, total, description, openid);
         //解析返回结果
         JSONObject jsonObject = JSON.parseObject(bodyAsString);
-        System.out.println(jsonObject);
+        log.info("微信支付下单结果：{}", jsonObject);
 
         String prepayId = jsonObject.getString("prepay_id");
         if (prepayId != null) {
@@ -188,7 +219,7 @@ public class WeChatPayUtil {
             byte[] message = signMessage.getBytes();
 
             Signature signature = Signature.getInstance("SHA256withRSA");
-            signature.initSign(PemUtil.loadPrivateKey(new FileInputStream(new File(weChatProperties.getPrivateKeyFilePath()))));
+            signature.initSign(merchantPrivateKey);
             signature.update(message);
             String packageSign = Base64.getEncoder().encodeToString(signature.sign());
 
@@ -19,4 +19,10 @@ public class DishPageQueryDTO implements Serializable {
     //状态 0表示禁用 1表示启用
     private Integer status;
 
+    //游标分页：上一页返回的游标，为空时查询第一页
+    private String cursor;
+
+    //游标分页：是否统计总记录数
+    private Boolean withTotal;
+
 }
@@ -16,4 +16,10 @@ public class EmployeePageQueryDTO implements Serializable {
     //每页显示记录数
     private int pageSize;
 
+    //游标分页：上一页返回的游标，为空时查询第一页
+    private String cursor;
+
+    //游标分页：是否统计总记录数
+    private Boolean withTotal;
+
 }
@@ -0,0 +1,24 @@
+package com.sky.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class OrderStatusCountDTO implements Serializable {
+    //订单状态
+    private Integer status;
+
+    //订单数量
+    private Integer count;
+
+    //订单金额合计
+    private BigDecimal amount;
+}
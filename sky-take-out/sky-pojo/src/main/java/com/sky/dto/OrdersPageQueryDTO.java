@@ -27,4 +27,10 @@ public class OrdersPageQueryDTO implements Serializable {
 
     private Long userId;
 
+    //游标分页：上一页返回的游标，为空时查询第一页
+    private String cursor;
+
+    //游标分页：是否统计总记录数
+    private Boolean withTotal;
+
 }
@@ -0,0 +1,32 @@
+package com.sky.vo;
+
+import com.sky.entity.Category;
+import com.sky.entity.Setmeal;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuSnapshotVO implements Serializable {
+
+    //菜单版本，与响应的ETag一致
+    private String version;
+
+    //起售中的分类
+    private List<Category> categories;
+
+    //起售中的菜品和口味，key为分类id
+    private Map<Long, List<DishVO>> dishes;
+
+    //起售中的套餐，key为分类id
+    private Map<Long, List<Setmeal>> setmeals;
+
+}
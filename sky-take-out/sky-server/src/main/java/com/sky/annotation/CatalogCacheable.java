@@ -0,0 +1,19 @@
+package com.sky.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import com.sky.enumeration.CatalogType;
+
+/**
+ * 自定义注解，用于标识只读的菜单查询接口
+ * 响应带上由菜单版本号构造的ETag和Last-Modified，客户端数据没有变化时直接返回304
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CatalogCacheable {
+    //响应数据依赖的菜单数据类型
+    CatalogType[] value();
+}
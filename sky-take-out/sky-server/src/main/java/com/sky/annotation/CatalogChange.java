@@ -0,0 +1,18 @@
+package com.sky.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import com.sky.enumeration.CatalogType;
+
+/**
+ * 自定义注解，用于标识修改菜单数据的方法，方法正常返回后递增对应类型的菜单版本号
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CatalogChange {
+    //被修改的菜单数据类型
+    CatalogType[] value();
+}
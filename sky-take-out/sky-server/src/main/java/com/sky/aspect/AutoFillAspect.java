@@ -1,8 +1,10 @@
 package com.sky.aspect;
 
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.time.LocalDateTime;
-
+import java.util.Collection;
 
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.Aspect;
@@ -11,6 +13,7 @@ import org.aspectj.lang.annotation.Pointcut;
 import org.springframework.stereotype.Component;
 
 import com.sky.annotation.AutoFill;
+import com.sky.constant.AutoFillConstant;
 import com.sky.context.BaseContext;
 import com.sky.enumeration.OperationType;
 
@@ -31,13 +34,20 @@ public class AutoFillAspect {
     @Pointcut("execution(* com.sky.mapper.*.*(..)) && @annotation(com.sky.annotation.AutoFill)") //切点表达式
     public void autoFillPointCut() {}
 
+    /**
+     * 每个实体类的公共字段setter，第一次使用时解析并缓存
+     */
+    private static final ClassValue<Setters> SETTERS = new ClassValue<Setters>() {
+        protected Setters computeValue(Class<?> type) {
+            return new Setters(type);
+        }
+    };
+
     /**
      * 前置通知, 在通知中进行公共字段的赋值
      */
     @Before("autoFillPointCut()") //定义是哪个切入点执行前执行
     public void autoFill(JoinPoint joinPoint) {
-        log.info("开始进行公共字段自动填充...");
-
         //第一步，获取当前被拦截的方法上的数据库操作类型
         MethodSignature signature = (MethodSignature)joinPoint.getSignature(); //方法签名对象
         AutoFill autoFill = signature.getMethod().getAnnotation(AutoFill.class); //获得方法上的注解对象
@@ -48,40 +58,90 @@ public class AutoFillAspect {
         if(args == null || args.length == 0) { return; }
 
         Object entity = args[0]; //如果参数有多个，统一使用第一个，用Object，泛用性
-        
+        if(entity == null) { return; }
+        log.debug("公共字段自动填充：{} {}", operationType, entity.getClass().getSimpleName());
+
         //第三步，为公共属性来统一准备赋值的数据，也就是当前时间和当前登陆的用户id
         LocalDateTime now = LocalDateTime.now();
         Long currentId = BaseContext.getCurrentId();
 
-        //第四步，根据当前的操作类型，通过<反射>来为不同的属性赋值
+        //第四步，批量操作的参数是实体集合，为每个实体赋值
+        if(entity instanceof Collection) {
+            for (Object e : (Collection<?>) entity) {
+                fill(e, operationType, now, currentId);
+            }
+        }else {
+            fill(entity, operationType, now, currentId);
+        }
+    }
+
+    /**
+     * 根据当前的操作类型，通过缓存的setter为不同的属性赋值
+     */
+    private void fill(Object entity, OperationType operationType, LocalDateTime now, Long currentId) {
+        Setters setters = SETTERS.get(entity.getClass());
         if(operationType == OperationType.INSERT) {
             //为四个公共字段赋值
-            try {
-                Method setCreateTime = entity.getClass().getDeclaredMethod("setCreateTime", LocalDateTime.class);
-                Method setCreateUser = entity.getClass().getDeclaredMethod("setCreateUser", Long.class);
-                Method setUpdateTime = entity.getClass().getDeclaredMethod("setUpdateTime", LocalDateTime.class);
-                Method setUpdateUser = entity.getClass().getDeclaredMethod("setUpdateUser", Long.class);
-
-                //通过反射为对象属性赋值
-                setCreateTime.invoke(entity, now);
-                setCreateUser.invoke(entity, currentId);
-                setUpdateTime.invoke(entity, now);
-                setUpdateUser.invoke(entity, currentId);
-            } catch (Exception e) {
-                e.printStackTrace();
-            }
-            
+            setters.fillInsert(entity, now, currentId);
         }else if(operationType == OperationType.UPDATE) {
             //为两个update字段赋值
+            setters.fillUpdate(entity, now, currentId);
+        }
+    }
+
+    /**
+     * 一个实体类的公共字段setter
+     * 实体类缺少update字段的setter时直接报错，缺少create字段的setter时只能用于UPDATE操作
+     */
+    private static class Setters {
+
+        private final Class<?> type;
+        private final MethodHandle setCreateTime;
+        private final MethodHandle setCreateUser;
+        private final MethodHandle setUpdateTime;
+        private final MethodHandle setUpdateUser;
+
+        Setters(Class<?> type) {
+            this.type = type;
+            this.setCreateTime = find(type, AutoFillConstant.SET_CREATE_TIME, LocalDateTime.class, false);
+            this.setCreateUser = find(type, AutoFillConstant.SET_CREATE_USER, Long.class, false);
+            this.setUpdateTime = find(type, AutoFillConstant.SET_UPDATE_TIME, LocalDateTime.class, true);
+            this.setUpdateUser = find(type, AutoFillConstant.SET_UPDATE_USER, Long.class, true);
+        }
+
+        void fillInsert(Object entity, LocalDateTime now, Long currentId) {
+            if(setCreateTime == null || setCreateUser == null) {
+                throw new IllegalStateException(type.getName() + "不支持INSERT公共字段自动填充");
+            }
+            invoke(setCreateTime, entity, now);
+            invoke(setCreateUser, entity, currentId);
+            fillUpdate(entity, now, currentId);
+        }
+
+        void fillUpdate(Object entity, LocalDateTime now, Long currentId) {
+            invoke(setUpdateTime, entity, now);
+            invoke(setUpdateUser, entity, currentId);
+        }
+
+        private static MethodHandle find(Class<?> type, String name, Class<?> parameterType, boolean required) {
+            try {
+                return MethodHandles.publicLookup()
+                        .findVirtual(type, name, MethodType.methodType(void.class, parameterType));
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                if(required) {
+                    throw new IllegalStateException(type.getName() + "不支持公共字段自动填充，缺少" + name, e);
+                }
+                return null;
+            }
+        }
+
+        private static void invoke(MethodHandle setter, Object entity, Object value) {
             try {
-                Method setUpdateTime = entity.getClass().getDeclaredMethod("setUpdateTime", LocalDateTime.class);
-                Method setUpdateUser = entity.getClass().getDeclaredMethod("setUpdateUser", Long.class);
-
-                //通过反射为对象属性赋值
-                setUpdateTime.invoke(entity, now);
-                setUpdateUser.invoke(entity, currentId);
-            } catch (Exception e) {
-                e.printStackTrace();
+                setter.invoke(entity, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
             }
         }
     }
@@ -0,0 +1,48 @@
+package com.sky.aspect;
+
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.sky.annotation.CatalogChange;
+import com.sky.cache.CatalogVersion;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 自定义切面，菜单数据修改成功后递增菜单版本号
+ * 优先级最高，即最外层的切面，保证@CacheEvict等其他通知清理完缓存之后才递增版本号，
+ * 否则其他请求可能用新的ETag缓存旧数据
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Slf4j
+public class CatalogChangeAspect {
+
+    @Autowired
+    private CatalogVersion catalogVersion;
+
+    /**
+     * 返回通知，方法抛出异常时数据没有修改，不需要递增版本号
+     * 在事务中调用时等到事务提交后再递增，避免其他请求用新版本号读到旧数据
+     * @param catalogChange
+     */
+    @AfterReturning("@annotation(catalogChange)")
+    public void bumpVersion(CatalogChange catalogChange) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                public void afterCommit() {
+                    catalogVersion.bump(catalogChange.value());
+                }
+            });
+        } else {
+            catalogVersion.bump(catalogChange.value());
+        }
+    }
+}
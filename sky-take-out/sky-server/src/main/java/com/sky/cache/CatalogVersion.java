@@ -0,0 +1,193 @@
+package com.sky.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.sky.enumeration.CatalogType;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 菜单版本号：分类、菜品、套餐各自维护一个版本号和最后修改时间，保存在redis hash中
+ * 管理端修改菜单后递增版本号并通过redis频道通知所有节点，每个节点在本地保存一份版本号
+ * 读取版本号不需要访问redis，用于构造菜单快照和查询接口的ETag、Last-Modified
+ */
+@Component
+@Slf4j
+public class CatalogVersion implements MessageListener {
+
+    //版本号的redis hash
+    public static final String KEY = "catalog_version";
+    //版本号变化的频道
+    public static final String CHANNEL = "catalog_version";
+
+    //最后修改时间在redis hash中的字段名后缀
+    private static final String TIME_SUFFIX = "_t";
+
+    /**
+     * 递增版本号并记录修改时间，字段不存在时(例如redis数据被清空)用当前时间戳初始化，保证版本号不会回退
+     * ARGV[1]是当前时间戳，之后是需要递增的字段，返回递增后的版本号
+     */
+    @SuppressWarnings("unchecked")
+    private static final DefaultRedisScript<List<Long>> BUMP_SCRIPT = new DefaultRedisScript<>(
+            "local result = {} " +
+            "for i = 2, #ARGV do " +
+            "  local v = redis.call('HINCRBY', KEYS[1], ARGV[i], 1) " +
+            "  if v == 1 then " +
+            "    v = tonumber(ARGV[1]) " +
+            "    redis.call('HSET', KEYS[1], ARGV[i], v) " +
+            "  end " +
+            "  redis.call('HSET', KEYS[1], ARGV[i] .. '" + TIME_SUFFIX + "', ARGV[1]) " +
+            "  result[i - 1] = v " +
+            "end " +
+            "return result", (Class<List<Long>>) (Class<?>) List.class);
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    private final AtomicLongArray versions = new AtomicLongArray(CatalogType.values().length);
+    private final AtomicLongArray modifiedTimes = new AtomicLongArray(CatalogType.values().length);
+    private volatile boolean loaded;
+
+    /**
+     * 递增菜单版本号并通知其他节点
+     * @param types
+     */
+    public void bump(CatalogType... types) {
+        long now = System.currentTimeMillis();
+        List<String> args = new ArrayList<>(types.length + 1);
+        args.add(String.valueOf(now));
+        for (CatalogType type : types) {
+            args.add(type.getField());
+        }
+        List<Long> result = stringRedisTemplate.execute(BUMP_SCRIPT, Collections.singletonList(KEY), args.toArray());
+
+        StringBuilder message = new StringBuilder();
+        for (int i = 0; i < types.length; i++) {
+            update(types[i], result.get(i), now);
+            if (i > 0) {
+                message.append(',');
+            }
+            message.append(types[i].getField()).append('=').append(result.get(i)).append('@').append(now);
+        }
+        stringRedisTemplate.convertAndSend(CHANNEL, message.toString());
+        log.info("菜单版本号变化：{}", message);
+    }
+
+    /**
+     * 查询本地保存的版本号
+     * @param type
+     * @return
+     */
+    public long get(CatalogType type) {
+        if (!loaded) {
+            refresh();
+        }
+        return versions.get(type.ordinal());
+    }
+
+    /**
+     * 多个类型中最晚的修改时间(毫秒)，从未修改过时为0
+     * @param types
+     * @return
+     */
+    public long lastModified(CatalogType... types) {
+        if (!loaded) {
+            refresh();
+        }
+        long lastModified = 0;
+        for (CatalogType type : types) {
+            lastModified = Math.max(lastModified, modifiedTimes.get(type.ordinal()));
+        }
+        return lastModified;
+    }
+
+    /**
+     * 用多个类型的版本号构造ETag，任意一个版本号变化时ETag都会变化
+     * @param types
+     * @return 不带引号的ETag
+     */
+    public String etag(CatalogType... types) {
+        StringBuilder etag = new StringBuilder();
+        for (CatalogType type : types) {
+            if (etag.length() > 0) {
+                etag.append('.');
+            }
+            etag.append(type.getField()).append(Long.toString(get(type), 36));
+        }
+        return etag.toString();
+    }
+
+    /**
+     * 接收其他节点发出的版本号变化通知
+     * @param message
+     * @param pattern
+     */
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        //消息格式：字段=版本号@修改时间,字段=版本号@修改时间
+        for (String item : body.split(",")) {
+            String[] pair = item.split("[=@]");
+            for (CatalogType type : CatalogType.values()) {
+                if (type.getField().equals(pair[0])) {
+                    update(type, Long.parseLong(pair[1]), Long.parseLong(pair[2]));
+                }
+            }
+        }
+    }
+
+    /**
+     * 定时从redis读取版本号，频道消息丢失时也能在一个周期内更新
+     */
+    @Scheduled(fixedDelayString = "${sky.catalog.version-refresh-millis:5000}")
+    public void refresh() {
+        try {
+            Map<Object, Object> stored = stringRedisTemplate.opsForHash().entries(KEY);
+            for (CatalogType type : CatalogType.values()) {
+                Object value = stored.get(type.getField());
+                Object time = stored.get(type.getField() + TIME_SUFFIX);
+                if (value == null) {
+                    //第一次使用或redis数据被清空，用当前时间戳初始化
+                    String now = String.valueOf(System.currentTimeMillis());
+                    stringRedisTemplate.opsForHash().putIfAbsent(KEY, type.getField(), now);
+                    stringRedisTemplate.opsForHash().putIfAbsent(KEY, type.getField() + TIME_SUFFIX, now);
+                    value = stringRedisTemplate.opsForHash().get(KEY, type.getField());
+                    time = stringRedisTemplate.opsForHash().get(KEY, type.getField() + TIME_SUFFIX);
+                }
+                update(type, Long.parseLong(value.toString()), time == null ? 0 : Long.parseLong(time.toString()));
+            }
+            loaded = true;
+        } catch (RuntimeException e) {
+            log.warn("读取菜单版本号失败：{}", e.getMessage());
+        }
+    }
+
+    private void update(CatalogType type, long version, long modifiedTime) {
+        increaseTo(versions, type.ordinal(), version);
+        increaseTo(modifiedTimes, type.ordinal(), modifiedTime);
+    }
+
+    /**
+     * 版本号和修改时间只增不减，乱序到达的旧消息不会覆盖新值
+     */
+    private static void increaseTo(AtomicLongArray array, int i, long value) {
+        long current;
+        while ((current = array.get(i)) < value) {
+            if (array.compareAndSet(i, current, value)) {
+                break;
+            }
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.sky.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sky.enumeration.CatalogType;
+import com.sky.properties.DishCacheProperties;
+import com.sky.vo.DishVO;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 菜品两级缓存：本地Caffeine缓存 + Redis缓存
+ * 本地缓存失效通过Redis发布订阅通知到所有节点
+ * redis中的缓存key带有版本号，失效时只需要递增版本号，旧版本的数据到期后自动删除
+ * 本地缓存key带有本地保存的菜品菜单版本号：失效通知和版本号变化通知通过不同的频道到达，顺序不确定，
+ * 版本号先变化时新版本号对应的是新key，不会读到旧版本号时加载的数据，ETag与数据一致
+ */
+@Component
+@Slf4j
+public class DishCache implements MessageListener {
+
+    //菜品缓存key的前缀，redis中的构造规则是：dish_分类id:全局版本号.分类版本号
+    public static final String KEY_PREFIX = "dish_";
+    //全局版本号，清理全部菜品缓存时递增
+    public static final String VERSION_KEY = "dish_version";
+    //分类版本号的前缀，构造规则是：dish_version_分类id，清理某个分类的菜品缓存时递增
+    public static final String CATEGORY_VERSION_KEY_PREFIX = "dish_version_";
+    //本地缓存失效通知的频道
+    public static final String EVICT_CHANNEL = "dish_cache_evict";
+    //失效通知中表示清理全部缓存
+    private static final String EVICT_ALL = "*";
+    //失效通知中多个key之间的分隔符
+    private static final String KEY_SEPARATOR = ",";
+    //本地缓存key中分类key与菜单版本号的分隔符
+    private static final char VERSION_SEPARATOR = '@';
+
+    @Autowired
+    private RedisTemplate redisTemplate;
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+    @Autowired
+    private CatalogVersion catalogVersion;
+
+    private final Cache<String, List<DishVO>> localCache;
+    private final long redisExpireSeconds;
+
+    public DishCache(DishCacheProperties dishCacheProperties) {
+        this.redisExpireSeconds = dishCacheProperties.getRedisExpireSeconds();
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(dishCacheProperties.getLocalMaximumSize())
+                .expireAfterWrite(dishCacheProperties.getLocalExpireSeconds(), TimeUnit.SECONDS)
+                .build();
+    }
+
+    /**
+     * 根据分类id查询菜品缓存，依次查询本地缓存、redis，都不存在时通过loader查询数据库
+     * @param categoryId
+     * @param loader
+     * @return
+     */
+    public List<DishVO> get(Long categoryId, Supplier<List<DishVO>> loader) {
+        //版本号在加载前读取，版本号变化之前加载的数据只会保存在旧版本号的key中
+        String key = KEY_PREFIX + categoryId + VERSION_SEPARATOR + catalogVersion.get(CatalogType.DISH);
+        //同一个key并发未命中时只会加载一次
+        return localCache.get(key, k -> loadFromRedis(categoryId, loader));
+    }
+
+    /**
+     * 清理某个分类的菜品缓存
+     * @param categoryId
+     */
+    public void evict(Long categoryId) {
+        String key = KEY_PREFIX + categoryId;
+        //递增分类版本号，旧版本的缓存不会再被读取
+        stringRedisTemplate.opsForValue().increment(CATEGORY_VERSION_KEY_PREFIX + categoryId);
+        invalidateLocal(Collections.singletonList(key));
+        stringRedisTemplate.convertAndSend(EVICT_CHANNEL, key);
+    }
+
+    /**
+     * 一次清理多个分类的菜品缓存，批量修改菜品后使用
+     * redis版本号通过管道一次递增，其他节点只收到一条失效通知
+     * @param categoryIds
+     */
+    public void evict(Collection<Long> categoryIds) {
+        if (categoryIds.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(categoryIds.size());
+        for (Long categoryId : categoryIds) {
+            keys.add(KEY_PREFIX + categoryId);
+        }
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long categoryId : categoryIds) {
+                connection.incr((CATEGORY_VERSION_KEY_PREFIX + categoryId).getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+        invalidateLocal(keys);
+        stringRedisTemplate.convertAndSend(EVICT_CHANNEL, String.join(KEY_SEPARATOR, keys));
+    }
+
+    /**
+     * 清理全部菜品缓存
+     */
+    public void evictAll() {
+        //递增全局版本号，不需要通过keys命令查找全部菜品缓存
+        stringRedisTemplate.opsForValue().increment(VERSION_KEY);
+        localCache.invalidateAll();
+        stringRedisTemplate.convertAndSend(EVICT_CHANNEL, EVICT_ALL);
+    }
+
+    /**
+     * 接收其他节点发出的失效通知，清理本地缓存
+     * @param message
+     * @param pattern
+     */
+    public void onMessage(Message message, byte[] pattern) {
+        String key = new String(message.getBody(), StandardCharsets.UTF_8);
+        log.debug("清理本地菜品缓存：{}", key);
+        if (EVICT_ALL.equals(key)) {
+            localCache.invalidateAll();
+        } else {
+            invalidateLocal(Arrays.asList(key.split(KEY_SEPARATOR)));
+        }
+    }
+
+    /**
+     * 清理分类的全部版本号的本地缓存
+     * @param keys 不带版本号的分类key
+     */
+    private void invalidateLocal(Collection<String> keys) {
+        localCache.asMap().keySet().removeIf(k -> keys.contains(k.substring(0, k.lastIndexOf(VERSION_SEPARATOR))));
+    }
+
+    private List<DishVO> loadFromRedis(Long categoryId, Supplier<List<DishVO>> loader) {
+        String key = versionedKey(categoryId);
+
+        //查询redis中是否存在菜品数据
+        List<DishVO> list = (List<DishVO>) redisTemplate.opsForValue().get(key);
+        if (list == null || list.size() == 0) {
+            //如果不存在，查询数据库，再将查询到的数据放入redis中，并设置过期时间
+            list = loader.get();
+            redisTemplate.opsForValue().set(key, list, redisExpireSeconds, TimeUnit.SECONDS);
+        }
+        //本地缓存中的集合会被多个请求共享，不允许修改
+        return Collections.unmodifiableList(list);
+    }
+
+    /**
+     * 一次查询全局版本号和分类版本号，构造redis中的缓存key
+     * @param categoryId
+     * @return
+     */
+    private String versionedKey(Long categoryId) {
+        List<String> versions = stringRedisTemplate.opsForValue()
+                .multiGet(Arrays.asList(VERSION_KEY, CATEGORY_VERSION_KEY_PREFIX + categoryId));
+        String version = versions.get(0) == null ? "0" : versions.get(0);
+        String categoryVersion = versions.get(1) == null ? "0" : versions.get(1);
+        return KEY_PREFIX + categoryId + ":" + version + "." + categoryVersion;
+    }
+}
@@ -0,0 +1,93 @@
+package com.sky.cache;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.sky.utils.JwtUtil;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * 已校验jwt令牌的缓存，命中时不需要重新解析和校验签名
+ * 缓存key是令牌的SHA-256摘要，不在内存中保存令牌原文，缓存项在令牌过期时失效
+ */
+public class JwtTokenCache {
+
+    private final Key signingKey;
+    private final String idClaim;
+    private final Cache<ByteBuffer, VerifiedToken> cache;
+
+    /**
+     * @param secretKey jwt秘钥
+     * @param idClaim   令牌中保存id的声明名称
+     * @param maximumSize 最多缓存的令牌数量
+     */
+    public JwtTokenCache(String secretKey, String idClaim, long maximumSize) {
+        this.signingKey = JwtUtil.signingKey(secretKey);
+        this.idClaim = idClaim;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<ByteBuffer, VerifiedToken>() {
+                    public long expireAfterCreate(ByteBuffer key, VerifiedToken value, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, value.expMillis - System.currentTimeMillis()));
+                    }
+
+                    public long expireAfterUpdate(ByteBuffer key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    public long expireAfterRead(ByteBuffer key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * 校验令牌，返回令牌中的id，令牌无效或过期时抛出异常
+     * @param token
+     * @return
+     */
+    public Long verify(String token) {
+        ByteBuffer key = digest(token);
+        VerifiedToken verified = cache.getIfPresent(key);
+        if (verified != null && verified.expMillis > System.currentTimeMillis()) {
+            return verified.id;
+        }
+
+        Claims claims = JwtUtil.parseJWT(signingKey, token);
+        Long id = Long.valueOf(claims.get(idClaim).toString());
+        Date expiration = claims.getExpiration();
+        //没有过期时间的令牌不缓存
+        if (expiration != null) {
+            cache.put(key, new VerifiedToken(id, expiration.getTime()));
+        }
+        return id;
+    }
+
+    private static ByteBuffer digest(String token) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class VerifiedToken {
+        private final Long id;
+        private final long expMillis;
+
+        VerifiedToken(Long id, long expMillis) {
+            this.id = id;
+            this.expMillis = expMillis;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.sky.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.sky.constant.StatusConstant;
+import com.sky.entity.Category;
+import com.sky.entity.Dish;
+import com.sky.entity.Setmeal;
+import com.sky.enumeration.CatalogType;
+import com.sky.json.JacksonObjectMapper;
+import com.sky.result.Result;
+import com.sky.service.CategoryService;
+import com.sky.service.DishService;
+import com.sky.service.SetmealService;
+import com.sky.vo.DishVO;
+import com.sky.vo.MenuSnapshotVO;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 菜单快照：分类、起售中的菜品和口味、起售中的套餐序列化成一份json，并预先压缩
+ * 快照只在菜单版本号变化后的第一次请求时重建，之后所有请求直接返回同一份字节数组
+ */
+@Component
+@Slf4j
+public class MenuSnapshotCache {
+
+    //快照依赖的菜单数据类型
+    public static final CatalogType[] TYPES = CatalogType.values();
+
+    private final JacksonObjectMapper objectMapper = new JacksonObjectMapper();
+
+    @Autowired
+    private CatalogVersion catalogVersion;
+    @Autowired
+    private CategoryService categoryService;
+    @Autowired
+    private DishService dishService;
+    @Autowired
+    private SetmealService setmealService;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 当前菜单版本对应的ETag，不需要构建快照
+     * @return
+     */
+    public String currentETag() {
+        return catalogVersion.etag(TYPES);
+    }
+
+    /**
+     * 菜单最后修改时间(毫秒)
+     * @return
+     */
+    public long lastModified() {
+        return catalogVersion.lastModified(TYPES);
+    }
+
+    /**
+     * 查询当前版本的菜单快照，版本变化时重建
+     * @return
+     */
+    public Snapshot get() {
+        String etag = currentETag();
+        Snapshot current = snapshot;
+        if (current != null && current.getEtag().equals(etag)) {
+            return current;
+        }
+        synchronized (this) {
+            current = snapshot;
+            if (current == null || !current.getEtag().equals(etag)) {
+                current = build(etag);
+                snapshot = current;
+            }
+            return current;
+        }
+    }
+
+    /**
+     * 先确定版本号再查询数据，构建期间发生的修改会递增版本号，下一次请求时重建
+     */
+    private Snapshot build(String etag) {
+        long start = System.currentTimeMillis();
+
+        List<Category> categories = categoryService.list(null);
+        Set<Long> categoryIds = categories.stream().map(Category::getId).collect(Collectors.toSet());
+
+        //一次查询全部起售中的菜品和口味，只保留起售中的分类下的菜品
+        Dish dishQuery = Dish.builder().status(StatusConstant.ENABLE).build();
+        Map<Long, List<DishVO>> dishes = dishService.listWithFlavor(dishQuery).stream()
+                .filter(d -> categoryIds.contains(d.getCategoryId()))
+                .collect(Collectors.groupingBy(DishVO::getCategoryId, LinkedHashMap::new, Collectors.toList()));
+
+        Setmeal setmealQuery = Setmeal.builder().status(StatusConstant.ENABLE).build();
+        Map<Long, List<Setmeal>> setmeals = setmealService.list(setmealQuery).stream()
+                .filter(s -> categoryIds.contains(s.getCategoryId()))
+                .collect(Collectors.groupingBy(Setmeal::getCategoryId, LinkedHashMap::new, Collectors.toList()));
+
+        MenuSnapshotVO menu = MenuSnapshotVO.builder()
+                .version(etag)
+                .categories(categories)
+                .dishes(dishes)
+                .setmeals(setmeals)
+                .build();
+
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(Result.success(menu));
+            Snapshot built = new Snapshot(etag, json, gzip(json));
+            log.info("重建菜单快照，版本：{}，大小：{}字节，压缩后：{}字节，耗时：{}ms",
+                    etag, json.length, built.getGzip().length, System.currentTimeMillis() - start);
+            return built;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 不可变的菜单快照
+     */
+    @Getter
+    public static class Snapshot {
+
+        //不带引号的ETag
+        private final String etag;
+        //未压缩的json
+        private final byte[] json;
+        //gzip压缩后的json
+        private final byte[] gzip;
+
+        Snapshot(String etag, byte[] json, byte[] gzip) {
+            this.etag = etag;
+            this.json = json;
+            this.gzip = gzip;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.sky.cart;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.sky.entity.ShoppingCart;
+import com.sky.mapper.ShoppingCartMapper;
+
+/**
+ * 基于shopping_cart表的购物车存储，未配置存储方式时默认使用
+ */
+@Component
+@ConditionalOnProperty(prefix = "sky.shopping-cart", name = "storage", havingValue = "mysql", matchIfMissing = true)
+public class MysqlShoppingCartStorage implements ShoppingCartStorage {
+
+    @Autowired
+    private ShoppingCartMapper shoppingCartMapper;
+
+    public List<ShoppingCart> list(Long userId) {
+        ShoppingCart shoppingCart = ShoppingCart.builder()
+                            .userId(userId)
+                            .build();
+        return shoppingCartMapper.list(shoppingCart);
+    }
+
+    public void add(ShoppingCart shoppingCart, Consumer<ShoppingCart> snapshot) {
+        //判断当前加入购物车的商品是否存在
+        List<ShoppingCart> list = shoppingCartMapper.list(shoppingCart);
+
+        //若存在，则只需要对应商品数量加一
+        if(list != null && list.size() > 0) {
+            ShoppingCart cart = list.get(0);
+            cart.setNumber(cart.getNumber() + 1);
+            shoppingCartMapper.updateNumberById(cart);
+        }else{
+            //若不存在，需要插入一条新的购物车数据
+            snapshot.accept(shoppingCart);
+            shoppingCart.setNumber(1);
+            shoppingCart.setCreateTime(LocalDateTime.now());
+            shoppingCartMapper.insert(shoppingCart);
+        }
+    }
+
+    public void sub(ShoppingCart shoppingCart) {
+        //查询当前用户的购物车中此商品的数据
+        List<ShoppingCart> list = shoppingCartMapper.list(shoppingCart);
+        if(list == null || list.size() == 0) {
+            return;
+        }
+        shoppingCart = list.get(0);
+
+        if(shoppingCart.getNumber() == 1) {
+            //若当前此商品份数为1，则全部删除
+            shoppingCartMapper.deleteById(shoppingCart.getId());
+        }else{
+            //若不唯一，则更新分数减少1
+            shoppingCart.setNumber(shoppingCart.getNumber() - 1);
+            shoppingCartMapper.updateNumberById(shoppingCart);
+        }
+    }
+
+    public void addBatch(Long userId, List<ShoppingCart> shoppingCartList) {
+        shoppingCartMapper.insertBatch(shoppingCartList);
+    }
+
+    public void clean(Long userId) {
+        shoppingCartMapper.deleteByUser(userId);
+    }
+}
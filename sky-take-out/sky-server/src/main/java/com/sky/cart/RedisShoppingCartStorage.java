@@ -0,0 +1,169 @@
+package com.sky.cart;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.alibaba.fastjson.JSON;
+import com.sky.entity.ShoppingCart;
+import com.sky.properties.ShoppingCartProperties;
+
+/**
+ * 基于redis hash的购物车存储，每个用户两个hash：
+ * shopping_cart_用户id 保存商品数量，shopping_cart_item_用户id 保存加购时的商品快照(名称、图片、价格)
+ * hash的field为 dishId|setmealId|dishFlavor，数量通过HINCRBY原子增减，连续点击不会产生重复数据
+ */
+@Component
+@ConditionalOnProperty(prefix = "sky.shopping-cart", name = "storage", havingValue = "redis")
+public class RedisShoppingCartStorage implements ShoppingCartStorage {
+
+    public static final String NUMBER_KEY_PREFIX = "shopping_cart_";
+    public static final String ITEM_KEY_PREFIX = "shopping_cart_item_";
+
+    //数量加一并刷新过期时间，返回加一后的数量，商品还没有快照时返回负数
+    private static final DefaultRedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>(
+            "local n = redis.call('HINCRBY', KEYS[1], ARGV[1], 1) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[2]) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[2]) " +
+            "if redis.call('HEXISTS', KEYS[2], ARGV[1]) == 0 then " +
+            "return -n " +
+            "end " +
+            "return n", Long.class);
+
+    //数量减一，减到0时同时删除数量和快照
+    private static final DefaultRedisScript<Long> SUB_SCRIPT = new DefaultRedisScript<>(
+            "local n = redis.call('HINCRBY', KEYS[1], ARGV[1], -1) " +
+            "if n <= 0 then " +
+            "redis.call('HDEL', KEYS[1], ARGV[1]) " +
+            "redis.call('HDEL', KEYS[2], ARGV[1]) " +
+            "end " +
+            "return n", Long.class);
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+    @Autowired
+    private ShoppingCartProperties shoppingCartProperties;
+
+    public List<ShoppingCart> list(Long userId) {
+        HashOperations<String, String, String> hashOperations = stringRedisTemplate.opsForHash();
+        Map<String, String> numbers = hashOperations.entries(NUMBER_KEY_PREFIX + userId);
+        Map<String, String> items = hashOperations.entries(ITEM_KEY_PREFIX + userId);
+
+        List<ShoppingCart> list = new ArrayList<>();
+        for (Map.Entry<String, String> entry : numbers.entrySet()) {
+            String item = items.get(entry.getKey());
+            //首次加购时快照在数量之后写入，还没有快照的商品暂不展示
+            if (item == null) {
+                continue;
+            }
+            ShoppingCart shoppingCart = JSON.parseObject(item, ShoppingCart.class);
+            shoppingCart.setNumber(Integer.valueOf(entry.getValue()));
+            list.add(shoppingCart);
+        }
+        //按加购时间排序，与数据库中的顺序保持一致
+        list.sort(Comparator.comparing(ShoppingCart::getCreateTime));
+        return list;
+    }
+
+    public void add(ShoppingCart shoppingCart, Consumer<ShoppingCart> snapshot) {
+        Long userId = shoppingCart.getUserId();
+        String field = field(shoppingCart);
+        Long number = stringRedisTemplate.execute(ADD_SCRIPT,
+                Arrays.asList(NUMBER_KEY_PREFIX + userId, ITEM_KEY_PREFIX + userId),
+                field, String.valueOf(expireSeconds()));
+
+        //商品还没有快照时(第一次加入购物车，或之前保存快照失败)查询菜单，保存商品快照
+        if (number != null && number < 0) {
+            try {
+                snapshot.accept(shoppingCart);
+                shoppingCart.setCreateTime(LocalDateTime.now());
+                saveItem(shoppingCart, field);
+            } catch (RuntimeException e) {
+                //保存快照失败时撤销这次加购，避免购物车中留下无法展示的商品
+                sub(shoppingCart);
+                throw e;
+            }
+        }
+    }
+
+    public void sub(ShoppingCart shoppingCart) {
+        Long userId = shoppingCart.getUserId();
+        stringRedisTemplate.execute(SUB_SCRIPT,
+                Arrays.asList(NUMBER_KEY_PREFIX + userId, ITEM_KEY_PREFIX + userId),
+                field(shoppingCart));
+    }
+
+    public void addBatch(Long userId, List<ShoppingCart> shoppingCartList) {
+        HashOperations<String, String, String> hashOperations = stringRedisTemplate.opsForHash();
+        for (ShoppingCart shoppingCart : shoppingCartList) {
+            String field = field(shoppingCart);
+            hashOperations.increment(NUMBER_KEY_PREFIX + userId, field, shoppingCart.getNumber());
+            //购物车中已有该商品时保留原来的快照
+            Integer number = shoppingCart.getNumber();
+            shoppingCart.setNumber(null);
+            hashOperations.putIfAbsent(ITEM_KEY_PREFIX + userId, field, JSON.toJSONString(shoppingCart));
+            shoppingCart.setNumber(number);
+        }
+        stringRedisTemplate.expire(NUMBER_KEY_PREFIX + userId, expireSeconds(), TimeUnit.SECONDS);
+        stringRedisTemplate.expire(ITEM_KEY_PREFIX + userId, expireSeconds(), TimeUnit.SECONDS);
+    }
+
+    public void clean(Long userId) {
+        List<String> keys = Arrays.asList(NUMBER_KEY_PREFIX + userId, ITEM_KEY_PREFIX + userId);
+        //下单时在事务提交后再清空，订单回滚时购物车保持不变
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                public void afterCommit() {
+                    stringRedisTemplate.delete(keys);
+                }
+            });
+        } else {
+            stringRedisTemplate.delete(keys);
+        }
+    }
+
+    /**
+     * 保存商品快照，数量只保存在数量hash中
+     * @param shoppingCart
+     * @param field
+     */
+    private void saveItem(ShoppingCart shoppingCart, String field) {
+        String key = ITEM_KEY_PREFIX + shoppingCart.getUserId();
+        shoppingCart.setNumber(null);
+        stringRedisTemplate.opsForHash().put(key, field, JSON.toJSONString(shoppingCart));
+        stringRedisTemplate.expire(key, expireSeconds(), TimeUnit.SECONDS);
+    }
+
+    private long expireSeconds() {
+        return TimeUnit.DAYS.toSeconds(shoppingCartProperties.getRedisExpireDays());
+    }
+
+    /**
+     * 构造购物车中商品的field：dishId|setmealId|dishFlavor
+     * @param shoppingCart
+     * @return
+     */
+    private static String field(ShoppingCart shoppingCart) {
+        return nullToEmpty(shoppingCart.getDishId()) + "|"
+                + nullToEmpty(shoppingCart.getSetmealId()) + "|"
+                + nullToEmpty(shoppingCart.getDishFlavor());
+    }
+
+    private static String nullToEmpty(Object value) {
+        return value == null ? "" : value.toString();
+    }
+}
@@ -0,0 +1,46 @@
+package com.sky.cart;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.sky.entity.ShoppingCart;
+
+/**
+ * 购物车存储，通过配置项 sky.shopping-cart.storage 选择mysql或redis实现
+ * 购物车中的商品由 userId + dishId + setmealId + dishFlavor 唯一确定
+ */
+public interface ShoppingCartStorage {
+
+    /**
+     * 查询用户购物车中的全部商品
+     * @param userId
+     * @return
+     */
+    List<ShoppingCart> list(Long userId);
+
+    /**
+     * 商品数量加一，购物车中不存在该商品时通过snapshot补全名称、图片和价格后新增
+     * @param shoppingCart
+     * @param snapshot
+     */
+    void add(ShoppingCart shoppingCart, Consumer<ShoppingCart> snapshot);
+
+    /**
+     * 商品数量减一，减到0时从购物车中删除
+     * @param shoppingCart
+     */
+    void sub(ShoppingCart shoppingCart);
+
+    /**
+     * 批量加入已补全信息的商品
+     * @param userId
+     * @param shoppingCartList
+     */
+    void addBatch(Long userId, List<ShoppingCart> shoppingCartList);
+
+    /**
+     * 清空用户购物车
+     * @param userId
+     */
+    void clean(Long userId);
+}
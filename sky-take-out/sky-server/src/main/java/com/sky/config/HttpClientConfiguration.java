@@ -0,0 +1,34 @@
+package com.sky.config;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+
+import com.sky.properties.HttpClientProperties;
+import com.sky.utils.HttpClientUtil;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 配置类，按配置初始化HttpClientUtil共享的连接池客户端
+ */
+@Configuration
+@Slf4j
+public class HttpClientConfiguration {
+
+    @Autowired
+    private HttpClientProperties httpClientProperties;
+
+    @PostConstruct
+    public void init() {
+        log.info("开始创建http连接池客户端：{}", httpClientProperties);
+        HttpClientUtil.configure(httpClientProperties);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        HttpClientUtil.shutdown();
+    }
+}
@@ -0,0 +1,25 @@
+package com.sky.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.sky.properties.OrderNumberProperties;
+import com.sky.utils.SnowflakeIdWorker;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 配置类，用于创建订单号生成器
+ */
+@Configuration
+@Slf4j
+public class OrderNumberConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public SnowflakeIdWorker snowflakeIdWorker(OrderNumberProperties orderNumberProperties) {
+        log.info("开始创建订单号生成器，workerId：{}", orderNumberProperties.getWorkerId());
+        return new SnowflakeIdWorker(orderNumberProperties.getWorkerId());
+    }
+}
@@ -4,8 +4,15 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import com.sky.cache.CatalogVersion;
+import com.sky.cache.DishCache;
+import com.sky.websocket.OrderPushRelay;
+import com.sky.workspace.WorkspaceCounter;
+
 import lombok.extern.slf4j.Slf4j;
 
 @Configuration
@@ -22,4 +29,29 @@ public class RedisConfiguration {
         redisTemplate.setKeySerializer(new StringRedisSerializer());
         return redisTemplate;
     }
+
+    /**
+     * redis消息监听容器，用于在多个节点之间同步本地缓存失效、转发订单推送消息、同步工作台计数器和菜单版本号
+     * @param redisConnectionFactory
+     * @param dishCache
+     * @param orderPushRelay
+     * @param workspaceCounter
+     * @param catalogVersion
+     * @return
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                       DishCache dishCache,
+                                                                       OrderPushRelay orderPushRelay,
+                                                                       WorkspaceCounter workspaceCounter,
+                                                                       CatalogVersion catalogVersion) {
+        log.info("开始创建redis消息监听容器...");
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(dishCache, new ChannelTopic(DishCache.EVICT_CHANNEL));
+        container.addMessageListener(orderPushRelay, new ChannelTopic(OrderPushRelay.CHANNEL));
+        container.addMessageListener(workspaceCounter, new ChannelTopic(WorkspaceCounter.CHANNEL));
+        container.addMessageListener(catalogVersion, new ChannelTopic(CatalogVersion.CHANNEL));
+        return container;
+    }
 }
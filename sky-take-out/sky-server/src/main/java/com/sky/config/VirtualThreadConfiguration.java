@@ -0,0 +1,44 @@
+package com.sky.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 配置类，开启 sky.virtual-threads.enabled 后tomcat使用虚拟线程处理请求
+ * 项目按java 8编译，通过反射创建虚拟线程池，运行在不支持虚拟线程的jdk上时继续使用平台线程
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "sky.virtual-threads", name = "enabled", havingValue = "true")
+@Slf4j
+public class VirtualThreadConfiguration {
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        ExecutorService executor = newVirtualThreadPerTaskExecutor();
+        if (executor == null) {
+            log.warn("当前jdk不支持虚拟线程，tomcat继续使用平台线程池");
+            return protocolHandler -> { };
+        }
+        log.info("tomcat使用虚拟线程处理请求...");
+        return protocolHandler -> protocolHandler.setExecutor(executor);
+    }
+
+    /**
+     * 通过反射调用 Executors.newVirtualThreadPerTaskExecutor()，jdk 21以下返回null
+     * @return
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+}
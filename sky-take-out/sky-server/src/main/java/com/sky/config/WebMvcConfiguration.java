@@ -1,6 +1,7 @@
 package com.sky.config;
 
 import com.alibaba.druid.support.logging.Log;
+import com.sky.interceptor.CatalogCacheInterceptor;
 import com.sky.interceptor.JwtTokenAdminInterceptor;
 import com.sky.interceptor.JwtTokenUserInterceptor;
 import com.sky.json.JacksonObjectMapper;
@@ -36,6 +37,8 @@ public class WebMvcConfiguration extends WebMvcConfigurationSupport {
     private JwtTokenAdminInterceptor jwtTokenAdminInterceptor;
     @Autowired
     private JwtTokenUserInterceptor jwtTokenUserInterceptor;
+    @Autowired
+    private CatalogCacheInterceptor catalogCacheInterceptor;
 
     /**
      * 注册自定义拦截器
@@ -51,8 +54,14 @@ public class WebMvcConfiguration extends WebMvcConfigurationSupport {
         registry.addInterceptor(jwtTokenUserInterceptor)
                 .addPathPatterns("/user/**")
                 .excludePathPatterns("/user/user/login")
-                .excludePathPatterns("/user/shop/status");
+                .excludePathPatterns("/user/shop/status")
+                .excludePathPatterns("/user/menu/snapshot");
         //因为请求店铺状态是在登陆前就完成的，所以也需要排除
+        //菜单快照是公开数据，不需要解析令牌
+
+        //菜单查询接口的条件请求，只处理带有@CatalogCacheable注解的方法
+        registry.addInterceptor(catalogCacheInterceptor)
+                .addPathPatterns("/user/**");
     }
 
     /**
@@ -0,0 +1,21 @@
+package com.sky.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.server.standard.ServerEndpointExporter;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * WebSocket配置类，用于注册WebSocket的Bean
+ */
+@Configuration
+@Slf4j
+public class WebSocketConfiguration {
+
+    @Bean
+    public ServerEndpointExporter serverEndpointExporter() {
+        log.info("开始注册WebSocket端点...");
+        return new ServerEndpointExporter();
+    }
+}
@@ -1,10 +1,12 @@
 package com.sky.controller.admin;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -14,10 +16,16 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
 
+import com.sky.annotation.CatalogChange;
+import com.sky.cache.DishCache;
+import com.sky.dish.DishImportReader;
 import com.sky.dto.DishDTO;
 import com.sky.dto.DishPageQueryDTO;
 import com.sky.entity.Dish;
+import com.sky.enumeration.CatalogType;
+import com.sky.result.CursorPageResult;
 import com.sky.result.PageResult;
 import com.sky.result.Result;
 import com.sky.service.DishService;
@@ -40,7 +48,7 @@ public class DishController {
     @Autowired
     private DishService dishService;
     @Autowired
-    private RedisTemplate redisTemplate;
+    private DishCache dishCache;
     
     //加上@RequestBody 才能封装我们json的数据
     /**
@@ -50,17 +58,59 @@ public class DishController {
      */
     @PostMapping
     @ApiOperation("新增菜品")
+    @CatalogChange(CatalogType.DISH)
     public Result save(@RequestBody DishDTO dishDTO) {
         log.info("新增菜品：{}", dishDTO);
         dishService.saveWithFlavor(dishDTO);
         
-        //清理Redis缓存数据
-        String key = "dish_" + dishDTO.getCategoryId();
-        cleanCache(key);
+        //清理缓存数据
+        dishCache.evict(dishDTO.getCategoryId());
 
         return Result.success();
     }
 
+    /**
+     * 批量新增和修改菜品，没有id的菜品新增，有id的菜品修改
+     * @param dishDTOs
+     * @return
+     */
+    @PostMapping("/batch")
+    @ApiOperation("批量新增和修改菜品")
+    @CatalogChange({CatalogType.DISH, CatalogType.SETMEAL})
+    @CacheEvict(cacheNames = "setmealCache", allEntries = true)
+    public Result<Integer> saveBatch(@RequestBody List<DishDTO> dishDTOs) {
+        log.info("批量新增和修改菜品：{}条", dishDTOs.size());
+        Set<Long> categoryIds = dishService.saveOrUpdateBatch(dishDTOs);
+
+        //事务提交后一次清理受影响分类的缓存
+        dishCache.evict(categoryIds);
+
+        return Result.success(dishDTOs.size());
+    }
+
+    /**
+     * 通过xlsx或csv文件批量导入菜品
+     * @param file
+     * @return
+     */
+    @PostMapping("/import")
+    @ApiOperation("导入菜品")
+    @CatalogChange({CatalogType.DISH, CatalogType.SETMEAL})
+    @CacheEvict(cacheNames = "setmealCache", allEntries = true)
+    public Result<Integer> importDishes(MultipartFile file) throws IOException {
+        log.info("导入菜品：{}", file.getOriginalFilename());
+        List<DishDTO> dishDTOs;
+        try (InputStream in = file.getInputStream()) {
+            dishDTOs = DishImportReader.read(file.getOriginalFilename(), in);
+        }
+        Set<Long> categoryIds = dishService.saveOrUpdateBatch(dishDTOs);
+
+        //事务提交后一次清理受影响分类的缓存
+        dishCache.evict(categoryIds);
+
+        return Result.success(dishDTOs.size());
+    }
+
     /**
      * 菜品分页查询
      * @param dishPageQueryDTO
@@ -74,6 +124,19 @@ public class DishController {
         return Result.success(pageResult);
     }
 
+    /**
+     * 菜品游标分页查询
+     * @param dishPageQueryDTO
+     * @return
+     */
+    @GetMapping("/cursorPage")
+    @ApiOperation("菜品游标分页查询")
+    public Result<CursorPageResult> cursorPage(DishPageQueryDTO dishPageQueryDTO) {
+        log.info("菜品游标分页查询：{}", dishPageQueryDTO);
+        CursorPageResult cursorPageResult = dishService.cursorQuery(dishPageQueryDTO);
+        return Result.success(cursorPageResult);
+    }
+
     /**
      * 批量删除菜品
      * @param ids
@@ -81,14 +144,15 @@ public class DishController {
      */
     @DeleteMapping
     @ApiOperation("批量删除菜品")
+    @CatalogChange(CatalogType.DISH)
     public Result delete(@RequestParam List<Long> ids) { 
         //@RequestParam加上这个注解后，就可以去动态的解析String ids，然后将id提取出来封装到集合对象中
         log.info("菜品批量删除：{}", ids);
         dishService.deleteBatch(ids);
 
-        //清理Redis缓存数据，同时因为是批量删除菜品，所以可能会影响到多个key，可以删除全部缓存
+        //清理缓存数据，同时因为是批量删除菜品，所以可能会影响到多个key，可以删除全部缓存
         //即dish_开头的全部删掉
-        cleanCache("dish_*");
+        dishCache.evictAll();
         
         return Result.success();
     }
@@ -113,13 +177,14 @@ public class DishController {
      */
     @PutMapping
     @ApiOperation("修改菜品")
+    @CatalogChange(CatalogType.DISH)
     public Result update(@RequestBody DishDTO dishDTO) {
         log.info("修改菜品：{}", dishDTO);
         dishService.updateWithFlavor(dishDTO);
 
         //也需要清理，但是如果修改的是分类数据，要影响到两份缓存数据
         //也全删
-        cleanCache("dish_*");
+        dishCache.evictAll();
         
         return Result.success();
     }
@@ -132,12 +197,14 @@ public class DishController {
      */
     @PostMapping("/status/{status}")
     @ApiOperation("启售禁售菜品")
+    @CatalogChange({CatalogType.DISH, CatalogType.SETMEAL})
+    @CacheEvict(cacheNames = "setmealCache", allEntries = true)
     public Result<String> startOrStop(@PathVariable Integer status, Long id) {
         log.info("启售禁售菜品：{}, {}", status, id);
         dishService.startOrStop(status, id);
 
         //全部缓存删除
-        cleanCache("dish_*");
+        dishCache.evictAll();
 
         return Result.success();
     }
@@ -154,12 +221,4 @@ public class DishController {
         List<Dish> list = dishService.list(categoryId);
         return Result.success(list);
     }
-
-    /**
-     * 清理缓存数据
-     */
-    private void cleanCache(String pattern) {
-        Set keys = redisTemplate.keys(pattern);
-        redisTemplate.delete(keys);
-    }
 }
@@ -6,6 +6,7 @@ import com.sky.dto.EmployeeLoginDTO;
 import com.sky.dto.EmployeePageQueryDTO;
 import com.sky.entity.Employee;
 import com.sky.properties.JwtProperties;
+import com.sky.result.CursorPageResult;
 import com.sky.result.PageResult;
 import com.sky.result.Result;
 import com.sky.service.EmployeeService;
@@ -113,6 +114,20 @@ public class EmployeeController {
         return Result.success(pageResult);
     }
 
+    /**
+     * 员工游标分页查询
+     * 
+     * @param employeePageQueryDTO
+     * @return
+     */
+    @GetMapping("/cursorPage")
+    @ApiOperation("员工游标分页查询")
+    public Result<CursorPageResult> cursorPage(EmployeePageQueryDTO employeePageQueryDTO) {
+        log.info("员工游标分页查询, 参数为：{}", employeePageQueryDTO);
+        CursorPageResult cursorPageResult = employeeService.cursorQuery(employeePageQueryDTO);
+        return Result.success(cursorPageResult);
+    }
+
     /**
      * 启用禁用员工账号
      * @param status
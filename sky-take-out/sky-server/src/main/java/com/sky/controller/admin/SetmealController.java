@@ -14,8 +14,11 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.sky.annotation.CatalogChange;
 import com.sky.dto.SetmealDTO;
 import com.sky.dto.SetmealPageQueryDTO;
+import com.sky.enumeration.CatalogType;
+import com.sky.result.CursorPageResult;
 import com.sky.result.PageResult;
 import com.sky.result.Result;
 import com.sky.service.SetmealService;
@@ -44,6 +47,7 @@ public class SetmealController {
      */
     @PostMapping
     @ApiOperation("新增套餐")
+    @CatalogChange(CatalogType.SETMEAL)
     @CacheEvict(cacheNames = "setmealCache", key = "#setmealDTO.categoryId")
     public Result save(@RequestBody SetmealDTO setmealDTO) {
         log.info("新增套餐：{}", setmealDTO);
@@ -65,6 +69,20 @@ public class SetmealController {
         return Result.success(pageResult);
     }
 
+    /**
+     * 套餐游标分页查询
+     * @param setmealPageQueryDTO
+     * @return
+     */
+    @GetMapping("/cursorPage")
+    @ApiOperation("套餐游标分页查询")
+    public Result<CursorPageResult> cursorPage(SetmealPageQueryDTO setmealPageQueryDTO) {
+
+        log.info("套餐游标分页查询: {}", setmealPageQueryDTO);
+        CursorPageResult cursorPageResult = setmealService.cursorQuery(setmealPageQueryDTO);
+        return Result.success(cursorPageResult);
+    }
+
     /**
      * 批量删除套餐
      * @param ids
@@ -72,6 +90,7 @@ public class SetmealController {
      */
     @DeleteMapping
     @ApiOperation("批量删除套餐")
+    @CatalogChange(CatalogType.SETMEAL)
     @CacheEvict(cacheNames = "setmealCache", allEntries = true)
     public Result delete(@RequestParam List<Long> ids) {
         log.info("套餐批量删除：{}", ids);
@@ -101,6 +120,7 @@ public class SetmealController {
      */
     @PutMapping
     @ApiOperation("修改套餐")
+    @CatalogChange(CatalogType.SETMEAL)
     @CacheEvict(cacheNames = "setmealCache", allEntries = true)
     public Result update(@RequestBody SetmealDTO setmealDTO) {
         
@@ -118,6 +138,7 @@ public class SetmealController {
      */
     @PostMapping("/status/{status}")
     @ApiOperation("启售停售套餐")
+    @CatalogChange(CatalogType.SETMEAL)
     @CacheEvict(cacheNames = "setmealCache", allEntries = true)
     public Result startOrStop(@PathVariable Integer status, Long id) {
 
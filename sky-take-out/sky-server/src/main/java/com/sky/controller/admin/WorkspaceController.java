@@ -0,0 +1,67 @@
+package com.sky.controller.admin;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.sky.result.Result;
+import com.sky.service.WorkspaceService;
+import com.sky.vo.BusinessDataVO;
+import com.sky.vo.DishOverViewVO;
+import com.sky.vo.OrderOverViewVO;
+import com.sky.vo.SetmealOverViewVO;
+
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import lombok.extern.slf4j.Slf4j;
+
+@RestController
+@RequestMapping("/admin/workspace")
+@Api(tags = "工作台相关接口")
+@Slf4j
+public class WorkspaceController {
+
+    @Autowired
+    private WorkspaceService workspaceService;
+
+    /**
+     * 工作台今日数据查询
+     * @return
+     */
+    @GetMapping("/businessData")
+    @ApiOperation("工作台今日数据查询")
+    public Result<BusinessDataVO> businessData() {
+        return Result.success(workspaceService.getBusinessData());
+    }
+
+    /**
+     * 查询订单管理数据
+     * @return
+     */
+    @GetMapping("/overviewOrders")
+    @ApiOperation("查询订单管理数据")
+    public Result<OrderOverViewVO> orderOverView() {
+        return Result.success(workspaceService.getOrderOverView());
+    }
+
+    /**
+     * 查询菜品总览
+     * @return
+     */
+    @GetMapping("/overviewDishes")
+    @ApiOperation("查询菜品总览")
+    public Result<DishOverViewVO> dishOverView() {
+        return Result.success(workspaceService.getDishOverView());
+    }
+
+    /**
+     * 查询套餐总览
+     * @return
+     */
+    @GetMapping("/overviewSetmeals")
+    @ApiOperation("查询套餐总览")
+    public Result<SetmealOverViewVO> setmealOverView() {
+        return Result.success(workspaceService.getSetmealOverView());
+    }
+}
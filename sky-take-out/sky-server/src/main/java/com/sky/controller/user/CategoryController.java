@@ -1,6 +1,8 @@
 package com.sky.controller.user;
 
+import com.sky.annotation.CatalogCacheable;
 import com.sky.entity.Category;
+import com.sky.enumeration.CatalogType;
 import com.sky.result.Result;
 import com.sky.service.CategoryService;
 import io.swagger.annotations.Api;
@@ -26,6 +28,7 @@ public class CategoryController {
      */
     @GetMapping("/list")
     @ApiOperation("查询分类")
+    @CatalogCacheable(CatalogType.CATEGORY)
     public Result<List<Category>> list(Integer type) {
         List<Category> list = categoryService.list(type);
         return Result.success(list);
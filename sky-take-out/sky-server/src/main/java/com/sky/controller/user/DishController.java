@@ -1,7 +1,10 @@
 package com.sky.controller.user;
 
+import com.sky.annotation.CatalogCacheable;
+import com.sky.cache.DishCache;
 import com.sky.constant.StatusConstant;
 import com.sky.entity.Dish;
+import com.sky.enumeration.CatalogType;
 import com.sky.result.Result;
 import com.sky.service.DishService;
 import com.sky.vo.DishVO;
@@ -9,7 +12,6 @@ import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -24,7 +26,7 @@ public class DishController {
     @Autowired
     private DishService dishService;
     @Autowired
-    private RedisTemplate redisTemplate;
+    private DishCache dishCache;
 
     /**
      * 根据分类id查询菜品
@@ -34,27 +36,16 @@ public class DishController {
      */
     @GetMapping("/list")
     @ApiOperation("根据分类id查询菜品")
+    @CatalogCacheable(CatalogType.DISH)
     public Result<List<DishVO>> list(Long categoryId) {
 
-        //构造redis中的key，构造规则是：dish_分类id
-        String key = "dish_" + categoryId;
-
-        //查询redis中是否存在菜品数据
-        List<DishVO> list = (List<DishVO>)redisTemplate.opsForValue().get(key);
-        if(list != null && list.size() > 0) {
-            //如果存在，则直接返回，不需要查询数据库
-            return Result.success(list);
-        }
-
-        //如果不存在，查询数据库，再将查询到的数据放入redis中
-
-        Dish dish = new Dish();
-        dish.setCategoryId(categoryId);
-        dish.setStatus(StatusConstant.ENABLE);//查询起售中的菜品
-
-        list = dishService.listWithFlavor(dish);
-        //将list放入redis中
-        redisTemplate.opsForValue().set(key, list);
+        //先查本地缓存，再查redis，都不存在时查询数据库
+        List<DishVO> list = dishCache.get(categoryId, () -> {
+            Dish dish = new Dish();
+            dish.setCategoryId(categoryId);
+            dish.setStatus(StatusConstant.ENABLE);//查询起售中的菜品
+            return dishService.listWithFlavor(dish);
+        });
 
         return Result.success(list);
     }
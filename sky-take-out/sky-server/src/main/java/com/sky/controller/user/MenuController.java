@@ -0,0 +1,104 @@
+package com.sky.controller.user;
+
+import com.sky.cache.MenuSnapshotCache;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/user/menu")
+@Slf4j
+@Api(tags = "C端-菜单快照接口")
+public class MenuController {
+
+    //gzip响应的ETag后缀
+    private static final String GZIP_ETAG_SUFFIX = "-gz";
+
+    @Autowired
+    private MenuSnapshotCache menuSnapshotCache;
+
+    /**
+     * 一次返回全部分类、起售中的菜品和套餐
+     * 菜单没有变化时返回304，否则直接写出预先序列化、压缩好的快照
+     *
+     * @param request
+     * @param response
+     */
+    @GetMapping("/snapshot")
+    @ApiOperation("查询菜单快照")
+    public void snapshot(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        //压缩和未压缩的响应内容不同，使用不同的ETag
+        boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String suffix = gzip ? GZIP_ETAG_SUFFIX : "";
+
+        //先用版本号比较，客户端已有最新菜单时不需要构建快照
+        ServletWebRequest webRequest = new ServletWebRequest(request, response);
+        if (webRequest.checkNotModified(menuSnapshotCache.currentETag() + suffix, menuSnapshotCache.lastModified())) {
+            return;
+        }
+
+        MenuSnapshotCache.Snapshot snapshot = menuSnapshotCache.get();
+        response.setHeader(HttpHeaders.ETAG, "\"" + snapshot.getEtag() + suffix + "\"");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+
+        byte[] body;
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            body = snapshot.getGzip();
+        } else {
+            body = snapshot.getJson();
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * 客户端是否接受gzip编码，q=0表示不接受，gzip未列出时按*的q值判断
+     * @param acceptEncoding
+     * @return
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double anyQuality = null;
+        for (String item : acceptEncoding.split(",")) {
+            String[] parts = item.split(";");
+            String coding = parts[0].trim().toLowerCase();
+            double quality = 1;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.startsWith("q=") || param.startsWith("Q=")) {
+                    try {
+                        quality = Double.parseDouble(param.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            if ("gzip".equals(coding) || "x-gzip".equals(coding)) {
+                gzipQuality = gzipQuality == null ? quality : Math.max(gzipQuality, quality);
+            } else if ("*".equals(coding)) {
+                anyQuality = quality;
+            }
+        }
+        Double quality = gzipQuality != null ? gzipQuality : anyQuality;
+        return quality != null && quality > 0;
+    }
+}
@@ -6,12 +6,14 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.sky.dto.OrdersPageQueryDTO;
 import com.sky.dto.OrdersPaymentDTO;
 import com.sky.dto.OrdersSubmitDTO;
+import com.sky.result.CursorPageResult;
 import com.sky.result.PageResult;
 import com.sky.result.Result;
 import com.sky.service.OrderService;
@@ -35,14 +37,16 @@ public class OrderController {
     /**
      * 用户下单
      * @param ordersSubmitDTO
+     * @param idempotencyKey 幂等令牌，客户端重试下单时携带同一个令牌
      * @return
      */
     @PostMapping("/submit")
     @ApiOperation("用户下单")
-    public Result<OrderSubmitVO> submit(@RequestBody OrdersSubmitDTO ordersSubmitDTO) {
+    public Result<OrderSubmitVO> submit(@RequestBody OrdersSubmitDTO ordersSubmitDTO,
+                                        @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
 
-        log.info("用户下单：{}", ordersSubmitDTO);
-        OrderSubmitVO orderSubmitVO = orderService.submitOrder(ordersSubmitDTO);
+        log.info("用户下单：{}，幂等令牌：{}", ordersSubmitDTO, idempotencyKey);
+        OrderSubmitVO orderSubmitVO = orderService.submitOrder(ordersSubmitDTO, idempotencyKey);
 
         return Result.success(orderSubmitVO);
     }
@@ -79,6 +83,21 @@ public class OrderController {
         return Result.success(pageResult);
     } 
 
+    /**
+     * 历史订单游标分页查询
+     * @param ordersPageQueryDTO cursor为上一页返回的游标，status为订单状态
+     * @return
+     */
+    @GetMapping("/historyOrders/cursorPage")
+    @ApiOperation("历史订单游标分页查询")
+    public Result<CursorPageResult> cursorPage(OrdersPageQueryDTO ordersPageQueryDTO) {
+
+        log.info("历史订单游标分页查询：{}", ordersPageQueryDTO);
+        CursorPageResult cursorPageResult = orderService.cursorQueryByUser(ordersPageQueryDTO);
+
+        return Result.success(cursorPageResult);
+    }
+
     @GetMapping("/orderDetail/{id}")
     @ApiOperation("查询订单详细")
     public Result<OrderVO> details(@PathVariable Long id) {
@@ -121,4 +140,16 @@ public class OrderController {
         return Result.success();
     }
 
+    /**
+     * 客户催单
+     * @param id
+     * @return
+     */
+    @GetMapping("/reminder/{id}")
+    @ApiOperation("客户催单")
+    public Result reminder(@PathVariable Long id) {
+        log.info("客户催单：{}", id);
+        orderService.reminder(id);
+        return Result.success();
+    }
 }
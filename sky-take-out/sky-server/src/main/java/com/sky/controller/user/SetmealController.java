@@ -1,7 +1,9 @@
 package com.sky.controller.user;
 
+import com.sky.annotation.CatalogCacheable;
 import com.sky.constant.StatusConstant;
 import com.sky.entity.Setmeal;
+import com.sky.enumeration.CatalogType;
 import com.sky.result.Result;
 import com.sky.service.SetmealService;
 import com.sky.vo.DishItemVO;
@@ -30,6 +32,7 @@ public class SetmealController {
      */
     @GetMapping("/list")
     @ApiOperation("根据分类id查询套餐")
+    @CatalogCacheable(CatalogType.SETMEAL)
     @Cacheable(cacheNames = "setmealCache", key = "#categoryId") //key : setmealCache::100
     public Result<List<Setmeal>> list(Long categoryId) {
         Setmeal setmeal = new Setmeal();
@@ -48,6 +51,7 @@ public class SetmealController {
      */
     @GetMapping("/dish/{id}")
     @ApiOperation("根据套餐id查询包含的菜品列表")
+    @CatalogCacheable({CatalogType.SETMEAL, CatalogType.DISH})
     public Result<List<DishItemVO>> dishList(@PathVariable("id") Long id) {
         List<DishItemVO> list = setmealService.getDishItemById(id);
         return Result.success(list);
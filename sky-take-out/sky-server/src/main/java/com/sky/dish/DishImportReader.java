@@ -0,0 +1,181 @@
+package com.sky.dish;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+
+import com.alibaba.fastjson.JSON;
+import com.sky.constant.MessageConstant;
+import com.sky.dto.DishDTO;
+import com.sky.entity.DishFlavor;
+import com.sky.exception.DishBusinessException;
+
+/**
+ * 解析批量导入的菜品文件，支持xlsx和csv
+ * 第一行为表头，列顺序：菜品id、菜品名称、分类id、价格、图片、描述、状态、口味
+ * 菜品id为空时新增菜品，否则修改菜品；口味为json数组，例如[{"name":"辣度","value":"[\"不辣\",\"微辣\"]"}]
+ * 修改菜品时口味列为空表示不修改口味，填写[]表示清空口味
+ */
+public class DishImportReader {
+
+    private static final int COLUMN_COUNT = 8;
+
+    /**
+     * 根据文件名后缀解析菜品文件
+     * @param filename
+     * @param in
+     * @return
+     */
+    public static List<DishDTO> read(String filename, InputStream in) throws IOException {
+        String name = filename == null ? "" : filename.toLowerCase();
+        if (name.endsWith(".csv")) {
+            return readCsv(in);
+        }
+        if (name.endsWith(".xlsx") || name.endsWith(".xls")) {
+            return readExcel(in);
+        }
+        throw new DishBusinessException(MessageConstant.DISH_IMPORT_INVALID + "：仅支持xlsx和csv文件");
+    }
+
+    private static List<DishDTO> readExcel(InputStream in) throws IOException {
+        List<DishDTO> list = new ArrayList<>();
+        DataFormatter formatter = new DataFormatter();
+        try (Workbook workbook = WorkbookFactory.create(in)) {
+            Sheet sheet = workbook.getSheetAt(0);
+            //跳过表头
+            for (int i = 1; i <= sheet.getLastRowNum(); i++) {
+                Row row = sheet.getRow(i);
+                if (row == null) {
+                    continue;
+                }
+                String[] cells = new String[COLUMN_COUNT];
+                for (int j = 0; j < COLUMN_COUNT; j++) {
+                    cells[j] = formatter.formatCellValue(row.getCell(j)).trim();
+                }
+                addRow(list, cells, i + 1);
+            }
+        } catch (InvalidFormatException e) {
+            throw new DishBusinessException(MessageConstant.DISH_IMPORT_INVALID + "：" + e.getMessage());
+        }
+        return list;
+    }
+
+    private static List<DishDTO> readCsv(InputStream in) throws IOException {
+        List<DishDTO> list = new ArrayList<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        //跳过表头
+        String line = reader.readLine();
+        int rowNumber = 1;
+        while ((line = reader.readLine()) != null) {
+            rowNumber++;
+            StringBuilder record = new StringBuilder(line);
+            //引号中的字段可以包含换行，读到引号配对为止
+            while (quoteCount(record) % 2 != 0) {
+                String next = reader.readLine();
+                if (next == null) {
+                    throw new DishBusinessException(MessageConstant.DISH_IMPORT_INVALID + "：第" + rowNumber + "行引号不匹配");
+                }
+                record.append('\n').append(next);
+            }
+            addRow(list, splitCsv(record.toString()), rowNumber);
+        }
+        return list;
+    }
+
+    private static int quoteCount(CharSequence s) {
+        int count = 0;
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) == '"') {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 按RFC 4180拆分一行csv，引号中的逗号不拆分，两个连续的引号表示一个引号
+     */
+    private static String[] splitCsv(String record) {
+        String[] cells = new String[COLUMN_COUNT];
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+        int column = 0;
+        for (int i = 0; i < record.length(); i++) {
+            char c = record.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < record.length() && record.charAt(i + 1) == '"') {
+                    cell.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    cell.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                if (column < COLUMN_COUNT) {
+                    cells[column] = cell.toString().trim();
+                }
+                column++;
+                cell.setLength(0);
+            } else {
+                cell.append(c);
+            }
+        }
+        if (column < COLUMN_COUNT) {
+            cells[column] = cell.toString().trim();
+        }
+        for (int i = 0; i < COLUMN_COUNT; i++) {
+            if (cells[i] == null) {
+                cells[i] = "";
+            }
+        }
+        return cells;
+    }
+
+    private static void addRow(List<DishDTO> list, String[] cells, int rowNumber) {
+        //跳过空行
+        boolean blank = true;
+        for (String cell : cells) {
+            if (!cell.isEmpty()) {
+                blank = false;
+                break;
+            }
+        }
+        if (blank) {
+            return;
+        }
+
+        try {
+            DishDTO dishDTO = new DishDTO();
+            dishDTO.setId(cells[0].isEmpty() ? null : Long.valueOf(cells[0]));
+            dishDTO.setName(emptyToNull(cells[1]));
+            dishDTO.setCategoryId(cells[2].isEmpty() ? null : Long.valueOf(cells[2]));
+            dishDTO.setPrice(cells[3].isEmpty() ? null : new BigDecimal(cells[3]));
+            dishDTO.setImage(emptyToNull(cells[4]));
+            dishDTO.setDescription(emptyToNull(cells[5]));
+            dishDTO.setStatus(cells[6].isEmpty() ? null : Integer.valueOf(cells[6]));
+            dishDTO.setFlavors(cells[7].isEmpty() ? null : JSON.parseArray(cells[7], DishFlavor.class));
+            list.add(dishDTO);
+        } catch (RuntimeException e) {
+            throw new DishBusinessException(MessageConstant.DISH_IMPORT_INVALID + "：第" + rowNumber + "行格式错误");
+        }
+    }
+
+    private static String emptyToNull(String s) {
+        return s.isEmpty() ? null : s;
+    }
+}
@@ -0,0 +1,62 @@
+package com.sky.interceptor;
+
+import com.sky.annotation.CatalogCacheable;
+import com.sky.cache.CatalogVersion;
+import com.sky.properties.CatalogProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * 菜单查询接口的条件请求拦截器
+ * 只根据本地保存的菜单版本号判断数据是否变化，返回304时不会访问redis和数据库
+ */
+@Component
+@Slf4j
+public class CatalogCacheInterceptor implements HandlerInterceptor {
+
+    @Autowired
+    private CatalogVersion catalogVersion;
+    @Autowired
+    private CatalogProperties catalogProperties;
+
+    /**
+     * 设置ETag、Last-Modified和Cache-Control，请求中的If-None-Match或If-Modified-Since匹配时返回304
+     *
+     * @param request
+     * @param response
+     * @param handler
+     * @return
+     * @throws Exception
+     */
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        if (!(handler instanceof HandlerMethod)) {
+            return true;
+        }
+        CatalogCacheable catalogCacheable = ((HandlerMethod) handler).getMethodAnnotation(CatalogCacheable.class);
+        if (catalogCacheable == null) {
+            return true;
+        }
+
+        //先确定版本号再执行查询，查询期间菜单变化时下一次请求的ETag会不同
+        String etag = catalogVersion.etag(catalogCacheable.value());
+        long lastModified = catalogVersion.lastModified(catalogCacheable.value());
+
+        //菜单数据与用户无关，允许nginx等共享缓存保存，过期后带上ETag重新校验
+        response.setHeader(HttpHeaders.CACHE_CONTROL,
+                "public, max-age=" + catalogProperties.getMaxAgeSeconds() + ", must-revalidate");
+
+        ServletWebRequest webRequest = new ServletWebRequest(request, response);
+        if (webRequest.checkNotModified(etag, lastModified)) {
+            log.debug("菜单数据未变化：{} {}", request.getRequestURI(), etag);
+            return false;
+        }
+        return true;
+    }
+}
@@ -1,16 +1,15 @@
 package com.sky.interceptor;
 
-import com.aliyun.oss.model.Style;
+import com.sky.cache.JwtTokenCache;
 import com.sky.constant.JwtClaimsConstant;
 import com.sky.context.BaseContext;
 import com.sky.properties.JwtProperties;
-import com.sky.utils.JwtUtil;
-import io.jsonwebtoken.Claims;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import org.springframework.web.method.HandlerMethod;
-import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import javax.annotation.PostConstruct;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
@@ -19,11 +18,22 @@ import javax.servlet.http.HttpServletResponse;
  */
 @Component
 @Slf4j
-public class JwtTokenAdminInterceptor implements HandlerInterceptor {
+public class JwtTokenAdminInterceptor implements AsyncHandlerInterceptor {
 
     @Autowired
     private JwtProperties jwtProperties;
 
+    private JwtTokenCache jwtTokenCache;
+
+    /**
+     * 预先构造签名秘钥和已校验令牌缓存
+     */
+    @PostConstruct
+    public void init() {
+        jwtTokenCache = new JwtTokenCache(jwtProperties.getAdminSecretKey(), JwtClaimsConstant.EMP_ID,
+                jwtProperties.getVerifiedCacheSize());
+    }
+
     /**
      * 校验jwt
      *
@@ -34,8 +44,6 @@ public class JwtTokenAdminInterceptor implements HandlerInterceptor {
      * @throws Exception
      */
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
-        
-        System.out.println("当前线程的id:" + Thread.currentThread().getId());
 
         //判断当前拦截到的是Controller的方法还是其他资源
         if (!(handler instanceof HandlerMethod)) {
@@ -48,10 +56,8 @@ public class JwtTokenAdminInterceptor implements HandlerInterceptor {
 
         //2、校验令牌
         try {
-            log.info("jwt校验:{}", token);
-            Claims claims = JwtUtil.parseJWT(jwtProperties.getAdminSecretKey(), token);
-            Long empId = Long.valueOf(claims.get(JwtClaimsConstant.EMP_ID).toString());
-            log.info("当前员工id: {}", empId);
+            Long empId = jwtTokenCache.verify(token);
+            log.debug("当前员工id: {}", empId);
             BaseContext.setCurrentId(empId);
             //3、通过，放行
             return true;
@@ -61,4 +67,27 @@ public class JwtTokenAdminInterceptor implements HandlerInterceptor {
             return false;
         }
     }
+
+    /**
+     * 请求结束后清理当前id，避免线程被下一个请求复用时读取到上一个请求的id
+     *
+     * @param request
+     * @param response
+     * @param handler
+     * @param ex
+     */
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        BaseContext.removeCurrentId();
+    }
+
+    /**
+     * 异步请求释放当前线程时清理当前id，异步任务需要通过BaseContext.wrap系列方法传递id
+     *
+     * @param request
+     * @param response
+     * @param handler
+     */
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        BaseContext.removeCurrentId();
+    }
 }
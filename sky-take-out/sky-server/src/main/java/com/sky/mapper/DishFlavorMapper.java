@@ -38,5 +38,23 @@ public interface DishFlavorMapper {
      */
     void deleteBydishIds(List<Long> dishIds);
 
-    
+    /**
+     * 根据菜品id集合批量查询对应的口味数据
+     * @param dishIds
+     * @return
+     */
+    List<DishFlavor> getByDishIds(List<Long> dishIds);
+
+    /**
+     * 根据口味id集合批量删除口味数据
+     * @param ids
+     */
+    void deleteByIds(List<Long> ids);
+
+    /**
+     * 根据口味id批量修改口味数据
+     * @param flavors
+     */
+    void updateBatch(List<DishFlavor> flavors);
+
 }
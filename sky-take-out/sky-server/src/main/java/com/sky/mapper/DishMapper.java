@@ -11,6 +11,7 @@ import com.sky.annotation.AutoFill;
 import com.sky.dto.DishPageQueryDTO;
 import com.sky.entity.Dish;
 import com.sky.enumeration.OperationType;
+import com.sky.result.PageCursor;
 import com.sky.vo.DishVO;
 
 @Mapper
@@ -31,6 +32,13 @@ public interface DishMapper {
     @AutoFill(OperationType.INSERT)
     void insert(Dish dish);
 
+    /**
+     * 多行insert批量插入菜品数据，回填生成的id
+     * @param dishes
+     */
+    @AutoFill(OperationType.INSERT)
+    void insertBatch(List<Dish> dishes);
+
     /**
      * 菜品分页查询
      * @param dishPageQueryDTO
@@ -38,6 +46,15 @@ public interface DishMapper {
      */
     Page<DishVO> pageQuery(DishPageQueryDTO dishPageQueryDTO);
 
+    /**
+     * 菜品游标分页查询，按(create_time, id)倒序
+     * @param dishPageQueryDTO
+     * @param cursor 上一页最后一条记录的游标，为null时查询第一页
+     * @param limit
+     * @return
+     */
+    List<DishVO> cursorQuery(DishPageQueryDTO dishPageQueryDTO, PageCursor cursor, int limit);
+
     /**
      * 根据Id查询菜品数据
      * @param id
@@ -59,6 +76,14 @@ public interface DishMapper {
      */
     void deleteByIds(List<Long> ids);
 
+    /**
+     * 统计id集合中指定状态的菜品数量
+     * @param ids
+     * @param status
+     * @return
+     */
+    Integer countByIdsAndStatus(List<Long> ids, Integer status);
+
     /**
      * 根据主键动态修改属性
      * @param dish
@@ -66,6 +91,20 @@ public interface DishMapper {
     @AutoFill(OperationType.UPDATE)
     void update(Dish dish);
 
+    /**
+     * 一条update语句批量修改菜品，为null的属性保持不变
+     * @param dishes
+     */
+    @AutoFill(OperationType.UPDATE)
+    void updateBatch(List<Dish> dishes);
+
+    /**
+     * 根据id集合查询菜品数据
+     * @param ids
+     * @return
+     */
+    List<Dish> getByIds(List<Long> ids);
+
     /**
      * 动态查询菜品集合
      * @param dish
@@ -81,4 +120,11 @@ public interface DishMapper {
     @Select("select a.* from dish a left join setmeal_dish b on a.id = b.dish_id where b.setmeal_id = #{setmealId}")
     List<Dish> getBysetmealId(Long setmealId);
 
+    /**
+     * 根据状态统计菜品数量
+     * @param status
+     * @return
+     */
+    @Select("select count(id) from dish where status = #{status}")
+    Integer countByStatus(Integer status);
 }
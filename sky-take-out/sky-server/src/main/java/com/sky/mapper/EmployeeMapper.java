@@ -5,9 +5,12 @@ import com.sky.annotation.AutoFill;
 import com.sky.dto.EmployeePageQueryDTO;
 import com.sky.entity.Employee;
 import com.sky.enumeration.OperationType;
+import com.sky.result.PageCursor;
 
 import nonapi.io.github.classgraph.utils.VersionFinder.OperatingSystem;
 
+import java.util.List;
+
 import org.apache.ibatis.annotations.Insert;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Select;
@@ -40,6 +43,15 @@ public interface EmployeeMapper {
      */
     Page<Employee> pageQuery(EmployeePageQueryDTO enEmployeePageQueryDTO);
 
+    /**
+     * 游标分页查询，按(create_time, id)倒序
+     * @param employeePageQueryDTO
+     * @param cursor 上一页最后一条记录的游标，为null时查询第一页
+     * @param limit
+     * @return
+     */
+    List<Employee> cursorQuery(EmployeePageQueryDTO employeePageQueryDTO, PageCursor cursor, int limit);
+
     /**
      * 根据主键动态修改属性
      * @param employee
@@ -1,14 +1,17 @@
 package com.sky.mapper;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 import org.apache.ibatis.annotations.Select;
-import org.apache.ibatis.annotations.Update;
 
 import com.github.pagehelper.Page;
+import com.sky.dto.OrderStatusCountDTO;
 import com.sky.dto.OrdersPageQueryDTO;
 import com.sky.entity.Orders;
+import com.sky.result.PageCursor;
 
 @Mapper
 public interface OrderMapper {
@@ -33,14 +36,30 @@ public interface OrderMapper {
     void update(Orders orders);
 
     /**
-     * 用于替换微信支付更新数据库状态的问题
-     * @param orderStatus
-     * @param orderPaidStatus
-     * @param check_out_time
-     * @param orderid
+     * 订单处于指定状态时修改订单信息，用于订单状态变化的条件更新
+     * @param orders
+     * @param fromStatus 订单当前应处于的状态
+     * @return 修改的行数，订单状态已变化时为0
+     */
+    int updateWithStatus(Orders orders, Integer fromStatus);
+
+    /**
+     * 订单处于指定状态时批量修改订单信息
+     * @param orders 需要修改的字段
+     * @param ids
+     * @param fromStatus 订单当前应处于的状态
+     * @return 修改的行数
+     */
+    int updateWithStatusByIds(Orders orders, List<Long> ids, Integer fromStatus);
+
+    /**
+     * 查询下单时间早于指定时间的某状态订单并锁定，按下单时间排序，使用(status, order_time)索引
+     * @param status
+     * @param before
+     * @param limit
+     * @return
      */
-    @Update("update orders set status = #{orderStatus},pay_status = #{orderPaidStatus} ,checkout_time = #{check_out_time} where id = #{id}")
-    void updateStatus(Integer orderStatus, Integer orderPaidStatus, LocalDateTime check_out_time, Long id);
+    List<Orders> listByStatusForUpdate(Integer status, LocalDateTime before, int limit);
 
     /**
      * 订单数据分页查询
@@ -49,6 +68,32 @@ public interface OrderMapper {
      */
     Page<Orders> pageQuery(OrdersPageQueryDTO ordersPageQueryDTO);
 
+    /**
+     * 管理端订单搜索的总记录数，与conditionSearch共用查询条件，参数名需要一致
+     * @param query 订单号和手机号是已经转义的前缀
+     * @return
+     */
+    long countConditionSearch(@Param("query") OrdersPageQueryDTO query);
+
+    /**
+     * 管理端订单搜索，订单号和手机号按前缀匹配，先在索引中分页出订单id，再查询订单列表需要的字段
+     * @param query 订单号和手机号是已经转义的前缀
+     * @param offset
+     * @param limit
+     * @return
+     */
+    List<Orders> conditionSearch(@Param("query") OrdersPageQueryDTO query, @Param("offset") int offset,
+                                 @Param("limit") int limit);
+
+    /**
+     * 订单数据游标分页查询，按(order_time, id)倒序
+     * @param ordersPageQueryDTO
+     * @param cursor 上一页最后一条记录的游标，为null时查询第一页
+     * @param limit
+     * @return
+     */
+    List<Orders> cursorQuery(OrdersPageQueryDTO ordersPageQueryDTO, PageCursor cursor, int limit);
+
     /**
      * 根据订单id查询订单数据
      * @param id
@@ -56,4 +101,21 @@ public interface OrderMapper {
      */
     @Select("select * from orders where id = #{id}")
     Orders getById(Long id);
+
+    /**
+     * 按状态统计下单时间在指定范围内的订单数量和金额
+     * @param begin
+     * @param end
+     * @return
+     */
+    @Select("select status, count(id) count, ifnull(sum(amount), 0) amount from orders " +
+            "where order_time >= #{begin} and order_time < #{end} group by status")
+    List<OrderStatusCountDTO> countByStatus(LocalDateTime begin, LocalDateTime end);
+
+    /**
+     * 统计指定状态的订单数量，只在(status, order_time)索引中扫描这些状态的范围
+     * @param statuses
+     * @return
+     */
+    List<OrderStatusCountDTO> countByStatuses(@Param("statuses") List<Integer> statuses);
 }
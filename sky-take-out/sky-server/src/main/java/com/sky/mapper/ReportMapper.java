@@ -0,0 +1,131 @@
+package com.sky.mapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.apache.ibatis.annotations.Delete;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Options;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.cursor.Cursor;
+
+import com.sky.dto.GoodsSalesDTO;
+import com.sky.entity.DailyBusinessStat;
+import com.sky.entity.OrderDetail;
+
+/**
+ * 报表日汇总表
+ */
+@Mapper
+public interface ReportMapper {
+
+    /**
+     * 累加某天的订单总数
+     * @param statDate
+     */
+    @Insert("insert into daily_business_stat (stat_date, total_order_count) values (#{statDate}, 1) " +
+            "on duplicate key update total_order_count = total_order_count + 1")
+    void addOrderCount(LocalDate statDate);
+
+    /**
+     * 累加某天的营业额和有效订单数
+     * @param statDate
+     * @param turnover
+     * @param validOrderCount
+     */
+    @Insert("insert into daily_business_stat (stat_date, turnover, valid_order_count) " +
+            "values (#{statDate}, #{turnover}, #{validOrderCount}) " +
+            "on duplicate key update turnover = turnover + values(turnover), " +
+            "valid_order_count = valid_order_count + values(valid_order_count)")
+    void addTurnover(LocalDate statDate, BigDecimal turnover, int validOrderCount);
+
+    /**
+     * 累加某天的新增用户数
+     * @param statDate
+     */
+    @Insert("insert into daily_business_stat (stat_date, new_user_count) values (#{statDate}, 1) " +
+            "on duplicate key update new_user_count = new_user_count + 1")
+    void addNewUser(LocalDate statDate);
+
+    /**
+     * 累加某天的商品销量
+     * @param statDate
+     * @param orderDetailList
+     */
+    void addDishSales(LocalDate statDate, List<OrderDetail> orderDetailList);
+
+    /**
+     * 查询日期范围内的营业数据，没有数据的日期不返回
+     * @param begin
+     * @param end
+     * @return
+     */
+    @Select("select * from daily_business_stat where stat_date between #{begin} and #{end} order by stat_date")
+    List<DailyBusinessStat> listByDate(LocalDate begin, LocalDate end);
+
+    /**
+     * 流式读取日期范围内的营业数据，需要在事务中遍历
+     * @param begin
+     * @param end
+     * @return
+     */
+    @Select("select * from daily_business_stat where stat_date between #{begin} and #{end} order by stat_date")
+    @Options(fetchSize = Integer.MIN_VALUE)
+    Cursor<DailyBusinessStat> cursorByDate(LocalDate begin, LocalDate end);
+
+    /**
+     * 汇总日期范围内的营业数据
+     * @param begin
+     * @param end
+     * @return
+     */
+    @Select("select ifnull(sum(turnover), 0) turnover, ifnull(sum(valid_order_count), 0) valid_order_count, " +
+            "ifnull(sum(total_order_count), 0) total_order_count, ifnull(sum(new_user_count), 0) new_user_count " +
+            "from daily_business_stat where stat_date between #{begin} and #{end}")
+    DailyBusinessStat sumByDate(LocalDate begin, LocalDate end);
+
+    /**
+     * 查询日期范围内销量排名前limit的商品
+     * @param begin
+     * @param end
+     * @param limit
+     * @return
+     */
+    @Select("select name, sum(number) number from daily_dish_sales where stat_date between #{begin} and #{end} " +
+            "group by name order by number desc limit #{limit}")
+    List<GoodsSalesDTO> salesTop(LocalDate begin, LocalDate end, int limit);
+
+    /**
+     * 删除日期范围内的营业数据
+     * @param begin
+     * @param end
+     */
+    @Delete("delete from daily_business_stat where stat_date between #{begin} and #{end}")
+    void deleteBusinessStat(LocalDate begin, LocalDate end);
+
+    /**
+     * 删除日期范围内的商品销量
+     * @param begin
+     * @param end
+     */
+    @Delete("delete from daily_dish_sales where stat_date between #{begin} and #{end}")
+    void deleteDishSales(LocalDate begin, LocalDate end);
+
+    /**
+     * 根据订单表和用户表重新汇总日期范围内的营业数据
+     * @param begin
+     * @param end
+     * @param validStatus 有效订单的状态
+     */
+    void rebuildBusinessStat(LocalDate begin, LocalDate end, Integer validStatus);
+
+    /**
+     * 根据有效订单的明细重新汇总日期范围内的商品销量
+     * @param begin
+     * @param end
+     * @param validStatus 有效订单的状态
+     */
+    void rebuildDishSales(LocalDate begin, LocalDate end, Integer validStatus);
+}
@@ -35,6 +35,12 @@ public interface SetmealDishMapper {
     @Delete("delete from setmeal_dish where setmeal_id = #{setmealId}")
     void deleteBysetmealId(Long setmealId);
 
+    /**
+     * 根据套餐id集合批量删除套餐-菜品表中的数据
+     * @param setmealIds
+     */
+    void deleteBysetmealIds(List<Long> setmealIds);
+
     /**
      * 根据setmealId查询套餐中的菜品数据集
      * @param id
@@ -42,4 +48,16 @@ public interface SetmealDishMapper {
      */
     @Select("select * from setmeal_dish where setmeal_id = #{setmealId}")
     List<SetmealDish> getBysetmealId(Long setmealId);
+
+    /**
+     * 根据id集合批量删除套餐-菜品表中的数据
+     * @param ids
+     */
+    void deleteByIds(List<Long> ids);
+
+    /**
+     * 根据id批量修改套餐中菜品的名称、价格和份数
+     * @param setmealDishs
+     */
+    void updateBatch(List<SetmealDish> setmealDishs);
 }
@@ -11,6 +11,7 @@ import com.sky.annotation.AutoFill;
 import com.sky.dto.SetmealPageQueryDTO;
 import com.sky.entity.Setmeal;
 import com.sky.enumeration.OperationType;
+import com.sky.result.PageCursor;
 import com.sky.vo.DishItemVO;
 import com.sky.vo.SetmealVO;
 
@@ -39,6 +40,15 @@ public interface SetmealMapper {
      */
     Page<SetmealVO> pageQuery(SetmealPageQueryDTO setmealPageQueryDTO);
 
+    /**
+     * 套餐游标分页查询，按(create_time, id)倒序
+     * @param setmealPageQueryDTO
+     * @param cursor 上一页最后一条记录的游标，为null时查询第一页
+     * @param limit
+     * @return
+     */
+    List<SetmealVO> cursorQuery(SetmealPageQueryDTO setmealPageQueryDTO, PageCursor cursor, int limit);
+
     /**
      * 根据id查询套餐数据
      * @param id
@@ -53,6 +63,29 @@ public interface SetmealMapper {
     @Delete("delete from setmeal where id = #{id}")
     void deleteById(Long id);
 
+    /**
+     * 根据id集合批量删除套餐数据
+     * @param ids
+     */
+    void deleteByIds(List<Long> ids);
+
+    /**
+     * 统计id集合中指定状态的套餐数量
+     * @param ids
+     * @param status
+     * @return
+     */
+    Integer countByIdsAndStatus(List<Long> ids, Integer status);
+
+    /**
+     * 一条update语句修改包含指定菜品的全部套餐的状态
+     * @param setmeal 要修改成的状态和修改人、修改时间
+     * @param dishIds
+     * @return 修改的套餐数量
+     */
+    @AutoFill(OperationType.UPDATE)
+    int updateStatusByDishIds(Setmeal setmeal, List<Long> dishIds);
+
     /**
      * 更新套餐数据
      * @param setmeal
@@ -76,4 +109,11 @@ public interface SetmealMapper {
             "where sd.setmeal_id = #{setmealId}")
     List<DishItemVO> getDishItemBySetmealId(Long setmealId);
 
+    /**
+     * 根据状态统计套餐数量
+     * @param status
+     * @return
+     */
+    @Select("select count(id) from setmeal where status = #{status}")
+    Integer countByStatus(Integer status);
 }
@@ -1,5 +1,7 @@
 package com.sky.mapper;
 
+import java.time.LocalDateTime;
+
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Select;
 
@@ -31,4 +33,21 @@ public interface UserMapper {
     @Select("select * from user where id = #{userId}")
     User getById(Long userId);
 
+    /**
+     * 统计指定时间范围内注册的用户数量
+     * @param begin
+     * @param end
+     * @return
+     */
+    @Select("select count(id) from user where create_time >= #{begin} and create_time < #{end}")
+    Integer countByCreateTime(LocalDateTime begin, LocalDateTime end);
+
+    /**
+     * 统计指定时间之前注册的用户数量
+     * @param end
+     * @return
+     */
+    @Select("select count(id) from user where create_time < #{end}")
+    Integer countBefore(LocalDateTime end);
+
 }
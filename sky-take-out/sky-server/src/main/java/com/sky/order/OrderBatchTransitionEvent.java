@@ -0,0 +1,38 @@
+package com.sky.order;
+
+import java.util.List;
+
+import org.springframework.context.ApplicationEvent;
+
+import com.sky.entity.Orders;
+
+/**
+ * 批量订单状态变化事件，在批量修改的事务中同步发布，每个订单的OrderTransitionEvent发布之后发布
+ * 需要查询数据库或写入汇总数据的监听者在这里一次处理整批订单
+ */
+public class OrderBatchTransitionEvent extends ApplicationEvent {
+
+    private final OrderTransition transition;
+
+    /**
+     * @param ordersList 变化前的订单
+     * @param transition
+     */
+    public OrderBatchTransitionEvent(List<Orders> ordersList, OrderTransition transition) {
+        super(ordersList);
+        this.transition = transition;
+    }
+
+    /**
+     * 变化前的订单
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    public List<Orders> getOrdersList() {
+        return (List<Orders>) getSource();
+    }
+
+    public OrderTransition getTransition() {
+        return transition;
+    }
+}
@@ -0,0 +1,108 @@
+package com.sky.order;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import com.sky.constant.MessageConstant;
+import com.sky.entity.Orders;
+import com.sky.exception.OrderBusinessException;
+import com.sky.mapper.OrderMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 订单状态机
+ * 状态变化使用 update ... where id = ? and status = ? 条件更新，不需要锁定订单行
+ * 并发的状态变化只有一个能成功，其余的更新0行并按状态错误处理
+ */
+@Component
+@Slf4j
+public class OrderStateMachine {
+
+    @Autowired
+    private OrderMapper orderMapper;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 修改订单状态，订单状态不允许或已经被并发修改时抛出异常
+     * @param ordersDB 数据库中查询出的订单
+     * @param transition
+     * @param changes 需要同时修改的其他字段，可以为空
+     */
+    public void transition(Orders ordersDB, OrderTransition transition, Orders changes) {
+        if (!tryTransition(ordersDB, transition, changes)) {
+            throw new OrderBusinessException(MessageConstant.ORDER_STATUS_ERROR);
+        }
+    }
+
+    /**
+     * 尝试修改订单状态
+     * @param ordersDB 数据库中查询出的订单
+     * @param transition
+     * @param changes 需要同时修改的其他字段，可以为空
+     * @return 订单状态不允许或已经被并发修改时返回false
+     */
+    public boolean tryTransition(Orders ordersDB, OrderTransition transition, Orders changes) {
+        if (ordersDB == null) {
+            throw new OrderBusinessException(MessageConstant.ORDER_NOT_FOUND);
+        }
+        Integer fromStatus = ordersDB.getStatus();
+        if (!transition.allows(fromStatus)) {
+            return false;
+        }
+
+        Orders orders = changes == null ? new Orders() : changes;
+        orders.setId(ordersDB.getId());
+        orders.setStatus(transition.getToStatus());
+        if (orderMapper.updateWithStatus(orders, fromStatus) == 0) {
+            log.info("订单状态已被修改，订单：{}，{}失败", ordersDB.getId(), transition);
+            return false;
+        }
+
+        eventPublisher.publishEvent(new OrderTransitionEvent(ordersDB, transition));
+        return true;
+    }
+
+    /**
+     * 用一条语句批量修改订单状态，订单必须已经在当前事务中锁定(select ... for update)
+     * 任意一个订单状态不一致时抛出异常，回滚整批修改
+     * 每个订单发布一个OrderTransitionEvent，最后发布一个OrderBatchTransitionEvent
+     * @param ordersList 数据库中查询并锁定的订单
+     * @param transition
+     * @param changes 需要同时修改的其他字段，可以为空
+     * @return 修改的订单数
+     */
+    public int transitionAll(List<Orders> ordersList, OrderTransition transition, Orders changes) {
+        if (ordersList.isEmpty()) {
+            return 0;
+        }
+        Map<Integer, List<Orders>> byStatus = ordersList.stream()
+                .collect(Collectors.groupingBy(Orders::getStatus));
+
+        int count = 0;
+        for (Map.Entry<Integer, List<Orders>> entry : byStatus.entrySet()) {
+            if (!transition.allows(entry.getKey())) {
+                throw new OrderBusinessException(MessageConstant.ORDER_STATUS_ERROR);
+            }
+            Orders orders = changes == null ? new Orders() : changes;
+            orders.setStatus(transition.getToStatus());
+            List<Long> ids = entry.getValue().stream().map(Orders::getId).collect(Collectors.toList());
+            if (orderMapper.updateWithStatusByIds(orders, ids, entry.getKey()) != ids.size()) {
+                throw new OrderBusinessException(MessageConstant.ORDER_STATUS_ERROR);
+            }
+            count += ids.size();
+        }
+
+        for (Orders ordersDB : ordersList) {
+            eventPublisher.publishEvent(new OrderTransitionEvent(ordersDB, transition, true));
+        }
+        eventPublisher.publishEvent(new OrderBatchTransitionEvent(ordersList, transition));
+        return count;
+    }
+}
@@ -0,0 +1,184 @@
+package com.sky.order;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.sky.dto.OrderStatusCountDTO;
+import com.sky.entity.Orders;
+import com.sky.mapper.OrderMapper;
+import com.sky.properties.OrderStatisticsProperties;
+import com.sky.vo.OrderStatisticsVO;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 各状态订单数量计数器，保存在redis hash中，字段是订单状态
+ * 只统计工作台需要的待接单、待派送、派送中三个状态，已完成、已取消的历史订单不计数，对账只扫描这三个状态的订单
+ * 下单和订单状态变化在事务提交后用脚本原子地修改计数器，定时与数据库对账
+ */
+@Component
+@Slf4j
+public class OrderStatusCounter {
+
+    //计数器的redis hash
+    public static final String KEY = "order_status_count";
+    //对账租约，同一周期内只有一个节点对账
+    private static final String RECONCILE_LEASE_KEY = "order_status_count_reconcile";
+
+    //计数的订单状态，数据库中没有的状态计数为0
+    private static final List<Integer> STATUSES = Arrays.asList(Orders.TO_BE_CONFIRMED, Orders.CONFIRMED,
+            Orders.DELIVERY_IN_PROGRESS);
+
+    /**
+     * 原状态减1、新状态加1，ARGV[1]为空时表示新下单或原状态不计数，ARGV[2]为空时表示新状态不计数
+     * 计数器不存在时不修改，查询时从数据库重建，避免只有部分状态的计数器被当作完整数据
+     */
+    private static final DefaultRedisScript<Long> CHANGE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then " +
+            "  return nil " +
+            "end " +
+            "if ARGV[1] ~= '' then " +
+            "  redis.call('HINCRBY', KEYS[1], ARGV[1], -1) " +
+            "end " +
+            "if ARGV[2] ~= '' then " +
+            "  redis.call('HINCRBY', KEYS[1], ARGV[2], 1) " +
+            "end " +
+            "return 1", Long.class);
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+    @Autowired
+    private OrderMapper orderMapper;
+    @Autowired
+    private OrderStatisticsProperties orderStatisticsProperties;
+
+    //计数器不存在时同一时间只有一个请求重建，其他请求等待后读取重建的结果
+    private final Object rebuildLock = new Object();
+
+    /**
+     * 用户下单
+     * @param orders
+     */
+    public void orderSubmitted(Orders orders) {
+        change(null, orders.getStatus());
+    }
+
+    /**
+     * 订单状态变化
+     * @param event
+     */
+    @EventListener
+    public void onTransition(OrderTransitionEvent event) {
+        change(event.getFromStatus(), event.getToStatus());
+    }
+
+    /**
+     * 查询待接单、待派送、派送中的订单数量，redis中没有计数器时先从数据库重建
+     * 并发请求只重建一次，重建后仍然读取不到计数器时返回0
+     * @return
+     */
+    public OrderStatisticsVO statistics() {
+        List<Object> counts = read();
+        if (missing(counts)) {
+            synchronized (rebuildLock) {
+                counts = read();
+                if (missing(counts)) {
+                    rebuild();
+                    counts = read();
+                }
+            }
+        }
+
+        OrderStatisticsVO orderStatisticsVO = new OrderStatisticsVO();
+        orderStatisticsVO.setToBeConfirmed(toInt(counts.get(0)));
+        orderStatisticsVO.setConfirmed(toInt(counts.get(1)));
+        orderStatisticsVO.setDeliveryInProgress(toInt(counts.get(2)));
+        return orderStatisticsVO;
+    }
+
+    /**
+     * 定时与数据库对账，修正事务提交后修改计数器失败等原因造成的偏差
+     * 对账期间发生的状态变化可能被覆盖，下一次对账时修正
+     */
+    @Scheduled(initialDelayString = "${sky.order-statistics.reconcile-interval-millis:60000}",
+            fixedDelayString = "${sky.order-statistics.reconcile-interval-millis:60000}")
+    public void reconcile() {
+        Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(RECONCILE_LEASE_KEY, "",
+                orderStatisticsProperties.getReconcileIntervalMillis() / 2, TimeUnit.MILLISECONDS);
+        if (Boolean.TRUE.equals(acquired)) {
+            rebuild();
+        }
+    }
+
+    private List<Object> read() {
+        return stringRedisTemplate.opsForHash().multiGet(KEY,
+                STATUSES.stream().map(String::valueOf).collect(Collectors.toList()));
+    }
+
+    private boolean missing(List<Object> counts) {
+        return counts.stream().allMatch(c -> c == null) && !Boolean.TRUE.equals(stringRedisTemplate.hasKey(KEY));
+    }
+
+    private void rebuild() {
+        //status在(status, order_time)索引的最左列，只扫描计数状态的索引范围
+        Map<String, String> counts = new HashMap<>();
+        for (Integer status : STATUSES) {
+            counts.put(String.valueOf(status), "0");
+        }
+        for (OrderStatusCountDTO statusCount : orderMapper.countByStatuses(STATUSES)) {
+            counts.put(String.valueOf(statusCount.getStatus()), String.valueOf(statusCount.getCount()));
+        }
+
+        //只比较计数的状态，旧版本计数器中其他状态的字段不影响对账
+        List<Object> stored = read();
+        List<Object> expected = STATUSES.stream().map(s -> counts.get(String.valueOf(s))).collect(Collectors.toList());
+        if (!expected.equals(stored)) {
+            log.info("订单状态计数器对账：{} -> {}", stored, counts);
+            stringRedisTemplate.opsForHash().putAll(KEY, counts);
+        }
+    }
+
+    private void change(Integer fromStatus, Integer toStatus) {
+        String from = STATUSES.contains(fromStatus) ? String.valueOf(fromStatus) : "";
+        String to = STATUSES.contains(toStatus) ? String.valueOf(toStatus) : "";
+        if (from.isEmpty() && to.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                public void afterCommit() {
+                    execute(from, to);
+                }
+            });
+        } else {
+            execute(from, to);
+        }
+    }
+
+    private void execute(String from, String to) {
+        try {
+            stringRedisTemplate.execute(CHANGE_SCRIPT, Collections.singletonList(KEY), from, to);
+        } catch (Exception e) {
+            //修改失败由定时对账修正
+            log.error("修改订单状态计数器失败：{} -> {}", from, to, e);
+        }
+    }
+
+    private static int toInt(Object count) {
+        return count == null ? 0 : Math.max(Integer.parseInt(count.toString()), 0);
+    }
+}
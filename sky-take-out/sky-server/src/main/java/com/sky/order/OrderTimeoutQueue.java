@@ -0,0 +1,275 @@
+package com.sky.order;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.sky.entity.Orders;
+import com.sky.properties.OrderSweepProperties;
+import com.sky.properties.OrderTimeoutProperties;
+import com.sky.service.OrderService;
+import com.sky.utils.TimingWheel;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 未支付订单的超时取消队列
+ * 下单后把订单id和到期时间保存到redis有序集合，订单不再是待付款状态时删除
+ * 每个节点定时把即将到期的订单加载到本地时间轮，到期时把订单的score改为租约到期时间来领取订单，领取成功的节点负责取消订单，
+ * 取消的事务提交后才从有序集合中删除，取消前节点宕机时订单仍在有序集合中，租约到期后由任意节点补偿处理
+ * 有序集合保存在redis中，重启不会丢失
+ * 推进时间轮和加载在调度线程中执行，取消订单在单独的线程池中执行，调度线程不会被数据库操作阻塞
+ */
+@Component
+@Slf4j
+public class OrderTimeoutQueue {
+
+    //待取消订单的redis有序集合，score是到期时间(毫秒)
+    public static final String KEY = "order_payment_timeout";
+
+    /**
+     * 订单已到期时把score改为租约到期时间，返回1表示领取成功
+     * 订单已删除、未到期或已被其他节点领取时返回0
+     */
+    private static final DefaultRedisScript<Long> CLAIM_SCRIPT = new DefaultRedisScript<>(
+            "local score = redis.call('ZSCORE', KEYS[1], ARGV[1]) " +
+            "if not score or tonumber(score) > tonumber(ARGV[2]) then " +
+            "  return 0 " +
+            "end " +
+            "redis.call('ZADD', KEYS[1], ARGV[3], ARGV[1]) " +
+            "return 1", Long.class);
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private OrderSweepProperties orderSweepProperties;
+    @Autowired
+    private OrderTimeoutProperties orderTimeoutProperties;
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+            new CustomizableThreadFactory("order-timeout-"));
+    //取消到期订单的线程池
+    private ThreadPoolExecutor worker;
+
+    private TimingWheel<Long> timingWheel;
+    //已经加载到本地时间轮的到期时间上限
+    private volatile long loadedUntil = Long.MIN_VALUE;
+
+    /**
+     * 启动时间轮，并加载重启期间到期和即将到期的订单
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        int workerThreads = orderTimeoutProperties.getWorkerThreads();
+        //队列满时拒绝，订单仍在有序集合中，由补偿处理
+        worker = new ThreadPoolExecutor(workerThreads, workerThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(orderTimeoutProperties.getBatchSize()),
+                new CustomizableThreadFactory("order-timeout-worker-"), new ThreadPoolExecutor.AbortPolicy());
+        timingWheel = new TimingWheel<>(orderTimeoutProperties.getTickMillis(),
+                orderTimeoutProperties.getWheelSize(), System.currentTimeMillis());
+        long tickMillis = orderTimeoutProperties.getTickMillis();
+        long refillMillis = orderTimeoutProperties.getRefillIntervalMillis();
+        executor.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        executor.scheduleWithFixedDelay(this::refill, 0, refillMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        if (worker != null) {
+            worker.shutdownNow();
+        }
+    }
+
+    /**
+     * 用户下单后添加超时取消任务，在事务中调用时等事务提交后再添加
+     * @param orders
+     */
+    public void schedule(Orders orders) {
+        long deadline = orders.getOrderTime()
+                .plusMinutes(orderSweepProperties.getPaymentTimeoutMinutes())
+                .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        String orderId = String.valueOf(orders.getId());
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                public void afterCommit() {
+                    add(orderId, deadline);
+                }
+            });
+        } else {
+            add(orderId, deadline);
+        }
+    }
+
+    /**
+     * 订单离开待付款状态(支付成功、取消)后删除超时取消任务
+     * 本地时间轮中的任务不删除，到期时订单已不在有序集合中，领取失败就不会处理
+     * @param event
+     */
+    @EventListener
+    public void onTransition(OrderTransitionEvent event) {
+        if (!Orders.PENDING_PAYMENT.equals(event.getFromStatus())) {
+            return;
+        }
+        String orderId = String.valueOf(event.getOrders().getId());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                public void afterCommit() {
+                    remove(orderId);
+                }
+            });
+        } else {
+            remove(orderId);
+        }
+    }
+
+    private void add(String orderId, long deadline) {
+        try {
+            stringRedisTemplate.opsForZSet().add(KEY, orderId, deadline);
+        } catch (Exception e) {
+            //添加失败的订单由超时订单扫描任务取消
+            log.error("添加订单超时取消任务失败，订单：{}", orderId, e);
+            return;
+        }
+        //已经加载过的时间范围内的任务不会再从redis加载，直接放入本地时间轮
+        if (deadline <= loadedUntil) {
+            addLocal(Long.valueOf(orderId), deadline);
+        }
+    }
+
+    private void remove(String orderId) {
+        try {
+            stringRedisTemplate.opsForZSet().remove(KEY, orderId);
+        } catch (Exception e) {
+            //删除失败时订单到期后取消会因为状态不是待付款而失败
+            log.warn("删除订单超时取消任务失败，订单：{}：{}", orderId, e.getMessage());
+        }
+    }
+
+    private void addLocal(Long orderId, long deadline) {
+        boolean added;
+        synchronized (this) {
+            added = timingWheel != null && timingWheel.add(orderId, deadline);
+        }
+        if (!added) {
+            submitExpire(orderId);
+        }
+    }
+
+    /**
+     * 推进时间轮，到期的订单交给线程池取消
+     * 捕获全部异常，scheduleAtFixedRate的任务抛出异常后不会再执行
+     */
+    private void tick() {
+        try {
+            List<Long> expired = new ArrayList<>();
+            synchronized (this) {
+                timingWheel.advance(System.currentTimeMillis(), expired::add);
+            }
+            for (Long orderId : expired) {
+                submitExpire(orderId);
+            }
+        } catch (Throwable e) {
+            log.error("推进订单超时时间轮失败", e);
+        }
+    }
+
+    private void submitExpire(Long orderId) {
+        try {
+            worker.execute(() -> expire(orderId));
+        } catch (RejectedExecutionException e) {
+            //订单仍在有序集合中，到期超过加载间隔后由补偿处理
+            log.warn("取消超时订单的线程池已满，订单：{}", orderId);
+        }
+    }
+
+    /**
+     * 从redis加载即将到期的订单，并补偿处理到期后长时间未处理的订单
+     * 捕获全部异常，scheduleWithFixedDelay的任务抛出异常后不会再执行
+     */
+    private void refill() {
+        try {
+            long now = System.currentTimeMillis();
+            int batchSize = orderTimeoutProperties.getBatchSize();
+
+            long min = loadedUntil == Long.MIN_VALUE ? Long.MIN_VALUE : loadedUntil + 1;
+            long max = now + orderTimeoutProperties.getPreloadMillis();
+            for (long offset = 0; ; offset += batchSize) {
+                Set<ZSetOperations.TypedTuple<String>> page =
+                        stringRedisTemplate.opsForZSet().rangeByScoreWithScores(KEY, min, max, offset, batchSize);
+                for (ZSetOperations.TypedTuple<String> tuple : page) {
+                    addLocal(Long.valueOf(tuple.getValue()), tuple.getScore().longValue());
+                }
+                if (page.size() < batchSize) {
+                    break;
+                }
+            }
+            loadedUntil = max;
+
+            //所在节点宕机、加载时并发添加等原因遗漏的订单
+            Set<String> overdue = stringRedisTemplate.opsForZSet().rangeByScore(KEY,
+                    Double.NEGATIVE_INFINITY, now - orderTimeoutProperties.getRefillIntervalMillis(), 0, batchSize);
+            for (String orderId : overdue) {
+                submitExpire(Long.valueOf(orderId));
+            }
+        } catch (Throwable e) {
+            log.error("加载订单超时取消任务失败", e);
+        }
+    }
+
+    /**
+     * 订单到期，领取成功的节点负责取消订单，取消的事务提交后再从有序集合中删除
+     * 取消失败或节点宕机时不删除，租约到期后补偿处理；订单已不是待付款状态时取消不会生效，可以重复处理
+     * @param orderId
+     */
+    private void expire(Long orderId) {
+        String member = String.valueOf(orderId);
+        try {
+            long now = System.currentTimeMillis();
+            Long claimed = stringRedisTemplate.execute(CLAIM_SCRIPT, Collections.singletonList(KEY), member,
+                    String.valueOf(now), String.valueOf(now + orderTimeoutProperties.getClaimLeaseMillis()));
+            if (claimed == null || claimed == 0) {
+                return;
+            }
+        } catch (Exception e) {
+            log.error("领取订单超时取消任务失败，订单：{}", orderId, e);
+            return;
+        }
+
+        try {
+            //cancelTimeoutOrder在自己的事务中执行，返回时事务已经提交
+            if (orderService.cancelTimeoutOrder(orderId)) {
+                log.info("订单超时未支付，已取消：{}", orderId);
+            }
+        } catch (Exception e) {
+            //订单仍在有序集合中，租约到期后补偿处理
+            log.error("取消超时订单失败，订单：{}", orderId, e);
+            return;
+        }
+        remove(member);
+    }
+}
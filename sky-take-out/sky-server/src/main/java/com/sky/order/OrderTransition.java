@@ -0,0 +1,81 @@
+package com.sky.order;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.sky.entity.Orders;
+
+/**
+ * 订单状态机中允许的状态变化
+ * 订单状态 1待付款 2待接单 3已接单 4派送中 5已完成 6已取消
+ */
+public enum OrderTransition {
+
+    /**
+     * 支付成功：待付款 -> 待接单
+     */
+    PAY(Orders.TO_BE_CONFIRMED, Orders.PENDING_PAYMENT),
+
+    /**
+     * 用户取消：待付款、待接单 -> 已取消，接单后需要电话联系商家取消
+     */
+    USER_CANCEL(Orders.CANCELLED, Orders.PENDING_PAYMENT, Orders.TO_BE_CONFIRMED),
+
+    /**
+     * 超时未支付自动取消：待付款 -> 已取消
+     */
+    TIMEOUT_CANCEL(Orders.CANCELLED, Orders.PENDING_PAYMENT),
+
+    /**
+     * 商家接单：待接单 -> 已接单
+     */
+    CONFIRM(Orders.CONFIRMED, Orders.TO_BE_CONFIRMED),
+
+    /**
+     * 商家拒单：待接单 -> 已取消
+     */
+    REJECT(Orders.CANCELLED, Orders.TO_BE_CONFIRMED),
+
+    /**
+     * 商家取消：未完成的订单 -> 已取消
+     */
+    ADMIN_CANCEL(Orders.CANCELLED, Orders.PENDING_PAYMENT, Orders.TO_BE_CONFIRMED,
+            Orders.CONFIRMED, Orders.DELIVERY_IN_PROGRESS),
+
+    /**
+     * 派送订单：已接单 -> 派送中
+     */
+    DELIVER(Orders.DELIVERY_IN_PROGRESS, Orders.CONFIRMED),
+
+    /**
+     * 完成订单：派送中 -> 已完成
+     */
+    COMPLETE(Orders.COMPLETED, Orders.DELIVERY_IN_PROGRESS);
+
+    //变化后的状态
+    private final Integer toStatus;
+    //允许从哪些状态变化
+    private final List<Integer> fromStatuses;
+
+    OrderTransition(Integer toStatus, Integer... fromStatuses) {
+        this.toStatus = toStatus;
+        this.fromStatuses = Arrays.asList(fromStatuses);
+    }
+
+    public Integer getToStatus() {
+        return toStatus;
+    }
+
+    public List<Integer> getFromStatuses() {
+        return fromStatuses;
+    }
+
+    /**
+     * 订单当前状态是否允许这次变化
+     * @param status
+     * @return
+     */
+    public boolean allows(Integer status) {
+        return fromStatuses.contains(status);
+    }
+}
@@ -0,0 +1,61 @@
+package com.sky.order;
+
+import org.springframework.context.ApplicationEvent;
+
+import com.sky.entity.Orders;
+
+/**
+ * 订单状态变化事件，在状态变化所在的事务中同步发布
+ * 需要在事务提交后执行的监听者自行注册事务同步
+ */
+public class OrderTransitionEvent extends ApplicationEvent {
+
+    private final OrderTransition transition;
+    private final Integer fromStatus;
+    //是否属于批量修改，批量修改之后还会发布OrderBatchTransitionEvent
+    private final boolean batch;
+
+    /**
+     * @param orders 变化前的订单
+     * @param transition
+     */
+    public OrderTransitionEvent(Orders orders, OrderTransition transition) {
+        this(orders, transition, false);
+    }
+
+    /**
+     * @param orders 变化前的订单
+     * @param transition
+     * @param batch 是否属于批量修改
+     */
+    public OrderTransitionEvent(Orders orders, OrderTransition transition, boolean batch) {
+        super(orders);
+        this.transition = transition;
+        this.fromStatus = orders.getStatus();
+        this.batch = batch;
+    }
+
+    /**
+     * 变化前的订单
+     * @return
+     */
+    public Orders getOrders() {
+        return (Orders) getSource();
+    }
+
+    public OrderTransition getTransition() {
+        return transition;
+    }
+
+    public Integer getFromStatus() {
+        return fromStatus;
+    }
+
+    public Integer getToStatus() {
+        return transition.getToStatus();
+    }
+
+    public boolean isBatch() {
+        return batch;
+    }
+}
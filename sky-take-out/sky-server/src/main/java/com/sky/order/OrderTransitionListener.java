@@ -0,0 +1,58 @@
+package com.sky.order;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.sky.entity.Orders;
+import com.sky.mapper.OrderDetailMapper;
+import com.sky.service.ReportService;
+import com.sky.websocket.OrderPushRelay;
+import com.sky.workspace.WorkspaceCounter;
+
+/**
+ * 订单状态变化后更新报表、工作台计数器，并推送来单提醒
+ * 报表在状态变化的事务中累加，计数器和推送消息在事务提交后发布
+ * 批量修改的报表在批量事件中一次查询订单明细、合并累加，缩短订单行锁的持有时间
+ */
+@Component
+public class OrderTransitionListener {
+
+    @Autowired
+    private ReportService reportService;
+    @Autowired
+    private OrderDetailMapper orderDetailMapper;
+    @Autowired
+    private WorkspaceCounter workspaceCounter;
+    @Autowired
+    private OrderPushRelay orderPushRelay;
+
+    @EventListener
+    public void onTransition(OrderTransitionEvent event) {
+        Orders orders = event.getOrders();
+
+        if (event.getTransition() == OrderTransition.COMPLETE && !event.isBatch()) {
+            //累加报表中的营业额、有效订单数和商品销量
+            reportService.recordOrderCompleted(orders, orderDetailMapper.getByOrderId(orders.getId()));
+        }
+
+        workspaceCounter.orderStatusChanged(orders, event.getToStatus());
+
+        if (event.getTransition() == OrderTransition.PAY) {
+            //通知商家后台来单提醒
+            orderPushRelay.newOrder(orders);
+        }
+    }
+
+    @EventListener
+    public void onBatchTransition(OrderBatchTransitionEvent event) {
+        if (event.getTransition() == OrderTransition.COMPLETE) {
+            List<Orders> ordersList = event.getOrdersList();
+            List<Long> orderIds = ordersList.stream().map(Orders::getId).collect(Collectors.toList());
+            reportService.recordOrdersCompleted(ordersList, orderDetailMapper.getByOrderIds(orderIds));
+        }
+    }
+}
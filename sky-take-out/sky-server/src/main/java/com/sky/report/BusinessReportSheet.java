@@ -0,0 +1,139 @@
+package com.sky.report;
+
+import java.time.LocalDate;
+
+import org.apache.poi.ss.usermodel.BorderStyle;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.HorizontalAlignment;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import com.sky.vo.BusinessDataVO;
+
+/**
+ * 运营数据报表的版式：标题、概览数据、明细数据表头，之后逐行追加每日明细
+ * SXSSF只能顺序写入，已经写出的行不能再修改，所以概览必须在明细之前写入
+ */
+public class BusinessReportSheet {
+
+    //每列宽度(字符数)
+    private static final int COLUMN_WIDTH = 16;
+    private static final String[] DETAIL_HEADERS = {"日期", "营业额", "有效订单", "订单完成率", "平均客单价", "新增用户数"};
+
+    private final SXSSFSheet sheet;
+    private final CellStyle titleStyle;
+    private final CellStyle headerStyle;
+    private final CellStyle cellStyle;
+    private final CellStyle moneyStyle;
+    private final CellStyle percentStyle;
+
+    private int rowIndex = 0;
+
+    public BusinessReportSheet(SXSSFWorkbook workbook) {
+        this.sheet = workbook.createSheet("运营数据");
+        for (int i = 0; i < DETAIL_HEADERS.length; i++) {
+            sheet.setColumnWidth(i, COLUMN_WIDTH * 256);
+        }
+
+        Font titleFont = workbook.createFont();
+        titleFont.setBold(true);
+        titleFont.setFontHeightInPoints((short) 16);
+        titleStyle = workbook.createCellStyle();
+        titleStyle.setFont(titleFont);
+        titleStyle.setAlignment(HorizontalAlignment.CENTER);
+
+        Font headerFont = workbook.createFont();
+        headerFont.setBold(true);
+        headerStyle = bordered(workbook.createCellStyle());
+        headerStyle.setFont(headerFont);
+
+        cellStyle = bordered(workbook.createCellStyle());
+
+        moneyStyle = bordered(workbook.createCellStyle());
+        moneyStyle.setDataFormat(workbook.createDataFormat().getFormat("0.00"));
+
+        percentStyle = bordered(workbook.createCellStyle());
+        percentStyle.setDataFormat(workbook.createDataFormat().getFormat("0.00%"));
+    }
+
+    /**
+     * 写入标题和概览数据，以及明细数据的表头
+     * @param begin
+     * @param end
+     * @param overview
+     */
+    public void writeOverview(LocalDate begin, LocalDate end, BusinessDataVO overview) {
+        Row title = sheet.createRow(rowIndex++);
+        setCell(title, 0, "运营数据报表", titleStyle);
+        sheet.addMergedRegion(new CellRangeAddress(0, 0, 0, DETAIL_HEADERS.length - 1));
+
+        Row time = sheet.createRow(rowIndex++);
+        time.createCell(0).setCellValue("时间：" + begin + "至" + end);
+
+        rowIndex++;
+        Row overviewTitle = sheet.createRow(rowIndex++);
+        setCell(overviewTitle, 0, "概览数据", headerStyle);
+
+        Row row = sheet.createRow(rowIndex++);
+        setCell(row, 0, "营业额", headerStyle);
+        setCell(row, 1, overview.getTurnover(), moneyStyle);
+        setCell(row, 2, "订单完成率", headerStyle);
+        setCell(row, 3, overview.getOrderCompletionRate(), percentStyle);
+        setCell(row, 4, "新增用户数", headerStyle);
+        setCell(row, 5, overview.getNewUsers(), cellStyle);
+
+        row = sheet.createRow(rowIndex++);
+        setCell(row, 0, "有效订单", headerStyle);
+        setCell(row, 1, overview.getValidOrderCount(), cellStyle);
+        setCell(row, 2, "平均客单价", headerStyle);
+        setCell(row, 3, overview.getUnitPrice(), moneyStyle);
+
+        rowIndex++;
+        Row detailTitle = sheet.createRow(rowIndex++);
+        setCell(detailTitle, 0, "明细数据", headerStyle);
+
+        Row header = sheet.createRow(rowIndex++);
+        for (int i = 0; i < DETAIL_HEADERS.length; i++) {
+            setCell(header, i, DETAIL_HEADERS[i], headerStyle);
+        }
+    }
+
+    /**
+     * 追加一天的明细数据
+     * @param date
+     * @param daily
+     */
+    public void writeDetail(LocalDate date, BusinessDataVO daily) {
+        Row row = sheet.createRow(rowIndex++);
+        setCell(row, 0, date.toString(), cellStyle);
+        setCell(row, 1, daily.getTurnover(), moneyStyle);
+        setCell(row, 2, daily.getValidOrderCount(), cellStyle);
+        setCell(row, 3, daily.getOrderCompletionRate(), percentStyle);
+        setCell(row, 4, daily.getUnitPrice(), moneyStyle);
+        setCell(row, 5, daily.getNewUsers(), cellStyle);
+    }
+
+    private static CellStyle bordered(CellStyle style) {
+        style.setBorderTop(BorderStyle.THIN);
+        style.setBorderBottom(BorderStyle.THIN);
+        style.setBorderLeft(BorderStyle.THIN);
+        style.setBorderRight(BorderStyle.THIN);
+        return style;
+    }
+
+    private static void setCell(Row row, int column, String value, CellStyle style) {
+        Cell cell = row.createCell(column);
+        cell.setCellValue(value);
+        cell.setCellStyle(style);
+    }
+
+    private static void setCell(Row row, int column, Number value, CellStyle style) {
+        Cell cell = row.createCell(column);
+        cell.setCellValue(value.doubleValue());
+        cell.setCellStyle(style);
+    }
+}
@@ -1,10 +1,12 @@
 package com.sky.service;
 
 import java.util.List;
+import java.util.Set;
 
 import com.sky.dto.DishDTO;
 import com.sky.dto.DishPageQueryDTO;
 import com.sky.entity.Dish;
+import com.sky.result.CursorPageResult;
 import com.sky.result.PageResult;
 import com.sky.vo.DishVO;
 
@@ -23,6 +25,13 @@ public interface DishService {
      */
     public PageResult pageQuery(DishPageQueryDTO dishPageQueryDTO);
 
+    /**
+     * 菜品游标分页查询
+     * @param dishPageQueryDTO
+     * @return
+     */
+    public CursorPageResult cursorQuery(DishPageQueryDTO dishPageQueryDTO);
+
     /**
      * 批量删除菜品
      * @param ids
@@ -62,5 +71,12 @@ public interface DishService {
      * @return
      */
     List<DishVO> listWithFlavor(Dish dish);
+
+    /**
+     * 批量新增和修改菜品，返回受影响的分类id，停售的菜品所在的套餐同时停售
+     * @param dishDTOs
+     * @return
+     */
+    Set<Long> saveOrUpdateBatch(List<DishDTO> dishDTOs);
     
 }
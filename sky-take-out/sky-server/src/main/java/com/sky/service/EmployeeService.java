@@ -4,6 +4,7 @@ import com.sky.dto.EmployeeDTO;
 import com.sky.dto.EmployeeLoginDTO;
 import com.sky.dto.EmployeePageQueryDTO;
 import com.sky.entity.Employee;
+import com.sky.result.CursorPageResult;
 import com.sky.result.PageResult;
 
 public interface EmployeeService {
@@ -28,6 +29,13 @@ public interface EmployeeService {
      */
     PageResult pageQuery(EmployeePageQueryDTO enEmployeePageQueryDTO);
 
+    /**
+     * 游标分页查询
+     * @param employeePageQueryDTO
+     * @return
+     */
+    CursorPageResult cursorQuery(EmployeePageQueryDTO employeePageQueryDTO);
+
     /**
      * 启用禁用员工账号
      * @param status
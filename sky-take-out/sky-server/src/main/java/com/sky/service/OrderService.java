@@ -1,9 +1,17 @@
 package com.sky.service;
 
+import java.time.LocalDateTime;
+
+import com.sky.dto.OrdersCancelDTO;
+import com.sky.dto.OrdersConfirmDTO;
 import com.sky.dto.OrdersPaymentDTO;
+import com.sky.dto.OrdersRejectionDTO;
 import com.sky.dto.OrdersSubmitDTO;
+import com.sky.dto.OrdersPageQueryDTO;
+import com.sky.result.CursorPageResult;
 import com.sky.result.PageResult;
 import com.sky.vo.OrderPaymentVO;
+import com.sky.vo.OrderStatisticsVO;
 import com.sky.vo.OrderSubmitVO;
 import com.sky.vo.OrderVO;
 
@@ -12,9 +20,10 @@ public interface OrderService {
     /**
      * 用户下单
      * @param ordersSubmitDTO
+     * @param idempotencyKey
      * @return
      */
-    OrderSubmitVO submitOrder(OrdersSubmitDTO ordersSubmitDTO);
+    OrderSubmitVO submitOrder(OrdersSubmitDTO ordersSubmitDTO, String idempotencyKey);
 
     /**
      * 订单支付
@@ -38,6 +47,26 @@ public interface OrderService {
      */
     PageResult pageQueryByUser(int page, int pageSize, Integer status);
 
+    /**
+     * 历史订单游标分页查询
+     * @param ordersPageQueryDTO
+     * @return
+     */
+    CursorPageResult cursorQueryByUser(OrdersPageQueryDTO ordersPageQueryDTO);
+
+    /**
+     * 管理端订单搜索
+     * @param ordersPageQueryDTO
+     * @return
+     */
+    PageResult conditionSearch(OrdersPageQueryDTO ordersPageQueryDTO);
+
+    /**
+     * 各状态订单数量统计
+     * @return
+     */
+    OrderStatisticsVO statistics();
+
     /**
      * 根据id查询订单详细信息
      * @param id
@@ -58,5 +87,62 @@ public interface OrderService {
      */
     void repetition(Long id);
 
-    
+    /**
+     * 客户催单
+     * @param id
+     */
+    void reminder(Long id);
+
+    /**
+     * 完成订单
+     * @param id
+     */
+    void complete(Long id);
+
+    /**
+     * 商家接单
+     * @param ordersConfirmDTO
+     */
+    void confirm(OrdersConfirmDTO ordersConfirmDTO);
+
+    /**
+     * 商家拒单
+     * @param ordersRejectionDTO
+     */
+    void rejection(OrdersRejectionDTO ordersRejectionDTO);
+
+    /**
+     * 商家取消订单
+     * @param ordersCancelDTO
+     */
+    void cancel(OrdersCancelDTO ordersCancelDTO);
+
+    /**
+     * 派送订单
+     * @param id
+     */
+    void delivery(Long id);
+
+    /**
+     * 取消超时未支付的订单
+     * @param id
+     * @return 订单已经不是待付款状态时返回false
+     */
+    boolean cancelTimeoutOrder(Long id);
+
+    /**
+     * 取消一批超时未支付的订单
+     * @param before 下单时间早于该时间的订单视为超时
+     * @param limit
+     * @return 取消的订单数
+     */
+    int cancelTimeoutOrders(LocalDateTime before, int limit);
+
+    /**
+     * 完成一批长时间处于派送中的订单
+     * @param before 下单时间早于该时间的订单可以自动完成
+     * @param limit
+     * @return 完成的订单数
+     */
+    int completeDeliveryOrders(LocalDateTime before, int limit);
 }
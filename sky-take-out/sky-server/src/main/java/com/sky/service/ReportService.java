@@ -0,0 +1,100 @@
+package com.sky.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.List;
+
+import com.sky.entity.OrderDetail;
+import com.sky.entity.Orders;
+import com.sky.entity.User;
+import com.sky.vo.BusinessDataVO;
+import com.sky.vo.OrderReportVO;
+import com.sky.vo.SalesTop10ReportVO;
+import com.sky.vo.TurnoverReportVO;
+import com.sky.vo.UserReportVO;
+
+public interface ReportService {
+
+    /**
+     * 营业额统计
+     * @param begin
+     * @param end
+     * @return
+     */
+    TurnoverReportVO getTurnoverStatistics(LocalDate begin, LocalDate end);
+
+    /**
+     * 用户统计
+     * @param begin
+     * @param end
+     * @return
+     */
+    UserReportVO getUserStatistics(LocalDate begin, LocalDate end);
+
+    /**
+     * 订单统计
+     * @param begin
+     * @param end
+     * @return
+     */
+    OrderReportVO getOrderStatistics(LocalDate begin, LocalDate end);
+
+    /**
+     * 销量排名前10的商品
+     * @param begin
+     * @param end
+     * @return
+     */
+    SalesTop10ReportVO getSalesTop10(LocalDate begin, LocalDate end);
+
+    /**
+     * 日期范围内的运营数据概览
+     * @param begin
+     * @param end
+     * @return
+     */
+    BusinessDataVO getBusinessData(LocalDate begin, LocalDate end);
+
+    /**
+     * 导出运营数据报表，以流的方式写入输出流
+     * @param begin
+     * @param end
+     * @param out
+     * @throws IOException
+     */
+    void exportBusinessData(LocalDate begin, LocalDate end, OutputStream out) throws IOException;
+
+    /**
+     * 用户下单后累加当天的订单总数
+     * @param orders
+     */
+    void recordOrderSubmitted(Orders orders);
+
+    /**
+     * 订单完成后累加下单当天的营业额、有效订单数和商品销量
+     * @param orders
+     * @param orderDetailList
+     */
+    void recordOrderCompleted(Orders orders, List<OrderDetail> orderDetailList);
+
+    /**
+     * 一批订单完成后按下单日期合并累加营业额、有效订单数和商品销量
+     * @param ordersList
+     * @param orderDetailList 这批订单的全部明细
+     */
+    void recordOrdersCompleted(List<Orders> ordersList, List<OrderDetail> orderDetailList);
+
+    /**
+     * 新用户注册后累加当天的新增用户数
+     * @param user
+     */
+    void recordNewUser(User user);
+
+    /**
+     * 根据订单表和用户表重新汇总日期范围内的报表数据，只允许今天之前的日期
+     * @param begin
+     * @param end
+     */
+    void rebuild(LocalDate begin, LocalDate end);
+}
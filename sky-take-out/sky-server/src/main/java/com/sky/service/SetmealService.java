@@ -5,6 +5,7 @@ import java.util.List;
 import com.sky.dto.SetmealDTO;
 import com.sky.dto.SetmealPageQueryDTO;
 import com.sky.entity.Setmeal;
+import com.sky.result.CursorPageResult;
 import com.sky.result.PageResult;
 import com.sky.vo.DishItemVO;
 import com.sky.vo.SetmealVO;
@@ -24,6 +25,13 @@ public interface SetmealService {
      */
     PageResult pageQuery(SetmealPageQueryDTO setmealPageQueryDTO);
 
+    /**
+     * 套餐游标分页查询
+     * @param setmealPageQueryDTO
+     * @return
+     */
+    CursorPageResult cursorQuery(SetmealPageQueryDTO setmealPageQueryDTO);
+
     /**
      * 批量删除套餐
      * @param ids
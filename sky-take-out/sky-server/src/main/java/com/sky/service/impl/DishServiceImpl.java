@@ -1,7 +1,15 @@
 package com.sky.service.impl;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,12 +26,16 @@ import com.sky.entity.Dish;
 import com.sky.entity.DishFlavor;
 import com.sky.entity.Setmeal;
 import com.sky.exception.DeletionNotAllowedException;
+import com.sky.exception.DishBusinessException;
 import com.sky.mapper.DishFlavorMapper;
 import com.sky.mapper.DishMapper;
 import com.sky.mapper.SetmealDishMapper;
 import com.sky.mapper.SetmealMapper;
+import com.sky.result.CursorPageResult;
+import com.sky.result.PageCursor;
 import com.sky.result.PageResult;
 import com.sky.service.DishService;
+import com.sky.utils.RowDiff;
 import com.sky.vo.DishVO;
 
 import lombok.extern.slf4j.Slf4j;
@@ -32,6 +44,9 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class DishServiceImpl implements DishService {
 
+    //批量sql每条语句处理的最大行数
+    private static final int BATCH_SIZE = 500;
+
     //注入
     @Autowired
     private DishMapper dishMapper;
@@ -84,19 +99,42 @@ public class DishServiceImpl implements DishService {
         return new PageResult(page.getTotal(), page.getResult());
     }
 
+    /**
+     * 菜品游标分页查询
+     * @param dishPageQueryDTO
+     * @return
+     */
+    public CursorPageResult cursorQuery(DishPageQueryDTO dishPageQueryDTO) {
+        int pageSize = CursorPageResult.normalizePageSize(dishPageQueryDTO.getPageSize());
+        PageCursor cursor = PageCursor.decode(dishPageQueryDTO.getCursor());
+
+        //多查询一条数据，用于判断是否还有下一页
+        List<DishVO> list = dishMapper.cursorQuery(dishPageQueryDTO, cursor, pageSize + 1);
+
+        //只有请求时才统计总记录数
+        Long total = null;
+        if(Boolean.TRUE.equals(dishPageQueryDTO.getWithTotal())) {
+            total = PageHelper.count(() -> dishMapper.pageQuery(dishPageQueryDTO));
+        }
+
+        return CursorPageResult.of(list, pageSize, d -> new PageCursor(d.getCreateTime(), d.getId()), total);
+    }
+
     /**
      * 批量删除菜品
      * @param ids
      */
     @Transactional  //事务注解，保证一致性
     public void deleteBatch(List<Long> ids) {
-        //判断当前菜品是否能够删除，即是否存在起售中的菜品
-        for (Long id : ids) {
-            Dish dish = dishMapper.getById(id);
-            if(dish.getStatus() == StatusConstant.ENABLE) {
-                //如果当前菜品的状态是正在售卖中，则不能删除
-               throw new DeletionNotAllowedException(MessageConstant.DISH_ON_SALE);
-            }
+        //没有菜品时直接返回，避免生成 id in () 的sql
+        if(ids == null || ids.isEmpty()) {
+            return;
+        }
+
+        //判断当前菜品是否能够删除，即是否存在起售中的菜品，一条sql统计全部菜品
+        if(dishMapper.countByIdsAndStatus(ids, StatusConstant.ENABLE) > 0) {
+            //如果有菜品的状态是正在售卖中，则不能删除
+            throw new DeletionNotAllowedException(MessageConstant.DISH_ON_SALE);
         }
 
         //如果当前菜品被某个套餐关联了，也不能删除
@@ -158,21 +196,10 @@ public class DishServiceImpl implements DishService {
 
         dishMapper.update(dish);
 
-        //修改口味数据有多种情况，我们可以在修改之前统一删除，再根据上传的数据做统一更新，以达到修改的效果
-        //先删除所有口味数据
-        dishFlavorMapper.deleteBydishId(dishDTO.getId());
-
-        //再统一更新数据
-        //向口味表插入N条数据，口味可能有多种
-        List<DishFlavor> flavors = dishDTO.getFlavors();
-        if(flavors != null && flavors.size() > 0) {
-            //遍历所有口味，设置上属于他的dishId
-            flavors.forEach(dishFlavor ->{
-                dishFlavor.setDishId(dishDTO.getId());
-            });
-            //向口味表中批量插入数据
-            dishFlavorMapper.insertBatch(flavors);
-        }
+        //只新增、修改、删除有变化的口味，口味不变时不会操作口味表
+        RowDiff<DishFlavor> diff = diffFlavors(dishDTO.getId(),
+                dishFlavorMapper.getByDishId(dishDTO.getId()), dishDTO.getFlavors());
+        applyFlavorDiff(diff);
 
     }
 
@@ -181,6 +208,7 @@ public class DishServiceImpl implements DishService {
      * @param status
      * @param id
      */
+    @Transactional
     public void startOrStop(Integer status, Long id) {
         
         Dish dish = Dish.builder()
@@ -190,21 +218,12 @@ public class DishServiceImpl implements DishService {
         
         dishMapper.update(dish);
 
-        //如果是停售的操作，具有当前停售菜品的套餐也需要停售
+        //如果是停售的操作，具有当前停售菜品的套餐也需要停售，一条update语句修改全部套餐
         if(status == StatusConstant.DISABLE) {
-            List<Long> dishIds = new ArrayList<>();
-            dishIds.add(id);
-            List<Long> setMealIds = setmealDishMapper.getSetmealIdsByDishIds(dishIds);
-            if(setMealIds != null && setMealIds.size() > 0) {
-                for (Long setMealId : setMealIds) {
-                    Setmeal setmeal = Setmeal.builder()
-                                    .id(setMealId)
-                                    .status(StatusConstant.DISABLE)
-                                    .build();
-                                    
-                    setmealMapper.update(setmeal);
-                }
-            }
+            Setmeal setmeal = Setmeal.builder()
+                            .status(StatusConstant.DISABLE)
+                            .build();
+            setmealMapper.updateStatusByDishIds(setmeal, Collections.singletonList(id));
         }
 
     }
@@ -235,13 +254,21 @@ public class DishServiceImpl implements DishService {
         List<Dish> dishList = dishMapper.list(dish);
 
         List<DishVO> dishVOList = new ArrayList<>();
+        if(dishList == null || dishList.size() == 0) {
+            return dishVOList;
+        }
+
+        //一次查询出所有菜品的口味，再按菜品id分组
+        List<Long> dishIds = dishList.stream().map(Dish::getId).collect(Collectors.toList());
+        Map<Long, List<DishFlavor>> flavorMap = dishFlavorMapper.getByDishIds(dishIds).stream()
+                .collect(Collectors.groupingBy(DishFlavor::getDishId));
 
         for (Dish d : dishList) {
             DishVO dishVO = new DishVO();
             BeanUtils.copyProperties(d,dishVO);
 
-            //根据菜品id查询对应的口味
-            List<DishFlavor> flavors = dishFlavorMapper.getByDishId(d.getId());
+            //取出菜品id对应的口味
+            List<DishFlavor> flavors = flavorMap.getOrDefault(d.getId(), new ArrayList<>());
 
             dishVO.setFlavors(flavors);
             dishVOList.add(dishVO);
@@ -249,4 +276,148 @@ public class DishServiceImpl implements DishService {
 
         return dishVOList;
     }
+
+    /**
+     * 批量新增和修改菜品，在一个事务中完成
+     * 没有id的菜品用多行insert新增，有id的菜品用一条update语句修改，为null的属性保持不变
+     * 口味为null时不修改口味，否则只新增、修改、删除有变化的口味
+     * 修改为停售的菜品所在的套餐同时停售，同一个菜品id出现多次时拒绝整批数据
+     * @param dishDTOs
+     * @return 受影响的分类id，包括修改前的分类
+     */
+    @Transactional
+    public Set<Long> saveOrUpdateBatch(List<DishDTO> dishDTOs) {
+        List<Dish> inserts = new ArrayList<>();
+        List<Dish> updates = new ArrayList<>();
+        //新增和修改的菜品与对应的口味
+        Map<Dish, List<DishFlavor>> flavorMap = new IdentityHashMap<>();
+        //同一个菜品出现多次时口味差异和批量update的结果不确定，直接拒绝
+        Set<Long> ids = new HashSet<>();
+
+        for (DishDTO dishDTO : dishDTOs) {
+            Dish dish = new Dish();
+            BeanUtils.copyProperties(dishDTO, dish);
+            if(dish.getId() != null && !ids.add(dish.getId())) {
+                throw new DishBusinessException(MessageConstant.DISH_IMPORT_INVALID + "：菜品id重复：" + dish.getId());
+            }
+            if(dish.getId() == null) {
+                if(dish.getName() == null || dish.getCategoryId() == null || dish.getPrice() == null) {
+                    throw new DishBusinessException(MessageConstant.DISH_IMPORT_INVALID + "：新增菜品缺少名称、分类或价格");
+                }
+                //批量新增的菜品默认停售，确认后再起售
+                if(dish.getStatus() == null) {
+                    dish.setStatus(StatusConstant.DISABLE);
+                }
+                inserts.add(dish);
+            }else {
+                updates.add(dish);
+            }
+            if(dishDTO.getFlavors() != null) {
+                flavorMap.put(dish, dishDTO.getFlavors());
+            }
+        }
+
+        Set<Long> categoryIds = new HashSet<>();
+
+        if(!updates.isEmpty()) {
+            //修改前的分类也需要清理缓存
+            List<Long> updateIds = updates.stream().map(Dish::getId).collect(Collectors.toList());
+            List<Dish> oldDishes = dishMapper.getByIds(updateIds);
+            if(oldDishes.size() != updateIds.size()) {
+                throw new DishBusinessException(MessageConstant.DISH_NOT_FOUND);
+            }
+            oldDishes.forEach(d -> categoryIds.add(d.getCategoryId()));
+
+            for (List<Dish> batch : partition(updates)) {
+                dishMapper.updateBatch(batch);
+            }
+
+            //与startOrStop一致，停售的菜品所在的套餐也需要停售
+            List<Long> disabledIds = updates.stream()
+                    .filter(d -> Objects.equals(d.getStatus(), StatusConstant.DISABLE))
+                    .map(Dish::getId).collect(Collectors.toList());
+            for (List<Long> batch : partition(disabledIds)) {
+                Setmeal setmeal = Setmeal.builder()
+                                .status(StatusConstant.DISABLE)
+                                .build();
+                setmealMapper.updateStatusByDishIds(setmeal, batch);
+            }
+        }
+
+        for (List<Dish> batch : partition(inserts)) {
+            //多行insert会回填每个菜品生成的id
+            dishMapper.insertBatch(batch);
+        }
+
+        for (Dish dish : inserts) {
+            categoryIds.add(dish.getCategoryId());
+        }
+        for (Dish dish : updates) {
+            if(dish.getCategoryId() != null) {
+                categoryIds.add(dish.getCategoryId());
+            }
+        }
+
+        //一次查询出修改的菜品已有的口味，按菜品计算差异后合并执行
+        List<Long> updateFlavorDishIds = updates.stream().filter(flavorMap::containsKey)
+                .map(Dish::getId).collect(Collectors.toList());
+        Map<Long, List<DishFlavor>> storedMap = new HashMap<>();
+        for (List<Long> batch : partition(updateFlavorDishIds)) {
+            dishFlavorMapper.getByDishIds(batch)
+                    .forEach(df -> storedMap.computeIfAbsent(df.getDishId(), k -> new ArrayList<>()).add(df));
+        }
+
+        RowDiff<DishFlavor> diff = new RowDiff<>();
+        flavorMap.forEach((dish, dishFlavors) -> diff.addAll(diffFlavors(dish.getId(),
+                storedMap.getOrDefault(dish.getId(), Collections.emptyList()), dishFlavors)));
+        applyFlavorDiff(diff);
+
+        log.info("批量保存菜品，新增：{}，修改：{}，口味新增：{}，口味修改：{}，口味删除：{}", inserts.size(), updates.size(),
+                diff.getInserts().size(), diff.getUpdates().size(), diff.getDeletes().size());
+        return categoryIds;
+    }
+
+    /**
+     * 按口味名称对应已有的口味和提交的口味，计算一个菜品的口味差异
+     * @param dishId
+     * @param stored
+     * @param submitted
+     * @return
+     */
+    private RowDiff<DishFlavor> diffFlavors(Long dishId, List<DishFlavor> stored, List<DishFlavor> submitted) {
+        if(submitted != null) {
+            submitted.forEach(dishFlavor -> dishFlavor.setDishId(dishId));
+        }
+        return RowDiff.of(stored, submitted, DishFlavor::getName,
+                (old, df) -> Objects.equals(old.getValue(), df.getValue()),
+                DishFlavor::getId, DishFlavor::setId);
+    }
+
+    /**
+     * 批量执行口味的删除、修改和新增
+     * @param diff
+     */
+    private void applyFlavorDiff(RowDiff<DishFlavor> diff) {
+        List<Long> deleteIds = diff.getDeletes().stream().map(DishFlavor::getId).collect(Collectors.toList());
+        for (List<Long> batch : partition(deleteIds)) {
+            dishFlavorMapper.deleteByIds(batch);
+        }
+        for (List<DishFlavor> batch : partition(diff.getUpdates())) {
+            dishFlavorMapper.updateBatch(batch);
+        }
+        for (List<DishFlavor> batch : partition(diff.getInserts())) {
+            dishFlavorMapper.insertBatch(batch);
+        }
+    }
+
+    /**
+     * 按固定大小拆分集合，避免单条sql过长
+     */
+    private static <T> List<List<T>> partition(List<T> list) {
+        List<List<T>> batches = new ArrayList<>();
+        for (int i = 0; i < list.size(); i += BATCH_SIZE) {
+            batches.add(list.subList(i, Math.min(i + BATCH_SIZE, list.size())));
+        }
+        return batches;
+    }
 }
@@ -14,6 +14,8 @@ import com.sky.exception.AccountLockedException;
 import com.sky.exception.AccountNotFoundException;
 import com.sky.exception.PasswordErrorException;
 import com.sky.mapper.EmployeeMapper;
+import com.sky.result.CursorPageResult;
+import com.sky.result.PageCursor;
 import com.sky.result.PageResult;
 import com.sky.service.EmployeeService;
 
@@ -117,6 +119,27 @@ public class EmployeeServiceImpl implements EmployeeService {
         return new PageResult(total, records);
     }
 
+    /**
+     * 游标分页查询
+     * @param employeePageQueryDTO
+     * @return
+     */
+    public CursorPageResult cursorQuery(EmployeePageQueryDTO employeePageQueryDTO) {
+        int pageSize = CursorPageResult.normalizePageSize(employeePageQueryDTO.getPageSize());
+        PageCursor cursor = PageCursor.decode(employeePageQueryDTO.getCursor());
+
+        //多查询一条数据，用于判断是否还有下一页
+        List<Employee> list = employeeMapper.cursorQuery(employeePageQueryDTO, cursor, pageSize + 1);
+
+        //只有请求时才统计总记录数
+        Long total = null;
+        if (Boolean.TRUE.equals(employeePageQueryDTO.getWithTotal())) {
+            total = PageHelper.count(() -> employeeMapper.pageQuery(employeePageQueryDTO));
+        }
+
+        return CursorPageResult.of(list, pageSize, e -> new PageCursor(e.getCreateTime(), e.getId()), total);
+    }
+
     /**
      * 启用禁用员工账号
      * @param status
@@ -4,21 +4,31 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
-import org.aspectj.internal.lang.annotation.ajcDeclarePrecedence;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
 
+import com.alibaba.fastjson.JSON;
 import com.alibaba.fastjson.JSONObject;
 import com.github.pagehelper.Page;
 import com.github.pagehelper.PageHelper;
+import com.sky.cart.ShoppingCartStorage;
 import com.sky.constant.MessageConstant;
 import com.sky.context.BaseContext;
+import com.sky.dto.OrdersCancelDTO;
+import com.sky.dto.OrdersConfirmDTO;
 import com.sky.dto.OrdersPageQueryDTO;
 import com.sky.dto.OrdersPaymentDTO;
+import com.sky.dto.OrdersRejectionDTO;
 import com.sky.dto.OrdersSubmitDTO;
 import com.sky.entity.AddressBook;
 import com.sky.entity.OrderDetail;
@@ -31,14 +41,25 @@ import com.sky.exception.ShoppingCartBusinessException;
 import com.sky.mapper.AddressBookMapper;
 import com.sky.mapper.OrderDetailMapper;
 import com.sky.mapper.OrderMapper;
-import com.sky.mapper.ShoppingCartMapper;
 import com.sky.mapper.UserMapper;
+import com.sky.order.OrderStateMachine;
+import com.sky.order.OrderStatusCounter;
+import com.sky.order.OrderTimeoutQueue;
+import com.sky.order.OrderTransition;
+import com.sky.properties.OrderNumberProperties;
+import com.sky.result.CursorPageResult;
+import com.sky.result.PageCursor;
 import com.sky.result.PageResult;
 import com.sky.service.OrderService;
+import com.sky.service.ReportService;
+import com.sky.utils.SnowflakeIdWorker;
 import com.sky.utils.WeChatPayUtil;
 import com.sky.vo.OrderPaymentVO;
+import com.sky.vo.OrderStatisticsVO;
 import com.sky.vo.OrderSubmitVO;
 import com.sky.vo.OrderVO;
+import com.sky.websocket.OrderPushRelay;
+import com.sky.workspace.WorkspaceCounter;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -54,23 +75,55 @@ public class OrderServiceImpl implements OrderService{
     @Autowired
     private AddressBookMapper addressBookMapper;
     @Autowired
-    private ShoppingCartMapper shoppingCartMapper;
+    private ShoppingCartStorage shoppingCartStorage;
     @Autowired
     private UserMapper userMapper;
     @Autowired
     private WeChatPayUtil weChatPayUtil;
+    @Autowired
+    private SnowflakeIdWorker snowflakeIdWorker;
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+    @Autowired
+    private OrderNumberProperties orderNumberProperties;
+    @Autowired
+    private OrderPushRelay orderPushRelay;
+    @Autowired
+    private ReportService reportService;
+    @Autowired
+    private WorkspaceCounter workspaceCounter;
+    @Autowired
+    private OrderStateMachine orderStateMachine;
+    @Autowired
+    private OrderTimeoutQueue orderTimeoutQueue;
+    @Autowired
+    private OrderStatusCounter orderStatusCounter;
 
-    //将orderid定义为全局变量
-    public static Long orderid;
-    //由于没真正执行paysuccess方法，得不到订单id，所以在新建订单时存储当前订单id
+    //下单幂等令牌的key前缀，构造规则是：order_submit_用户id_令牌
+    private static final String SUBMIT_KEY_PREFIX = "order_submit_";
+    //幂等令牌对应的订单正在提交中，提交成功后替换为下单结果
+    private static final String SUBMITTING = "";
 
     /**
      * 用户下单
      * @param ordersSubmitDTO
+     * @param idempotencyKey 客户端生成的幂等令牌，重试时携带相同的令牌不会重复下单，可以为空
      * @return
      */
     @Transactional
-    public OrderSubmitVO submitOrder(OrdersSubmitDTO ordersSubmitDTO) {
+    public OrderSubmitVO submitOrder(OrdersSubmitDTO ordersSubmitDTO, String idempotencyKey) {
+
+        Long userId = BaseContext.getCurrentId();
+
+        //幂等校验，相同令牌已经下单成功时直接返回之前的下单结果
+        String submitKey = null;
+        if (StringUtils.hasText(idempotencyKey)) {
+            submitKey = SUBMIT_KEY_PREFIX + userId + "_" + idempotencyKey;
+            OrderSubmitVO submitted = acquireSubmitKey(submitKey);
+            if (submitted != null) {
+                return submitted;
+            }
+        }
         
         //业务异常处理（地址簿为空，购物车数据为空）
         AddressBook addressBook = addressBookMapper.getById(ordersSubmitDTO.getAddressBookId());
@@ -78,11 +131,8 @@ public class OrderServiceImpl implements OrderService{
             throw new AddressBookBusinessException(MessageConstant.ADDRESS_BOOK_IS_NULL);
         }
 
-        ShoppingCart shoppingCart = new ShoppingCart();
-        Long userId = BaseContext.getCurrentId();
-        shoppingCart.setUserId(userId);
-        List<ShoppingCart> shoppingCartlist = shoppingCartMapper.list(shoppingCart);
-        if(shoppingCartlist == null && shoppingCartlist.size() == 0) {
+        List<ShoppingCart> shoppingCartlist = shoppingCartStorage.list(userId);
+        if(shoppingCartlist == null || shoppingCartlist.size() == 0) {
             throw new ShoppingCartBusinessException(MessageConstant.SHOPPING_CART_IS_NULL);
         }
 
@@ -92,12 +142,19 @@ public class OrderServiceImpl implements OrderService{
         orders.setOrderTime(LocalDateTime.now());
         orders.setPayStatus(Orders.UN_PAID);
         orders.setStatus(Orders.PENDING_PAYMENT);
-        orders.setNumber(String.valueOf(System.currentTimeMillis()));
+        //雪花算法生成订单号，多节点同一毫秒下单也不会重复
+        orders.setNumber(String.valueOf(snowflakeIdWorker.nextId()));
         orders.setPhone(addressBook.getPhone());
         orders.setConsignee(addressBook.getConsignee());
         orders.setUserId(userId);
 
         orderMapper.insert(orders);
+        //事务提交后累加报表中当天的订单总数
+        reportService.recordOrderSubmitted(orders);
+        workspaceCounter.orderSubmitted(orders);
+        orderStatusCounter.orderSubmitted(orders);
+        //到期未支付自动取消
+        orderTimeoutQueue.schedule(orders);
 
         List<OrderDetail> orderDetailList = new ArrayList<>();
         //向订单明细表插入n条数据
@@ -112,7 +169,7 @@ public class OrderServiceImpl implements OrderService{
         orderDetailMapper.insertBatch(orderDetailList);
 
         //清空当前用户的购物车数据
-        shoppingCartMapper.deleteByUser(userId);
+        shoppingCartStorage.clean(userId);
 
 
         //封装VO的返回数据
@@ -123,23 +180,72 @@ public class OrderServiceImpl implements OrderService{
                          .orderAmount(orders.getAmount())
                          .build();
 
-        //为orderid赋值
-        orderid = orders.getId();
+        if (submitKey != null) {
+            saveSubmitResult(submitKey, orderSubmitVO);
+        }
 
         return orderSubmitVO;
     }
 
+    /**
+     * 占用下单幂等令牌，令牌已下单成功时返回之前的下单结果
+     * 事务回滚时释放令牌，客户端可以使用同一个令牌重试
+     * @param submitKey
+     * @return
+     */
+    private OrderSubmitVO acquireSubmitKey(String submitKey) {
+        Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(submitKey, SUBMITTING,
+                orderNumberProperties.getIdempotencyExpireSeconds(), TimeUnit.SECONDS);
+        if (!Boolean.TRUE.equals(acquired)) {
+            String submitted = stringRedisTemplate.opsForValue().get(submitKey);
+            if (submitted == null || SUBMITTING.equals(submitted)) {
+                throw new OrderBusinessException(MessageConstant.ORDER_SUBMITTING);
+            }
+            return JSON.parseObject(submitted, OrderSubmitVO.class);
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    stringRedisTemplate.delete(submitKey);
+                }
+            }
+        });
+        return null;
+    }
+
+    /**
+     * 事务提交后保存下单结果，相同令牌的重试请求直接返回该结果
+     * @param submitKey
+     * @param orderSubmitVO
+     */
+    private void saveSubmitResult(String submitKey, OrderSubmitVO orderSubmitVO) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            public void afterCommit() {
+                stringRedisTemplate.opsForValue().set(submitKey, JSON.toJSONString(orderSubmitVO),
+                        orderNumberProperties.getIdempotencyExpireSeconds(), TimeUnit.SECONDS);
+            }
+        });
+    }
+
     /**
      * 订单支付
      *
      * @param ordersPaymentDTO
      * @return
      */
+    @Transactional
     public OrderPaymentVO payment(OrdersPaymentDTO ordersPaymentDTO) throws Exception {
         // 当前登录用户id
         Long userId = BaseContext.getCurrentId();
         User user = userMapper.getById(userId);
 
+        // 根据订单号查询当前用户的订单
+        Orders ordersDB = orderMapper.getByNumber(ordersPaymentDTO.getOrderNumber());
+        if (ordersDB == null || !ordersDB.getUserId().equals(userId)) {
+            throw new OrderBusinessException(MessageConstant.ORDER_NOT_FOUND);
+        }
+
         // //调用微信支付接口，生成预支付交易单
         // JSONObject jsonObject = weChatPayUtil.pay(
         //         ordersPaymentDTO.getOrderNumber(), //商户订单号
@@ -157,35 +263,55 @@ public class OrderServiceImpl implements OrderService{
         OrderPaymentVO vo = jsonObject.toJavaObject(OrderPaymentVO.class);
         vo.setPackageStr(jsonObject.getString("package"));
 
-        //为替代微信支付成功后的数据库订单状态更新，多定义一个方法进行修改
-        Integer OrderPaidStatus = Orders.PAID;//支付状态，已支付
-        Integer OrderStatus = Orders.TO_BE_CONFIRMED;//订单状态，待接单
-        //发现没有将支付时间 check_out属性赋值，所以在这里更新
-        LocalDateTime check_out_time = LocalDateTime.now();
-        orderMapper.updateStatus(OrderStatus, OrderPaidStatus, check_out_time, orderid);
+        //跳过了微信支付，直接修改订单为已支付，来单提醒由状态变化事件触发
+        Orders orders = Orders.builder()
+                .payStatus(Orders.PAID)
+                .checkoutTime(LocalDateTime.now())
+                .build();
+        orderStateMachine.transition(ordersDB, OrderTransition.PAY, orders);
 
         return vo;
     }
 
     /**
      * 支付成功，修改订单状态
+     * 订单已经取消时支付状态改为退款，需要人工退款
      *
      * @param outTradeNo
      */
+    @Transactional
     public void paySuccess(String outTradeNo) {
 
         // 根据订单号查询订单
         Orders ordersDB = orderMapper.getByNumber(outTradeNo);
 
-        // 根据订单id更新订单的状态、支付方式、支付状态、结账时间
+        // 根据订单id更新订单的状态、支付状态、结账时间
         Orders orders = Orders.builder()
-                .id(ordersDB.getId())
-                .status(Orders.TO_BE_CONFIRMED)
                 .payStatus(Orders.PAID)
                 .checkoutTime(LocalDateTime.now())
                 .build();
 
-        orderMapper.update(orders);
+        if (orderStateMachine.tryTransition(ordersDB, OrderTransition.PAY, orders)) {
+            return;
+        }
+
+        //状态可能在查询后被并发修改，重新查询当前状态
+        Orders current = orderMapper.getById(ordersDB.getId());
+        if (Orders.CANCELLED.equals(current.getStatus()) && Orders.UN_PAID.equals(current.getPayStatus())) {
+            //订单已经超时或被取消，用户仍然完成了支付，标记为退款
+            Orders refund = Orders.builder()
+                    .id(current.getId())
+                    .status(Orders.CANCELLED)
+                    .payStatus(Orders.REFUND)
+                    .checkoutTime(orders.getCheckoutTime())
+                    .build();
+            orderMapper.updateWithStatus(refund, Orders.CANCELLED);
+            log.error("订单已取消但收到支付成功回调，已标记为退款，订单号：{}", outTradeNo);
+            return;
+        }
+
+        //微信会重复发送支付回调，订单已经支付时不再处理
+        log.warn("支付回调时订单不是待付款状态，订单号：{}，状态：{}", outTradeNo, current.getStatus());
     }
 
 
@@ -210,15 +336,106 @@ public class OrderServiceImpl implements OrderService{
 
         //分页条件查询
         Page<Orders> page = orderMapper.pageQuery(ordersPageQueryDTO);
+        List<OrderVO> list = getOrderVOList(page.getResult());
+
+        return new PageResult(page.getTotal(), list);
+    }
+
+    /**
+     * 历史订单游标分页查询
+     * @param ordersPageQueryDTO
+     * @return
+     */
+    public CursorPageResult cursorQueryByUser(OrdersPageQueryDTO ordersPageQueryDTO) {
+        ordersPageQueryDTO.setUserId(BaseContext.getCurrentId());
+        int pageSize = CursorPageResult.normalizePageSize(ordersPageQueryDTO.getPageSize());
+        PageCursor cursor = PageCursor.decode(ordersPageQueryDTO.getCursor());
+
+        //多查询一条数据，用于判断是否还有下一页
+        List<Orders> ordersList = orderMapper.cursorQuery(ordersPageQueryDTO, cursor, pageSize + 1);
+        CursorPageResult cursorPageResult = CursorPageResult.of(ordersList, pageSize,
+                o -> new PageCursor(o.getOrderTime(), o.getId()), null);
+
+        //只有请求时才统计总记录数
+        if(Boolean.TRUE.equals(ordersPageQueryDTO.getWithTotal())) {
+            cursorPageResult.setTotal(PageHelper.count(() -> orderMapper.pageQuery(ordersPageQueryDTO)));
+        }
+
+        cursorPageResult.setRecords(getOrderVOList(cursorPageResult.getRecords()));
+        return cursorPageResult;
+    }
+
+    /**
+     * 管理端订单搜索
+     * @param ordersPageQueryDTO
+     * @return
+     */
+    public PageResult conditionSearch(OrdersPageQueryDTO ordersPageQueryDTO) {
+        //订单号和手机号中的通配符按普通字符匹配
+        OrdersPageQueryDTO query = new OrdersPageQueryDTO();
+        BeanUtils.copyProperties(ordersPageQueryDTO, query);
+        query.setNumber(escapeLike(ordersPageQueryDTO.getNumber()));
+        query.setPhone(escapeLike(ordersPageQueryDTO.getPhone()));
+
+        long total = orderMapper.countConditionSearch(query);
+        int pageSize = ordersPageQueryDTO.getPageSize();
+        int offset = (Math.max(ordersPageQueryDTO.getPage(), 1) - 1) * pageSize;
+        List<Orders> ordersList = total > offset
+                ? orderMapper.conditionSearch(query, offset, pageSize) : new ArrayList<>();
+
+        //列表中只展示菜品名称和数量，不返回订单明细
+        List<OrderVO> list = getOrderVOList(ordersList);
+        for (OrderVO orderVO : list) {
+            String orderDishes = orderVO.getOrderDetailList().stream()
+                    .map(x -> x.getName() + "*" + x.getNumber() + ";")
+                    .collect(Collectors.joining(""));
+            orderVO.setOrderDishes(orderDishes);
+            orderVO.setOrderDetailList(null);
+        }
+
+        return new PageResult(total, list);
+    }
+
+    /**
+     * 转义like前缀中的转义字符和通配符，转义字符为!
+     * @param prefix
+     * @return
+     */
+    static String escapeLike(String prefix) {
+        if (prefix == null) {
+            return null;
+        }
+        return prefix.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+    /**
+     * 各状态订单数量统计，直接读取redis中的计数器
+     * @return
+     */
+    public OrderStatisticsVO statistics() {
+        return orderStatusCounter.statistics();
+    }
+
+    /**
+     * 将订单数据封装为包含订单详细信息的OrderVO
+     * @param ordersList
+     * @return
+     */
+    private List<OrderVO> getOrderVOList(List<Orders> ordersList) {
         List<OrderVO> list = new ArrayList<>();
 
-        if(page != null && page.getTotal() > 0) {
+        if(ordersList != null && ordersList.size() > 0) {
+
+            //一次查询出所有订单的详细信息，再按订单id分组
+            List<Long> orderIds = ordersList.stream().map(Orders::getId).collect(Collectors.toList());
+            Map<Long, List<OrderDetail>> orderDetailMap = orderDetailMapper.getByOrderIds(orderIds).stream()
+                    .collect(Collectors.groupingBy(OrderDetail::getOrderId));
 
-            for(Orders orders : page) {
+            for(Orders orders : ordersList) {
                 Long orderId = orders.getId();
 
-                //查询订单详细信息
-                List<OrderDetail> orderDetailList = orderDetailMapper.getByOrderId(orderId);
+                //取出订单详细信息
+                List<OrderDetail> orderDetailList = orderDetailMap.getOrDefault(orderId, new ArrayList<>());
                 //封装进OrderVO中
                 OrderVO orderVO = new OrderVO();
                 BeanUtils.copyProperties(orders, orderVO);
@@ -228,7 +445,7 @@ public class OrderServiceImpl implements OrderService{
 
         }
 
-        return new PageResult(page.getTotal(), list);
+        return list;
     }
 
     /**
@@ -257,6 +474,7 @@ public class OrderServiceImpl implements OrderService{
      * 用户端根据订单id取消订单
      * @param id
      */
+    @Transactional
     public void cancelByidWithUser(Long id) throws Exception {
         //  订单状态 1待付款 2待接单 3已接单 4派送中 5已完成 6已取消
         // - 待支付和待接单状态下，用户可直接取消订单
@@ -272,25 +490,18 @@ public class OrderServiceImpl implements OrderService{
         if(orders == null) {
             throw new OrderBusinessException(MessageConstant.ORDER_NOT_FOUND);
         }
-        //是否是待支付和待接单状态下
-        if(orders.getStatus() > 2) {
-            throw new OrderBusinessException(MessageConstant.ORDER_STATUS_ERROR);
-        }
 
         Orders orders1 = new Orders();
-        orders1.setId(orders.getId());
         //如果订单处于待接单状态，则已经付过款，则需要退款操作
-        if(orders.getStatus() == 2) {
+        if(Orders.TO_BE_CONFIRMED.equals(orders.getStatus())) {
             //由于跳过了微信支付操作，只需要改数据库状态
             orders1.setPayStatus(Orders.REFUND);
         }
-        //将数据封装进order1中
-        orders1.setStatus(Orders.CANCELLED);
         orders1.setCancelReason("用户取消");
         orders1.setCancelTime(LocalDateTime.now());
 
-        orderMapper.update(orders1);
-        
+        //只有待支付和待接单状态下可以取消，商家同时接单时只有一方能成功
+        orderStateMachine.transition(orders, OrderTransition.USER_CANCEL, orders1);
     }
 
 
@@ -318,7 +529,148 @@ public class OrderServiceImpl implements OrderService{
 
         }).collect(Collectors.toList());
 
-        shoppingCartMapper.insertBatch(shoppingCartList);
+        shoppingCartStorage.addBatch(userId, shoppingCartList);
+
+    }
+
+    /**
+     * 客户催单
+     * @param id
+     */
+    public void reminder(Long id) {
+        Orders ordersDB = orderMapper.getById(id);
+
+        //只能催自己的订单
+        if (ordersDB == null || !ordersDB.getUserId().equals(BaseContext.getCurrentId())) {
+            throw new OrderBusinessException(MessageConstant.ORDER_NOT_FOUND);
+        }
+
+        //通知商家后台客户催单
+        orderPushRelay.reminder(ordersDB);
+    }
+
+    /**
+     * 完成订单
+     * @param id
+     */
+    @Transactional
+    public void complete(Long id) {
+        Orders ordersDB = orderMapper.getById(id);
+
+        //只有派送中的订单才能完成，条件更新保证并发完成时只统计一次，报表在状态变化事件中累加
+        Orders orders = Orders.builder()
+                .deliveryTime(LocalDateTime.now())
+                .build();
+        orderStateMachine.transition(ordersDB, OrderTransition.COMPLETE, orders);
+    }
+
+    /**
+     * 商家接单
+     * @param ordersConfirmDTO
+     */
+    @Transactional
+    public void confirm(OrdersConfirmDTO ordersConfirmDTO) {
+        Orders ordersDB = orderMapper.getById(ordersConfirmDTO.getId());
+        orderStateMachine.transition(ordersDB, OrderTransition.CONFIRM, null);
+    }
+
+    /**
+     * 商家拒单，已支付的订单需要退款
+     * @param ordersRejectionDTO
+     */
+    @Transactional
+    public void rejection(OrdersRejectionDTO ordersRejectionDTO) {
+        Orders ordersDB = orderMapper.getById(ordersRejectionDTO.getId());
+
+        Orders orders = Orders.builder()
+                .rejectionReason(ordersRejectionDTO.getRejectionReason())
+                .cancelTime(LocalDateTime.now())
+                .build();
+        if (ordersDB != null && Orders.PAID.equals(ordersDB.getPayStatus())) {
+            //由于跳过了微信支付操作，只需要改数据库状态
+            orders.setPayStatus(Orders.REFUND);
+        }
+        orderStateMachine.transition(ordersDB, OrderTransition.REJECT, orders);
+    }
 
+    /**
+     * 商家取消订单，已支付的订单需要退款
+     * @param ordersCancelDTO
+     */
+    @Transactional
+    public void cancel(OrdersCancelDTO ordersCancelDTO) {
+        Orders ordersDB = orderMapper.getById(ordersCancelDTO.getId());
+
+        Orders orders = Orders.builder()
+                .cancelReason(ordersCancelDTO.getCancelReason())
+                .cancelTime(LocalDateTime.now())
+                .build();
+        if (ordersDB != null && Orders.PAID.equals(ordersDB.getPayStatus())) {
+            //由于跳过了微信支付操作，只需要改数据库状态
+            orders.setPayStatus(Orders.REFUND);
+        }
+        orderStateMachine.transition(ordersDB, OrderTransition.ADMIN_CANCEL, orders);
+    }
+
+    /**
+     * 派送订单
+     * @param id
+     */
+    @Transactional
+    public void delivery(Long id) {
+        Orders ordersDB = orderMapper.getById(id);
+        orderStateMachine.transition(ordersDB, OrderTransition.DELIVER, null);
+    }
+
+    /**
+     * 取消超时未支付的订单，订单同时支付时只有一方能成功
+     * @param id
+     * @return 订单已经不是待付款状态时返回false
+     */
+    @Transactional
+    public boolean cancelTimeoutOrder(Long id) {
+        Orders ordersDB = orderMapper.getById(id);
+        if (ordersDB == null) {
+            return false;
+        }
+
+        Orders orders = Orders.builder()
+                .cancelReason(MessageConstant.ORDER_PAYMENT_TIMEOUT)
+                .cancelTime(LocalDateTime.now())
+                .build();
+        return orderStateMachine.tryTransition(ordersDB, OrderTransition.TIMEOUT_CANCEL, orders);
+    }
+
+    /**
+     * 取消一批超时未支付的订单，锁定后用一条语句修改整批订单
+     * @param before 下单时间早于该时间的订单视为超时
+     * @param limit
+     * @return 取消的订单数
+     */
+    @Transactional
+    public int cancelTimeoutOrders(LocalDateTime before, int limit) {
+        List<Orders> ordersList = orderMapper.listByStatusForUpdate(Orders.PENDING_PAYMENT, before, limit);
+
+        Orders orders = Orders.builder()
+                .cancelReason(MessageConstant.ORDER_PAYMENT_TIMEOUT)
+                .cancelTime(LocalDateTime.now())
+                .build();
+        return orderStateMachine.transitionAll(ordersList, OrderTransition.TIMEOUT_CANCEL, orders);
+    }
+
+    /**
+     * 完成一批长时间处于派送中的订单，锁定后用一条语句修改整批订单
+     * @param before 下单时间早于该时间的订单可以自动完成
+     * @param limit
+     * @return 完成的订单数
+     */
+    @Transactional
+    public int completeDeliveryOrders(LocalDateTime before, int limit) {
+        List<Orders> ordersList = orderMapper.listByStatusForUpdate(Orders.DELIVERY_IN_PROGRESS, before, limit);
+
+        Orders orders = Orders.builder()
+                .deliveryTime(LocalDateTime.now())
+                .build();
+        return orderStateMachine.transitionAll(ordersList, OrderTransition.COMPLETE, orders);
     }
 }
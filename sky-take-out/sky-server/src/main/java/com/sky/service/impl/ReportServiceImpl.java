@@ -0,0 +1,386 @@
+package com.sky.service.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.sky.constant.MessageConstant;
+import com.sky.dto.GoodsSalesDTO;
+import com.sky.entity.DailyBusinessStat;
+import com.sky.entity.OrderDetail;
+import com.sky.entity.Orders;
+import com.sky.entity.User;
+import com.sky.exception.BaseException;
+import com.sky.mapper.ReportMapper;
+import com.sky.mapper.UserMapper;
+import com.sky.report.BusinessReportSheet;
+import com.sky.service.ReportService;
+import com.sky.vo.BusinessDataVO;
+import com.sky.vo.OrderReportVO;
+import com.sky.vo.SalesTop10ReportVO;
+import com.sky.vo.TurnoverReportVO;
+import com.sky.vo.UserReportVO;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 报表统计，数据来自每日汇总表，一次范围查询即可得到整个日期范围的数据
+ */
+@Service
+@Slf4j
+public class ReportServiceImpl implements ReportService {
+
+    //没有数据的日期使用的空汇总
+    private static final DailyBusinessStat EMPTY_STAT = DailyBusinessStat.builder()
+            .turnover(BigDecimal.ZERO)
+            .validOrderCount(0)
+            .totalOrderCount(0)
+            .newUserCount(0)
+            .build();
+
+    //导出报表时内存中保留的行数，超出的行写入临时文件
+    private static final int EXPORT_ROW_WINDOW = 100;
+
+    @Autowired
+    private ReportMapper reportMapper;
+    @Autowired
+    private UserMapper userMapper;
+
+    /**
+     * 营业额统计
+     * @param begin
+     * @param end
+     * @return
+     */
+    public TurnoverReportVO getTurnoverStatistics(LocalDate begin, LocalDate end) {
+        List<LocalDate> dateList = dateList(begin, end);
+        Map<LocalDate, DailyBusinessStat> statMap = statMap(begin, end);
+
+        List<BigDecimal> turnoverList = new ArrayList<>();
+        for (LocalDate date : dateList) {
+            turnoverList.add(statMap.getOrDefault(date, EMPTY_STAT).getTurnover());
+        }
+
+        return TurnoverReportVO.builder()
+                .dateList(join(dateList))
+                .turnoverList(join(turnoverList))
+                .build();
+    }
+
+    /**
+     * 用户统计
+     * @param begin
+     * @param end
+     * @return
+     */
+    public UserReportVO getUserStatistics(LocalDate begin, LocalDate end) {
+        List<LocalDate> dateList = dateList(begin, end);
+        Map<LocalDate, DailyBusinessStat> statMap = statMap(begin, end);
+
+        //开始日期之前的用户总数从用户表统计，汇总表可能只重新汇总过部分日期；之后逐日累加新增用户
+        int totalUser = userMapper.countBefore(begin.atStartOfDay());
+        List<Integer> newUserList = new ArrayList<>();
+        List<Integer> totalUserList = new ArrayList<>();
+        for (LocalDate date : dateList) {
+            int newUser = statMap.getOrDefault(date, EMPTY_STAT).getNewUserCount();
+            totalUser += newUser;
+            newUserList.add(newUser);
+            totalUserList.add(totalUser);
+        }
+
+        return UserReportVO.builder()
+                .dateList(join(dateList))
+                .totalUserList(join(totalUserList))
+                .newUserList(join(newUserList))
+                .build();
+    }
+
+    /**
+     * 订单统计
+     * @param begin
+     * @param end
+     * @return
+     */
+    public OrderReportVO getOrderStatistics(LocalDate begin, LocalDate end) {
+        List<LocalDate> dateList = dateList(begin, end);
+        Map<LocalDate, DailyBusinessStat> statMap = statMap(begin, end);
+
+        int totalOrderCount = 0;
+        int validOrderCount = 0;
+        List<Integer> orderCountList = new ArrayList<>();
+        List<Integer> validOrderCountList = new ArrayList<>();
+        for (LocalDate date : dateList) {
+            DailyBusinessStat stat = statMap.getOrDefault(date, EMPTY_STAT);
+            orderCountList.add(stat.getTotalOrderCount());
+            validOrderCountList.add(stat.getValidOrderCount());
+            totalOrderCount += stat.getTotalOrderCount();
+            validOrderCount += stat.getValidOrderCount();
+        }
+
+        //订单完成率
+        Double orderCompletionRate = 0.0;
+        if (totalOrderCount != 0) {
+            orderCompletionRate = validOrderCount * 1.0 / totalOrderCount;
+        }
+
+        return OrderReportVO.builder()
+                .dateList(join(dateList))
+                .orderCountList(join(orderCountList))
+                .validOrderCountList(join(validOrderCountList))
+                .totalOrderCount(totalOrderCount)
+                .validOrderCount(validOrderCount)
+                .orderCompletionRate(orderCompletionRate)
+                .build();
+    }
+
+    /**
+     * 销量排名前10的商品
+     * @param begin
+     * @param end
+     * @return
+     */
+    public SalesTop10ReportVO getSalesTop10(LocalDate begin, LocalDate end) {
+        checkRange(begin, end);
+        List<GoodsSalesDTO> salesTop10 = reportMapper.salesTop(begin, end, 10);
+
+        List<String> nameList = salesTop10.stream().map(GoodsSalesDTO::getName).collect(Collectors.toList());
+        List<Integer> numberList = salesTop10.stream().map(GoodsSalesDTO::getNumber).collect(Collectors.toList());
+
+        return SalesTop10ReportVO.builder()
+                .nameList(join(nameList))
+                .numberList(join(numberList))
+                .build();
+    }
+
+    /**
+     * 日期范围内的运营数据概览
+     * @param begin
+     * @param end
+     * @return
+     */
+    public BusinessDataVO getBusinessData(LocalDate begin, LocalDate end) {
+        checkRange(begin, end);
+        return toBusinessData(reportMapper.sumByDate(begin, end));
+    }
+
+    /**
+     * 导出运营数据报表
+     * 使用SXSSF只在内存中保留固定行数，明细数据通过游标逐行读取，内存占用与日期范围无关
+     * @param begin
+     * @param end
+     * @param out
+     * @throws IOException
+     */
+    @Transactional(readOnly = true)
+    public void exportBusinessData(LocalDate begin, LocalDate end, OutputStream out) throws IOException {
+        checkRange(begin, end);
+        //概览在明细之前写入，先单独汇总
+        BusinessDataVO businessData = getBusinessData(begin, end);
+
+        SXSSFWorkbook workbook = new SXSSFWorkbook(EXPORT_ROW_WINDOW);
+        workbook.setCompressTempFiles(true);
+        try {
+            BusinessReportSheet sheet = new BusinessReportSheet(workbook);
+            sheet.writeOverview(begin, end, businessData);
+
+            //按日期顺序合并游标中的数据，没有数据的日期补0
+            try (Cursor<DailyBusinessStat> cursor = reportMapper.cursorByDate(begin, end)) {
+                Iterator<DailyBusinessStat> iterator = cursor.iterator();
+                DailyBusinessStat next = iterator.hasNext() ? iterator.next() : null;
+                for (LocalDate date = begin; !date.isAfter(end); date = date.plusDays(1)) {
+                    BusinessDataVO daily;
+                    if (next != null && next.getStatDate().equals(date)) {
+                        daily = toBusinessData(next);
+                        next = iterator.hasNext() ? iterator.next() : null;
+                    } else {
+                        daily = toBusinessData(EMPTY_STAT);
+                    }
+                    sheet.writeDetail(date, daily);
+                }
+            }
+
+            workbook.write(out);
+            out.flush();
+        } finally {
+            //删除SXSSF写出的临时文件
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    /**
+     * 用户下单后累加当天的订单总数
+     * 当天只有一行汇总数据，在下单事务中修改会让全部下单请求在这一行上排队，因此等事务提交后再累加
+     * 累加失败时通过重新汇总修正
+     * @param orders
+     */
+    public void recordOrderSubmitted(Orders orders) {
+        LocalDate statDate = orders.getOrderTime().toLocalDate();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                public void afterCommit() {
+                    addOrderCount(statDate);
+                }
+            });
+        } else {
+            addOrderCount(statDate);
+        }
+    }
+
+    private void addOrderCount(LocalDate statDate) {
+        try {
+            reportMapper.addOrderCount(statDate);
+        } catch (RuntimeException e) {
+            log.error("累加订单总数失败，日期：{}", statDate, e);
+        }
+    }
+
+    /**
+     * 订单完成后累加下单当天的营业额、有效订单数和商品销量
+     * @param orders
+     * @param orderDetailList
+     */
+    public void recordOrderCompleted(Orders orders, List<OrderDetail> orderDetailList) {
+        LocalDate statDate = orders.getOrderTime().toLocalDate();
+        reportMapper.addTurnover(statDate, orders.getAmount(), 1);
+        if (orderDetailList != null && orderDetailList.size() > 0) {
+            reportMapper.addDishSales(statDate, orderDetailList);
+        }
+    }
+
+    /**
+     * 一批订单完成后按下单日期合并累加，每个日期只执行一条营业数据和一条商品销量的upsert
+     * 日期和商品名称有序，多个批次并发时按相同顺序锁定汇总数据的行
+     * @param ordersList
+     * @param orderDetailList
+     */
+    public void recordOrdersCompleted(List<Orders> ordersList, List<OrderDetail> orderDetailList) {
+        Map<Long, LocalDate> statDates = new HashMap<>();
+        Map<LocalDate, BigDecimal> turnovers = new TreeMap<>();
+        Map<LocalDate, Integer> validOrderCounts = new TreeMap<>();
+        for (Orders orders : ordersList) {
+            LocalDate statDate = orders.getOrderTime().toLocalDate();
+            statDates.put(orders.getId(), statDate);
+            turnovers.merge(statDate, orders.getAmount(), BigDecimal::add);
+            validOrderCounts.merge(statDate, 1, Integer::sum);
+        }
+
+        Map<LocalDate, Map<String, Integer>> sales = new TreeMap<>();
+        for (OrderDetail orderDetail : orderDetailList) {
+            sales.computeIfAbsent(statDates.get(orderDetail.getOrderId()), k -> new TreeMap<>())
+                    .merge(orderDetail.getName(), orderDetail.getNumber(), Integer::sum);
+        }
+
+        turnovers.forEach((statDate, turnover) ->
+                reportMapper.addTurnover(statDate, turnover, validOrderCounts.get(statDate)));
+        sales.forEach((statDate, numbers) -> {
+            List<OrderDetail> merged = new ArrayList<>(numbers.size());
+            numbers.forEach((name, number) -> merged.add(OrderDetail.builder().name(name).number(number).build()));
+            reportMapper.addDishSales(statDate, merged);
+        });
+    }
+
+    /**
+     * 新用户注册后累加当天的新增用户数
+     * @param user
+     */
+    public void recordNewUser(User user) {
+        reportMapper.addNewUser(user.getCreateTime().toLocalDate());
+    }
+
+    /**
+     * 根据订单表和用户表重新汇总日期范围内的报表数据
+     * 只允许重新汇总今天之前的日期，读已提交隔离级别下insert ... select对订单表和用户表是不加锁的一致性读，
+     * 不会用间隙锁阻塞新订单和新用户的插入
+     * 已经结束的日期只会因为订单完成而变化，与重新汇总同时完成的订单可能被漏算或重复累加，再次重新汇总即可修正
+     * @param begin
+     * @param end
+     */
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public void rebuild(LocalDate begin, LocalDate end) {
+        checkRange(begin, end);
+        if (!end.isBefore(LocalDate.now())) {
+            throw new BaseException(MessageConstant.REPORT_REBUILD_CLOSED_DAYS_ONLY);
+        }
+        log.info("重新汇总报表数据：{} 至 {}", begin, end);
+        reportMapper.deleteBusinessStat(begin, end);
+        reportMapper.deleteDishSales(begin, end);
+        reportMapper.rebuildBusinessStat(begin, end, Orders.COMPLETED);
+        reportMapper.rebuildDishSales(begin, end, Orders.COMPLETED);
+    }
+
+    /**
+     * 一次查询日期范围内的汇总数据，按日期建立索引
+     * @param begin
+     * @param end
+     * @return
+     */
+    private Map<LocalDate, DailyBusinessStat> statMap(LocalDate begin, LocalDate end) {
+        return reportMapper.listByDate(begin, end).stream()
+                .collect(Collectors.toMap(DailyBusinessStat::getStatDate, Function.identity()));
+    }
+
+    /**
+     * 日期范围内的每一天
+     * @param begin
+     * @param end
+     * @return
+     */
+    private List<LocalDate> dateList(LocalDate begin, LocalDate end) {
+        checkRange(begin, end);
+        List<LocalDate> dateList = new ArrayList<>();
+        for (LocalDate date = begin; !date.isAfter(end); date = date.plusDays(1)) {
+            dateList.add(date);
+        }
+        return dateList;
+    }
+
+    private void checkRange(LocalDate begin, LocalDate end) {
+        if (begin == null || end == null || begin.isAfter(end)) {
+            throw new BaseException(MessageConstant.REPORT_DATE_INVALID);
+        }
+    }
+
+    private static String join(List<?> list) {
+        return list.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    /**
+     * 由汇总数据计算订单完成率和平均客单价
+     * @param stat
+     * @return
+     */
+    private static BusinessDataVO toBusinessData(DailyBusinessStat stat) {
+        double turnover = stat.getTurnover().doubleValue();
+        int validOrderCount = stat.getValidOrderCount();
+        int totalOrderCount = stat.getTotalOrderCount();
+
+        return BusinessDataVO.builder()
+                .turnover(turnover)
+                .validOrderCount(validOrderCount)
+                .orderCompletionRate(totalOrderCount == 0 ? 0.0 : validOrderCount * 1.0 / totalOrderCount)
+                .unitPrice(validOrderCount == 0 ? 0.0 : stat.getTurnover()
+                        .divide(BigDecimal.valueOf(validOrderCount), 2, RoundingMode.HALF_UP).doubleValue())
+                .newUsers(stat.getNewUserCount())
+                .build();
+    }
+}
@@ -2,7 +2,9 @@ package com.sky.service.impl;
 
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -24,8 +26,11 @@ import com.sky.exception.SetmealEnableFailedException;
 import com.sky.mapper.DishMapper;
 import com.sky.mapper.SetmealDishMapper;
 import com.sky.mapper.SetmealMapper;
+import com.sky.result.CursorPageResult;
+import com.sky.result.PageCursor;
 import com.sky.result.PageResult;
 import com.sky.service.SetmealService;
+import com.sky.utils.RowDiff;
 import com.sky.vo.DishItemVO;
 import com.sky.vo.SetmealVO;
 
@@ -83,28 +88,47 @@ public class SetmealServiceImpl implements SetmealService{
         return new PageResult(page.getTotal(), page.getResult());
     }
 
+    /**
+     * 套餐游标分页查询
+     * @param setmealPageQueryDTO
+     * @return
+     */
+    public CursorPageResult cursorQuery(SetmealPageQueryDTO setmealPageQueryDTO) {
+        int pageSize = CursorPageResult.normalizePageSize(setmealPageQueryDTO.getPageSize());
+        PageCursor cursor = PageCursor.decode(setmealPageQueryDTO.getCursor());
+
+        //多查询一条数据，用于判断是否还有下一页
+        List<SetmealVO> list = setmealMapper.cursorQuery(setmealPageQueryDTO, cursor, pageSize + 1);
+
+        //只有请求时才统计总记录数
+        Long total = null;
+        if(Boolean.TRUE.equals(setmealPageQueryDTO.getWithTotal())) {
+            total = PageHelper.count(() -> setmealMapper.pageQuery(setmealPageQueryDTO));
+        }
+
+        return CursorPageResult.of(list, pageSize, s -> new PageCursor(s.getCreateTime(), s.getId()), total);
+    }
+
     /**
      * 批量删除套餐
      * @param ids
      */
+    @Transactional
     public void deteleBatch(List<Long> ids) {
-        //首先要判断当前套餐集合是否能被删除，即集合中是否存在正在售卖的套餐
-        for (Long id : ids) {
-            Setmeal setmeal = setmealMapper.getById(id);
-            if(setmeal.getStatus() == StatusConstant.ENABLE) {
-                //如果当前套餐集合中有套餐正在售卖，则不能删除这批套餐
-                throw new DeletionNotAllowedException(MessageConstant.SETMEAL_ON_SALE);
-            }
+        //没有套餐时直接返回，避免生成 id in () 的sql
+        if(ids == null || ids.isEmpty()) {
+            return;
         }
 
-        //然后将setmeal表和setmealdish表中的数据删除
-        for (Long id : ids) {
-            //删除setmeal表中对应的套餐数据
-            setmealMapper.deleteById(id);
-            //删除setmeal_dish表中对应套餐的数据
-            setmealDishMapper.deleteBysetmealId(id);
+        //首先要判断当前套餐集合是否能被删除，即集合中是否存在正在售卖的套餐
+        if(setmealMapper.countByIdsAndStatus(ids, StatusConstant.ENABLE) > 0) {
+            //如果当前套餐集合中有套餐正在售卖，则不能删除这批套餐
+            throw new DeletionNotAllowedException(MessageConstant.SETMEAL_ON_SALE);
         }
-        
+
+        //然后将setmeal表和setmealdish表中的数据删除，无论套餐数量多少都只执行两条delete
+        setmealMapper.deleteByIds(ids);
+        setmealDishMapper.deleteBysetmealIds(ids);
     }
 
     /**
@@ -129,6 +153,7 @@ public class SetmealServiceImpl implements SetmealService{
      * 修改套餐
      * @param setmealDTO
      */
+    @Transactional
     public void update(SetmealDTO setmealDTO) {
         //首先将套餐表的数据取出
         Setmeal setmeal = new Setmeal();
@@ -137,22 +162,32 @@ public class SetmealServiceImpl implements SetmealService{
         //其次，先更新setmeal表中的数据
         setmealMapper.update(setmeal);
 
-        //然后，我们先删除套餐菜品表中关联该套餐的所有数据再重新插入
+        //然后，按菜品id对应已有的数据和提交的数据，只新增、修改、删除有变化的行
         Long setmealId = setmealDTO.getId();
-
-        setmealDishMapper.deleteBysetmealId(setmealId);
-
-        //再此重新插入套餐中菜品数据
         List<SetmealDish> setmealDishs = setmealDTO.getSetmealDishes();
-        if(setmealDishs != null && setmealDishs.size() > 0) {
+        if(setmealDishs != null) {
             for (SetmealDish setmealDish : setmealDishs) {
                 setmealDish.setSetmealId(setmealId);
             }
         }
 
-        //然后插入关系表
-        setmealDishMapper.insertBatch(setmealDishs);
-        
+        RowDiff<SetmealDish> diff = RowDiff.of(setmealDishMapper.getBysetmealId(setmealId), setmealDishs,
+                SetmealDish::getDishId,
+                (old, sd) -> Objects.equals(old.getName(), sd.getName())
+                        && Objects.equals(old.getCopies(), sd.getCopies())
+                        && (old.getPrice() == null ? sd.getPrice() == null
+                            : sd.getPrice() != null && old.getPrice().compareTo(sd.getPrice()) == 0),
+                SetmealDish::getId, SetmealDish::setId);
+
+        if(!diff.getDeletes().isEmpty()) {
+            setmealDishMapper.deleteByIds(diff.getDeletes().stream().map(SetmealDish::getId).collect(Collectors.toList()));
+        }
+        if(!diff.getUpdates().isEmpty()) {
+            setmealDishMapper.updateBatch(diff.getUpdates());
+        }
+        if(!diff.getInserts().isEmpty()) {
+            setmealDishMapper.insertBatch(diff.getInserts());
+        }
     }
 
     /**
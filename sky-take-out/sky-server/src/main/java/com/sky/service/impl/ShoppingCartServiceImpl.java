@@ -1,12 +1,12 @@
 package com.sky.service.impl;
 
-import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import com.sky.cart.ShoppingCartStorage;
 import com.sky.context.BaseContext;
 import com.sky.dto.ShoppingCartDTO;
 import com.sky.entity.Dish;
@@ -14,7 +14,6 @@ import com.sky.entity.Setmeal;
 import com.sky.entity.ShoppingCart;
 import com.sky.mapper.DishMapper;
 import com.sky.mapper.SetmealMapper;
-import com.sky.mapper.ShoppingCartMapper;
 import com.sky.service.ShoppingCartService;
 
 import lombok.extern.slf4j.Slf4j;
@@ -24,7 +23,7 @@ import lombok.extern.slf4j.Slf4j;
 public class ShoppingCartServiceImpl implements ShoppingCartService{
     
     @Autowired
-    private ShoppingCartMapper shoppingCartMapper;
+    private ShoppingCartStorage shoppingCartStorage;
     @Autowired
     private DishMapper dishMapper;
     @Autowired
@@ -36,46 +35,13 @@ public class ShoppingCartServiceImpl implements ShoppingCartService{
      */
     public void addShoppingCart(ShoppingCartDTO shoppingCartDTO) {
         
-        //判断当前加入购物车的商品是否存在
         ShoppingCart shoppingCart = new ShoppingCart();
         BeanUtils.copyProperties(shoppingCartDTO, shoppingCart);
         Long userId = BaseContext.getCurrentId();
         shoppingCart.setUserId(userId);
 
-        List<ShoppingCart> list = shoppingCartMapper.list(shoppingCart);
-
-        //若存在，则只需要对应商品数量加一
-        if(list != null && list.size() > 0) {
-            ShoppingCart cart = list.get(0);
-            cart.setNumber(cart.getNumber() + 1); //update shopping_cart set number = ? where id = ?     
-            shoppingCartMapper.updateNumberById(cart);   
-        }else{
-            //若不存在，需要插入一条新的购物车数据
-            //先判断这一次添加到购物车的商品是菜品还是套餐
-            Long dishId = shoppingCart.getDishId();
-            Long setmealId = shoppingCart.getSetmealId();
-
-            if(dishId != null) {
-                //本次是菜品
-                Dish dish = dishMapper.getById(dishId);
-                shoppingCart.setName(dish.getName());
-                shoppingCart.setImage(dish.getImage());
-                shoppingCart.setAmount(dish.getPrice());
-            }else{
-                //本次是套餐
-                Setmeal setmeal = setmealMapper.getById(setmealId);
-                shoppingCart.setName(setmeal.getName());
-                shoppingCart.setImage(setmeal.getImage());
-                shoppingCart.setAmount(setmeal.getPrice());
-            }
-
-            shoppingCart.setNumber(1);
-            shoppingCart.setCreateTime(LocalDateTime.now());
-            //插入购物车表中
-            shoppingCartMapper.insert(shoppingCart);
-
-        }
-
+        //已存在的商品数量加一，不存在时补全商品信息后加入购物车
+        shoppingCartStorage.add(shoppingCart, this::fillSnapshot);
     }
 
 
@@ -85,11 +51,7 @@ public class ShoppingCartServiceImpl implements ShoppingCartService{
      */
     public List<ShoppingCart> showShoppingCart() {
         Long userId = BaseContext.getCurrentId();
-        ShoppingCart shoppingCart = ShoppingCart.builder()
-                            .userId(userId)
-                            .build();
-        List<ShoppingCart> list = shoppingCartMapper.list(shoppingCart);
-        return list;
+        return shoppingCartStorage.list(userId);
     }
 
     
@@ -99,7 +61,7 @@ public class ShoppingCartServiceImpl implements ShoppingCartService{
     public void cleanShoppingCart() {
         //获取当前用户id
         Long userId = BaseContext.getCurrentId();
-        shoppingCartMapper.deleteByUser(userId);
+        shoppingCartStorage.clean(userId);
     }
 
 
@@ -113,22 +75,32 @@ public class ShoppingCartServiceImpl implements ShoppingCartService{
         BeanUtils.copyProperties(shoppingCartDTO, shoppingCart);
         //设置当前购物车数据的用户id
         shoppingCart.setUserId(BaseContext.getCurrentId());
-        //查询当前用户的购物车中此商品的数据
-        List<ShoppingCart> list = shoppingCartMapper.list(shoppingCart);
-        if(list != null && list.size() > 0) {
-            shoppingCart = list.get(0);
-        }
+        shoppingCartStorage.sub(shoppingCart);
+    }
+
 
-        if(shoppingCart.getNumber() == 1) {
-            //若当前此商品份数为1，则全部删除
-            shoppingCartMapper.deleteById(shoppingCart.getId());
+    /**
+     * 从菜单中查询商品的名称、图片和价格，作为购物车中的商品快照
+     * @param shoppingCart
+     */
+    private void fillSnapshot(ShoppingCart shoppingCart) {
+        //先判断这一次添加到购物车的商品是菜品还是套餐
+        Long dishId = shoppingCart.getDishId();
+        Long setmealId = shoppingCart.getSetmealId();
+
+        if(dishId != null) {
+            //本次是菜品
+            Dish dish = dishMapper.getById(dishId);
+            shoppingCart.setName(dish.getName());
+            shoppingCart.setImage(dish.getImage());
+            shoppingCart.setAmount(dish.getPrice());
         }else{
-            //若不唯一，则更新分数减少1
-            shoppingCart.setNumber(shoppingCart.getNumber() - 1 );
-            shoppingCartMapper.updateNumberById(shoppingCart);
+            //本次是套餐
+            Setmeal setmeal = setmealMapper.getById(setmealId);
+            shoppingCart.setName(setmeal.getName());
+            shoppingCart.setImage(setmeal.getImage());
+            shoppingCart.setAmount(setmeal.getPrice());
         }
-
-        
     }
 
 }
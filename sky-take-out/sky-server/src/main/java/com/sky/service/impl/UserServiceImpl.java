@@ -14,8 +14,10 @@ import com.sky.entity.User;
 import com.sky.exception.LoginFailedException;
 import com.sky.mapper.UserMapper;
 import com.sky.properties.WeChatProperties;
+import com.sky.service.ReportService;
 import com.sky.service.UserService;
 import com.sky.utils.HttpClientUtil;
+import com.sky.workspace.WorkspaceCounter;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -32,6 +34,10 @@ public class UserServiceImpl implements UserService{
     private WeChatProperties weChatProperties;
     @Autowired
     private UserMapper userMapper;
+    @Autowired
+    private ReportService reportService;
+    @Autowired
+    private WorkspaceCounter workspaceCounter;
 
     /**
      * 微信登陆
@@ -57,6 +63,9 @@ public class UserServiceImpl implements UserService{
                     .build();
 
             userMapper.insert(user);
+            //累加报表中当天的新增用户数
+            reportService.recordNewUser(user);
+            workspaceCounter.userCreated(user);
         }
 
         //返回这个用户对象user
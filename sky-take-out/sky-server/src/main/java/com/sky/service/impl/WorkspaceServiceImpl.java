@@ -0,0 +1,101 @@
+package com.sky.service.impl;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.sky.constant.StatusConstant;
+import com.sky.entity.Orders;
+import com.sky.mapper.DishMapper;
+import com.sky.mapper.SetmealMapper;
+import com.sky.service.WorkspaceService;
+import com.sky.vo.BusinessDataVO;
+import com.sky.vo.DishOverViewVO;
+import com.sky.vo.OrderOverViewVO;
+import com.sky.vo.SetmealOverViewVO;
+import com.sky.workspace.WorkspaceCounter;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 工作台，今日数据直接读取内存计数器，不查询订单表
+ */
+@Service
+@Slf4j
+public class WorkspaceServiceImpl implements WorkspaceService {
+
+    @Autowired
+    private WorkspaceCounter workspaceCounter;
+    @Autowired
+    private DishMapper dishMapper;
+    @Autowired
+    private SetmealMapper setmealMapper;
+
+    /**
+     * 今日运营数据
+     * @return
+     */
+    public BusinessDataVO getBusinessData() {
+        WorkspaceCounter.DayCounter counter = workspaceCounter.current();
+
+        int totalOrderCount = counter.getTotalOrders();
+        int validOrderCount = counter.getStatusCount(Orders.COMPLETED);
+
+        Double orderCompletionRate = 0.0;
+        Double unitPrice = 0.0;
+        if (totalOrderCount != 0 && validOrderCount != 0) {
+            //订单完成率 = 有效订单数 / 订单总数，平均客单价 = 营业额 / 有效订单数
+            orderCompletionRate = validOrderCount * 1.0 / totalOrderCount;
+            unitPrice = counter.getTurnover()
+                    .divide(BigDecimal.valueOf(validOrderCount), 2, RoundingMode.HALF_UP).doubleValue();
+        }
+
+        return BusinessDataVO.builder()
+                .turnover(counter.getTurnover().doubleValue())
+                .validOrderCount(validOrderCount)
+                .orderCompletionRate(orderCompletionRate)
+                .unitPrice(unitPrice)
+                .newUsers(counter.getNewUsers())
+                .build();
+    }
+
+    /**
+     * 今日订单管理数据
+     * @return
+     */
+    public OrderOverViewVO getOrderOverView() {
+        WorkspaceCounter.DayCounter counter = workspaceCounter.current();
+
+        return OrderOverViewVO.builder()
+                .waitingOrders(counter.getStatusCount(Orders.TO_BE_CONFIRMED))
+                .deliveredOrders(counter.getStatusCount(Orders.CONFIRMED))
+                .completedOrders(counter.getStatusCount(Orders.COMPLETED))
+                .cancelledOrders(counter.getStatusCount(Orders.CANCELLED))
+                .allOrders(counter.getTotalOrders())
+                .build();
+    }
+
+    /**
+     * 菜品总览
+     * @return
+     */
+    public DishOverViewVO getDishOverView() {
+        return DishOverViewVO.builder()
+                .sold(dishMapper.countByStatus(StatusConstant.ENABLE))
+                .discontinued(dishMapper.countByStatus(StatusConstant.DISABLE))
+                .build();
+    }
+
+    /**
+     * 套餐总览
+     * @return
+     */
+    public SetmealOverViewVO getSetmealOverView() {
+        return SetmealOverViewVO.builder()
+                .sold(setmealMapper.countByStatus(StatusConstant.ENABLE))
+                .discontinued(setmealMapper.countByStatus(StatusConstant.DISABLE))
+                .build();
+    }
+}
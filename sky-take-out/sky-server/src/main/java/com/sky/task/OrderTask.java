@@ -0,0 +1,149 @@
+package com.sky.task;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.sky.properties.OrderSweepProperties;
+import com.sky.service.OrderService;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 定时处理超时订单：取消超时未支付的订单，完成长时间处于派送中的订单
+ * 订单分批处理，每批一个事务；多节点部署时通过redis租约保证同一时间只有一个节点执行
+ */
+@Component
+@Slf4j
+public class OrderTask {
+
+    //扫描任务租约的key前缀
+    private static final String LEASE_KEY_PREFIX = "order_sweep_lease_";
+
+    //只释放自己持有的租约
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "  return redis.call('DEL', KEYS[1]) " +
+            "end " +
+            "return 0", Long.class);
+
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+    @Autowired
+    private OrderSweepProperties orderSweepProperties;
+
+    private final SweepStats paymentTimeoutStats = new SweepStats();
+    private final SweepStats deliveryStats = new SweepStats();
+
+    /**
+     * 取消超时未支付的订单
+     */
+    @Scheduled(initialDelayString = "${sky.order-sweep.payment-sweep-interval-millis:600000}",
+            fixedDelayString = "${sky.order-sweep.payment-sweep-interval-millis:600000}")
+    public void processTimeoutOrder() {
+        LocalDateTime before = LocalDateTime.now().minusMinutes(orderSweepProperties.getPaymentTimeoutMinutes());
+        sweep("payment_timeout", paymentTimeoutStats, before, orderService::cancelTimeoutOrders);
+    }
+
+    /**
+     * 完成长时间处于派送中的订单
+     */
+    @Scheduled(cron = "${sky.order-sweep.delivery-cron:0 0 1 * * ?}")
+    public void processDeliveryOrder() {
+        LocalDateTime before = LocalDateTime.now().minusMinutes(orderSweepProperties.getDeliveryTimeoutMinutes());
+        sweep("delivery", deliveryStats, before, orderService::completeDeliveryOrders);
+    }
+
+    /**
+     * 各扫描任务的执行统计
+     * @return
+     */
+    public Map<String, SweepStats> stats() {
+        Map<String, SweepStats> stats = new LinkedHashMap<>();
+        stats.put("paymentTimeout", paymentTimeoutStats);
+        stats.put("delivery", deliveryStats);
+        return stats;
+    }
+
+    /**
+     * 获取租约后分批处理，某一批不满时说明已经处理完
+     * 租约到期前停止处理下一批，剩余的订单由下一次扫描处理
+     * @param name
+     * @param stats
+     * @param before
+     * @param batch 处理一批订单，返回处理的订单数
+     */
+    private void sweep(String name, SweepStats stats, LocalDateTime before,
+                       BiFunction<LocalDateTime, Integer, Integer> batch) {
+        String key = LEASE_KEY_PREFIX + name;
+        String token = UUID.randomUUID().toString();
+        long leaseMillis = orderSweepProperties.getLeaseMillis();
+        Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(key, token, leaseMillis, TimeUnit.MILLISECONDS);
+        if (!Boolean.TRUE.equals(acquired)) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        int batchSize = orderSweepProperties.getBatchSize();
+        long rows = 0;
+        try {
+            int count;
+            do {
+                count = batch.apply(before, batchSize);
+                rows += count;
+            } while (count == batchSize && System.currentTimeMillis() - start < leaseMillis);
+        } catch (RuntimeException e) {
+            log.error("订单扫描任务{}失败", name, e);
+        } finally {
+            stringRedisTemplate.execute(RELEASE_SCRIPT, Collections.singletonList(key), token);
+            long duration = System.currentTimeMillis() - start;
+            stats.record(rows, duration);
+            if (rows > 0) {
+                log.info("订单扫描任务{}处理订单：{}，耗时：{}ms", name, rows, duration);
+            }
+        }
+    }
+
+    /**
+     * 扫描任务在当前节点的执行统计
+     */
+    @Getter
+    public static class SweepStats {
+
+        //执行次数
+        private volatile long runs;
+        //累计处理的订单数
+        private volatile long rows;
+        //最近一次处理的订单数
+        private volatile long lastRows;
+        //最近一次耗时(毫秒)
+        private volatile long lastDurationMillis;
+        //累计耗时(毫秒)
+        private volatile long totalDurationMillis;
+        //最近一次执行时间
+        private volatile LocalDateTime lastRunTime;
+
+        //只在调度线程中更新
+        private void record(long rows, long durationMillis) {
+            this.runs++;
+            this.rows += rows;
+            this.lastRows = rows;
+            this.lastDurationMillis = durationMillis;
+            this.totalDurationMillis += durationMillis;
+            this.lastRunTime = LocalDateTime.now();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.sky.websocket;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PreDestroy;
+import javax.websocket.Session;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.alibaba.fastjson.JSON;
+import com.sky.entity.Orders;
+import com.sky.properties.WebSocketProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 订单消息推送：消息先发布到redis频道，每个节点收到后推送给本节点上连接的商家后台
+ * 推送通过有界线程池异步执行，网络慢的客户端不会阻塞订单事务和其他客户端
+ */
+@Component
+@Slf4j
+public class OrderPushRelay implements MessageListener {
+
+    //订单推送消息的频道
+    public static final String CHANNEL = "order_push";
+
+    //消息类型：1来单提醒 2客户催单
+    public static final Integer NEW_ORDER = 1;
+    public static final Integer REMINDER = 2;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    private final ThreadPoolExecutor pushExecutor;
+    private final long sendTimeoutMillis;
+
+    public OrderPushRelay(WebSocketProperties webSocketProperties) {
+        this.sendTimeoutMillis = webSocketProperties.getSendTimeoutMillis();
+        this.pushExecutor = new ThreadPoolExecutor(
+                webSocketProperties.getPushThreads(),
+                webSocketProperties.getPushThreads(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(webSocketProperties.getPushQueueCapacity()),
+                new CustomizableThreadFactory("ws-push-"),
+                (r, executor) -> log.warn("WebSocket推送队列已满，丢弃消息"));
+    }
+
+    /**
+     * 来单提醒
+     * @param orders
+     */
+    public void newOrder(Orders orders) {
+        publish(NEW_ORDER, orders.getId(), "订单号：" + orders.getNumber());
+    }
+
+    /**
+     * 客户催单
+     * @param orders
+     */
+    public void reminder(Orders orders) {
+        publish(REMINDER, orders.getId(), "订单号：" + orders.getNumber());
+    }
+
+    /**
+     * 接收redis频道中的消息，推送给当前节点的全部客户端
+     * @param message
+     * @param pattern
+     */
+    public void onMessage(Message message, byte[] pattern) {
+        String json = new String(message.getBody(), StandardCharsets.UTF_8);
+        for (Session session : WebSocketServer.sessions()) {
+            pushExecutor.execute(() -> WebSocketServer.send(session, json, sendTimeoutMillis));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pushExecutor.shutdown();
+    }
+
+    /**
+     * 发布订单消息，在事务中调用时等事务提交后再发布，避免推送回滚的订单
+     * @param type
+     * @param orderId
+     * @param content
+     */
+    private void publish(Integer type, Long orderId, String content) {
+        Map<String, Object> map = new HashMap<>();
+        map.put("type", type);
+        map.put("orderId", orderId);
+        map.put("content", content);
+        String json = JSON.toJSONString(map);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                public void afterCommit() {
+                    send(json);
+                }
+            });
+        } else {
+            send(json);
+        }
+    }
+
+    private void send(String json) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, json);
+        } catch (Exception e) {
+            //推送失败不影响订单业务
+            log.error("订单消息发布失败：{}", json, e);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.sky.websocket;
+
+import java.util.List;
+
+import javax.annotation.PostConstruct;
+import javax.websocket.HandshakeResponse;
+import javax.websocket.server.HandshakeRequest;
+import javax.websocket.server.ServerEndpointConfig;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.sky.cache.JwtTokenCache;
+import com.sky.constant.JwtClaimsConstant;
+import com.sky.properties.JwtProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * WebSocket握手时校验管理端jwt令牌，浏览器不能为WebSocket设置请求头，令牌通过token查询参数传递
+ * 校验通过时把员工id保存到会话属性中，WebSocketServer在连接建立时关闭没有员工id的会话
+ * 配置器由容器创建实例，令牌缓存由spring初始化后保存在静态变量中
+ */
+@Component
+@Slf4j
+public class WebSocketAuthConfigurator extends ServerEndpointConfig.Configurator {
+
+    //保存员工id的会话属性
+    public static final String EMP_ID = "empId";
+    //传递令牌的查询参数
+    private static final String TOKEN_PARAM = "token";
+
+    private static volatile JwtTokenCache jwtTokenCache;
+
+    @Autowired
+    private JwtProperties jwtProperties;
+
+    @PostConstruct
+    public void init() {
+        jwtTokenCache = new JwtTokenCache(jwtProperties.getAdminSecretKey(), JwtClaimsConstant.EMP_ID,
+                jwtProperties.getVerifiedCacheSize());
+    }
+
+    public void modifyHandshake(ServerEndpointConfig sec, HandshakeRequest request, HandshakeResponse response) {
+        //每个连接使用单独的配置副本，需要清除副本中可能存在的属性
+        sec.getUserProperties().remove(EMP_ID);
+
+        List<String> tokens = request.getParameterMap().get(TOKEN_PARAM);
+        JwtTokenCache cache = jwtTokenCache;
+        if (tokens == null || tokens.isEmpty() || cache == null) {
+            return;
+        }
+        try {
+            sec.getUserProperties().put(EMP_ID, cache.verify(tokens.get(0)));
+        } catch (Exception e) {
+            log.info("WebSocket令牌校验失败：{}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.sky.websocket;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.websocket.CloseReason;
+import javax.websocket.OnClose;
+import javax.websocket.OnError;
+import javax.websocket.OnOpen;
+import javax.websocket.Session;
+import javax.websocket.server.PathParam;
+import javax.websocket.server.ServerEndpoint;
+
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 管理端WebSocket服务，向商家后台推送来单提醒和客户催单
+ * 每个连接由容器单独创建实例，所以连接信息保存在静态集合中，按会话id保存，同一个sid的多个连接互不影响
+ * 只接受携带有效管理端令牌的连接，见WebSocketAuthConfigurator
+ */
+@Component
+@ServerEndpoint(value = "/ws/{sid}", configurator = WebSocketAuthConfigurator.class)
+@Slf4j
+public class WebSocketServer {
+
+    //tomcat阻塞发送的超时时间属性
+    private static final String BLOCKING_SEND_TIMEOUT = "org.apache.tomcat.websocket.BLOCKING_SEND_TIMEOUT";
+
+    //存放当前节点的会话对象
+    private static final Map<String, Session> SESSION_MAP = new ConcurrentHashMap<>();
+
+    /**
+     * 连接建立成功调用的方法
+     */
+    @OnOpen
+    public void onOpen(Session session, @PathParam("sid") String sid) throws IOException {
+        Object empId = session.getUserProperties().get(WebSocketAuthConfigurator.EMP_ID);
+        if (empId == null) {
+            log.info("客户端：{}未登录，关闭连接", sid);
+            session.close(new CloseReason(CloseReason.CloseCodes.VIOLATED_POLICY, "unauthorized"));
+            return;
+        }
+        log.info("客户端：{}建立连接，员工id：{}", sid, empId);
+        SESSION_MAP.put(session.getId(), session);
+    }
+
+    /**
+     * 连接关闭调用的方法
+     *
+     * @param sid
+     */
+    @OnClose
+    public void onClose(Session session, @PathParam("sid") String sid) {
+        log.info("客户端：{}断开连接", sid);
+        SESSION_MAP.remove(session.getId(), session);
+    }
+
+    /**
+     * 连接出错调用的方法
+     *
+     * @param sid
+     */
+    @OnError
+    public void onError(Session session, Throwable error, @PathParam("sid") String sid) {
+        log.warn("客户端：{}连接异常：{}", sid, error.getMessage());
+        SESSION_MAP.remove(session.getId(), session);
+    }
+
+    /**
+     * 当前节点的全部会话
+     * @return
+     */
+    static Collection<Session> sessions() {
+        return SESSION_MAP.values();
+    }
+
+    /**
+     * 向一个客户端发送消息，同一会话不能并发发送，所以按会话加锁
+     * @param session
+     * @param message
+     * @param timeoutMillis 发送超时时间，超时后放弃本条消息
+     */
+    static void send(Session session, String message, long timeoutMillis) {
+        if (!session.isOpen()) {
+            return;
+        }
+        synchronized (session) {
+            try {
+                session.getUserProperties().put(BLOCKING_SEND_TIMEOUT, timeoutMillis);
+                session.getBasicRemote().sendText(message);
+            } catch (IOException e) {
+                log.warn("WebSocket消息发送失败：{}", e.getMessage());
+            }
+        }
+    }
+}
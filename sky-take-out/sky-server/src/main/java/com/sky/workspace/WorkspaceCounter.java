@@ -0,0 +1,298 @@
+package com.sky.workspace;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.alibaba.fastjson.JSON;
+import com.sky.dto.OrderStatusCountDTO;
+import com.sky.entity.Orders;
+import com.sky.entity.User;
+import com.sky.mapper.OrderMapper;
+import com.sky.mapper.UserMapper;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 工作台今日数据的内存计数器
+ * 订单状态变化和新用户注册在事务提交后发布到redis频道，每个节点收到后更新本地计数器
+ * 计数器是近似值，消息丢失或与对账交错造成的偏差在下一次对账时修正，启动时从数据库重建，跨天时自动清零
+ */
+@Component
+@Slf4j
+public class WorkspaceCounter implements MessageListener {
+
+    //计数器变化的频道
+    public static final String CHANNEL = "workspace_counter";
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+    @Autowired
+    private OrderMapper orderMapper;
+    @Autowired
+    private UserMapper userMapper;
+
+    private volatile DayCounter today = new DayCounter(LocalDate.now());
+
+    /**
+     * 用户下单
+     * @param orders
+     */
+    public void orderSubmitted(Orders orders) {
+        publish(new CounterEvent(orders.getOrderTime().toLocalDate(), null, orders.getStatus(), orders.getAmount(), false));
+    }
+
+    /**
+     * 订单状态变化
+     * @param orders 变化前的订单
+     * @param toStatus
+     */
+    public void orderStatusChanged(Orders orders, Integer toStatus) {
+        if (orders.getStatus().equals(toStatus)) {
+            return;
+        }
+        publish(new CounterEvent(orders.getOrderTime().toLocalDate(), orders.getStatus(), toStatus, orders.getAmount(), false));
+    }
+
+    /**
+     * 新用户注册
+     * @param user
+     */
+    public void userCreated(User user) {
+        publish(new CounterEvent(user.getCreateTime().toLocalDate(), null, null, null, true));
+    }
+
+    /**
+     * 今日计数器，跨天后返回新的空计数器
+     * @return
+     */
+    public DayCounter current() {
+        DayCounter counter = today;
+        LocalDate now = LocalDate.now();
+        if (!counter.getDate().equals(now)) {
+            synchronized (this) {
+                counter = today;
+                if (!counter.getDate().equals(now)) {
+                    counter = new DayCounter(now);
+                    today = counter;
+                }
+            }
+        }
+        return counter;
+    }
+
+    /**
+     * 接收计数器变化，只累加今天的数据
+     * @param message
+     * @param pattern
+     */
+    public void onMessage(Message message, byte[] pattern) {
+        CounterEvent event = JSON.parseObject(new String(message.getBody(), StandardCharsets.UTF_8), CounterEvent.class);
+        DayCounter counter = current();
+        if (!counter.getDate().equals(event.getDate())) {
+            return;
+        }
+
+        if (event.isNewUser()) {
+            counter.newUsers.increment();
+            return;
+        }
+        if (event.getFromStatus() == null) {
+            counter.totalOrders.increment();
+        } else {
+            counter.addStatus(event.getFromStatus(), -1);
+        }
+        counter.addStatus(event.getToStatus(), 1);
+        if (Orders.COMPLETED.equals(event.getToStatus())) {
+            counter.turnoverCents.add(event.getAmount().movePointRight(2).longValue());
+        }
+    }
+
+    /**
+     * 启动时从数据库重建今日计数器
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+        log.info("工作台计数器初始化完成：{}", today);
+    }
+
+    /**
+     * 定时与数据库对账，修正丢失的计数器消息
+     */
+    @Scheduled(initialDelayString = "${sky.workspace.reconcile-interval-millis:60000}",
+            fixedDelayString = "${sky.workspace.reconcile-interval-millis:60000}")
+    public void reconcile() {
+        rebuild();
+    }
+
+    /**
+     * 从数据库统计今日数据，把与本地计数器的差值累加到本地计数器
+     * 计数器是近似值：数据库统计之后、累加差值之前收到的消息会被差值抵消，直到下一次对账才重新计入
+     */
+    private void rebuild() {
+        DayCounter counter = current();
+        LocalDate date = counter.getDate();
+        LocalDateTime begin = date.atStartOfDay();
+        LocalDateTime end = begin.plusDays(1);
+
+        DayCounter snapshot = new DayCounter(date);
+        List<OrderStatusCountDTO> statusCounts = orderMapper.countByStatus(begin, end);
+        for (OrderStatusCountDTO statusCount : statusCounts) {
+            snapshot.addStatus(statusCount.getStatus(), statusCount.getCount());
+            snapshot.totalOrders.add(statusCount.getCount());
+            if (Orders.COMPLETED.equals(statusCount.getStatus())) {
+                snapshot.turnoverCents.add(statusCount.getAmount().movePointRight(2).longValue());
+            }
+        }
+        snapshot.newUsers.add(userMapper.countByCreateTime(begin, end));
+
+        if (counter.getTotalOrders() != snapshot.getTotalOrders()) {
+            log.debug("工作台计数器对账修正：{} -> {}", counter, snapshot);
+        }
+        counter.adjustTo(snapshot);
+    }
+
+    /**
+     * 在事务中调用时等事务提交后再发布，避免统计回滚的数据
+     * @param event
+     */
+    private void publish(CounterEvent event) {
+        String json = JSON.toJSONString(event);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                public void afterCommit() {
+                    send(json);
+                }
+            });
+        } else {
+            send(json);
+        }
+    }
+
+    private void send(String json) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, json);
+        } catch (Exception e) {
+            //计数器丢失的变化由定时对账修正
+            log.error("工作台计数器消息发布失败：{}", json, e);
+        }
+    }
+
+    /**
+     * 一天的计数器
+     */
+    public static class DayCounter {
+
+        //订单状态最大值，状态从1开始
+        private static final int MAX_STATUS = 7;
+
+        private final LocalDate date;
+        private final LongAdder turnoverCents = new LongAdder();
+        private final LongAdder totalOrders = new LongAdder();
+        private final LongAdder newUsers = new LongAdder();
+        private final LongAdder[] statusCounts = new LongAdder[MAX_STATUS + 1];
+
+        DayCounter(LocalDate date) {
+            this.date = date;
+            for (int i = 0; i < statusCounts.length; i++) {
+                statusCounts[i] = new LongAdder();
+            }
+        }
+
+        /**
+         * 修改状态计数，忽略未知的状态
+         * @param status
+         * @param delta
+         */
+        private void addStatus(Integer status, long delta) {
+            if (status != null && status >= 0 && status < statusCounts.length) {
+                statusCounts[status].add(delta);
+            }
+        }
+
+        /**
+         * 累加与目标计数器的差值，使各项计数等于目标值
+         * @param target
+         */
+        private void adjustTo(DayCounter target) {
+            adjust(turnoverCents, target.turnoverCents);
+            adjust(totalOrders, target.totalOrders);
+            adjust(newUsers, target.newUsers);
+            for (int i = 0; i < statusCounts.length; i++) {
+                adjust(statusCounts[i], target.statusCounts[i]);
+            }
+        }
+
+        private static void adjust(LongAdder counter, LongAdder target) {
+            long delta = target.sum() - counter.sum();
+            if (delta != 0) {
+                counter.add(delta);
+            }
+        }
+
+        public LocalDate getDate() {
+            return date;
+        }
+
+        public BigDecimal getTurnover() {
+            return BigDecimal.valueOf(turnoverCents.sum(), 2);
+        }
+
+        public int getTotalOrders() {
+            return totalOrders.intValue();
+        }
+
+        public int getNewUsers() {
+            return newUsers.intValue();
+        }
+
+        public int getStatusCount(Integer status) {
+            if (status == null || status < 0 || status >= statusCounts.length) {
+                return 0;
+            }
+            return statusCounts[status].intValue();
+        }
+
+        public String toString() {
+            return "DayCounter(date=" + date + ", turnover=" + getTurnover() + ", totalOrders=" + getTotalOrders()
+                    + ", completed=" + getStatusCount(Orders.COMPLETED) + ", newUsers=" + getNewUsers() + ")";
+        }
+    }
+
+    /**
+     * 计数器变化
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CounterEvent {
+        //所属日期，下单日期或注册日期
+        private LocalDate date;
+        //变化前的订单状态，下单时为空
+        private Integer fromStatus;
+        //变化后的订单状态
+        private Integer toStatus;
+        //订单金额
+        private BigDecimal amount;
+        //是否为新用户注册
+        private boolean newUser;
+    }
+}
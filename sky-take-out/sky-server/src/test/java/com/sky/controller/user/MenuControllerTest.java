@@ -0,0 +1,35 @@
+package com.sky.controller.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class MenuControllerTest {
+
+    @Test
+    void acceptsListedGzip() {
+        assertThat(MenuController.acceptsGzip("gzip, deflate, br")).isTrue();
+        assertThat(MenuController.acceptsGzip("br;q=1.0, GZIP;q=0.5")).isTrue();
+        assertThat(MenuController.acceptsGzip("x-gzip")).isTrue();
+    }
+
+    @Test
+    void rejectsGzipWithZeroQuality() {
+        assertThat(MenuController.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(MenuController.acceptsGzip("gzip;q=0.0, identity")).isFalse();
+        assertThat(MenuController.acceptsGzip("*, gzip;q=0")).isFalse();
+    }
+
+    @Test
+    void fallsBackToWildcardQuality() {
+        assertThat(MenuController.acceptsGzip("*")).isTrue();
+        assertThat(MenuController.acceptsGzip("*;q=0")).isFalse();
+    }
+
+    @Test
+    void rejectsMissingOrOtherEncodings() {
+        assertThat(MenuController.acceptsGzip(null)).isFalse();
+        assertThat(MenuController.acceptsGzip("identity")).isFalse();
+        assertThat(MenuController.acceptsGzip("deflate, br")).isFalse();
+    }
+}
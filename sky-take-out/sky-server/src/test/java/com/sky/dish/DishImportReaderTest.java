@@ -0,0 +1,84 @@
+package com.sky.dish;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.sky.dto.DishDTO;
+import com.sky.entity.DishFlavor;
+import com.sky.exception.DishBusinessException;
+
+class DishImportReaderTest {
+
+    private static final String HEADER = "菜品id,菜品名称,分类id,价格,图片,描述,状态,口味\n";
+
+    @Test
+    void readsQuotedCommasQuotesAndNewlines() throws IOException {
+        List<DishDTO> dishDTOs = readCsv(HEADER
+                + ",\"鱼香,肉丝\",12,28.50,,\"招牌\"\"必点\"\"\n第二行\",1,"
+                + "\"[{\"\"name\"\":\"\"辣度\"\",\"\"value\"\":\"\"[\\\"\"微辣\\\"\"]\"\"}]\"\n"
+                + "3,,,,,,0,[]\n");
+
+        assertThat(dishDTOs).hasSize(2);
+        DishDTO created = dishDTOs.get(0);
+        assertThat(created.getId()).isNull();
+        assertThat(created.getName()).isEqualTo("鱼香,肉丝");
+        assertThat(created.getCategoryId()).isEqualTo(12L);
+        assertThat(created.getPrice()).isEqualByComparingTo(new BigDecimal("28.5"));
+        assertThat(created.getImage()).isNull();
+        assertThat(created.getDescription()).isEqualTo("招牌\"必点\"\n第二行");
+        assertThat(created.getStatus()).isEqualTo(1);
+        assertThat(created.getFlavors()).extracting(DishFlavor::getName).containsExactly("辣度");
+        assertThat(created.getFlavors()).extracting(DishFlavor::getValue).containsExactly("[\"微辣\"]");
+
+        //修改菜品时空列不修改，[]清空口味
+        DishDTO updated = dishDTOs.get(1);
+        assertThat(updated.getId()).isEqualTo(3L);
+        assertThat(updated.getName()).isNull();
+        assertThat(updated.getPrice()).isNull();
+        assertThat(updated.getStatus()).isEqualTo(0);
+        assertThat(updated.getFlavors()).isEmpty();
+    }
+
+    @Test
+    void skipsBlankRowsAndKeepsEmptyFlavorsUnchanged() throws IOException {
+        List<DishDTO> dishDTOs = readCsv(HEADER + "\n,,,,,,,\n5,宫保鸡丁\n\n");
+
+        assertThat(dishDTOs).hasSize(1);
+        assertThat(dishDTOs.get(0).getId()).isEqualTo(5L);
+        assertThat(dishDTOs.get(0).getName()).isEqualTo("宫保鸡丁");
+        assertThat(dishDTOs.get(0).getFlavors()).isNull();
+    }
+
+    @Test
+    void reportsRowNumberOfBadRow() {
+        //空行也计入行号，与表格中看到的行号一致
+        assertThatThrownBy(() -> readCsv(HEADER + "1,菜品,1,10\n\n2,菜品,1,abc\n"))
+                .isInstanceOf(DishBusinessException.class)
+                .hasMessageContaining("第4行格式错误");
+    }
+
+    @Test
+    void reportsRowNumberOfUnmatchedQuote() {
+        assertThatThrownBy(() -> readCsv(HEADER + "1,菜品,1,10\n2,\"菜品,1,10\n"))
+                .isInstanceOf(DishBusinessException.class)
+                .hasMessageContaining("第3行引号不匹配");
+    }
+
+    @Test
+    void rejectsUnsupportedFile() {
+        assertThatThrownBy(() -> DishImportReader.read("dishes.txt", new ByteArrayInputStream(new byte[0])))
+                .isInstanceOf(DishBusinessException.class);
+    }
+
+    private static List<DishDTO> readCsv(String content) throws IOException {
+        return DishImportReader.read("dishes.CSV", new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,68 @@
+package com.sky.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * 管理端订单搜索的执行计划检查，需要已经执行sql/orders_index.sql的MySQL数据库
+ * 执行计划依赖MySQL的优化器，没有可以替代的内嵌数据库，CI中不运行，修改索引或搜索sql后需要手动运行：
+ * mvn test -Dtest=OrderSearchExplainTest -Dsky.test.mysql.url=jdbc:mysql://localhost:3306/sky_take_out
+ *          -Dsky.test.mysql.username=root -Dsky.test.mysql.password=...
+ */
+@EnabledIfSystemProperty(named = "sky.test.mysql.url", matches = ".+")
+class OrderSearchExplainTest {
+
+    @Test
+    void statusFilterPagesIdsFromStatusIndex() throws Exception {
+        ExplainRow row = explain("select id from orders where status = 2 order by order_time desc limit 0, 10");
+
+        assertThat(row.key).isEqualTo("idx_orders_status_order_time");
+        //只扫描索引，不回表、不排序
+        assertThat(row.extra).contains("Using index").doesNotContain("filesort");
+    }
+
+    @Test
+    void numberPrefixUsesNumberIndex() throws Exception {
+        ExplainRow row = explain("select id from orders where number like concat('2026', '%') escape '!' "
+                + "order by order_time desc limit 0, 10");
+
+        assertThat(row.key).isEqualTo("idx_orders_number");
+        assertThat(row.type).isEqualTo("range");
+    }
+
+    @Test
+    void phonePrefixUsesPhoneIndex() throws Exception {
+        ExplainRow row = explain("select id from orders where phone like concat('138', '%') escape '!' "
+                + "order by order_time desc limit 0, 10");
+
+        assertThat(row.key).isEqualTo("idx_orders_phone");
+        assertThat(row.type).isEqualTo("range");
+    }
+
+    private static ExplainRow explain(String sql) throws Exception {
+        try (Connection connection = DriverManager.getConnection(System.getProperty("sky.test.mysql.url"),
+                System.getProperty("sky.test.mysql.username", "root"), System.getProperty("sky.test.mysql.password", ""));
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("explain " + sql)) {
+            assertThat(rs.next()).isTrue();
+            ExplainRow row = new ExplainRow();
+            row.type = rs.getString("type");
+            row.key = rs.getString("key");
+            row.extra = String.valueOf(rs.getString("Extra"));
+            return row;
+        }
+    }
+
+    private static class ExplainRow {
+        private String type;
+        private String key;
+        private String extra;
+    }
+}
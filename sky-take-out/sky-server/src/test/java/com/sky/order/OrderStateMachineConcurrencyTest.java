@@ -0,0 +1,170 @@
+package com.sky.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.sky.entity.Orders;
+import com.sky.exception.OrderBusinessException;
+import com.sky.mapper.OrderMapper;
+
+/**
+ * 并发状态变化测试
+ * 用内存中的订单状态模拟 update ... where id = ? and status = ? 的条件更新，多个线程同时对同一订单执行冲突的状态变化
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class OrderStateMachineConcurrencyTest {
+
+    private static final int THREADS = 16;
+
+    @Mock
+    private OrderMapper orderMapper;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @InjectMocks
+    private OrderStateMachine orderStateMachine;
+
+    //模拟的订单表：订单id -> 状态
+    private final Map<Long, AtomicInteger> table = new ConcurrentHashMap<>();
+    private final List<OrderTransitionEvent> events = new CopyOnWriteArrayList<>();
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(THREADS);
+        when(orderMapper.updateWithStatus(any(Orders.class), anyInt())).thenAnswer(invocation -> {
+            Orders orders = invocation.getArgument(0);
+            Integer fromStatus = invocation.getArgument(1);
+            return table.get(orders.getId()).compareAndSet(fromStatus, orders.getStatus()) ? 1 : 0;
+        });
+        when(orderMapper.updateWithStatusByIds(any(Orders.class), anyList(), anyInt())).thenAnswer(invocation -> {
+            Orders orders = invocation.getArgument(0);
+            List<Long> ids = invocation.getArgument(1);
+            Integer fromStatus = invocation.getArgument(2);
+            int count = 0;
+            for (Long id : ids) {
+                if (table.get(id).compareAndSet(fromStatus, orders.getStatus())) {
+                    count++;
+                }
+            }
+            return count;
+        });
+        doAnswer(invocation -> events.add(invocation.getArgument(0)))
+                .when(eventPublisher).publishEvent(any(OrderTransitionEvent.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @RepeatedTest(20)
+    void onlyOneConflictingTransitionWins() throws Exception {
+        table.put(1L, new AtomicInteger(Orders.PENDING_PAYMENT));
+        OrderTransition[] transitions = {OrderTransition.PAY, OrderTransition.TIMEOUT_CANCEL, OrderTransition.USER_CANCEL};
+
+        List<OrderTransition> winners = race(THREADS, i -> {
+            OrderTransition transition = transitions[i % transitions.length];
+            //每个线程都基于同一次查询的结果修改
+            Orders ordersDB = Orders.builder().id(1L).status(Orders.PENDING_PAYMENT).build();
+            return orderStateMachine.tryTransition(ordersDB, transition, null) ? transition : null;
+        });
+
+        assertThat(winners).hasSize(1);
+        assertThat(table.get(1L).get()).isEqualTo(winners.get(0).getToStatus());
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getTransition()).isEqualTo(winners.get(0));
+    }
+
+    @RepeatedTest(20)
+    void acceptedOrderCannotBeCancelledByUser() throws Exception {
+        table.put(1L, new AtomicInteger(Orders.TO_BE_CONFIRMED));
+
+        List<OrderTransition> winners = race(THREADS, i -> {
+            OrderTransition transition = i % 2 == 0 ? OrderTransition.CONFIRM : OrderTransition.USER_CANCEL;
+            Orders ordersDB = Orders.builder().id(1L).status(Orders.TO_BE_CONFIRMED).build();
+            return orderStateMachine.tryTransition(ordersDB, transition, null) ? transition : null;
+        });
+
+        //商家接单和用户取消只有一方成功，状态与成功的一方一致
+        assertThat(winners).hasSize(1);
+        assertThat(table.get(1L).get()).isEqualTo(winners.get(0).getToStatus());
+        assertThat(events).hasSize(1);
+    }
+
+    @Test
+    void batchTransitionFailsWhenAnyOrderChangedConcurrently() {
+        table.put(1L, new AtomicInteger(Orders.PENDING_PAYMENT));
+        table.put(2L, new AtomicInteger(Orders.TO_BE_CONFIRMED));
+        List<Orders> ordersList = new ArrayList<>();
+        ordersList.add(Orders.builder().id(1L).status(Orders.PENDING_PAYMENT).build());
+        ordersList.add(Orders.builder().id(2L).status(Orders.PENDING_PAYMENT).build());
+
+        //批量修改在事务中整体回滚，这里只验证抛出异常且不发布事件
+        assertThatThrownBy(() -> orderStateMachine.transitionAll(ordersList, OrderTransition.TIMEOUT_CANCEL, null))
+                .isInstanceOf(OrderBusinessException.class);
+        assertThat(events).isEmpty();
+    }
+
+    /**
+     * 所有线程就绪后同时开始执行，返回各线程的非空结果
+     */
+    private <T> List<T> race(int threads, Task<T> task) throws Exception {
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<T>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            int index = i;
+            futures.add(executor.submit(() -> {
+                ready.countDown();
+                start.await();
+                return task.run(index);
+            }));
+        }
+        assertThat(ready.await(5, TimeUnit.SECONDS)).isTrue();
+        start.countDown();
+
+        List<T> results = new ArrayList<>();
+        for (Future<T> future : futures) {
+            T result = future.get(5, TimeUnit.SECONDS);
+            if (result != null) {
+                results.add(result);
+            }
+        }
+        return results;
+    }
+
+    @FunctionalInterface
+    private interface Task<T> {
+        T run(int index) throws Exception;
+    }
+}
@@ -0,0 +1,186 @@
+package com.sky.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.sky.dto.OrderStatusCountDTO;
+import com.sky.entity.Orders;
+import com.sky.mapper.OrderMapper;
+import com.sky.vo.OrderStatisticsVO;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class OrderStatusCounterTest {
+
+    private static final int THREADS = 8;
+    private static final int POLLS = 1000;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+    @Mock
+    private OrderMapper orderMapper;
+    @InjectMocks
+    private OrderStatusCounter orderStatusCounter;
+
+    //模拟的redis hash
+    private final Map<Object, Object> hash = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(stringRedisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        when(stringRedisTemplate.hasKey(OrderStatusCounter.KEY)).thenAnswer(invocation -> !hash.isEmpty());
+        when(hashOperations.multiGet(eq(OrderStatusCounter.KEY), anyCollection()))
+                .thenAnswer(invocation -> {
+                    List<Object> values = new ArrayList<>();
+                    for (Object field : (Collection<Object>) invocation.getArgument(1)) {
+                        values.add(hash.get(field));
+                    }
+                    return values;
+                });
+        when(hashOperations.entries(OrderStatusCounter.KEY)).thenAnswer(invocation -> new HashMap<>(hash));
+        doAnswer(invocation -> {
+            hash.putAll((Map<Object, Object>) invocation.getArgument(1));
+            return null;
+        }).when(hashOperations).putAll(anyString(), anyMap());
+    }
+
+    @Test
+    void concurrentMissesRebuildOnce() throws Exception {
+        CountDownLatch rebuilding = new CountDownLatch(1);
+        when(orderMapper.countByStatuses(anyList())).thenAnswer(invocation -> {
+            //重建期间其他请求也发现计数器不存在
+            rebuilding.await(100, TimeUnit.MILLISECONDS);
+            List<OrderStatusCountDTO> counts = new ArrayList<>();
+            counts.add(count(Orders.TO_BE_CONFIRMED, 3));
+            counts.add(count(Orders.DELIVERY_IN_PROGRESS, 2));
+            return counts;
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<OrderStatisticsVO>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(orderStatusCounter::statistics));
+            }
+            rebuilding.countDown();
+            for (Future<OrderStatisticsVO> future : futures) {
+                OrderStatisticsVO vo = future.get(5, TimeUnit.SECONDS);
+                assertThat(vo.getToBeConfirmed()).isEqualTo(3);
+                assertThat(vo.getConfirmed()).isEqualTo(0);
+                assertThat(vo.getDeliveryInProgress()).isEqualTo(2);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(orderMapper).countByStatuses(Arrays.asList(Orders.TO_BE_CONFIRMED, Orders.CONFIRMED,
+                Orders.DELIVERY_IN_PROGRESS));
+    }
+
+    @Test
+    void returnsZerosWhenCounterCannotBeStored() {
+        when(orderMapper.countByStatuses(anyList())).thenReturn(new ArrayList<>());
+        doAnswer(invocation -> null).when(hashOperations).putAll(anyString(), anyMap());
+
+        OrderStatisticsVO vo = orderStatusCounter.statistics();
+
+        assertThat(vo.getToBeConfirmed()).isZero();
+        assertThat(vo.getConfirmed()).isZero();
+        assertThat(vo.getDeliveryInProgress()).isZero();
+        verify(orderMapper).countByStatuses(Arrays.asList(Orders.TO_BE_CONFIRMED, Orders.CONFIRMED,
+                Orders.DELIVERY_IN_PROGRESS));
+    }
+
+    @Test
+    void thousandConcurrentPollsQueryDatabaseOnce() throws Exception {
+        List<OrderStatusCountDTO> counts = new ArrayList<>();
+        counts.add(count(Orders.TO_BE_CONFIRMED, 5));
+        counts.add(count(Orders.CONFIRMED, 4));
+        when(orderMapper.countByStatuses(anyList())).thenReturn(counts);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS * 4);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<OrderStatisticsVO>> futures = new ArrayList<>();
+            for (int i = 0; i < POLLS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return orderStatusCounter.statistics();
+                }));
+            }
+            start.countDown();
+            for (Future<OrderStatisticsVO> future : futures) {
+                OrderStatisticsVO vo = future.get(10, TimeUnit.SECONDS);
+                assertThat(vo.getToBeConfirmed()).isEqualTo(5);
+                assertThat(vo.getConfirmed()).isEqualTo(4);
+                assertThat(vo.getDeliveryInProgress()).isZero();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        //计数器重建后，轮询只读redis
+        verify(orderMapper, times(1)).countByStatuses(anyList());
+    }
+
+    @Test
+    void untrackedStatusChangesOnlyTouchTrackedFields() {
+        hash.put(String.valueOf(Orders.DELIVERY_IN_PROGRESS), "1");
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).thenReturn(1L);
+
+        Orders orders = new Orders();
+        orders.setStatus(Orders.PENDING_PAYMENT);
+        orderStatusCounter.orderSubmitted(orders);
+        orders.setStatus(Orders.DELIVERY_IN_PROGRESS);
+        orderStatusCounter.onTransition(new OrderTransitionEvent(orders, OrderTransition.COMPLETE));
+
+        //待付款不计数，派送中 -> 已完成只减少派送中
+        verify(stringRedisTemplate, times(1)).execute(any(RedisScript.class), anyList(),
+                eq(String.valueOf(Orders.DELIVERY_IN_PROGRESS)), eq(""));
+        verify(stringRedisTemplate, times(1)).execute(any(RedisScript.class), anyList(), any(), any());
+    }
+
+    private static OrderStatusCountDTO count(Integer status, int count) {
+        OrderStatusCountDTO dto = new OrderStatusCountDTO();
+        dto.setStatus(status);
+        dto.setCount(count);
+        return dto;
+    }
+}
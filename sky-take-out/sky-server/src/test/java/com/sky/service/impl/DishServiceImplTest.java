@@ -0,0 +1,300 @@
+package com.sky.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.sky.constant.MessageConstant;
+import com.sky.constant.StatusConstant;
+import com.sky.dto.DishDTO;
+import com.sky.entity.Dish;
+import com.sky.entity.DishFlavor;
+import com.sky.entity.Setmeal;
+import com.sky.exception.DishBusinessException;
+import com.sky.mapper.DishFlavorMapper;
+import com.sky.mapper.DishMapper;
+import com.sky.mapper.SetmealDishMapper;
+import com.sky.mapper.SetmealMapper;
+import com.sky.vo.DishVO;
+
+@ExtendWith(MockitoExtension.class)
+class DishServiceImplTest {
+
+    private static final Long DISH_ID = 100L;
+
+    @Mock
+    private DishMapper dishMapper;
+    @Mock
+    private DishFlavorMapper dishFlavorMapper;
+    @Mock
+    private SetmealDishMapper setmealDishMapper;
+    @Mock
+    private SetmealMapper setmealMapper;
+    @InjectMocks
+    private DishServiceImpl dishService;
+
+    @Test
+    void priceOnlyEditIssuesNoFlavorStatements() {
+        stored(flavor(1L, "辣度", "[\"微辣\",\"重辣\"]"), flavor(2L, "温度", "[\"热饮\"]"));
+
+        DishDTO dishDTO = dishDTO(flavor(null, "辣度", "[\"微辣\",\"重辣\"]"), flavor(null, "温度", "[\"热饮\"]"));
+        dishDTO.setPrice(new BigDecimal("28"));
+        dishService.updateWithFlavor(dishDTO);
+
+        verify(dishMapper).update(any(Dish.class));
+        verify(dishFlavorMapper, never()).deleteByIds(anyList());
+        verify(dishFlavorMapper, never()).updateBatch(anyList());
+        verify(dishFlavorMapper, never()).insertBatch(anyList());
+    }
+
+    @Test
+    void valueChangeIssuesOneUpdate() {
+        stored(flavor(1L, "辣度", "[\"微辣\"]"), flavor(2L, "温度", "[\"热饮\"]"));
+
+        dishService.updateWithFlavor(dishDTO(flavor(null, "辣度", "[\"微辣\",\"重辣\"]"), flavor(null, "温度", "[\"热饮\"]")));
+
+        List<DishFlavor> updated = captureList(captor -> verify(dishFlavorMapper).updateBatch(captor.capture()));
+        assertThat(updated).extracting(DishFlavor::getId).containsExactly(1L);
+        assertThat(updated).extracting(DishFlavor::getValue).containsExactly("[\"微辣\",\"重辣\"]");
+        verify(dishFlavorMapper, never()).deleteByIds(anyList());
+        verify(dishFlavorMapper, never()).insertBatch(anyList());
+    }
+
+    @Test
+    void renameIssuesDeleteAndInsert() {
+        stored(flavor(1L, "辣度", "[\"微辣\"]"));
+
+        dishService.updateWithFlavor(dishDTO(flavor(null, "辣味", "[\"微辣\"]")));
+
+        verify(dishFlavorMapper).deleteByIds(Collections.singletonList(1L));
+        List<DishFlavor> inserted = captureList(captor -> verify(dishFlavorMapper).insertBatch(captor.capture()));
+        assertThat(inserted).extracting(DishFlavor::getName).containsExactly("辣味");
+        assertThat(inserted).extracting(DishFlavor::getDishId).containsExactly(DISH_ID);
+        assertThat(inserted).extracting(DishFlavor::getId).containsOnlyNulls();
+        verify(dishFlavorMapper, never()).updateBatch(anyList());
+    }
+
+    @Test
+    void duplicateStoredKeysAreDeleted() {
+        stored(flavor(1L, "辣度", "[\"微辣\"]"), flavor(2L, "辣度", "[\"微辣\"]"));
+
+        dishService.updateWithFlavor(dishDTO(flavor(null, "辣度", "[\"微辣\"]")));
+
+        verify(dishFlavorMapper).deleteByIds(Collections.singletonList(2L));
+        verify(dishFlavorMapper, never()).updateBatch(anyList());
+        verify(dishFlavorMapper, never()).insertBatch(anyList());
+    }
+
+    @Test
+    void deleteBatchWithNoIdsIssuesNoStatements() {
+        dishService.deleteBatch(Collections.emptyList());
+
+        verifyNoInteractions(dishMapper, dishFlavorMapper, setmealDishMapper);
+    }
+
+    @Test
+    void deleteBatchOfThousandDishesIssuesFourStatements() {
+        List<Long> ids = LongStream.rangeClosed(1, 1000).boxed().collect(Collectors.toList());
+        when(dishMapper.countByIdsAndStatus(ids, StatusConstant.ENABLE)).thenReturn(0);
+        when(setmealDishMapper.getSetmealIdsByDishIds(ids)).thenReturn(Collections.emptyList());
+
+        dishService.deleteBatch(ids);
+
+        //语句数量与菜品数量无关：起售检查、套餐关联检查、删除菜品、删除口味
+        verify(dishMapper).countByIdsAndStatus(ids, StatusConstant.ENABLE);
+        verify(setmealDishMapper).getSetmealIdsByDishIds(ids);
+        verify(dishMapper).deleteByIds(ids);
+        verify(dishFlavorMapper).deleteBydishIds(ids);
+        verifyNoMoreInteractions(dishMapper, dishFlavorMapper, setmealDishMapper);
+    }
+
+    @Test
+    void stopSaleDisablesSetmealsInOneStatement() {
+        dishService.startOrStop(StatusConstant.DISABLE, DISH_ID);
+
+        verify(dishMapper).update(any(Dish.class));
+        ArgumentCaptor<Setmeal> setmeal = ArgumentCaptor.forClass(Setmeal.class);
+        verify(setmealMapper).updateStatusByDishIds(setmeal.capture(), eq(Collections.singletonList(DISH_ID)));
+        assertThat(setmeal.getValue().getStatus()).isEqualTo(StatusConstant.DISABLE);
+        assertThat(setmeal.getValue().getId()).isNull();
+        //不逐个查询、修改套餐
+        verifyNoMoreInteractions(setmealMapper);
+        verifyNoInteractions(setmealDishMapper);
+    }
+
+    @Test
+    void startSaleLeavesSetmealsUnchanged() {
+        dishService.startOrStop(StatusConstant.ENABLE, DISH_ID);
+
+        verify(dishMapper).update(any(Dish.class));
+        verifyNoInteractions(setmealMapper, setmealDishMapper);
+    }
+
+    @Test
+    void listWithFlavorQueriesFlavorsOnceAndGroupsByDish() {
+        when(dishMapper.list(any(Dish.class))).thenReturn(Arrays.asList(dish(1L), dish(2L), dish(3L)));
+        when(dishFlavorMapper.getByDishIds(Arrays.asList(1L, 2L, 3L))).thenReturn(Arrays.asList(
+                flavorOf(1L, "辣度"), flavorOf(3L, "温度"), flavorOf(1L, "忌口")));
+
+        List<DishVO> dishVOList = dishService.listWithFlavor(new Dish());
+
+        assertThat(dishVOList).extracting(DishVO::getId).containsExactly(1L, 2L, 3L);
+        assertThat(dishVOList.get(0).getFlavors()).extracting(DishFlavor::getName).containsExactly("辣度", "忌口");
+        assertThat(dishVOList.get(1).getFlavors()).isEmpty();
+        assertThat(dishVOList.get(2).getFlavors()).extracting(DishFlavor::getName).containsExactly("温度");
+        verify(dishFlavorMapper).getByDishIds(anyList());
+        verify(dishFlavorMapper, never()).getByDishId(any());
+    }
+
+    @Test
+    void listWithFlavorWithNoDishesIssuesNoFlavorQuery() {
+        when(dishMapper.list(any(Dish.class))).thenReturn(Collections.emptyList());
+
+        assertThat(dishService.listWithFlavor(new Dish())).isEmpty();
+        verifyNoInteractions(dishFlavorMapper);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void saveOrUpdateBatchInsertsAndUpdatesInBatches() {
+        doAnswer(invocation -> {
+            //模拟多行insert回填的id
+            List<Dish> dishes = invocation.getArgument(0);
+            for (int i = 0; i < dishes.size(); i++) {
+                dishes.get(i).setId(1000L + i);
+            }
+            return null;
+        }).when(dishMapper).insertBatch(anyList());
+        when(dishMapper.getByIds(Arrays.asList(1L, 2L)))
+                .thenReturn(Arrays.asList(Dish.builder().id(1L).categoryId(10L).build(),
+                        Dish.builder().id(2L).categoryId(11L).build()));
+        when(dishFlavorMapper.getByDishIds(Collections.singletonList(1L)))
+                .thenReturn(Collections.singletonList(DishFlavor.builder().id(7L).dishId(1L).name("辣度").value("[\"微辣\"]").build()));
+
+        DishDTO created = batchDishDTO(null, "新菜品", 12L, null);
+        created.setFlavors(new ArrayList<>(Collections.singletonList(flavor(null, "温度", "[\"热\"]"))));
+        DishDTO flavored = batchDishDTO(1L, null, null, null);
+        flavored.setFlavors(new ArrayList<>(Collections.singletonList(flavor(null, "辣度", "[\"重辣\"]"))));
+        DishDTO disabled = batchDishDTO(2L, null, 13L, StatusConstant.DISABLE);
+
+        Set<Long> categoryIds = dishService.saveOrUpdateBatch(Arrays.asList(created, flavored, disabled));
+
+        assertThat(categoryIds).containsExactlyInAnyOrder(10L, 11L, 12L, 13L);
+        List<Dish> inserted = captureDishes(captor -> verify(dishMapper).insertBatch(captor.capture()));
+        assertThat(inserted).extracting(Dish::getStatus).containsExactly(StatusConstant.DISABLE);
+        List<Dish> updated = captureDishes(captor -> verify(dishMapper).updateBatch(captor.capture()));
+        assertThat(updated).extracting(Dish::getId).containsExactly(1L, 2L);
+        verify(setmealMapper).updateStatusByDishIds(any(Setmeal.class), eq(Collections.singletonList(2L)));
+        //没有修改口味的菜品不查询已有口味，新菜品的口味使用回填的id
+        verify(dishFlavorMapper).getByDishIds(Collections.singletonList(1L));
+        List<DishFlavor> flavorUpdates = captureList(captor -> verify(dishFlavorMapper).updateBatch(captor.capture()));
+        assertThat(flavorUpdates).extracting(DishFlavor::getId).containsExactly(7L);
+        List<DishFlavor> flavorInserts = captureList(captor -> verify(dishFlavorMapper).insertBatch(captor.capture()));
+        assertThat(flavorInserts).extracting(DishFlavor::getDishId).containsExactly(1000L);
+        verify(dishFlavorMapper, never()).deleteByIds(anyList());
+    }
+
+    @Test
+    void saveOrUpdateBatchRejectsDuplicateIds() {
+        List<DishDTO> dishDTOs = Arrays.asList(batchDishDTO(1L, "菜品1", null, null), batchDishDTO(1L, "菜品2", null, null));
+
+        assertThatThrownBy(() -> dishService.saveOrUpdateBatch(dishDTOs))
+                .isInstanceOf(DishBusinessException.class)
+                .hasMessageContaining("菜品id重复：1");
+        verifyNoInteractions(dishMapper, dishFlavorMapper, setmealMapper);
+    }
+
+    @Test
+    void saveOrUpdateBatchRejectsNewDishWithoutPrice() {
+        DishDTO dishDTO = batchDishDTO(null, "新菜品", 12L, null);
+        dishDTO.setPrice(null);
+
+        assertThatThrownBy(() -> dishService.saveOrUpdateBatch(Collections.singletonList(dishDTO)))
+                .isInstanceOf(DishBusinessException.class);
+        verifyNoInteractions(dishMapper, dishFlavorMapper, setmealMapper);
+    }
+
+    @Test
+    void saveOrUpdateBatchRejectsMissingDish() {
+        when(dishMapper.getByIds(Collections.singletonList(1L))).thenReturn(Collections.emptyList());
+
+        assertThatThrownBy(() -> dishService.saveOrUpdateBatch(Collections.singletonList(batchDishDTO(1L, "菜品", null, null))))
+                .isInstanceOf(DishBusinessException.class)
+                .hasMessage(MessageConstant.DISH_NOT_FOUND);
+        verify(dishMapper, never()).updateBatch(anyList());
+    }
+
+    private void stored(DishFlavor... flavors) {
+        when(dishFlavorMapper.getByDishId(DISH_ID)).thenReturn(new ArrayList<>(Arrays.asList(flavors)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<DishFlavor> captureList(Consumer<ArgumentCaptor<List<DishFlavor>>> verification) {
+        ArgumentCaptor<List<DishFlavor>> captor = ArgumentCaptor.forClass(List.class);
+        verification.accept(captor);
+        return captor.getValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Dish> captureDishes(Consumer<ArgumentCaptor<List<Dish>>> verification) {
+        ArgumentCaptor<List<Dish>> captor = ArgumentCaptor.forClass(List.class);
+        verification.accept(captor);
+        return captor.getValue();
+    }
+
+    private static DishDTO batchDishDTO(Long id, String name, Long categoryId, Integer status) {
+        DishDTO dishDTO = new DishDTO();
+        dishDTO.setId(id);
+        dishDTO.setName(name);
+        dishDTO.setCategoryId(categoryId);
+        dishDTO.setPrice(new BigDecimal("18"));
+        dishDTO.setStatus(status);
+        //与导入一致，口味为null表示不修改口味
+        dishDTO.setFlavors(null);
+        return dishDTO;
+    }
+
+    private static DishDTO dishDTO(DishFlavor... flavors) {
+        DishDTO dishDTO = new DishDTO();
+        dishDTO.setId(DISH_ID);
+        dishDTO.setFlavors(new ArrayList<>(Arrays.asList(flavors)));
+        return dishDTO;
+    }
+
+    private static Dish dish(Long id) {
+        return Dish.builder().id(id).name("菜品" + id).build();
+    }
+
+    private static DishFlavor flavorOf(Long dishId, String name) {
+        return DishFlavor.builder().dishId(dishId).name(name).value("[]").build();
+    }
+
+    private static DishFlavor flavor(Long id, String name, String value) {
+        return DishFlavor.builder().id(id).dishId(id == null ? null : DISH_ID).name(name).value(value).build();
+    }
+}
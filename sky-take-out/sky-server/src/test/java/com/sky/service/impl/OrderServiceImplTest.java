@@ -0,0 +1,117 @@
+package com.sky.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.sky.dto.OrdersPageQueryDTO;
+import com.sky.entity.Orders;
+import com.sky.mapper.OrderMapper;
+import com.sky.order.OrderStateMachine;
+import com.sky.order.OrderTransition;
+import com.sky.result.PageResult;
+
+@ExtendWith(MockitoExtension.class)
+class OrderServiceImplTest {
+
+    private static final String NUMBER = "202601010001";
+
+    @Mock
+    private OrderMapper orderMapper;
+    @Mock
+    private OrderStateMachine orderStateMachine;
+    @InjectMocks
+    private OrderServiceImpl orderService;
+
+    @Test
+    void paymentForCancelledOrderIsMarkedRefund() {
+        Orders pending = order(Orders.PENDING_PAYMENT, Orders.UN_PAID);
+        when(orderMapper.getByNumber(NUMBER)).thenReturn(pending);
+        //查询后订单被超时取消，支付的条件更新失败
+        when(orderStateMachine.tryTransition(eq(pending), eq(OrderTransition.PAY), any(Orders.class))).thenReturn(false);
+        when(orderMapper.getById(1L)).thenReturn(order(Orders.CANCELLED, Orders.UN_PAID));
+
+        orderService.paySuccess(NUMBER);
+
+        ArgumentCaptor<Orders> captor = ArgumentCaptor.forClass(Orders.class);
+        verify(orderMapper).updateWithStatus(captor.capture(), eq(Orders.CANCELLED));
+        assertThat(captor.getValue().getId()).isEqualTo(1L);
+        assertThat(captor.getValue().getStatus()).isEqualTo(Orders.CANCELLED);
+        assertThat(captor.getValue().getPayStatus()).isEqualTo(Orders.REFUND);
+    }
+
+    @Test
+    void duplicateCallbackForPaidOrderChangesNothing() {
+        Orders paid = order(Orders.TO_BE_CONFIRMED, Orders.PAID);
+        when(orderMapper.getByNumber(NUMBER)).thenReturn(paid);
+        when(orderStateMachine.tryTransition(eq(paid), eq(OrderTransition.PAY), any(Orders.class))).thenReturn(false);
+        when(orderMapper.getById(1L)).thenReturn(paid);
+
+        orderService.paySuccess(NUMBER);
+
+        verify(orderMapper, never()).updateWithStatus(any(Orders.class), anyInt());
+    }
+
+    @Test
+    void paymentForPendingOrderOnlyTransitions() {
+        Orders pending = order(Orders.PENDING_PAYMENT, Orders.UN_PAID);
+        when(orderMapper.getByNumber(NUMBER)).thenReturn(pending);
+        when(orderStateMachine.tryTransition(eq(pending), eq(OrderTransition.PAY), any(Orders.class))).thenReturn(true);
+
+        orderService.paySuccess(NUMBER);
+
+        verify(orderMapper, never()).getById(any());
+        verify(orderMapper, never()).updateWithStatus(any(Orders.class), anyInt());
+    }
+
+    @Test
+    void escapeLikeTreatsWildcardsLiterally() {
+        assertThat(OrderServiceImpl.escapeLike("12%3_4!5\\6")).isEqualTo("12!%3!_4!!5\\6");
+        assertThat(OrderServiceImpl.escapeLike(null)).isNull();
+    }
+
+    @Test
+    void conditionSearchPagesWithEscapedPrefixes() {
+        OrdersPageQueryDTO dto = new OrdersPageQueryDTO();
+        dto.setPage(3);
+        dto.setPageSize(10);
+        dto.setNumber("2026_");
+        when(orderMapper.countConditionSearch(any(OrdersPageQueryDTO.class))).thenReturn(25L);
+
+        PageResult result = orderService.conditionSearch(dto);
+
+        ArgumentCaptor<OrdersPageQueryDTO> captor = ArgumentCaptor.forClass(OrdersPageQueryDTO.class);
+        verify(orderMapper).conditionSearch(captor.capture(), eq(20), eq(10));
+        assertThat(captor.getValue().getNumber()).isEqualTo("2026!_");
+        //请求参数本身不修改
+        assertThat(dto.getNumber()).isEqualTo("2026_");
+        assertThat(result.getTotal()).isEqualTo(25L);
+    }
+
+    @Test
+    void conditionSearchSkipsPageQueryBeyondTotal() {
+        OrdersPageQueryDTO dto = new OrdersPageQueryDTO();
+        dto.setPage(2);
+        dto.setPageSize(10);
+        when(orderMapper.countConditionSearch(any(OrdersPageQueryDTO.class))).thenReturn(10L);
+
+        orderService.conditionSearch(dto);
+
+        verify(orderMapper, never()).conditionSearch(any(OrdersPageQueryDTO.class), anyInt(), anyInt());
+    }
+
+    private static Orders order(Integer status, Integer payStatus) {
+        return Orders.builder().id(1L).number(NUMBER).status(status).payStatus(payStatus).build();
+    }
+}
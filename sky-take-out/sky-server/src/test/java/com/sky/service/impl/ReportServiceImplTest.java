@@ -0,0 +1,129 @@
+package com.sky.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.sky.constant.MessageConstant;
+import com.sky.entity.OrderDetail;
+import com.sky.entity.Orders;
+import com.sky.exception.BaseException;
+import com.sky.mapper.ReportMapper;
+import com.sky.mapper.UserMapper;
+
+@ExtendWith(MockitoExtension.class)
+class ReportServiceImplTest {
+
+    private static final LocalDate DAY1 = LocalDate.of(2026, 1, 1);
+    private static final LocalDate DAY2 = LocalDate.of(2026, 1, 2);
+
+    @Mock
+    private ReportMapper reportMapper;
+    @Mock
+    private UserMapper userMapper;
+    @InjectMocks
+    private ReportServiceImpl reportService;
+
+    @Test
+    void completedBatchIsMergedByDate() {
+        List<Orders> ordersList = Arrays.asList(
+                order(1L, DAY2, "30"),
+                order(2L, DAY1, "10"),
+                order(3L, DAY1, "20.5"));
+        List<OrderDetail> details = Arrays.asList(
+                detail(1L, "宫保鸡丁", 1),
+                detail(2L, "宫保鸡丁", 2),
+                detail(3L, "宫保鸡丁", 1),
+                detail(3L, "米饭", 3));
+
+        reportService.recordOrdersCompleted(ordersList, details);
+
+        InOrder inOrder = inOrder(reportMapper);
+        inOrder.verify(reportMapper).addTurnover(DAY1, new BigDecimal("30.5"), 2);
+        inOrder.verify(reportMapper).addTurnover(DAY2, new BigDecimal("30"), 1);
+
+        ArgumentCaptor<List<OrderDetail>> day1 = salesCaptor();
+        verify(reportMapper).addDishSales(eq(DAY1), day1.capture());
+        assertThat(day1.getValue()).extracting(OrderDetail::getName).containsExactly("宫保鸡丁", "米饭");
+        assertThat(day1.getValue()).extracting(OrderDetail::getNumber).containsExactly(3, 3);
+
+        ArgumentCaptor<List<OrderDetail>> day2 = salesCaptor();
+        verify(reportMapper).addDishSales(eq(DAY2), day2.capture());
+        assertThat(day2.getValue()).extracting(OrderDetail::getNumber).containsExactly(1);
+
+        verifyNoMoreInteractions(reportMapper);
+    }
+
+    @Test
+    void submittedOrderIsCountedAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            reportService.recordOrderSubmitted(order(1L, DAY1, "10"));
+
+            //提交前不修改当天的汇总数据
+            verifyNoInteractions(reportMapper);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(reportMapper).addOrderCount(DAY1);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void rebuildRejectsToday() {
+        LocalDate today = LocalDate.now();
+
+        assertThatThrownBy(() -> reportService.rebuild(today.minusDays(7), today))
+                .isInstanceOf(BaseException.class)
+                .hasMessage(MessageConstant.REPORT_REBUILD_CLOSED_DAYS_ONLY);
+        verifyNoInteractions(reportMapper);
+    }
+
+    @Test
+    void rebuildClosedDays() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+
+        reportService.rebuild(yesterday.minusDays(6), yesterday);
+
+        InOrder inOrder = inOrder(reportMapper);
+        inOrder.verify(reportMapper).deleteBusinessStat(yesterday.minusDays(6), yesterday);
+        inOrder.verify(reportMapper).deleteDishSales(yesterday.minusDays(6), yesterday);
+        inOrder.verify(reportMapper).rebuildBusinessStat(yesterday.minusDays(6), yesterday, Orders.COMPLETED);
+        inOrder.verify(reportMapper).rebuildDishSales(yesterday.minusDays(6), yesterday, Orders.COMPLETED);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<List<OrderDetail>> salesCaptor() {
+        return ArgumentCaptor.forClass(List.class);
+    }
+
+    private static Orders order(Long id, LocalDate date, String amount) {
+        return Orders.builder().id(id).orderTime(LocalDateTime.of(date, LocalTime.NOON))
+                .amount(new BigDecimal(amount)).build();
+    }
+
+    private static OrderDetail detail(Long orderId, String name, int number) {
+        return OrderDetail.builder().orderId(orderId).name(name).number(number).build();
+    }
+}
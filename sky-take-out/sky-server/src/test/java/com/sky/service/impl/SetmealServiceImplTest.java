@@ -0,0 +1,152 @@
+package com.sky.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.sky.constant.StatusConstant;
+import com.sky.dto.SetmealDTO;
+import com.sky.entity.Setmeal;
+import com.sky.entity.SetmealDish;
+import com.sky.mapper.DishMapper;
+import com.sky.mapper.SetmealDishMapper;
+import com.sky.mapper.SetmealMapper;
+
+@ExtendWith(MockitoExtension.class)
+class SetmealServiceImplTest {
+
+    private static final Long SETMEAL_ID = 200L;
+
+    @Mock
+    private SetmealMapper setmealMapper;
+    @Mock
+    private SetmealDishMapper setmealDishMapper;
+    @Mock
+    private DishMapper dishMapper;
+    @InjectMocks
+    private SetmealServiceImpl setmealService;
+
+    @Test
+    void deleteBatchWithNoIdsIssuesNoStatements() {
+        setmealService.deteleBatch(Collections.emptyList());
+
+        verifyNoInteractions(setmealMapper, setmealDishMapper);
+    }
+
+    @Test
+    void deleteBatchOfThousandSetmealsIssuesThreeStatements() {
+        List<Long> ids = LongStream.rangeClosed(1, 1000).boxed().collect(Collectors.toList());
+        when(setmealMapper.countByIdsAndStatus(ids, StatusConstant.ENABLE)).thenReturn(0);
+
+        setmealService.deteleBatch(ids);
+
+        //语句数量与套餐数量无关：起售检查、删除套餐、删除套餐菜品关系
+        verify(setmealMapper).countByIdsAndStatus(ids, StatusConstant.ENABLE);
+        verify(setmealMapper).deleteByIds(ids);
+        verify(setmealDishMapper).deleteBysetmealIds(ids);
+        verifyNoMoreInteractions(setmealMapper, setmealDishMapper);
+    }
+
+    @Test
+    void updateWithUnchangedDishesIssuesNoDishStatements() {
+        stored(setmealDish(1L, 10L, "10.00", 1), setmealDish(2L, 11L, "8.50", 2));
+
+        setmealService.update(setmealDTO(setmealDish(null, 10L, "10.00", 1), setmealDish(null, 11L, "8.50", 2)));
+
+        verify(setmealMapper).update(any(Setmeal.class));
+        verify(setmealDishMapper).getBysetmealId(SETMEAL_ID);
+        verifyNoMoreInteractions(setmealDishMapper);
+    }
+
+    @Test
+    void updatePriceScaleOnlyIsUnchanged() {
+        stored(setmealDish(1L, 10L, "10.00", 1));
+
+        setmealService.update(setmealDTO(setmealDish(null, 10L, "10", 1)));
+
+        verify(setmealDishMapper).getBysetmealId(SETMEAL_ID);
+        verifyNoMoreInteractions(setmealDishMapper);
+    }
+
+    @Test
+    void updateCopiesAndPriceIssuesOneUpdate() {
+        stored(setmealDish(1L, 10L, "10.00", 1), setmealDish(2L, 11L, "8.50", 2));
+
+        setmealService.update(setmealDTO(setmealDish(null, 10L, "10.00", 3), setmealDish(null, 11L, "9", 2)));
+
+        List<SetmealDish> updated = captureList(captor -> verify(setmealDishMapper).updateBatch(captor.capture()));
+        assertThat(updated).extracting(SetmealDish::getId).containsExactly(1L, 2L);
+        assertThat(updated).extracting(SetmealDish::getSetmealId).containsOnly(SETMEAL_ID);
+        verify(setmealDishMapper, never()).deleteByIds(anyList());
+        verify(setmealDishMapper, never()).insertBatch(anyList());
+    }
+
+    @Test
+    void updateDishSwapIssuesDeleteAndInsert() {
+        stored(setmealDish(1L, 10L, "10.00", 1), setmealDish(2L, 11L, "8.50", 2));
+
+        setmealService.update(setmealDTO(setmealDish(null, 10L, "10.00", 1), setmealDish(null, 12L, "6.00", 1)));
+
+        verify(setmealDishMapper).deleteByIds(Collections.singletonList(2L));
+        List<SetmealDish> inserted = captureList(captor -> verify(setmealDishMapper).insertBatch(captor.capture()));
+        assertThat(inserted).extracting(SetmealDish::getDishId).containsExactly(12L);
+        assertThat(inserted).extracting(SetmealDish::getSetmealId).containsExactly(SETMEAL_ID);
+        assertThat(inserted).extracting(SetmealDish::getId).containsOnlyNulls();
+        verify(setmealDishMapper, never()).updateBatch(anyList());
+    }
+
+    @Test
+    void updateWithNullDishesDeletesAllDishes() {
+        stored(setmealDish(1L, 10L, "10.00", 1), setmealDish(2L, 11L, "8.50", 2));
+
+        setmealService.update(setmealDTO((SetmealDish[]) null));
+
+        verify(setmealDishMapper).deleteByIds(Arrays.asList(1L, 2L));
+        verify(setmealDishMapper, never()).updateBatch(anyList());
+        verify(setmealDishMapper, never()).insertBatch(anyList());
+    }
+
+    private void stored(SetmealDish... setmealDishes) {
+        when(setmealDishMapper.getBysetmealId(SETMEAL_ID)).thenReturn(new ArrayList<>(Arrays.asList(setmealDishes)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<SetmealDish> captureList(Consumer<ArgumentCaptor<List<SetmealDish>>> verification) {
+        ArgumentCaptor<List<SetmealDish>> captor = ArgumentCaptor.forClass(List.class);
+        verification.accept(captor);
+        return captor.getValue();
+    }
+
+    private static SetmealDTO setmealDTO(SetmealDish... setmealDishes) {
+        SetmealDTO setmealDTO = new SetmealDTO();
+        setmealDTO.setId(SETMEAL_ID);
+        setmealDTO.setSetmealDishes(setmealDishes == null ? null : new ArrayList<>(Arrays.asList(setmealDishes)));
+        return setmealDTO;
+    }
+
+    private static SetmealDish setmealDish(Long id, Long dishId, String price, Integer copies) {
+        return SetmealDish.builder().id(id).setmealId(id == null ? null : SETMEAL_ID).dishId(dishId)
+                .name("菜品" + dishId).price(new BigDecimal(price)).copies(copies).build();
+    }
+}
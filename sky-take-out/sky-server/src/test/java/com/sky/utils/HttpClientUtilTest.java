@@ -0,0 +1,126 @@
+package com.sky.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sky.properties.HttpClientProperties;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+class HttpClientUtilTest {
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private String baseUrl;
+    //每个请求的客户端端口，端口相同说明复用了同一个连接
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    //slow请求在放行前阻塞
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/ping", exchange -> respond(exchange, "pong"));
+        server.createContext("/slow", exchange -> {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, "slow");
+        });
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        HttpClientUtil.configure(new HttpClientProperties());
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+        HttpClientUtil.configure(new HttpClientProperties());
+    }
+
+    @Test
+    void sequentialRequestsReuseConnection() throws IOException {
+        for (int i = 0; i < 10; i++) {
+            assertThat(HttpClientUtil.doGet(baseUrl + "/ping", null)).isEqualTo("pong");
+            assertThat(HttpClientUtil.doPost(baseUrl + "/ping", Collections.singletonMap("k", "v"))).isEqualTo("pong");
+        }
+
+        assertThat(clientPorts).hasSize(1);
+    }
+
+    @Test
+    void asyncRequestDoesNotBlockCaller() throws Exception {
+        long start = System.nanoTime();
+        CompletableFuture<String> future = HttpClientUtil.doGetAsync(baseUrl + "/slow", null);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertThat(future).isNotDone();
+        assertThat(elapsedMillis).isLessThan(1000);
+        release.countDown();
+        assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("slow");
+    }
+
+    @Test
+    void saturatedPoolRejectsWithFailedFuture() throws Exception {
+        HttpClientProperties properties = new HttpClientProperties();
+        properties.setAsyncThreads(1);
+        properties.setAsyncQueueCapacity(1);
+        HttpClientUtil.configure(properties);
+
+        //一个请求占用线程，一个请求在队列中
+        List<CompletableFuture<String>> accepted = new ArrayList<>();
+        accepted.add(HttpClientUtil.doGetAsync(baseUrl + "/slow", null));
+        accepted.add(HttpClientUtil.doGetAsync(baseUrl + "/slow", null));
+        CompletableFuture<String> rejected = HttpClientUtil.doPostAsync(baseUrl + "/slow", null);
+
+        assertThat(rejected).isCompletedExceptionally();
+        assertThatThrownBy(rejected::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(RejectedExecutionException.class);
+
+        release.countDown();
+        for (CompletableFuture<String> future : accepted) {
+            assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("slow");
+        }
+    }
+
+    private void respond(HttpExchange exchange, String body) throws IOException {
+        clientPorts.add(exchange.getRemoteAddress().getPort());
+        //读完请求体，连接才能继续用于下一个请求
+        while (exchange.getRequestBody().read() != -1) {
+            //丢弃
+        }
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
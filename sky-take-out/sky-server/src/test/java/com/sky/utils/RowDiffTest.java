@@ -0,0 +1,81 @@
+package com.sky.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import org.junit.jupiter.api.Test;
+
+import com.sky.entity.DishFlavor;
+
+class RowDiffTest {
+
+    @Test
+    void unchangedRowsProduceNoChanges() {
+        RowDiff<DishFlavor> diff = diff(stored(flavor(1L, "辣度", "[\"微辣\"]")),
+                Collections.singletonList(flavor(null, "辣度", "[\"微辣\"]")));
+
+        assertThat(diff.isEmpty()).isTrue();
+    }
+
+    @Test
+    void changedValueIsUpdatedWithStoredId() {
+        DishFlavor submitted = flavor(null, "辣度", "[\"重辣\"]");
+        RowDiff<DishFlavor> diff = diff(stored(flavor(1L, "辣度", "[\"微辣\"]")), Collections.singletonList(submitted));
+
+        assertThat(diff.getUpdates()).containsExactly(submitted);
+        assertThat(submitted.getId()).isEqualTo(1L);
+        assertThat(diff.getInserts()).isEmpty();
+        assertThat(diff.getDeletes()).isEmpty();
+    }
+
+    @Test
+    void renamedRowIsDeletedAndInserted() {
+        DishFlavor old = flavor(1L, "辣度", "[\"微辣\"]");
+        DishFlavor submitted = flavor(9L, "甜味", "[\"微辣\"]");
+        RowDiff<DishFlavor> diff = diff(stored(old), Collections.singletonList(submitted));
+
+        assertThat(diff.getDeletes()).containsExactly(old);
+        assertThat(diff.getInserts()).containsExactly(submitted);
+        assertThat(submitted.getId()).isNull();
+        assertThat(diff.getUpdates()).isEmpty();
+    }
+
+    @Test
+    void duplicateStoredKeysAreDeleted() {
+        DishFlavor first = flavor(1L, "辣度", "[\"微辣\"]");
+        DishFlavor duplicate = flavor(2L, "辣度", "[\"重辣\"]");
+        RowDiff<DishFlavor> diff = diff(stored(first, duplicate),
+                Collections.singletonList(flavor(null, "辣度", "[\"微辣\"]")));
+
+        assertThat(diff.getDeletes()).containsExactly(duplicate);
+        assertThat(diff.getUpdates()).isEmpty();
+        assertThat(diff.getInserts()).isEmpty();
+    }
+
+    @Test
+    void nullSubmittedDeletesAllStoredRows() {
+        DishFlavor old = flavor(1L, "辣度", "[\"微辣\"]");
+        RowDiff<DishFlavor> diff = diff(stored(old), null);
+
+        assertThat(diff.getDeletes()).containsExactly(old);
+    }
+
+    private static RowDiff<DishFlavor> diff(List<DishFlavor> stored, List<DishFlavor> submitted) {
+        return RowDiff.of(stored, submitted, DishFlavor::getName,
+                (old, df) -> Objects.equals(old.getValue(), df.getValue()),
+                DishFlavor::getId, DishFlavor::setId);
+    }
+
+    private static List<DishFlavor> stored(DishFlavor... flavors) {
+        return new ArrayList<>(Arrays.asList(flavors));
+    }
+
+    private static DishFlavor flavor(Long id, String name, String value) {
+        return DishFlavor.builder().id(id).dishId(100L).name(name).value(value).build();
+    }
+}
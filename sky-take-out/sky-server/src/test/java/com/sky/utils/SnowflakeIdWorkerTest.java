@@ -0,0 +1,115 @@
+package com.sky.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class SnowflakeIdWorkerTest {
+
+    private static final int THREADS = 16;
+    private static final int IDS_PER_THREAD = 50000;
+
+    @Test
+    void concurrentIdsAreUniqueAndIncreasingPerThread() throws Exception {
+        SnowflakeIdWorker idWorker = new SnowflakeIdWorker(1);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    long last = -1;
+                    boolean increasing = true;
+                    for (int j = 0; j < IDS_PER_THREAD; j++) {
+                        long id = idWorker.nextId();
+                        increasing &= id > last;
+                        last = id;
+                        ids.add(id);
+                    }
+                    return increasing;
+                }));
+            }
+            start.countDown();
+            for (Future<Boolean> future : futures) {
+                assertThat(future.get(30, TimeUnit.SECONDS)).isTrue();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(ids).hasSize(THREADS * IDS_PER_THREAD);
+    }
+
+    @Test
+    void clockRollbackKeepsIdsIncreasing() {
+        AtomicLong clock = new AtomicLong(SnowflakeIdWorker.EPOCH + 10000);
+        SnowflakeIdWorker idWorker = new SnowflakeIdWorker(1) {
+            @Override
+            protected long currentTimeMillis() {
+                return clock.get();
+            }
+        };
+
+        long beforeRollback = idWorker.nextId();
+        clock.addAndGet(-5000);
+        long afterRollback = idWorker.nextId();
+
+        //沿用回拨前的时间戳，只增加序列号
+        assertThat(afterRollback).isEqualTo(beforeRollback + 1);
+        assertThat(timestamp(afterRollback)).isEqualTo(timestamp(beforeRollback));
+    }
+
+    @Test
+    void exhaustedSequenceDuringRollbackWaitsForClock() throws Exception {
+        AtomicLong clock = new AtomicLong(SnowflakeIdWorker.EPOCH + 10000);
+        SnowflakeIdWorker idWorker = new SnowflakeIdWorker(1) {
+            @Override
+            protected long currentTimeMillis() {
+                return clock.get();
+            }
+        };
+
+        long first = idWorker.nextId();
+        clock.addAndGet(-5000);
+        //用完回拨前那一毫秒剩余的序列号
+        long last = first;
+        for (int i = 1; i < 4096; i++) {
+            last = idWorker.nextId();
+        }
+        assertThat(timestamp(last)).isEqualTo(timestamp(first));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Long> next = executor.submit(idWorker::nextId);
+            assertThatThrownBy(() -> next.get(200, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+
+            //时钟追上回拨前的时间后继续生成
+            clock.set(SnowflakeIdWorker.EPOCH + 10001);
+            long id = next.get(5, TimeUnit.SECONDS);
+            assertThat(id).isGreaterThan(last);
+            assertThat(timestamp(id)).isEqualTo(timestamp(first) + 1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static long timestamp(long id) {
+        return id >>> 22;
+    }
+}
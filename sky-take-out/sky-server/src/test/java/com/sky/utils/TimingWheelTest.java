@@ -0,0 +1,58 @@
+package com.sky.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class TimingWheelTest {
+
+    private static final long TICK_MILLIS = 100;
+    private static final int WHEEL_SIZE = 512;
+    private static final int TIMERS = 1_000_000;
+    //15分钟支付超时，需要用到上层时间轮
+    private static final long SPAN_MILLIS = 15 * 60 * 1000;
+
+    @Test
+    void millionTimersExpireOnceWithinOneTick() {
+        long start = 1_000_000L;
+        TimingWheel<Integer> timingWheel = new TimingWheel<>(TICK_MILLIS, WHEEL_SIZE, start);
+        long[] deadlines = new long[TIMERS];
+        Random random = new Random(42);
+        for (int i = 0; i < TIMERS; i++) {
+            deadlines[i] = start + 1 + (long) (random.nextDouble() * SPAN_MILLIS);
+            assertThat(timingWheel.add(i, deadlines[i])).isTrue();
+        }
+        assertThat(timingWheel.size()).isEqualTo(TIMERS);
+
+        long[] expiredAt = new long[TIMERS];
+        int[] expiredCount = {0};
+        for (long now = start; now <= start + SPAN_MILLIS + 2 * TICK_MILLIS; now += TICK_MILLIS) {
+            long tickTime = now;
+            timingWheel.advance(now, i -> {
+                assertThat(expiredAt[i]).as("定时任务%d重复到期", i).isZero();
+                expiredAt[i] = tickTime;
+                expiredCount[0]++;
+            });
+        }
+
+        assertThat(expiredCount[0]).isEqualTo(TIMERS);
+        assertThat(timingWheel.size()).isZero();
+        for (int i = 0; i < TIMERS; i++) {
+            //不会提前到期，最多延迟一格
+            long delay = expiredAt[i] - deadlines[i];
+            if (delay < 0 || delay > TICK_MILLIS) {
+                throw new AssertionError("定时任务" + i + "到期时间偏差" + delay + "毫秒");
+            }
+        }
+    }
+
+    @Test
+    void expiredDeadlineIsNotAdded() {
+        TimingWheel<String> timingWheel = new TimingWheel<>(TICK_MILLIS, WHEEL_SIZE, 1000);
+
+        assertThat(timingWheel.add("late", 900)).isFalse();
+        assertThat(timingWheel.size()).isZero();
+    }
+}
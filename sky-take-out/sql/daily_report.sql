@@ -0,0 +1,27 @@
+-- 报表日汇总表，订单完成、用户注册时增量更新，报表查询只读取日期范围内的汇总数据
+-- 已有数据可以通过 POST /admin/report/rebuild 按日期范围重新汇总
+
+create table if not exists daily_business_stat
+(
+    stat_date         date                     not null comment '统计日期'
+        primary key,
+    turnover          decimal(12, 2) default 0 not null comment '营业额(已完成订单金额)',
+    valid_order_count int            default 0 not null comment '有效订单数(已完成)',
+    total_order_count int            default 0 not null comment '订单总数',
+    new_user_count    int            default 0 not null comment '新增用户数'
+)
+    comment '每日营业数据' collate = utf8mb3_bin;
+
+create table if not exists daily_dish_sales
+(
+    stat_date date          not null comment '统计日期',
+    name      varchar(32)   not null comment '商品名称',
+    number    int default 0 not null comment '销量',
+    primary key (stat_date, name)
+)
+    comment '每日商品销量' collate = utf8mb3_bin;
+
+-- 重新汇总时按下单时间、注册时间范围读取订单和用户
+-- 用户统计从用户表统计开始日期之前的用户总数：where create_time < ?
+create index idx_orders_order_time on orders (order_time);
+create index idx_user_create_time on user (create_time);
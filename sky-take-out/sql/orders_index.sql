@@ -0,0 +1,14 @@
+-- 订单表索引
+
+-- 超时订单扫描按状态和下单时间范围查询并锁定订单：where status = ? and order_time < ? order by order_time limit ? for update
+-- 管理端订单搜索按状态筛选并按下单时间倒序分页：where status = ? order by order_time desc，同时覆盖按状态统计订单数
+-- 没有该索引时扫描会锁定全表的订单
+create index idx_orders_status_order_time on orders (status, order_time);
+
+-- 用户端历史订单按用户查询并按下单时间倒序分页：where user_id = ? order by order_time desc
+create index idx_orders_user_id_order_time on orders (user_id, order_time);
+
+-- 管理端订单搜索按订单号、手机号前缀匹配：number like '...%'、phone like '...%'
+-- 订单搜索先在索引中分页出订单id(二级索引包含主键，不需要回表)，再按id查询这一页的字段
+create index idx_orders_number on orders (number);
+create index idx_orders_phone on orders (phone);